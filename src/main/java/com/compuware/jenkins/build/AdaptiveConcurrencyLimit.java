@@ -0,0 +1,204 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * The number of concurrent submissions a host connection takes in the parallel submission path, adjusted to what the host copes with
+ * (additive increase, multiplicative decrease).
+ * <p>
+ * Every finished submission is a sample of the host's condition. A sample without connection errors, with jobs that left the JES
+ * input queue in time and with a per job latency close to the best observed latency shows headroom: the limit grows by one
+ * submission per limit's worth of samples. Connection errors, a long JES queue time or a latency well above the baseline show a
+ * saturated host: the limit is halved, once for all the submissions that were already running when the host saturated. The limit is
+ * shared by all builds on the controller, so what one build learns about the host benefits the next.
+ */
+public final class AdaptiveConcurrencyLimit {
+	private static final Map<String, AdaptiveConcurrencyLimit> LIMITS = new HashMap<>();
+
+	/**
+	 * The condition of the host shown by a sample.
+	 */
+	public enum Signal {
+		HEADROOM, CONNECTION_ERRORS, QUEUE_TIME, LATENCY
+	}
+
+	private final long maxQueueMillis;
+	private final double latencyTolerance;
+	private int maxLimit;
+	private double limit;
+	private int inFlight;
+	private double baselineLatencyMillis = -1;
+	private long lastDecreaseAt = Long.MIN_VALUE;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param capacity
+	 *            the initial limit
+	 * @param maxCapacity
+	 *            the highest limit
+	 * @param maxQueueMillis
+	 *            the JES queue time above which the host is saturated
+	 * @param latencyTolerance
+	 *            the ratio of latency to baseline latency above which the host is saturated
+	 */
+	AdaptiveConcurrencyLimit(int capacity, int maxCapacity, long maxQueueMillis, double latencyTolerance) {
+		this.maxQueueMillis = maxQueueMillis;
+		this.latencyTolerance = latencyTolerance;
+		this.maxLimit = Math.max(1, Math.max(capacity, maxCapacity));
+		this.limit = Math.min(maxLimit, Math.max(1, capacity));
+	}
+
+	/**
+	 * Gets the adaptive limit of a host connection.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the limit, or <code>null</code> if the connection's capacity is fixed
+	 */
+	public static AdaptiveConcurrencyLimit get(String connectionId) {
+		HostConnectionSettings settings = TopazUtilitiesConfiguration.get().getSettings(connectionId);
+		synchronized (LIMITS) {
+			if (settings.getMaxCapacity() <= 0) {
+				LIMITS.remove(connectionId);
+				return null;
+			}
+
+			AdaptiveConcurrencyLimit adaptiveLimit = LIMITS.computeIfAbsent(connectionId,
+					k -> new AdaptiveConcurrencyLimit(settings.getCapacity(), settings.getMaxCapacity(),
+							TopazUtilitiesConstants.ADAPTIVE_MAX_QUEUE_MILLIS, TopazUtilitiesConstants.ADAPTIVE_LATENCY_TOLERANCE));
+			adaptiveLimit.setMaxLimit(Math.max(settings.getCapacity(), settings.getMaxCapacity()));
+			return adaptiveLimit;
+		}
+	}
+
+	/**
+	 * Gets the number of submissions currently allowed at a time.
+	 * 
+	 * @return the limit, at least <code>1</code>
+	 */
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	/**
+	 * Gets the highest limit.
+	 * 
+	 * @return the highest number of submissions allowed at a time
+	 */
+	public synchronized int getMaxLimit() {
+		return maxLimit;
+	}
+
+	/**
+	 * Gets the number of submissions holding a permit.
+	 * 
+	 * @return the running submission count
+	 */
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private synchronized void setMaxLimit(int maxLimit) {
+		this.maxLimit = Math.max(1, maxLimit);
+		limit = Math.min(limit, this.maxLimit);
+		notifyAll();
+	}
+
+	/**
+	 * Waits until fewer submissions than the limit are running and takes a permit, unless the permit is no longer wanted.
+	 * 
+	 * @param wanted
+	 *            checked while waiting; once it returns <code>false</code> the wait is given up
+	 * 
+	 * @return <code>true</code> if a permit was taken, to be returned by {@link #release()}
+	 * 
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public synchronized boolean acquire(BooleanSupplier wanted) throws InterruptedException {
+		while (wanted.getAsBoolean() && inFlight >= getLimit()) {
+			wait(TopazUtilitiesConstants.ADAPTIVE_PERMIT_WAIT_MILLIS);
+		}
+		if (!wanted.getAsBoolean()) {
+			return false;
+		}
+
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * Returns a permit taken by {@link #acquire(BooleanSupplier)}.
+	 */
+	public synchronized void release() {
+		inFlight--;
+		notifyAll();
+	}
+
+	/**
+	 * Adjusts the limit to a finished submission.
+	 * 
+	 * @param startedAt
+	 *            when the submission started, in milliseconds since the epoch
+	 * @param latencyMillis
+	 *            the submission's duration per job
+	 * @param queueMillis
+	 *            the longest time a job of the submission waited in the JES input queue, or <code>-1</code> if unknown
+	 * @param connectionErrors
+	 *            the number of connection failures the submission ran into
+	 * 
+	 * @return the condition of the host shown by the sample
+	 */
+	public synchronized Signal record(long startedAt, long latencyMillis, long queueMillis, int connectionErrors) {
+		Signal signal = Signal.HEADROOM;
+		if (connectionErrors > 0) {
+			signal = Signal.CONNECTION_ERRORS;
+		} else if (queueMillis > maxQueueMillis) {
+			signal = Signal.QUEUE_TIME;
+		} else if (baselineLatencyMillis > 0 && latencyMillis > baselineLatencyMillis * latencyTolerance) {
+			signal = Signal.LATENCY;
+		}
+
+		// the baseline follows the best latency down at once, and drifts up slowly as the work itself changes
+		if (connectionErrors == 0 && latencyMillis > 0) {
+			if (baselineLatencyMillis < 0 || latencyMillis < baselineLatencyMillis) {
+				baselineLatencyMillis = latencyMillis;
+			} else {
+				baselineLatencyMillis += (latencyMillis - baselineLatencyMillis) * TopazUtilitiesConstants.ADAPTIVE_BASELINE_DRIFT;
+			}
+		}
+
+		if (signal == Signal.HEADROOM) {
+			limit = Math.min(maxLimit, limit + 1 / limit);
+		} else if (startedAt > lastDecreaseAt) {
+			// submissions that started before the last decrease saw the same saturation; back off only once for them
+			limit = Math.max(1, limit * TopazUtilitiesConstants.ADAPTIVE_BACKOFF_FACTOR);
+			lastDecreaseAt = System.currentTimeMillis();
+		}
+
+		notifyAll();
+		return signal;
+	}
+}
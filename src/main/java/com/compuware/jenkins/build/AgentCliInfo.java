@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.utils.CLIVersionUtils;
+import com.compuware.jenkins.common.utils.CommonConstants;
+
+import hudson.FilePath;
+import hudson.remoting.VirtualChannel;
+import jenkins.security.MasterToSlaveCallable;
+
+/**
+ * The CLI details of an agent: the installed CLI version and the agent's file separator. They are probed with a single channel call
+ * and cached per channel, so steps running on the same agent do not pay for the probe again.
+ */
+public class AgentCliInfo implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final Map<VirtualChannel, Map<String, AgentCliInfo>> CACHE = new WeakHashMap<>();
+
+	private final String cliVersion;
+	private final String fileSeparator;
+	private final long probedAt;
+
+	private AgentCliInfo(String cliVersion, String fileSeparator, long probedAt) {
+		this.cliVersion = cliVersion;
+		this.fileSeparator = fileSeparator;
+		this.probedAt = probedAt;
+	}
+
+	/**
+	 * Gets the CLI details of an agent, probing the agent when they are not cached or have expired.
+	 * 
+	 * @param channel
+	 *            the agent channel
+	 * @param cliLocation
+	 *            the CLI installation directory on the agent
+	 * 
+	 * @return the CLI details
+	 * 
+	 * @throws IOException
+	 *             if the CLI version could not be read
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while probing the agent
+	 */
+	public static AgentCliInfo get(VirtualChannel channel, String cliLocation) throws IOException, InterruptedException {
+		long now = System.currentTimeMillis();
+		synchronized (CACHE) {
+			Map<String, AgentCliInfo> agentInfos = CACHE.get(channel);
+			AgentCliInfo cached = agentInfos != null ? agentInfos.get(cliLocation) : null;
+			if (cached != null && now - cached.probedAt < TopazUtilitiesConstants.AGENT_CLI_INFO_TTL_MILLIS) {
+				return cached;
+			}
+		}
+
+		// the probe time is taken from the controller clock, as the agent clock may differ
+		AgentCliInfo probed = channel.call(new Probe(cliLocation));
+		AgentCliInfo info = new AgentCliInfo(probed.cliVersion, probed.fileSeparator, now);
+		synchronized (CACHE) {
+			CACHE.computeIfAbsent(channel, key -> new HashMap<>()).put(cliLocation, info);
+		}
+
+		return info;
+	}
+
+	/**
+	 * Forgets the cached CLI details of an agent.
+	 * 
+	 * @param channel
+	 *            the agent channel
+	 */
+	public static void invalidate(VirtualChannel channel) {
+		synchronized (CACHE) {
+			CACHE.remove(channel);
+		}
+	}
+
+	/**
+	 * Gets the installed CLI version.
+	 * 
+	 * @return the CLI version
+	 */
+	public String getCliVersion() {
+		return cliVersion;
+	}
+
+	/**
+	 * Gets the agent's file separator.
+	 * 
+	 * @return the file separator
+	 */
+	public String getFileSeparator() {
+		return fileSeparator;
+	}
+
+	/**
+	 * Reads the CLI details on the agent.
+	 */
+	private static final class Probe extends MasterToSlaveCallable<AgentCliInfo, IOException> {
+		private static final long serialVersionUID = 1L;
+
+		private final String cliLocation;
+
+		private Probe(String cliLocation) {
+			this.cliLocation = cliLocation;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.remoting.Callable#call()
+		 */
+		@Override
+		public AgentCliInfo call() throws IOException {
+			try {
+				String cliVersion = CLIVersionUtils.getCLIVersion(new FilePath(new File(cliLocation)),
+						TopazUtilitiesConstants.JCL_MINIMUM_CLI_VERSION);
+				return new AgentCliInfo(cliVersion, System.getProperty(CommonConstants.FILE_SEPARATOR_PROPERTY_KEY), 0L);
+			} catch (IOException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+}
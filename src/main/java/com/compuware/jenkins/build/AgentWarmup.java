@@ -0,0 +1,284 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+import com.compuware.jenkins.common.utils.CLIVersionUtils;
+
+import hudson.Extension;
+import hudson.Launcher;
+import hudson.model.Computer;
+import hudson.model.Node;
+import hudson.model.TaskListener;
+import hudson.remoting.VirtualChannel;
+import hudson.slaves.ComputerListener;
+import hudson.slaves.OfflineCause;
+import jenkins.security.MasterToSlaveCallable;
+
+/**
+ * Prepares an agent for Topaz CLI calls as soon as it comes online, so the first submission on a newly provisioned agent does not
+ * pay for it: the CLI version and agent properties are probed into the {@link AgentCliInfo} cache, the CLI version is checked, and
+ * the CLI installation is read once to load it into the operating system's page cache. The readiness of each agent is recorded until
+ * it goes offline, and submissions on a ready agent use the CLI details read by its warm up instead of probing the agent again.
+ */
+@Extension
+public class AgentWarmup extends ComputerListener {
+	private static final Map<String, Readiness> READINESS = new ConcurrentHashMap<>();
+
+	/**
+	 * The outcome of warming up an agent.
+	 */
+	public static final class Readiness {
+		private final String cliLocation;
+		private final AgentCliInfo cliInfo;
+		private final long cachedBytes;
+		private final long warmupMillis;
+		private final long readyAt;
+		private final String failure;
+
+		private Readiness(String cliLocation, AgentCliInfo cliInfo, long cachedBytes, long warmupMillis, long readyAt, String failure) {
+			this.cliLocation = cliLocation;
+			this.cliInfo = cliInfo;
+			this.cachedBytes = cachedBytes;
+			this.warmupMillis = warmupMillis;
+			this.readyAt = readyAt;
+			this.failure = failure;
+		}
+
+		/**
+		 * Gets whether the agent is ready to call the CLI.
+		 * 
+		 * @return <code>true</code> if the warm up succeeded
+		 */
+		public boolean isReady() {
+			return failure == null;
+		}
+
+		/**
+		 * Gets the CLI version of the agent.
+		 * 
+		 * @return the CLI version, or <code>null</code> if it could not be read
+		 */
+		public String getCliVersion() {
+			return cliInfo != null ? cliInfo.getCliVersion() : null;
+		}
+
+		/**
+		 * Gets the CLI details read when the agent was warmed up. They are only used as long as the details read by a submission are
+		 * cached, so a CLI upgraded on a long running agent is still found.
+		 * 
+		 * @param location
+		 *            the CLI installation directory a submission uses on the agent
+		 * 
+		 * @return the CLI details, or <code>null</code> if the agent is not ready, was warmed up for another CLI installation or was
+		 *         warmed up too long ago
+		 */
+		public AgentCliInfo getCliInfo(String location) {
+			return getCliInfo(location, System.currentTimeMillis());
+		}
+
+		/**
+		 * Gets the CLI details read when the agent was warmed up, as of the given time.
+		 */
+		AgentCliInfo getCliInfo(String location, long now) {
+			return isReady() && cliLocation != null && cliLocation.equals(location)
+					&& now - readyAt < TopazUtilitiesConstants.AGENT_CLI_INFO_TTL_MILLIS ? cliInfo : null;
+		}
+
+		/**
+		 * Gets the size of the CLI files read into the page cache.
+		 * 
+		 * @return the number of bytes read
+		 */
+		public long getCachedBytes() {
+			return cachedBytes;
+		}
+
+		/**
+		 * Gets how long the warm up took.
+		 * 
+		 * @return the warm up time in milliseconds
+		 */
+		public long getWarmupMillis() {
+			return warmupMillis;
+		}
+
+		/**
+		 * Gets when the warm up ended.
+		 * 
+		 * @return the time in milliseconds since the epoch
+		 */
+		public long getReadyAt() {
+			return readyAt;
+		}
+
+		/**
+		 * Gets why the warm up failed.
+		 * 
+		 * @return the failure message, or <code>null</code> if the agent is ready
+		 */
+		public String getFailure() {
+			return failure;
+		}
+	}
+
+	/**
+	 * Gets the readiness of an agent.
+	 * 
+	 * @param computer
+	 *            the agent
+	 * 
+	 * @return the readiness, or <code>null</code> if the agent has not been warmed up since it came online
+	 */
+	public static Readiness getReadiness(Computer computer) {
+		return READINESS.get(computer.getName());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.slaves.ComputerListener#onOnline(hudson.model.Computer, hudson.model.TaskListener)
+	 */
+	@Override
+	public void onOnline(Computer c, TaskListener listener) {
+		READINESS.remove(c.getName());
+		Node node = c.getNode();
+		VirtualChannel channel = c.getChannel();
+		if (node == null || channel == null || !TopazUtilitiesConfiguration.get().isWarmUpAgents()) {
+			return;
+		}
+
+		// the agent takes builds while it is warmed up
+		Computer.threadPoolForRemoting.submit(() -> warmUp(c, node, channel, listener));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.slaves.ComputerListener#onOffline(hudson.model.Computer, hudson.slaves.OfflineCause)
+	 */
+	@Override
+	public void onOffline(Computer c, OfflineCause cause) {
+		READINESS.remove(c.getName());
+	}
+
+	/**
+	 * Warms up an agent, recording and logging its readiness.
+	 */
+	private static void warmUp(Computer computer, Node node, VirtualChannel channel, TaskListener listener) {
+		long startedAt = System.currentTimeMillis();
+		String cliLocation = null;
+		AgentCliInfo cliInfo = null;
+		Readiness readiness;
+		try {
+			Launcher launcher = node.createLauncher(listener);
+			cliLocation = CpwrGlobalConfiguration.get().getTopazCLILocation(launcher);
+			cliInfo = AgentCliInfo.get(channel, cliLocation);
+			CLIVersionUtils.checkCLICompatibility(cliInfo.getCliVersion(), TopazUtilitiesConstants.JCL_MINIMUM_CLI_VERSION);
+
+			long cachedBytes = channel.call(new CliFileWarmup(cliLocation, TopazUtilitiesConstants.WARMUP_MAX_BYTES));
+			long now = System.currentTimeMillis();
+			readiness = new Readiness(cliLocation, cliInfo, cachedBytes, now - startedAt, now, null);
+			listener.getLogger().println(Messages.agentWarmedUp(cliInfo.getCliVersion(),
+					cachedBytes / TopazUtilitiesConstants.BYTES_PER_MEGABYTE, now - startedAt));
+		} catch (IOException | RuntimeException e) {
+			long now = System.currentTimeMillis();
+			readiness = new Readiness(cliLocation, cliInfo, 0, now - startedAt, now, e.getMessage());
+			listener.getLogger().println(Messages.agentWarmupFailed(e.getMessage()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		// the agent may have gone offline or reconnected meanwhile
+		if (computer.getChannel() == channel) {
+			READINESS.put(computer.getName(), readiness);
+		}
+	}
+
+	/**
+	 * Reads the files of the CLI installation on the agent, discarding their content, so the CLI's first launch finds them in the
+	 * page cache.
+	 */
+	static final class CliFileWarmup extends MasterToSlaveCallable<Long, IOException> {
+		private static final long serialVersionUID = 1L;
+
+		private final String cliLocation;
+		private final long maxBytes;
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param cliLocation
+		 *            the CLI installation directory
+		 * @param maxBytes
+		 *            the number of bytes after which no further file is read
+		 */
+		CliFileWarmup(String cliLocation, long maxBytes) {
+			this.cliLocation = cliLocation;
+			this.maxBytes = maxBytes;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.remoting.Callable#call()
+		 */
+		@Override
+		public Long call() throws IOException {
+			byte[] buffer = new byte[TopazUtilitiesConstants.WARMUP_BUFFER_SIZE];
+			long[] readBytes = new long[1];
+			Files.walkFileTree(Paths.get(cliLocation), new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					if (readBytes[0] >= maxBytes) {
+						return FileVisitResult.TERMINATE;
+					}
+
+					if (attrs.isRegularFile()) {
+						try (InputStream in = Files.newInputStream(file)) {
+							for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+								readBytes[0] += read;
+							}
+						}
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					// an unreadable file is read by the CLI at the earliest when it needs it
+					return FileVisitResult.CONTINUE;
+				}
+			});
+
+			return readBytes[0];
+		}
+	}
+}
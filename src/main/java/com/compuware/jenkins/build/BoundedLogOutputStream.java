@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.console.LineTransformationOutputStream;
+
+/**
+ * Copies every line of CLI output to a full log stream while only retaining a bounded summary (the first lines, the last lines and
+ * any error lines) for the console. When given the console, the first lines are written to it as they arrive, so the start of a
+ * long call can be followed, and the summary only holds the rest.
+ */
+public class BoundedLogOutputStream extends LineTransformationOutputStream {
+	private static final Pattern ERROR_LINE_PATTERN = Pattern.compile(TopazUtilitiesConstants.LOG_ERROR_LINE_REGEX);
+
+	private final OutputStream fullLog;
+	private final PrintStream console;
+	private final Charset charset;
+	private final int headLines;
+	private final int tailLines;
+	private final int maxErrorLines;
+
+	private final List<String> head = new ArrayList<>();
+	private final Deque<String> tail = new ArrayDeque<>();
+	private final List<String> errors = new ArrayList<>();
+	private long lineCount;
+	private long errorCount;
+
+	/**
+	 * Constructor using the default summary sizes.
+	 * 
+	 * @param fullLog
+	 *            the stream receiving the complete output
+	 * @param charset
+	 *            the charset of the output
+	 */
+	public BoundedLogOutputStream(OutputStream fullLog, Charset charset) {
+		this(fullLog, null, charset);
+	}
+
+	/**
+	 * Constructor using the default summary sizes, writing the first lines to the console as they arrive.
+	 * 
+	 * @param fullLog
+	 *            the stream receiving the complete output
+	 * @param console
+	 *            the console the first lines are written to as they arrive, or <code>null</code> to only write them with the summary
+	 * @param charset
+	 *            the charset of the output
+	 */
+	public BoundedLogOutputStream(OutputStream fullLog, PrintStream console, Charset charset) {
+		this(fullLog, console, charset, TopazUtilitiesConstants.LOG_SUMMARY_HEAD_LINES, TopazUtilitiesConstants.LOG_SUMMARY_TAIL_LINES,
+				TopazUtilitiesConstants.LOG_SUMMARY_MAX_ERROR_LINES);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param fullLog
+	 *            the stream receiving the complete output
+	 * @param charset
+	 *            the charset of the output
+	 * @param headLines
+	 *            the number of leading lines to retain
+	 * @param tailLines
+	 *            the number of trailing lines to retain
+	 * @param maxErrorLines
+	 *            the maximum number of error lines to retain
+	 */
+	public BoundedLogOutputStream(OutputStream fullLog, Charset charset, int headLines, int tailLines, int maxErrorLines) {
+		this(fullLog, null, charset, headLines, tailLines, maxErrorLines);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param fullLog
+	 *            the stream receiving the complete output
+	 * @param console
+	 *            the console the first lines are written to as they arrive, or <code>null</code> to only write them with the summary
+	 * @param charset
+	 *            the charset of the output
+	 * @param headLines
+	 *            the number of leading lines to retain
+	 * @param tailLines
+	 *            the number of trailing lines to retain
+	 * @param maxErrorLines
+	 *            the maximum number of error lines to retain
+	 */
+	public BoundedLogOutputStream(OutputStream fullLog, PrintStream console, Charset charset, int headLines, int tailLines,
+			int maxErrorLines) {
+		this.fullLog = fullLog;
+		this.console = console;
+		this.charset = charset;
+		this.headLines = headLines;
+		this.tailLines = tailLines;
+		this.maxErrorLines = maxErrorLines;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.console.LineTransformationOutputStream#eol(byte[], int)
+	 */
+	@Override
+	protected synchronized void eol(byte[] b, int len) throws IOException {
+		fullLog.write(b, 0, len);
+
+		String line = trimEOL(new String(b, 0, len, charset));
+		lineCount++;
+		if (head.size() < headLines) {
+			head.add(line);
+			if (console != null) {
+				console.println(line);
+			}
+			return;
+		}
+
+		if (ERROR_LINE_PATTERN.matcher(line).find()) {
+			errorCount++;
+			if (errors.size() < maxErrorLines) {
+				errors.add(lineCount + ": " + line); //$NON-NLS-1$
+			}
+		}
+
+		tail.addLast(line);
+		if (tail.size() > tailLines) {
+			tail.removeFirst();
+		}
+	}
+
+	/**
+	 * Gets the number of lines written so far.
+	 * 
+	 * @return the line count
+	 */
+	public synchronized long getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Gets the number of error lines found after the leading lines.
+	 * 
+	 * @return the error line count
+	 */
+	public synchronized long getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * Writes the retained summary to the given logger. The first lines are left out when they were already written to the console.
+	 * 
+	 * @param logger
+	 *            the logger to write to
+	 */
+	public synchronized void writeSummary(PrintStream logger) {
+		if (console == null) {
+			for (String line : head) {
+				logger.println(line);
+			}
+		}
+
+		long omitted = lineCount - head.size() - tail.size();
+		if (omitted > 0) {
+			logger.println(Messages.boundedLogOmittedLines(omitted));
+		}
+
+		if (!errors.isEmpty()) {
+			logger.println(Messages.boundedLogErrorLines(errorCount));
+			for (String line : errors) {
+				logger.println(line);
+			}
+
+			if (omitted > 0) {
+				logger.println(Messages.boundedLogTailLines(tail.size()));
+			}
+		}
+
+		for (String line : tail) {
+			logger.println(line);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.console.LineTransformationOutputStream#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			fullLog.close();
+		}
+	}
+}
@@ -0,0 +1,319 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Maintains an application class data sharing (AppCDS) archive of the Topaz CLI JVM in the JVM of the agent it is loaded in, one
+ * archive per CLI version. The first CLI call of a version dumps the classes it loaded into a new archive when its JVM exits; later
+ * calls map the archive to start faster. An archive of another CLI version is deleted once the new one has been written, so a CLI
+ * upgrade regenerates the archive.
+ * <p>
+ * The JVM options are passed through <code>JAVA_TOOL_OPTIONS</code>. A JVM that does not support dynamic archives ignores them and
+ * starts as usual, and a JVM that cannot map the archive falls back to loading its classes. The time from launching the CLI to its
+ * first output is measured with and without the archive, so the build log can report the gain.
+ */
+public final class CliClassDataSharing {
+	private static final CliClassDataSharing INSTANCE = new CliClassDataSharing();
+
+	/**
+	 * How a CLI call uses the archive of its CLI version.
+	 */
+	public enum Mode {
+		/** The archive is mapped. */
+		USE,
+		/** The archive is written when the CLI exits. */
+		GENERATE,
+		/** The CLI starts without an archive, as it is being written by another call. */
+		NONE
+	}
+
+	/**
+	 * One CLI call using the archive of its CLI version.
+	 */
+	public final class Launch {
+		private final Archive archive;
+		private final Mode mode;
+		private final File dumpFile;
+		private final long launchedAt;
+		private volatile long firstOutputAt;
+
+		private Launch(Archive archive, Mode mode, File dumpFile) {
+			this.archive = archive;
+			this.mode = mode;
+			this.dumpFile = dumpFile;
+			this.launchedAt = System.currentTimeMillis();
+		}
+
+		/**
+		 * Gets how the CLI call uses the archive.
+		 * 
+		 * @return the mode
+		 */
+		public Mode getMode() {
+			return mode;
+		}
+
+		/**
+		 * Gets the JVM options of the CLI call.
+		 * 
+		 * @param javaToolOptions
+		 *            the <code>JAVA_TOOL_OPTIONS</code> the CLI would otherwise be launched with; can be null
+		 * 
+		 * @return the options to launch the CLI with
+		 */
+		public String getJavaToolOptions(String javaToolOptions) {
+			String options;
+			if (mode == Mode.USE) {
+				options = TopazUtilitiesConstants.CDS_USE_OPTIONS + archive.file.getPath();
+			} else if (mode == Mode.GENERATE) {
+				options = TopazUtilitiesConstants.CDS_GENERATE_OPTIONS + dumpFile.getPath();
+			} else {
+				return javaToolOptions;
+			}
+
+			return StringUtils.isBlank(javaToolOptions) ? options : javaToolOptions.trim() + ' ' + options;
+		}
+
+		/**
+		 * Wraps the CLI output to record when the CLI first writes to it.
+		 * 
+		 * @param out
+		 *            the stream the CLI output is copied to
+		 * 
+		 * @return the wrapping stream
+		 */
+		public OutputStream watch(OutputStream out) {
+			return new FilterOutputStream(out) {
+				@Override
+				public void write(int b) throws IOException {
+					recordOutput();
+					out.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					recordOutput();
+					out.write(b, off, len);
+				}
+			};
+		}
+
+		private void recordOutput() {
+			if (firstOutputAt == 0) {
+				firstOutputAt = System.currentTimeMillis();
+			}
+		}
+
+		/**
+		 * Gets the time from launching the CLI to its first output.
+		 * 
+		 * @return the startup time in milliseconds, or <code>-1</code> if the CLI wrote nothing
+		 */
+		public long getStartupMillis() {
+			return firstOutputAt != 0 ? firstOutputAt - launchedAt : -1;
+		}
+
+		/**
+		 * Records the startup time of the ended CLI call and, after a successful call that wrote the archive, installs it for later
+		 * calls.
+		 * 
+		 * @param exitValue
+		 *            the CLI exit value
+		 * @param logger
+		 *            the build log the archive and startup time are reported to
+		 */
+		public void finish(int exitValue, PrintStream logger) {
+			long startupMillis = getStartupMillis();
+			long withoutMillis;
+			synchronized (CliClassDataSharing.this) {
+				if (startupMillis >= 0 && mode != Mode.USE) {
+					archive.withoutTotalMillis += startupMillis;
+					archive.withoutCount++;
+				}
+
+				if (mode == Mode.GENERATE) {
+					archive.generating = false;
+					installDump(exitValue, logger);
+					return;
+				}
+				withoutMillis = archive.getAverageWithoutMillis();
+			}
+
+			if (mode == Mode.USE && startupMillis >= 0) {
+				logger.println(withoutMillis >= 0 ? Messages.cdsStartupCompared(startupMillis, withoutMillis)
+						: Messages.cdsStartup(startupMillis));
+			}
+		}
+
+		/**
+		 * Ends a CLI call that could not be launched or was interrupted; a call writing the archive lets the next call write it.
+		 */
+		public void cancel() {
+			synchronized (CliClassDataSharing.this) {
+				if (mode == Mode.GENERATE) {
+					archive.generating = false;
+					dumpFile.delete();
+				}
+			}
+		}
+
+		private void installDump(int exitValue, PrintStream logger) {
+			try {
+				if (exitValue != 0 || !dumpFile.isFile()) {
+					// a JVM without dynamic archives ignores the option and exits without writing one; a JVM that cannot archive its
+					// class path may not start at all
+					if (exitValue == 0 || getStartupMillis() < 0) {
+						archive.unsupported = true;
+						logger.println(Messages.cdsArchiveUnsupported(archive.cliVersion));
+					}
+					return;
+				}
+
+				Files.move(dumpFile.toPath(), archive.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+				deleteOtherArchives(archive.file);
+				logger.println(Messages.cdsArchiveGenerated(archive.cliVersion, archive.file.getPath(), getStartupMillis()));
+			} catch (IOException e) {
+				logger.println(Messages.cdsArchiveFailed(archive.file.getPath(), e.getMessage()));
+			} finally {
+				dumpFile.delete();
+			}
+		}
+	}
+
+	private static final class Archive {
+		private final String cliVersion;
+		private final File file;
+		private boolean generating;
+		private boolean unsupported;
+		private long withoutTotalMillis;
+		private long withoutCount;
+
+		private Archive(String cliVersion, File file) {
+			this.cliVersion = cliVersion;
+			this.file = file;
+		}
+
+		private long getAverageWithoutMillis() {
+			return withoutCount > 0 ? withoutTotalMillis / withoutCount : -1;
+		}
+	}
+
+	private final Map<String, Archive> archives = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 */
+	CliClassDataSharing() {
+	}
+
+	/**
+	 * Gets the archive manager of the current JVM.
+	 * 
+	 * @return the archive manager
+	 */
+	public static CliClassDataSharing get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the name of the archive of a CLI version.
+	 * 
+	 * @param cliVersion
+	 *            the CLI version
+	 * 
+	 * @return the archive file name
+	 */
+	static String getArchiveName(String cliVersion) {
+		return TopazUtilitiesConstants.CDS_ARCHIVE_PREFIX + cliVersion.replaceAll("[^A-Za-z0-9.]", "_") //$NON-NLS-1$ //$NON-NLS-2$
+				+ TopazUtilitiesConstants.CDS_ARCHIVE_EXTENSION;
+	}
+
+	/**
+	 * Starts a CLI call, deciding how it uses the archive of its CLI version: it maps the archive if it exists, and otherwise writes
+	 * the archive unless another call is already writing it.
+	 * 
+	 * @param archiveDir
+	 *            the directory of the archives
+	 * @param cliVersion
+	 *            the CLI version
+	 * 
+	 * @return the launch, or <code>null</code> if the CLI is not to use an archive, such as when its JVM cannot write one or the
+	 *         archive path would not survive the splitting of the JVM options on white space
+	 */
+	public synchronized Launch prepare(String archiveDir, String cliVersion) {
+		File dir = new File(archiveDir);
+		File file = new File(dir, getArchiveName(cliVersion));
+		if (StringUtils.containsAny(file.getAbsolutePath(), " \t")) { //$NON-NLS-1$
+			return null;
+		}
+
+		Archive archive = archives.computeIfAbsent(file.getAbsolutePath(), k -> new Archive(cliVersion, file.getAbsoluteFile()));
+		if (archive.unsupported) {
+			return null;
+		}
+
+		if (archive.file.isFile()) {
+			return new Launch(archive, Mode.USE, null);
+		}
+
+		if (archive.generating) {
+			return new Launch(archive, Mode.NONE, null);
+		}
+
+		dir.mkdirs();
+		archive.generating = true;
+		File dumpFile = new File(archive.file.getParentFile(),
+				archive.file.getName() + '.' + UUID.randomUUID().toString() + TopazUtilitiesConstants.CDS_DUMP_EXTENSION);
+		return new Launch(archive, Mode.GENERATE, dumpFile);
+	}
+
+	/**
+	 * Deletes the archives of other CLI versions, as the CLI of an agent is only upgraded.
+	 */
+	private static void deleteOtherArchives(File current) {
+		File[] files = current.getParentFile().listFiles();
+		if (files == null) {
+			return;
+		}
+
+		for (File file : files) {
+			String name = file.getName();
+			if (!file.equals(current) && name.startsWith(TopazUtilitiesConstants.CDS_ARCHIVE_PREFIX)
+					&& name.endsWith(TopazUtilitiesConstants.CDS_ARCHIVE_EXTENSION)) {
+				// the JVM writes its archives read-only
+				file.setWritable(true);
+				file.delete();
+			}
+		}
+	}
+}
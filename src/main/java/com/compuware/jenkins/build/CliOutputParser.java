@@ -0,0 +1,223 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.console.LineTransformationOutputStream;
+
+/**
+ * Observes the CLI output line by line to tell a transient host connection failure apart from a failure of the submitted jobs, and to
+ * record the name, identifier, condition code and elapsed time of each job as the output streams. The output is also added to a
+ * {@link JobOutputIndex}.
+ * <p>
+ * A failure is only considered transient when the output reports a connection problem before any job was submitted, so that a retry
+ * can never submit a job twice.
+ */
+public class CliOutputParser extends LineTransformationOutputStream {
+	private static final Pattern JOB_ID_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_ID_REGEX);
+	private static final Pattern JOB_REFERENCE_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_REFERENCE_REGEX);
+	private static final Pattern JOB_COMPLETION_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_COMPLETION_REGEX);
+	private static final Pattern CONNECTION_FAILURE_PATTERN = Pattern.compile(TopazUtilitiesConstants.CONNECTION_FAILURE_REGEX);
+
+	/**
+	 * A job as observed so far.
+	 */
+	private static final class JobRecord {
+		private final String id;
+		private final long firstSeen;
+		private String name;
+		private String conditionCode;
+		private long elapsedMillis = -1;
+
+		private JobRecord(String id, long firstSeen) {
+			this.id = id;
+			this.firstSeen = firstSeen;
+		}
+	}
+
+	private final Charset charset;
+	private final Map<String, JobRecord> jobs = new LinkedHashMap<>();
+	private final JobOutputIndex index = new JobOutputIndex();
+	private boolean jobSubmitted;
+	private long firstOutputAt = -1;
+	private long lastCompletionAt = -1;
+	private boolean connectionFailure;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param charset
+	 *            the charset of the CLI output
+	 */
+	public CliOutputParser(Charset charset) {
+		this.charset = charset;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.console.LineTransformationOutputStream#eol(byte[], int)
+	 */
+	@Override
+	protected void eol(byte[] b, int len) throws IOException {
+		String line = trimEOL(new String(b, 0, len, charset));
+		parseLine(line);
+		index.indexLine(line, len);
+	}
+
+	/**
+	 * Parses a single line of CLI output.
+	 * 
+	 * @param line
+	 *            the line, without its line terminator
+	 */
+	protected synchronized void parseLine(String line) {
+		if (firstOutputAt < 0) {
+			firstOutputAt = System.currentTimeMillis();
+		}
+
+		String jobName = null;
+		String jobId = null;
+		Matcher reference = JOB_REFERENCE_PATTERN.matcher(line);
+		if (reference.find()) {
+			jobName = reference.group(1);
+			jobId = reference.group(2);
+		} else {
+			Matcher id = JOB_ID_PATTERN.matcher(line);
+			if (id.find()) {
+				jobId = id.group();
+			}
+		}
+
+		if (jobId != null) {
+			jobSubmitted = true;
+			recordJob(jobName, jobId, line);
+		} else if (!jobSubmitted && CONNECTION_FAILURE_PATTERN.matcher(line).find()) {
+			connectionFailure = true;
+		}
+	}
+
+	/**
+	 * Records a job reference and, when the line reports it, the job's completion.
+	 */
+	private void recordJob(String jobName, String jobId, String line) {
+		long now = System.currentTimeMillis();
+		JobRecord job = jobs.get(jobId);
+		if (job == null) {
+			job = new JobRecord(jobId, now);
+			jobs.put(jobId, job);
+		}
+
+		if (job.name == null) {
+			job.name = jobName;
+		}
+
+		Matcher completion = JOB_COMPLETION_PATTERN.matcher(line);
+		if (job.conditionCode == null && completion.find()) {
+			String conditionCode = completion.group(1);
+			if (conditionCode == null) {
+				conditionCode = completion.group(2) != null ? completion.group(2).toUpperCase() : completion.group(3).toUpperCase();
+			}
+			job.conditionCode = conditionCode;
+			job.elapsedMillis = now - job.firstSeen;
+			lastCompletionAt = now;
+		}
+	}
+
+	/**
+	 * Gets the jobs reported so far.
+	 * 
+	 * @return the jobs, in the order they were first reported
+	 */
+	public synchronized List<JobResult> getJobs() {
+		List<JobResult> results = new ArrayList<>();
+		for (JobRecord job : jobs.values()) {
+			results.add(new JobResult(job.name, job.id, job.conditionCode, job.elapsedMillis, -1, job.firstSeen));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Gets the time the CLI wrote its first line, once started.
+	 * 
+	 * @return the time in milliseconds since the epoch, or <code>-1</code> if the CLI wrote nothing
+	 */
+	public synchronized long getFirstOutputAt() {
+		return firstOutputAt;
+	}
+
+	/**
+	 * Gets the time the first job was reported, once the CLI had logged on and submitted it.
+	 * 
+	 * @return the time in milliseconds since the epoch, or <code>-1</code> if no job was reported
+	 */
+	public synchronized long getFirstJobAt() {
+		long firstJobAt = -1;
+		for (JobRecord job : jobs.values()) {
+			firstJobAt = firstJobAt < 0 ? job.firstSeen : Math.min(firstJobAt, job.firstSeen);
+		}
+
+		return firstJobAt;
+	}
+
+	/**
+	 * Gets the time the last job completion was reported, after which the CLI retrieves and writes the job output.
+	 * 
+	 * @return the time in milliseconds since the epoch, or <code>-1</code> if no completion was reported
+	 */
+	public synchronized long getLastCompletionAt() {
+		return lastCompletionAt;
+	}
+
+	/**
+	 * Gets the index of the output parsed so far.
+	 * 
+	 * @return the index
+	 */
+	public JobOutputIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets whether any job was submitted.
+	 * 
+	 * @return <code>true</code> if the output referenced a job identifier
+	 */
+	public synchronized boolean isJobSubmitted() {
+		return jobSubmitted;
+	}
+
+	/**
+	 * Gets whether a failing CLI call may be retried: a connection problem was reported and no job was submitted.
+	 * 
+	 * @return <code>true</code> if the failure is transient
+	 */
+	public synchronized boolean isTransientFailure() {
+		return connectionFailure && !jobSubmitted;
+	}
+}
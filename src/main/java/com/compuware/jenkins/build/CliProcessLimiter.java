@@ -0,0 +1,179 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Limits the number of Topaz CLI processes running at the same time in the JVM it is loaded in. As the CLI calls of an agent are
+ * launched by callables running in the agent's JVM, the limit applies to all builds running on that agent, whatever host
+ * connection they use; the host connection's own submission slots are applied on the controller beforehand.
+ * <p>
+ * Each CLI process is a JVM of its own, so unless a limit is configured it is derived from the agent's processors and physical
+ * memory. CLI calls beyond the limit wait for a running call to end, in the order they were started.
+ */
+public final class CliProcessLimiter {
+	private static final CliProcessLimiter INSTANCE = new CliProcessLimiter();
+
+	/**
+	 * A running CLI process; closing the permit lets the next waiting call start.
+	 */
+	public final class Permit implements AutoCloseable {
+		private final long waitMillis;
+		private boolean closed;
+
+		private Permit(long waitMillis) {
+			this.waitMillis = waitMillis;
+		}
+
+		/**
+		 * Gets how long the CLI call waited for its permit.
+		 * 
+		 * @return the wait time in milliseconds
+		 */
+		public long getWaitMillis() {
+			return waitMillis;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+			synchronized (CliProcessLimiter.this) {
+				if (!closed) {
+					closed = true;
+					running--;
+					CliProcessLimiter.this.notifyAll();
+				}
+			}
+		}
+	}
+
+	private final Deque<Object> waiting = new ArrayDeque<>();
+	private int running;
+
+	/**
+	 * Constructor.
+	 */
+	CliProcessLimiter() {
+	}
+
+	/**
+	 * Gets the limiter of the current JVM.
+	 * 
+	 * @return the limiter
+	 */
+	public static CliProcessLimiter get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the default limit of the current JVM, derived from its available processors and the physical memory of the machine.
+	 * 
+	 * @return the maximum number of concurrent CLI processes
+	 */
+	public static int getDefaultLimit() {
+		long memoryBytes = -1;
+		OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+		if (os instanceof com.sun.management.OperatingSystemMXBean) {
+			memoryBytes = ((com.sun.management.OperatingSystemMXBean) os).getTotalPhysicalMemorySize();
+		}
+
+		return getDefaultLimit(Runtime.getRuntime().availableProcessors(), memoryBytes);
+	}
+
+	/**
+	 * Gets the default limit of a machine: one CLI process per processor, as long as each process has its share of memory.
+	 * 
+	 * @param processors
+	 *            the number of processors
+	 * @param memoryBytes
+	 *            the physical memory size, or <code>-1</code> if unknown
+	 * 
+	 * @return the maximum number of concurrent CLI processes; at least one
+	 */
+	static int getDefaultLimit(int processors, long memoryBytes) {
+		long limit = processors;
+		if (memoryBytes > 0) {
+			limit = Math.min(limit, memoryBytes / TopazUtilitiesConstants.CLI_PROCESS_MEMORY_BYTES);
+		}
+
+		return (int) Math.max(1, limit);
+	}
+
+	/**
+	 * Waits until a CLI process may be started.
+	 * 
+	 * @param limit
+	 *            the maximum number of concurrent CLI processes; <code>0</code> or less for the default limit
+	 * 
+	 * @return the permit of the process, to be closed once it has ended
+	 * 
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting; the call leaves the queue
+	 */
+	public Permit acquire(int limit) throws InterruptedException {
+		return acquire(limit > 0 ? limit : getDefaultLimit(), System.currentTimeMillis());
+	}
+
+	private synchronized Permit acquire(int limit, long queuedAt) throws InterruptedException {
+		Object waiter = new Object();
+		waiting.addLast(waiter);
+		try {
+			while (running >= limit || waiting.peekFirst() != waiter) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			waiting.remove(waiter);
+			notifyAll();
+			throw e;
+		}
+
+		waiting.removeFirst();
+		running++;
+
+		// the next waiter may fit under the limit
+		notifyAll();
+		return new Permit(System.currentTimeMillis() - queuedAt);
+	}
+
+	/**
+	 * Gets the number of CLI processes running.
+	 * 
+	 * @return the running process count
+	 */
+	public synchronized int getRunning() {
+		return running;
+	}
+
+	/**
+	 * Gets the number of CLI calls waiting to start.
+	 * 
+	 * @return the queue depth
+	 */
+	public synchronized int getWaiting() {
+		return waiting.size();
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Calls the CLI, calling it again after a transient host connection failure. The runner is serializable so the same retry policy
+ * applies whether the CLI is launched from the controller or from a callable running on the agent.
+ */
+public class CliRunner implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Launches the CLI once.
+	 */
+	public interface Attempt {
+
+		/**
+		 * Launches the CLI and waits for it to end.
+		 * 
+		 * @param outputParser
+		 *            the parser the CLI output must be copied to
+		 * 
+		 * @return the CLI exit value
+		 * 
+		 * @throws IOException
+		 *             if the CLI could not be launched
+		 * @throws InterruptedException
+		 *             if the current thread is interrupted while waiting for the CLI
+		 */
+		int launch(CliOutputParser outputParser) throws IOException, InterruptedException;
+	}
+
+	private final String osFile;
+	private final int retries;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param osFile
+	 *            the CLI script name, used in log messages
+	 * @param retries
+	 *            the number of times the CLI is called again after a transient host connection failure
+	 */
+	public CliRunner(String osFile, int retries) {
+		this.osFile = osFile;
+		this.retries = retries;
+	}
+
+	/**
+	 * Calls the CLI until it succeeds, fails for a reason other than a transient connection failure, or runs out of retries.
+	 * 
+	 * @param attempt
+	 *            launches the CLI once
+	 * @param logger
+	 *            the logger to report retries to
+	 * @param charset
+	 *            the charset of the CLI output
+	 * 
+	 * @return the outcome of the last call
+	 * 
+	 * @throws IOException
+	 *             if the CLI could not be launched
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the CLI or a retry
+	 */
+	public SubmissionOutcome run(Attempt attempt, PrintStream logger, Charset charset) throws IOException, InterruptedException {
+		RetryBackoff backoff = new RetryBackoff(TopazUtilitiesConstants.RETRY_BASE_DELAY_MILLIS,
+				TopazUtilitiesConstants.RETRY_MAX_DELAY_MILLIS, new Random());
+		List<TimelineSpan> spans = new ArrayList<>();
+		for (int attemptNumber = 0;; attemptNumber++) {
+			CliOutputParser outputParser = new CliOutputParser(charset);
+			long launchedAt = System.currentTimeMillis();
+			int exitValue;
+			try {
+				exitValue = attempt.launch(outputParser);
+			} finally {
+				outputParser.close();
+			}
+			spans.add(getCallSpan(attemptNumber, launchedAt, exitValue, outputParser));
+
+			if (exitValue == 0 || !outputParser.isTransientFailure() || attemptNumber >= retries) {
+				return new SubmissionOutcome(exitValue, "Call " + osFile + " exited with value = " + exitValue, //$NON-NLS-1$ //$NON-NLS-2$
+						outputParser.getJobs(), attemptNumber + 1).withIndex(outputParser.getIndex()).withSpans(spans);
+			}
+
+			long delayMillis = backoff.getDelayMillis(attemptNumber);
+			logger.println(Messages.transientFailureRetry(osFile, exitValue, TimeUnit.MILLISECONDS.toSeconds(delayMillis),
+					attemptNumber + 1, retries));
+			Thread.sleep(delayMillis);
+		}
+	}
+
+	/**
+	 * Gets the span of a CLI call, made of the CLI start up to its first output, the logon and submission up to the first job reported,
+	 * and the retrieval of the job output after the last job completed. The CLI does not report the end of its logon separately.
+	 * 
+	 * @param attemptNumber
+	 *            the attempt number, from <code>0</code>
+	 * @param launchedAt
+	 *            the time the CLI was launched
+	 * @param exitValue
+	 *            the CLI exit value
+	 * @param outputParser
+	 *            the parser of the call's output
+	 * 
+	 * @return the span
+	 */
+	private static TimelineSpan getCallSpan(int attemptNumber, long launchedAt, int exitValue, CliOutputParser outputParser) {
+		long endedAt = System.currentTimeMillis();
+		TimelineSpan callSpan = new TimelineSpan(Messages.timelineCliCall(attemptNumber + 1), launchedAt, endedAt);
+		callSpan.setAttribute("process.exit_code", String.valueOf(exitValue)); //$NON-NLS-1$
+		if (exitValue != 0) {
+			callSpan.setError(String.valueOf(exitValue));
+		}
+
+		long firstOutputAt = outputParser.getFirstOutputAt();
+		if (firstOutputAt >= 0) {
+			callSpan.addChild(new TimelineSpan(Messages.timelineCliStart(), launchedAt, firstOutputAt));
+			long firstJobAt = outputParser.getFirstJobAt();
+			if (firstJobAt >= 0) {
+				callSpan.addChild(new TimelineSpan(Messages.timelineLogon(), firstOutputAt, firstJobAt));
+			}
+		}
+
+		long lastCompletionAt = outputParser.getLastCompletionAt();
+		if (lastCompletionAt >= 0) {
+			callSpan.addChild(new TimelineSpan(Messages.timelineOutputRetrieval(), lastCompletionAt, endedAt));
+		}
+
+		return callSpan;
+	}
+}
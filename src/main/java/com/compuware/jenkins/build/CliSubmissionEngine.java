@@ -0,0 +1,314 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.output.TeeOutputStream;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+import com.compuware.jenkins.common.utils.ArgumentUtils;
+import com.compuware.jenkins.common.utils.CLIVersionUtils;
+import com.compuware.jenkins.common.utils.CommonConstants;
+
+import hudson.EnvVars;
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Computer;
+import hudson.model.Node;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.remoting.VirtualChannel;
+import hudson.util.ArgumentListBuilder;
+import jenkins.util.BuildListenerAdapter;
+
+/**
+ * Submits JCL by calling the Topaz CLI on the build's agent.
+ */
+@Extension(ordinal = 100)
+public class CliSubmissionEngine extends SubmissionEngine {
+
+	public static final String ID = "cli"; //$NON-NLS-1$
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.cliSubmissionEngineDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#submit(com.compuware.jenkins.build.SubmissionRequest)
+	 */
+	@Override
+	public SubmissionOutcome submit(SubmissionRequest request) throws IOException, InterruptedException {
+		SubmitJclBaseBuilder builder = request.getBuilder();
+		Run<?, ?> run = request.getRun();
+		FilePath workspace = request.getWorkspace();
+		Launcher launcher = request.getLauncher();
+		TaskListener listener = request.getListener();
+		PrintStream logger = listener.getLogger();
+		if (request.getSession() != null) {
+			// each CLI call is a separate process that logs on itself
+			logger.println(Messages.topazSessionNotShared(getDisplayName()));
+		}
+
+		CpwrGlobalConfiguration globalConfig = CpwrGlobalConfiguration.get();
+		VirtualChannel vChannel = launcher.getChannel();
+		if (vChannel == null) {
+			throw new IllegalStateException("Could not get virtual channel from launcher."); //$NON-NLS-1$
+		}
+
+		// Check CLI compatibility; the CLI version and agent file separator are read by the agent's warm up, or else probed once per
+		// agent and cached
+		String cliLocation = globalConfig.getTopazCLILocation(launcher);
+		Computer computer = workspace.toComputer();
+		AgentWarmup.Readiness readiness = computer != null ? AgentWarmup.getReadiness(computer) : null;
+		AgentCliInfo agentInfo = readiness != null ? readiness.getCliInfo(cliLocation) : null;
+		if (agentInfo == null) {
+			agentInfo = AgentCliInfo.get(vChannel, cliLocation);
+		}
+		String cliVersion = agentInfo.getCliVersion();
+		CLIVersionUtils.checkCLICompatibility(cliVersion, TopazUtilitiesConstants.JCL_MINIMUM_CLI_VERSION);
+
+		String remoteFileSeparator = agentInfo.getFileSeparator();
+		boolean isShell = launcher.isUnix();
+		String osFile = isShell ? TopazUtilitiesConstants.SUBMIT_JCL_CLI_SH : TopazUtilitiesConstants.SUBMIT_JCL_CLI_BAT;	
+
+		String cliScriptFileRemote = cliLocation + remoteFileSeparator + osFile;
+		logger.println("cliScriptFile: " + cliScriptFileRemote); //$NON-NLS-1$
+
+		String topazCliWorkspace = workspace.getRemote() + remoteFileSeparator + CommonConstants.TOPAZ_CLI_WORKSPACE
+				+ UUID.randomUUID().toString();
+		logger.println("topazCliWorkspace: " + topazCliWorkspace); //$NON-NLS-1$
+		String maxConditionCodeStr = ArgumentUtils.escapeForScript(builder.getMaxConditionCode());
+
+		ArgumentListBuilder args = globalConfig.getArgumentBuilder(cliScriptFileRemote, cliVersion, run.getParent(),
+				builder.getCredentialsId(), request.getConnectionId());
+		args.add(CommonConstants.DATA_PARM, topazCliWorkspace);
+		args.add(TopazUtilitiesConstants.MAX_CC_PARM, maxConditionCodeStr);
+
+		// Let the build step add its arguments; staged files are written by the CLI call itself.
+		Map<String, String> stagedFiles = new LinkedHashMap<>();
+		builder.addArguments(run, workspace, launcher, listener, args, request.getWorkItems(), stagedFiles);
+		logger.println();
+
+		// invoke the CLI (execute the batch/shell script), calling it again after a transient connection failure; the validated CLI
+		// version, agent properties and staged arguments are reused by every attempt
+		CliRunner runner = new CliRunner(osFile, builder.getConnectionRetries());
+		SubmissionOutcome outcome;
+		FilePath logBase;
+		if (launcher instanceof Launcher.DecoratedLauncher) {
+			// a decorated launcher (such as a container wrapper) must launch the CLI itself, so the call is driven from here; the agent's
+			// process limit and class data sharing archive belong to the callable, so they do not apply
+			logger.println(Messages.decoratedLauncherLimits());
+			outcome = launchFromController(request, args, topazCliWorkspace, stagedFiles, runner);
+			logBase = new FilePath(run.getRootDir());
+		} else {
+			String boundedLogDir = builder.isBoundedConsoleLog()
+					? workspace.child(TopazUtilitiesConstants.LOG_ARTIFACT_DIR).getRemote() : null;
+			TopazUtilitiesConfiguration topazConfig = TopazUtilitiesConfiguration.get();
+			SubmitJclCallable callable = new SubmitJclCallable(args, request.getEnvironment(), workspace.getRemote(), topazCliWorkspace,
+					stagedFiles, runner, topazConfig.getMaxCliProcesses(), boundedLogDir, logger, run.getCharset());
+			FilePath agentRoot = getAgentRoot(workspace);
+			if (topazConfig.isCliClassDataSharing() && agentRoot != null) {
+				callable.withClassDataSharing(agentRoot.child(TopazUtilitiesConstants.CDS_ARCHIVE_DIR).getRemote(), cliVersion);
+			}
+			outcome = vChannel.call(callable);
+			logBase = workspace;
+		}
+
+		if (!outcome.getLogNames().isEmpty()) {
+			archiveBoundedLogs(run, logBase, launcher, listener, outcome.getLogNames());
+		}
+
+		return outcome;
+	}
+
+	/**
+	 * Gets the root directory of the agent a workspace is on.
+	 * 
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * 
+	 * @return the agent's root directory, or <code>null</code> if the agent is no longer connected
+	 */
+	private static FilePath getAgentRoot(FilePath workspace) {
+		Computer computer = workspace.toComputer();
+		Node node = computer != null ? computer.getNode() : null;
+		return node != null ? node.getRootPath() : null;
+	}
+
+	/**
+	 * Calls the CLI through the launcher, driving each step of the call from the controller. This is used when the launcher is
+	 * decorated, as the decoration would be lost by launching the CLI from a callable running on the agent. As the CLI output
+	 * already streams to the controller, a bounded console log's full output is compressed into the build directory. The call does
+	 * not wait for the agent's {@link CliProcessLimiter}, nor use its {@link CliClassDataSharing} archive.
+	 * 
+	 * @param request
+	 *            the submission request
+	 * @param args
+	 *            the CLI command line
+	 * @param topazCliWorkspace
+	 *            the CLI data directory, deleted after a successful call
+	 * @param stagedFiles
+	 *            the contents of the files to write before the call, by path; deleted after the call
+	 * @param runner
+	 *            the retry policy
+	 * 
+	 * @return the outcome of the last CLI call
+	 * 
+	 * @throws IOException
+	 *             if the CLI could not be launched
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the CLI
+	 */
+	private static SubmissionOutcome launchFromController(SubmissionRequest request, ArgumentListBuilder args, String topazCliWorkspace,
+			Map<String, String> stagedFiles, CliRunner runner) throws IOException, InterruptedException {
+		Run<?, ?> run = request.getRun();
+		FilePath workspace = request.getWorkspace();
+		Launcher launcher = request.getLauncher();
+		EnvVars env = request.getEnvironment();
+		boolean boundedConsoleLog = request.getBuilder().isBoundedConsoleLog();
+		PrintStream logger = request.getListener().getLogger();
+		VirtualChannel vChannel = launcher.getChannel();
+		FilePath workDir = new FilePath(vChannel, workspace.getRemote());
+		workDir.mkdirs();
+
+		List<FilePath> written = new ArrayList<>();
+		try {
+			for (Map.Entry<String, String> stagedFile : stagedFiles.entrySet()) {
+				FilePath file = new FilePath(vChannel, stagedFile.getKey());
+				written.add(file);
+				file.write(stagedFile.getValue(), null);
+			}
+
+			List<String> logNames = new ArrayList<>();
+			SubmissionOutcome outcome = runner.run(outputParser -> {
+				if (!boundedConsoleLog) {
+					return launcher.launch().cmds(args).envs(env).stdout(new TeeOutputStream(logger, outputParser)).pwd(workDir).join();
+				}
+
+				// sending the output back to the agent only to archive it again would carry it over the channel twice
+				FilePath logDir = new FilePath(run.getRootDir()).child(TopazUtilitiesConstants.LOG_ARTIFACT_DIR);
+				logDir.mkdirs();
+				String logName = UUID.randomUUID().toString() + TopazUtilitiesConstants.LOG_ARTIFACT_EXTENSION;
+				logNames.add(logName);
+				BoundedLogOutputStream boundedLog = new BoundedLogOutputStream(new GZIPOutputStream(logDir.child(logName).write()),
+						logger, run.getCharset());
+				try {
+					return launcher.launch().cmds(args).envs(env).stdout(new TeeOutputStream(boundedLog, outputParser)).pwd(workDir)
+							.join();
+				} finally {
+					boundedLog.close();
+					boundedLog.writeSummary(logger);
+				}
+			}, logger, run.getCharset());
+
+			if (outcome.getExitValue() == 0) {
+				new FilePath(vChannel, topazCliWorkspace).deleteRecursive();
+			}
+
+			return outcome.withLogNames(logNames);
+		} finally {
+			for (FilePath file : written) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Archives the full CLI output logs written while the console log was bounded, lists them in the build's
+	 * {@link SubmitJclLogAction} and deletes the written logs.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param logBase
+	 *            the directory holding the log directory: the Jenkins job workspace when the logs were written on the agent, or
+	 *            the build directory when they were written on the controller
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param logNames
+	 *            the names of the logs in the log directory
+	 * 
+	 * @throws IOException
+	 *             if an error occurs archiving the logs
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while archiving the logs
+	 */
+	private static void archiveBoundedLogs(Run<?, ?> run, FilePath logBase, Launcher launcher, TaskListener listener,
+			List<String> logNames) throws IOException, InterruptedException {
+		PrintStream logger = listener.getLogger();
+		FilePath logDir = logBase.child(TopazUtilitiesConstants.LOG_ARTIFACT_DIR);
+		Map<String, String> artifacts = new LinkedHashMap<>();
+		for (String logName : logNames) {
+			String logPath = TopazUtilitiesConstants.LOG_ARTIFACT_DIR + '/' + logName;
+			artifacts.put(logPath, logPath);
+		}
+
+		try {
+			run.pickArtifactManager().archive(logBase, launcher, BuildListenerAdapter.wrap(listener), artifacts);
+		} finally {
+			for (String logName : logNames) {
+				logDir.child(logName).delete();
+			}
+		}
+
+		synchronized (run) {
+			SubmitJclLogAction logAction = run.getAction(SubmitJclLogAction.class);
+			if (logAction == null) {
+				logAction = new SubmitJclLogAction();
+				run.addAction(logAction);
+			}
+			for (String logPath : artifacts.keySet()) {
+				logAction.addArtifactPath(logPath);
+			}
+		}
+		run.save();
+
+		for (String logPath : artifacts.keySet()) {
+			logger.println(Messages.boundedLogArchived(logPath));
+		}
+	}
+
+}
@@ -0,0 +1,252 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Controller-wide reader/writer lock table of mainframe datasets, shared by all builds. A submission takes the datasets its JCL reads
+ * and updates before it is submitted, and waits while another submission updates a dataset it uses, or uses a dataset it updates.
+ * Submissions that share no updated dataset run concurrently.
+ * <p>
+ * All datasets of a submission are taken at once, so submissions never deadlock over each other's datasets. Waiting submissions are
+ * granted in the order they asked, as far as they conflict with each other, so a submission that updates a much read dataset is not
+ * starved by later readers.
+ */
+public final class DatasetLockTable {
+	private static final DatasetLockTable INSTANCE = new DatasetLockTable();
+
+	/**
+	 * How a submission uses a dataset.
+	 */
+	public enum Access {
+		READ, WRITE;
+
+		/**
+		 * Gets whether two uses of the same dataset exclude each other.
+		 * 
+		 * @param other
+		 *            the other use
+		 * 
+		 * @return <code>true</code> if either use updates the dataset
+		 */
+		public boolean conflictsWith(Access other) {
+			return this == WRITE || other == WRITE;
+		}
+	}
+
+	/**
+	 * The datasets held by a submission; closing the lease releases them.
+	 */
+	public final class Lease implements AutoCloseable {
+		private final Request request;
+		private final long waitMillis;
+		private final List<String> conflicts;
+		private boolean closed;
+
+		private Lease(Request request, long waitMillis, List<String> conflicts) {
+			this.request = request;
+			this.waitMillis = waitMillis;
+			this.conflicts = conflicts;
+		}
+
+		/**
+		 * Gets how long the submission waited for its datasets.
+		 * 
+		 * @return the wait time in milliseconds
+		 */
+		public long getWaitMillis() {
+			return waitMillis;
+		}
+
+		/**
+		 * Gets the datasets the submission found held or waited for by others when it asked for them, each with those submissions.
+		 * 
+		 * @return the conflicts, such as <code>A.B.GDG (payroll #12)</code>; empty if the submission did not have to wait
+		 */
+		public List<String> getConflicts() {
+			return conflicts;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+			synchronized (DatasetLockTable.this) {
+				if (!closed) {
+					closed = true;
+					for (String dataset : request.datasets.keySet()) {
+						List<Request> holders = held.get(dataset);
+						holders.remove(request);
+						if (holders.isEmpty()) {
+							held.remove(dataset);
+						}
+					}
+					DatasetLockTable.this.notifyAll();
+				}
+			}
+		}
+	}
+
+	private static final class Request {
+		private final String owner;
+		private final Map<String, Access> datasets;
+
+		private Request(String owner, Map<String, Access> datasets) {
+			this.owner = owner;
+			this.datasets = datasets;
+		}
+
+		private boolean conflictsWith(Request other) {
+			for (Map.Entry<String, Access> entry : datasets.entrySet()) {
+				Access otherAccess = other.datasets.get(entry.getKey());
+				if (otherAccess != null && entry.getValue().conflictsWith(otherAccess)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	private final List<Request> waiting = new ArrayList<>();
+	private final Map<String, List<Request>> held = new LinkedHashMap<>();
+
+	/**
+	 * Constructor.
+	 */
+	DatasetLockTable() {
+	}
+
+	/**
+	 * Gets the controller-wide lock table.
+	 * 
+	 * @return the lock table
+	 */
+	public static DatasetLockTable get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Waits until a submission may use its datasets.
+	 * 
+	 * @param owner
+	 *            describes the submission to others waiting for its datasets, such as the build's name
+	 * @param datasets
+	 *            the access of each dataset the submission uses, by dataset name
+	 * 
+	 * @return the lease holding the datasets, to be closed once the submitted jobs have ended
+	 * 
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting; the submission leaves the queue
+	 */
+	public synchronized Lease acquire(String owner, Map<String, Access> datasets) throws InterruptedException {
+		long queuedAt = System.currentTimeMillis();
+		Request request = new Request(owner, new LinkedHashMap<>(datasets));
+		List<String> conflicts = getConflicts(request, true);
+		waiting.add(request);
+		try {
+			while (!isGrantable(request)) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			waiting.remove(request);
+			notifyAll();
+			throw e;
+		}
+
+		waiting.remove(request);
+		for (String dataset : request.datasets.keySet()) {
+			held.computeIfAbsent(dataset, k -> new ArrayList<>()).add(request);
+		}
+
+		return new Lease(request, System.currentTimeMillis() - queuedAt, conflicts);
+	}
+
+	/**
+	 * Gets whether a waiting submission conflicts with neither a holder of its datasets nor a submission that asked before it.
+	 */
+	private boolean isGrantable(Request request) {
+		for (Request earlier : waiting) {
+			if (earlier == request) {
+				break;
+			}
+			if (request.conflictsWith(earlier)) {
+				return false;
+			}
+		}
+
+		return getConflicts(request, false).isEmpty();
+	}
+
+	/**
+	 * Describes each dataset of a submission held, or also waited for, in a conflicting way by others.
+	 */
+	private List<String> getConflicts(Request request, boolean includeWaiting) {
+		List<String> conflicts = new ArrayList<>();
+		for (Map.Entry<String, Access> entry : request.datasets.entrySet()) {
+			List<Request> users = new ArrayList<>(held.getOrDefault(entry.getKey(), Collections.<Request>emptyList()));
+			if (includeWaiting) {
+				users.addAll(waiting);
+			}
+
+			Set<String> owners = new LinkedHashSet<>();
+			for (Request user : users) {
+				Access access = user.datasets.get(entry.getKey());
+				if (access != null && entry.getValue().conflictsWith(access)) {
+					owners.add(user.owner);
+				}
+			}
+			if (!owners.isEmpty()) {
+				conflicts.add(entry.getKey() + " (" + String.join(", ", owners) + ')'); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		return conflicts;
+	}
+
+	/**
+	 * Gets the number of submissions holding a dataset.
+	 * 
+	 * @param dataset
+	 *            the dataset name
+	 * 
+	 * @return the holder count
+	 */
+	public synchronized int getHolders(String dataset) {
+		List<Request> holders = held.get(dataset);
+		return holders != null ? holders.size() : 0;
+	}
+
+	/**
+	 * Gets the number of submissions waiting for their datasets.
+	 * 
+	 * @return the queue depth
+	 */
+	public synchronized int getWaiting() {
+		return waiting.size();
+	}
+}
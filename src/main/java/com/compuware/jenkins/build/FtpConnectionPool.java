@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Keeps logged on FTP clients open between submissions, so consecutive submissions to the same host with the same credentials do not
+ * pay for a new connection, TLS handshake and log on each time. Idle clients are checked before reuse and closed once they have
+ * been idle too long.
+ * <p>
+ * Besides the controller-wide pool, each {@link TopazSession} keeps its own pool, which logs its clients off when the session is
+ * closed.
+ */
+public final class FtpConnectionPool implements Closeable {
+	private static final FtpConnectionPool INSTANCE = new FtpConnectionPool(TopazUtilitiesConstants.FTP_POOL_MAX_IDLE,
+			TopazUtilitiesConstants.FTP_POOL_IDLE_MILLIS);
+
+	/**
+	 * Opens a new logged on client.
+	 */
+	public interface Opener {
+
+		/**
+		 * Opens a new logged on client.
+		 * 
+		 * @return the client
+		 * 
+		 * @throws IOException
+		 *             if the client could not connect or log on
+		 */
+		ZosFtpClient open() throws IOException;
+	}
+
+	private static final class Idle {
+		private final ZosFtpClient client;
+		private final long since;
+
+		private Idle(ZosFtpClient client, long since) {
+			this.client = client;
+			this.since = since;
+		}
+	}
+
+	private final int maxIdle;
+	private final long maxIdleMillis;
+	private final Map<String, Deque<Idle>> idleClients = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxIdle
+	 *            the maximum number of idle clients kept per key
+	 * @param maxIdleMillis
+	 *            how long a client may stay idle before it is closed
+	 */
+	FtpConnectionPool(int maxIdle, long maxIdleMillis) {
+		this.maxIdle = maxIdle;
+		this.maxIdleMillis = maxIdleMillis;
+	}
+
+	/**
+	 * Gets the controller-wide pool.
+	 * 
+	 * @return the pool
+	 */
+	public static FtpConnectionPool get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Borrows a client, reusing an idle client that still responds or opening a new one.
+	 * 
+	 * @param key
+	 *            identifies the host and credentials the client is logged on with
+	 * @param opener
+	 *            opens a new client when there is no usable idle client
+	 * 
+	 * @return the client; it must be given back with {@link #release(String, ZosFtpClient)} or {@link #discard(ZosFtpClient)}
+	 * 
+	 * @throws IOException
+	 *             if a new client could not be opened
+	 */
+	public ZosFtpClient borrow(String key, Opener opener) throws IOException {
+		Idle idle;
+		while ((idle = pollIdle(key)) != null) {
+			if (System.currentTimeMillis() - idle.since > maxIdleMillis || !isAlive(idle.client)) {
+				discard(idle.client);
+			} else {
+				return idle.client;
+			}
+		}
+
+		return opener.open();
+	}
+
+	/**
+	 * Gives a client back to the pool after a successful use.
+	 * 
+	 * @param key
+	 *            the key the client was borrowed with
+	 * @param client
+	 *            the client
+	 */
+	public void release(String key, ZosFtpClient client) {
+		if (client.isConnected()) {
+			synchronized (idleClients) {
+				Deque<Idle> clients = idleClients.computeIfAbsent(key, k -> new ArrayDeque<>());
+				if (clients.size() < maxIdle) {
+					clients.push(new Idle(client, System.currentTimeMillis()));
+					return;
+				}
+			}
+		}
+
+		discard(client);
+	}
+
+	/**
+	 * Closes a client that failed, rather than giving it back to the pool.
+	 * 
+	 * @param client
+	 *            the client
+	 */
+	public void discard(ZosFtpClient client) {
+		IOUtils.closeQuietly(client);
+	}
+
+	/**
+	 * Gets the number of idle clients kept for a key.
+	 * 
+	 * @param key
+	 *            the key
+	 * 
+	 * @return the number of idle clients
+	 */
+	public int getIdleCount(String key) {
+		synchronized (idleClients) {
+			Deque<Idle> clients = idleClients.get(key);
+			return clients != null ? clients.size() : 0;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+		synchronized (idleClients) {
+			for (Deque<Idle> clients : idleClients.values()) {
+				for (Idle idle : clients) {
+					discard(idle.client);
+				}
+			}
+			idleClients.clear();
+		}
+	}
+
+	private Idle pollIdle(String key) {
+		synchronized (idleClients) {
+			Deque<Idle> clients = idleClients.get(key);
+			return clients != null ? clients.poll() : null;
+		}
+	}
+
+	private static boolean isAlive(ZosFtpClient client) {
+		try {
+			return client.isConnected() && client.sendCommand("NOOP").getCode() == 200; //$NON-NLS-1$
+		} catch (IOException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredentials;
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Run;
+
+/**
+ * Submits JCL in process, through the JES interface of the host's FTP server, and polls the submitted jobs until they complete. No
+ * process is started and nothing runs on the build's agent; logged on FTP connections are kept in the {@link FtpConnectionPool}
+ * between submissions.
+ */
+@Extension
+public class FtpJesSubmissionEngine extends SubmissionEngine {
+
+	public static final String ID = "ftpJes"; //$NON-NLS-1$
+
+	private static final Pattern JES_SUBMITTED_PATTERN = Pattern.compile(TopazUtilitiesConstants.JES_SUBMITTED_REGEX);
+	private static final Pattern JOB_ID_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_ID_REGEX);
+	private static final Pattern JOB_STATEMENT_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_STATEMENT_REGEX);
+	private static final Pattern JOB_STATUS_PATTERN = Pattern
+			.compile("^(\\S+)\\s+((?:JOB|STC|TSU)\\d{5}|[JST]\\d{7})\\s+\\S+\\s+(INPUT|ACTIVE|OUTPUT|HELD)\\b(.*)$"); //$NON-NLS-1$
+	private static final Pattern COMPLETION_PATTERN = Pattern
+			.compile("\\bRC=(\\d{1,4})\\b|\\bABEND=([SU]?[0-9A-F]{3,4})\\b|(\\(?JCL error\\)?)", Pattern.CASE_INSENSITIVE); //$NON-NLS-1$
+
+	/**
+	 * The status of a job in a JES listing.
+	 */
+	static final class JobStatus {
+		private final String name;
+		private final String id;
+		private final boolean queued;
+		private final boolean complete;
+		private final String conditionCode;
+
+		private JobStatus(String name, String id, boolean queued, boolean complete, String conditionCode) {
+			this.name = name;
+			this.id = id;
+			this.queued = queued;
+			this.complete = complete;
+			this.conditionCode = conditionCode;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		String getId() {
+			return id;
+		}
+
+		boolean isQueued() {
+			return queued;
+		}
+
+		boolean isComplete() {
+			return complete;
+		}
+
+		String getConditionCode() {
+			return conditionCode;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.ftpJesSubmissionEngineDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#submit(com.compuware.jenkins.build.SubmissionRequest)
+	 */
+	@Override
+	public SubmissionOutcome submit(SubmissionRequest request) throws IOException, InterruptedException {
+		SubmitJclBaseBuilder builder = request.getBuilder();
+		List<JclSource> sources = request.getJclSources();
+		if (sources == null) {
+			throw new AbortException(Messages.submissionEngineUnsupported(getDisplayName(), builder.getDescriptor().getDisplayName()));
+		}
+
+		Run<?, ?> run = request.getRun();
+		String connectionId = request.getConnectionId();
+		String credentialsId = builder.getCredentialsId();
+		// a session keeps its own pool, so the clients it logged on are reused by each nested step and logged off with the session
+		TopazSession session = request.getSession();
+		FtpConnectionPool pool = session != null ? session.getResource(ID, FtpConnectionPool.class,
+				() -> new FtpConnectionPool(TopazUtilitiesConstants.FTP_POOL_MAX_IDLE, Long.MAX_VALUE)) : FtpConnectionPool.get();
+		String poolKey = getPoolKey(run, connectionId, credentialsId);
+		ZosFtpClient client = pool.borrow(poolKey, () -> ZosFtpClient.open(run, connectionId, credentialsId));
+		try {
+			SubmissionOutcome outcome = submitJobs(client, sources, NumberUtils.toInt(StringUtils.trim(builder.getMaxConditionCode())),
+					request.getListener().getLogger(), TopazUtilitiesConstants.JES_POLL_INTERVAL_MILLIS,
+					TimeUnit.MINUTES.toMillis(TopazUtilitiesConfiguration.get().getJobWaitMinutes()));
+			pool.release(poolKey, client);
+			return outcome;
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			pool.discard(client);
+			throw e;
+		}
+	}
+
+	/**
+	 * Gets the pool key of a host connection and credential. The key changes when the credential's username or password changes, so
+	 * clients logged on with an outdated password are not reused.
+	 */
+	private static String getPoolKey(Run<?, ?> run, String connectionId, String credentialsId) throws IOException {
+		StandardUsernamePasswordCredentials credentials = CredentialsProvider.findCredentialById(credentialsId,
+				StandardUsernamePasswordCredentials.class, run);
+		if (credentials == null) {
+			throw new AbortException(Messages.usernamePasswordCredentialsRequired(credentialsId));
+		}
+
+		return connectionId + '|' + credentialsId + '|'
+				+ DigestUtils.sha256Hex(credentials.getUsername() + ':' + credentials.getPassword().getPlainText());
+	}
+
+	/**
+	 * Submits each JCL source as a job through the JES interface, then waits for every job to complete.
+	 * 
+	 * @param client
+	 *            a logged on client
+	 * @param sources
+	 *            the JCL to submit
+	 * @param maxConditionCode
+	 *            the highest condition code a job may end with
+	 * @param logger
+	 *            the build logger
+	 * @param pollIntervalMillis
+	 *            the time between two job status listings
+	 * @param jobWaitMillis
+	 *            the longest time to wait for each job to complete; <code>0</code> to wait until it completes
+	 * 
+	 * @return the outcome; its exit value is <code>1</code> if a job ended above the maximum condition code, abended, is no longer
+	 *         listed by JES or did not complete in time
+	 * 
+	 * @throws IOException
+	 *             if a dataset could not be read, a job was not accepted or the connection failed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the jobs
+	 */
+	static SubmissionOutcome submitJobs(ZosFtpClient client, List<JclSource> sources, int maxConditionCode, PrintStream logger,
+			long pollIntervalMillis, long jobWaitMillis) throws IOException, InterruptedException {
+		// read every dataset before switching to the JES interface, so a missing member fails the step before anything is submitted
+		List<String> jcls = new ArrayList<>();
+		boolean sequential = false;
+		for (JclSource source : sources) {
+			if (source.isDataset()) {
+				if (!sequential) {
+					site(client, "FILETYPE=SEQ"); //$NON-NLS-1$
+					sequential = true;
+				}
+				jcls.add(client.retrieve(quote(source.getDataset())));
+			} else {
+				jcls.add(source.getText());
+			}
+		}
+
+		site(client, "FILETYPE=JES JESJOBNAME=* JESSTATUS=ALL"); //$NON-NLS-1$
+		Map<String, String> pending = new LinkedHashMap<>();
+		Map<String, Long> submittedAt = new LinkedHashMap<>();
+		for (String jcl : jcls) {
+			ZosFtpClient.Reply reply = client.store("JCL", jcl); //$NON-NLS-1$
+			Matcher submitted = JES_SUBMITTED_PATTERN.matcher(String.valueOf(reply));
+			if (!submitted.find() || !JOB_ID_PATTERN.matcher(submitted.group(1)).matches()) {
+				throw new AbortException(Messages.jesSubmitFailed(reply));
+			}
+
+			Matcher jobStatement = JOB_STATEMENT_PATTERN.matcher(jcl);
+			String jobName = jobStatement.find() ? jobStatement.group(1) : null;
+			String jobId = submitted.group(1);
+			pending.put(jobId, jobName);
+			submittedAt.put(jobId, System.currentTimeMillis());
+			logger.println(Messages.jesJobSubmitted(StringUtils.defaultString(jobName), jobId));
+		}
+
+		// list the jobs of the user once per poll, rather than once per job
+		Map<String, JobResult> completed = new LinkedHashMap<>();
+		Map<String, Long> dequeuedAt = new LinkedHashMap<>();
+		while (!pending.isEmpty()) {
+			Thread.sleep(pollIntervalMillis);
+			Map<String, JobStatus> statuses = parseJobListing(client.list(null));
+			for (String jobId : new ArrayList<>(pending.keySet())) {
+				JobStatus status = statuses.get(jobId);
+				if (status == null) {
+					status = parseJobListing(client.list(jobId)).get(jobId);
+				}
+				if (status != null && !status.isQueued()) {
+					dequeuedAt.putIfAbsent(jobId, System.currentTimeMillis());
+				}
+
+				String jobName = status != null ? status.getName() : pending.get(jobId);
+				long jobSubmittedAt = submittedAt.get(jobId);
+				if (status == null) {
+					logger.println(Messages.jesJobNotFound(StringUtils.defaultString(jobName), jobId));
+				} else if (status.isComplete()) {
+					logger.println(Messages.jesJobCompleted(jobName, jobId, StringUtils.defaultString(status.getConditionCode(), "?"))); //$NON-NLS-1$
+				} else if (jobWaitMillis > 0 && System.currentTimeMillis() - jobSubmittedAt >= jobWaitMillis) {
+					// a held job, or one waiting for an initiator, would otherwise keep the step waiting forever
+					logger.println(Messages.jesJobTimedOut(jobName, jobId, Util.getTimeSpanString(jobWaitMillis)));
+				} else {
+					continue;
+				}
+
+				pending.remove(jobId);
+				Long jobDequeuedAt = dequeuedAt.get(jobId);
+				completed.put(jobId, new JobResult(jobName, jobId, status != null ? status.getConditionCode() : null,
+						System.currentTimeMillis() - jobSubmittedAt, jobDequeuedAt != null ? jobDequeuedAt - jobSubmittedAt : -1,
+						jobSubmittedAt));
+			}
+		}
+
+		List<JobResult> jobs = new ArrayList<>();
+		for (String jobId : submittedAt.keySet()) {
+			jobs.add(completed.get(jobId));
+		}
+
+		// a job without a condition code was purged or timed out, so it cannot be shown to have succeeded
+		int failed = 0;
+		for (JobResult job : jobs) {
+			if (job.getConditionCode() == null || job.isAbended() || job.getReturnCode() > maxConditionCode) {
+				failed++;
+			}
+		}
+
+		if (failed > 0) {
+			return new SubmissionOutcome(1, Messages.jesSubmissionFailed(failed, jobs.size(), maxConditionCode), jobs, 1);
+		}
+
+		return new SubmissionOutcome(0, Messages.jesSubmissionSucceeded(jobs.size(), maxConditionCode), jobs, 1);
+	}
+
+	/**
+	 * Parses a JES interface job listing.
+	 * 
+	 * @param lines
+	 *            the listing lines
+	 * 
+	 * @return the status of each listed job, by job identifier
+	 */
+	static Map<String, JobStatus> parseJobListing(List<String> lines) {
+		Map<String, JobStatus> statuses = new LinkedHashMap<>();
+		for (String line : lines) {
+			Matcher matcher = JOB_STATUS_PATTERN.matcher(line.trim());
+			if (!matcher.matches()) {
+				continue;
+			}
+
+			boolean complete = "OUTPUT".equalsIgnoreCase(matcher.group(3)); //$NON-NLS-1$
+			String conditionCode = null;
+			Matcher completion = COMPLETION_PATTERN.matcher(matcher.group(4));
+			if (complete && completion.find()) {
+				if (completion.group(1) != null) {
+					conditionCode = StringUtils.leftPad(completion.group(1), 4, '0');
+				} else if (completion.group(2) != null) {
+					// system abend codes are three hexadecimal digits, user abend codes four decimal digits
+					String abendCode = completion.group(2).toUpperCase();
+					if (abendCode.length() == 3) {
+						abendCode = 'S' + abendCode;
+					} else if (abendCode.length() == 4 && StringUtils.isNumeric(abendCode)) {
+						abendCode = 'U' + abendCode;
+					}
+					conditionCode = abendCode;
+				} else {
+					conditionCode = "JCL ERROR"; //$NON-NLS-1$
+				}
+			}
+
+			statuses.put(matcher.group(2), new JobStatus(matcher.group(1), matcher.group(2), "INPUT".equalsIgnoreCase(matcher.group(3)), //$NON-NLS-1$
+					complete, conditionCode));
+		}
+
+		return statuses;
+	}
+
+	/**
+	 * Sets FTP server parameters.
+	 */
+	private static void site(ZosFtpClient client, String parameters) throws IOException {
+		ZosFtpClient.Reply reply = client.sendCommand("SITE " + parameters); //$NON-NLS-1$
+		if (reply.getCode() != 200) {
+			throw new IOException(Messages.ftpUnexpectedReply(reply));
+		}
+	}
+
+	/**
+	 * Quotes a dataset name so the FTP server does not prefix it with the user's high level qualifier.
+	 */
+	private static String quote(String dataset) {
+		return dataset.startsWith("'") ? dataset : '\'' + dataset + '\''; //$NON-NLS-1$
+	}
+}
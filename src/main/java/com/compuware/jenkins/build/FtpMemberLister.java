@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.math.NumberUtils;
+
+/**
+ * Lists partitioned dataset directories and reads their members through the z/OS FTP server, reusing one logged on connection for
+ * every dataset.
+ * <p>
+ * The dataset fingerprint is the dataset level listing record (volume, last referenced date, extents and tracks used). It is an
+ * approximation: a member can be replaced on the same day without growing the dataset, so cached directories must also be bounded by
+ * age.
+ */
+public class FtpMemberLister implements MemberLister, MemberContentCache.MemberReader {
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+"); //$NON-NLS-1$
+	private static final Pattern VERSION_PATTERN = Pattern.compile("\\d{2}\\.\\d{2}"); //$NON-NLS-1$
+
+	private final ZosFtpClient client;
+	private String workingDirectory;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param client
+	 *            a connected and logged on client; it is closed with this lister
+	 */
+	public FtpMemberLister(ZosFtpClient client) {
+		this.client = client;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.MemberLister#list(java.lang.String)
+	 */
+	@Override
+	public PdsDirectory list(String dsn) throws IOException {
+		String fingerprint = getFingerprint(dsn);
+		changeWorkingDirectory(dsn);
+		return new PdsDirectory(dsn, fingerprint, parseListing(client.list(null)), System.currentTimeMillis());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.MemberLister#getFingerprint(java.lang.String)
+	 */
+	@Override
+	public String getFingerprint(String dsn) throws IOException {
+		List<String> lines = client.list(quote(dsn));
+		for (String line : lines) {
+			String trimmed = line.trim();
+			if (!trimmed.startsWith("Volume") && trimmed.endsWith(dsn)) { //$NON-NLS-1$
+				return WHITESPACE_PATTERN.matcher(trimmed).replaceAll(" "); //$NON-NLS-1$
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads a member, changing the working directory to its dataset only when the previous request was for another dataset.
+	 */
+	@Override
+	public String read(String dsn, String member) throws IOException {
+		changeWorkingDirectory(dsn);
+		return client.retrieve(member);
+	}
+
+	private void changeWorkingDirectory(String dsn) throws IOException {
+		if (!dsn.equals(workingDirectory)) {
+			client.changeWorkingDirectory(quote(dsn));
+			workingDirectory = dsn;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
+	}
+
+	/**
+	 * Parses the member listing of a partitioned dataset.
+	 * <p>
+	 * Members with ISPF statistics are listed as
+	 * <code>NAME VV.MM CREATED CHANGED-DATE CHANGED-TIME SIZE INIT MOD ID</code>; members without statistics only have a name.
+	 * 
+	 * @param lines
+	 *            the listing lines, including the heading
+	 * 
+	 * @return the members, in listing order
+	 */
+	static List<PdsMember> parseListing(List<String> lines) {
+		List<PdsMember> members = new ArrayList<>();
+		for (String line : lines) {
+			String[] tokens = WHITESPACE_PATTERN.split(line.trim());
+			if (tokens.length == 0 || tokens[0].isEmpty() || "Name".equals(tokens[0])) { //$NON-NLS-1$
+				continue;
+			}
+
+			if (tokens.length >= 8 && VERSION_PATTERN.matcher(tokens[1]).matches()) {
+				String userId = tokens.length > 8 ? tokens[8] : null;
+				members.add(new PdsMember(tokens[0], tokens[1], tokens[3] + ' ' + tokens[4], NumberUtils.toInt(tokens[5], -1), userId));
+			} else {
+				members.add(new PdsMember(tokens[0], null, null, -1, null));
+			}
+		}
+
+		return members;
+	}
+
+	private static String quote(String dsn) {
+		return '\'' + dsn + '\'';
+	}
+}
@@ -0,0 +1,296 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+import com.compuware.jenkins.common.configuration.HostConnection;
+
+import hudson.Extension;
+import hudson.model.AbstractDescribableImpl;
+import hudson.model.Descriptor;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import hudson.util.ListBoxModel.Option;
+import jenkins.model.Jenkins;
+
+/**
+ * Topaz Utilities settings of a single host connection.
+ */
+public class HostConnectionSettings extends AbstractDescribableImpl<HostConnectionSettings> {
+
+	public static final int DEFAULT_CAPACITY = 1;
+	public static final int DEFAULT_FTP_PORT = 21;
+
+	private final String connectionId;
+	private final int capacity;
+	private Integer ftpPort;
+	private Boolean ftpTls;
+	private String submissionEngine;
+	private String zosmfUrl;
+	private int submissionSlots;
+	private int maxCapacity;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param capacity
+	 *            the number of concurrent submissions the connection can take
+	 */
+	@DataBoundConstructor
+	public HostConnectionSettings(String connectionId, int capacity) {
+		this.connectionId = StringUtils.trimToEmpty(connectionId);
+		this.capacity = Math.max(1, capacity);
+	}
+
+	/**
+	 * Gets the unique identifier of the 'Host connection'.
+	 * 
+	 * @return <code>String</code> value of connectionId
+	 */
+	public String getConnectionId() {
+		return connectionId;
+	}
+
+	/**
+	 * Gets the number of concurrent submissions the connection can take, relative to the other pooled connections.
+	 * 
+	 * @return <code>int</code> value of capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the port of the host's FTP server, used to list and read partitioned datasets.
+	 * 
+	 * @return <code>int</code> value of ftpPort
+	 */
+	public int getFtpPort() {
+		return ftpPort != null ? ftpPort.intValue() : DEFAULT_FTP_PORT;
+	}
+
+	/**
+	 * Sets the port of the host's FTP server.
+	 * 
+	 * @param ftpPort
+	 *            the FTP port
+	 */
+	@DataBoundSetter
+	public void setFtpPort(int ftpPort) {
+		this.ftpPort = ftpPort;
+	}
+
+	/**
+	 * Gets whether connections to the host's FTP server are protected with explicit TLS.
+	 * 
+	 * @return <code>boolean</code> value of ftpTls
+	 */
+	public boolean isFtpTls() {
+		return ftpTls == null || ftpTls.booleanValue();
+	}
+
+	/**
+	 * Sets whether connections to the host's FTP server are protected with explicit TLS.
+	 * 
+	 * @param ftpTls
+	 *            <code>true</code> to use TLS
+	 */
+	@DataBoundSetter
+	public void setFtpTls(boolean ftpTls) {
+		this.ftpTls = ftpTls;
+	}
+
+	/**
+	 * Gets the identifier of the {@link SubmissionEngine} used to submit JCL to the host.
+	 * 
+	 * @return <code>String</code> value of submissionEngine; the Topaz CLI engine if none was chosen
+	 */
+	public String getSubmissionEngine() {
+		return StringUtils.defaultIfEmpty(submissionEngine, CliSubmissionEngine.ID);
+	}
+
+	/**
+	 * Sets the identifier of the {@link SubmissionEngine} used to submit JCL to the host.
+	 * 
+	 * @param submissionEngine
+	 *            the engine identifier
+	 */
+	@DataBoundSetter
+	public void setSubmissionEngine(String submissionEngine) {
+		this.submissionEngine = StringUtils.trimToNull(submissionEngine);
+	}
+
+	/**
+	 * Gets the URL of the host's z/OSMF server, used by the {@link ZosmfSubmissionEngine}.
+	 * 
+	 * @return <code>String</code> value of zosmfUrl; <code>null</code> for the default HTTPS port of the host
+	 */
+	public String getZosmfUrl() {
+		return zosmfUrl;
+	}
+
+	/**
+	 * Sets the URL of the host's z/OSMF server.
+	 * 
+	 * @param zosmfUrl
+	 *            the z/OSMF URL, such as <code>https://host:443</code>
+	 */
+	@DataBoundSetter
+	public void setZosmfUrl(String zosmfUrl) {
+		this.zosmfUrl = StringUtils.trimToNull(zosmfUrl);
+	}
+
+	/**
+	 * Gets the number of submissions all builds together may run on the connection at a time; further submissions wait in the
+	 * {@link SubmissionScheduler} queue.
+	 * 
+	 * @return <code>int</code> value of submissionSlots; <code>0</code> for no limit
+	 */
+	public int getSubmissionSlots() {
+		return submissionSlots;
+	}
+
+	/**
+	 * Sets the number of submissions all builds together may run on the connection at a time.
+	 * 
+	 * @param submissionSlots
+	 *            the number of slots; <code>0</code> for no limit
+	 */
+	@DataBoundSetter
+	public void setSubmissionSlots(int submissionSlots) {
+		this.submissionSlots = Math.max(0, submissionSlots);
+	}
+
+	/**
+	 * Gets the highest number of concurrent submissions the connection is given in the parallel submission path when its capacity
+	 * adapts to the host's condition; the capacity is then the starting point.
+	 * 
+	 * @return <code>int</code> value of maxCapacity; <code>0</code> for a fixed capacity
+	 */
+	public int getMaxCapacity() {
+		return maxCapacity;
+	}
+
+	/**
+	 * Sets the highest number of concurrent submissions the connection is given when its capacity adapts to the host's condition.
+	 * 
+	 * @param maxCapacity
+	 *            the highest capacity; <code>0</code> for a fixed capacity
+	 */
+	@DataBoundSetter
+	public void setMaxCapacity(int maxCapacity) {
+		this.maxCapacity = Math.max(0, maxCapacity);
+	}
+
+	/**
+	 * DescriptorImpl for {@link HostConnectionSettings}.
+	 */
+	@Extension
+	public static final class DescriptorImpl extends Descriptor<HostConnectionSettings> {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.hostConnectionSettingsDisplayName();
+		}
+
+		/**
+		 * Fills in the Host Connection selection box with the configured connections.
+		 * 
+		 * @param connectionId
+		 *            an existing host connection identifier; can be null
+		 * 
+		 * @return host connection selections
+		 */
+		public ListBoxModel doFillConnectionIdItems(@QueryParameter String connectionId) {
+			Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+
+			ListBoxModel model = new ListBoxModel();
+			model.add(new Option(StringUtils.EMPTY, StringUtils.EMPTY, false));
+			for (HostConnection connection : CpwrGlobalConfiguration.get().getHostConnections()) {
+				model.add(new Option(HostHealthMonitor.getOptionLabel(connection), connection.getConnectionId(),
+						connection.getConnectionId().equals(connectionId)));
+			}
+
+			return model;
+		}
+
+		/**
+		 * Fills in the Submission Engine selection box with the registered engines.
+		 * 
+		 * @param submissionEngine
+		 *            the selected engine identifier; can be null
+		 * 
+		 * @return submission engine selections
+		 */
+		public ListBoxModel doFillSubmissionEngineItems(@QueryParameter String submissionEngine) {
+			Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+
+			ListBoxModel model = new ListBoxModel();
+			for (SubmissionEngine engine : SubmissionEngine.all()) {
+				model.add(new Option(engine.getDisplayName(), engine.getId(), engine.getId().equals(submissionEngine)));
+			}
+
+			return model;
+		}
+
+		/**
+		 * Validator for the 'Host connection' field.
+		 * 
+		 * @param connectionId
+		 *            unique identifier for the host connection passed from the config.jelly "connectionId" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckConnectionId(@QueryParameter String connectionId) {
+			if (StringUtils.isBlank(connectionId)) {
+				return FormValidation.error(Messages.checkHostConnectionError());
+			}
+
+			return FormValidation.ok();
+		}
+
+		/**
+		 * Validator for the 'Capacity' field.
+		 * 
+		 * @param capacity
+		 *            the capacity passed from the config.jelly "capacity" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckCapacity(@QueryParameter String capacity) {
+			String tempValue = StringUtils.trimToEmpty(capacity);
+			if (NumberUtils.toInt(tempValue) < 1) {
+				return FormValidation.error(Messages.checkCapacityError());
+			}
+
+			return FormValidation.ok();
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+import com.compuware.jenkins.common.configuration.HostConnection;
+
+import hudson.Extension;
+import hudson.model.Computer;
+import hudson.model.PeriodicWork;
+
+/**
+ * Checks in the background whether the host and port of each host connection accept connections, so a step can fail, or move to
+ * another pooled connection, at once rather than after launching the CLI and waiting for its connection timeout. Each connection
+ * is probed with a plain socket connect at the configured interval; the last outcome and its latency are kept in memory.
+ */
+@Extension
+public class HostHealthMonitor extends PeriodicWork {
+	private static final Map<String, Health> HEALTH = new ConcurrentHashMap<>();
+	private static final Set<String> PROBING = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The outcome of the last probe of a host connection.
+	 */
+	public static final class Health {
+		private final boolean reachable;
+		private final long latencyMillis;
+		private final long checkedAt;
+		private final long downSince;
+		private final String failure;
+
+		private Health(boolean reachable, long latencyMillis, long checkedAt, long downSince, String failure) {
+			this.reachable = reachable;
+			this.latencyMillis = latencyMillis;
+			this.checkedAt = checkedAt;
+			this.downSince = downSince;
+			this.failure = failure;
+		}
+
+		/**
+		 * Gets whether the host accepted the connection.
+		 * 
+		 * @return <code>true</code> if the host is reachable
+		 */
+		public boolean isReachable() {
+			return reachable;
+		}
+
+		/**
+		 * Gets how long the host took to accept the connection.
+		 * 
+		 * @return the connect time in milliseconds, or <code>-1</code> if the host is not reachable
+		 */
+		public long getLatencyMillis() {
+			return latencyMillis;
+		}
+
+		/**
+		 * Gets when the host was probed.
+		 * 
+		 * @return the time in milliseconds since the epoch
+		 */
+		public long getCheckedAt() {
+			return checkedAt;
+		}
+
+		/**
+		 * Gets since when the host has not been reachable.
+		 * 
+		 * @return the time of the first failed probe in a row in milliseconds since the epoch, or <code>0</code> if the host is
+		 *         reachable
+		 */
+		public long getDownSince() {
+			return downSince;
+		}
+
+		/**
+		 * Gets why the host could not be reached.
+		 * 
+		 * @return the failure message, or <code>null</code> if the host is reachable
+		 */
+		public String getFailure() {
+			return failure;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.PeriodicWork#getRecurrencePeriod()
+	 */
+	@Override
+	public long getRecurrencePeriod() {
+		// the configured interval may change, so the monitor wakes up often and only probes the connections that are due
+		return TopazUtilitiesConstants.HEALTH_MONITOR_TICK_MILLIS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.PeriodicWork#doRun()
+	 */
+	@Override
+	protected void doRun() {
+		long intervalMillis = getIntervalMillis();
+		if (intervalMillis <= 0) {
+			HEALTH.clear();
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		for (HostConnection connection : CpwrGlobalConfiguration.get().getHostConnections()) {
+			String connectionId = connection.getConnectionId();
+			Health health = HEALTH.get(connectionId);
+			if ((health == null || now - health.checkedAt >= intervalMillis) && PROBING.add(connectionId)) {
+				String host = TopazUtilitiesConfiguration.getHostName(connection);
+				int port = TopazUtilitiesConfiguration.getPort(connection);
+				Computer.threadPoolForRemoting.submit(() -> {
+					try {
+						record(connectionId, probe(host, port, TopazUtilitiesConstants.HEALTH_PROBE_TIMEOUT_MILLIS));
+					} finally {
+						PROBING.remove(connectionId);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Gets the last known health of a host connection.
+	 * 
+	 * @param connectionId
+	 *            the host connection identifier
+	 * 
+	 * @return the health, or <code>null</code> if the monitor is disabled or has no recent probe of the connection
+	 */
+	public static Health getHealth(String connectionId) {
+		long intervalMillis = getIntervalMillis();
+		Health health = HEALTH.get(connectionId);
+		if (intervalMillis <= 0 || health == null
+				|| System.currentTimeMillis() - health.checkedAt > intervalMillis * TopazUtilitiesConstants.HEALTH_STALE_INTERVALS) {
+			return null;
+		}
+
+		return health;
+	}
+
+	/**
+	 * Gets whether a host connection is known to be down.
+	 * 
+	 * @param connectionId
+	 *            the host connection identifier
+	 * 
+	 * @return <code>true</code> if the last recent probe of the connection failed
+	 */
+	public static boolean isDown(String connectionId) {
+		Health health = getHealth(connectionId);
+		return health != null && !health.reachable;
+	}
+
+	/**
+	 * Describes the health of a host connection for display.
+	 * 
+	 * @param connectionId
+	 *            the host connection identifier
+	 * 
+	 * @return the description, or an empty string if the health is unknown
+	 */
+	public static String getStatus(String connectionId) {
+		Health health = getHealth(connectionId);
+		if (health == null) {
+			return ""; //$NON-NLS-1$
+		}
+
+		return health.reachable ? Messages.hostHealthReachable(health.latencyMillis) : Messages.hostHealthUnreachable();
+	}
+
+	/**
+	 * Gets the label of a host connection in a selection list, with its health when it is known.
+	 * 
+	 * @param connection
+	 *            the host connection
+	 * 
+	 * @return the label
+	 */
+	public static String getOptionLabel(HostConnection connection) {
+		String label = connection.getDescription() + " [" + connection.getHostPort() + ']'; //$NON-NLS-1$
+		String status = getStatus(connection.getConnectionId());
+		return status.isEmpty() ? label : label + " (" + status + ')'; //$NON-NLS-1$
+	}
+
+	/**
+	 * Records the outcome of a probe, keeping when a host that stays unreachable went down.
+	 * 
+	 * @param connectionId
+	 *            the host connection identifier
+	 * @param probed
+	 *            the outcome of the probe
+	 * 
+	 * @return the recorded health
+	 */
+	static Health record(String connectionId, Health probed) {
+		return HEALTH.compute(connectionId, (key, previous) -> {
+			if (!probed.reachable && previous != null && !previous.reachable) {
+				return new Health(false, -1, probed.checkedAt, previous.downSince, probed.failure);
+			}
+			return probed;
+		});
+	}
+
+	/**
+	 * Forgets the health of every host connection.
+	 */
+	static void clear() {
+		HEALTH.clear();
+	}
+
+	/**
+	 * Probes a host by connecting to its port.
+	 * 
+	 * @param host
+	 *            the host name
+	 * @param port
+	 *            the port number
+	 * @param timeoutMillis
+	 *            how long to wait for the host to accept the connection
+	 * 
+	 * @return the outcome of the probe
+	 */
+	static Health probe(String host, int port, int timeoutMillis) {
+		long startedAt = System.currentTimeMillis();
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+			long now = System.currentTimeMillis();
+			return new Health(true, now - startedAt, now, 0, null);
+		} catch (IOException | IllegalArgumentException e) {
+			long now = System.currentTimeMillis();
+			return new Health(false, -1, now, now, e.toString());
+		}
+	}
+
+	/**
+	 * Gets the configured probe interval.
+	 */
+	private static long getIntervalMillis() {
+		TopazUtilitiesConfiguration config = TopazUtilitiesConfiguration.get();
+		return config != null ? config.getHealthCheckSeconds() * 1000L : 0;
+	}
+}
@@ -0,0 +1,219 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Reads the datasets a JCL stream references, and whether it reads or updates each of them, from the <code>DSN</code> and
+ * <code>DISP</code> parameters of its DD statements.
+ * <p>
+ * A dataset opened with <code>DISP=SHR</code> is read; <code>OLD</code>, <code>MOD</code> and <code>NEW</code>, which is also the
+ * default, update it. Generations and members lock their whole dataset, so <code>A.B.GDG(+1)</code> is reported as
+ * <code>A.B.GDG</code>. Symbols are not resolved, so names starting with one are left out along with temporary datasets, backward
+ * references and <code>NULLFILE</code>.
+ */
+public final class JclDatasetReferences {
+	private static final int STATEMENT_COLUMNS = 72;
+
+	private JclDatasetReferences() {
+	}
+
+	/**
+	 * Reads the datasets referenced by JCL sources. Dataset sources are left out, as their JCL is not known to the plugin.
+	 * 
+	 * @param sources
+	 *            the JCL sources; may be <code>null</code>
+	 * 
+	 * @return the access of each referenced dataset, by dataset name
+	 */
+	public static Map<String, DatasetLockTable.Access> of(List<JclSource> sources) {
+		Map<String, DatasetLockTable.Access> datasets = new LinkedHashMap<>();
+		if (sources != null) {
+			for (JclSource source : sources) {
+				if (!source.isDataset()) {
+					merge(datasets, parse(source.getText()));
+				}
+			}
+		}
+
+		return datasets;
+	}
+
+	/**
+	 * Reads the datasets referenced by a JCL stream.
+	 * 
+	 * @param jcl
+	 *            the JCL
+	 * 
+	 * @return the access of each referenced dataset, by dataset name; a dataset both read and updated is reported as updated
+	 */
+	public static Map<String, DatasetLockTable.Access> parse(String jcl) {
+		Map<String, DatasetLockTable.Access> datasets = new LinkedHashMap<>();
+		for (String operandField : getDdOperands(jcl)) {
+			String dataset = null;
+			String disposition = null;
+			for (String operand : getOperands(operandField)) {
+				String keyword = StringUtils.substringBefore(operand, "="); //$NON-NLS-1$
+				String value = StringUtils.substringAfter(operand, "="); //$NON-NLS-1$
+				if ("DSN".equals(keyword) || "DSNAME".equals(keyword)) { //$NON-NLS-1$ //$NON-NLS-2$
+					dataset = getDatasetName(value);
+				} else if ("DISP".equals(keyword)) { //$NON-NLS-1$
+					disposition = getStatus(value);
+				}
+			}
+
+			if (dataset != null) {
+				Map<String, DatasetLockTable.Access> reference = new LinkedHashMap<>();
+				reference.put(dataset, "SHR".equals(disposition) ? DatasetLockTable.Access.READ : DatasetLockTable.Access.WRITE); //$NON-NLS-1$
+				merge(datasets, reference);
+			}
+		}
+
+		return datasets;
+	}
+
+	/**
+	 * Adds dataset references to others, keeping the stronger access of a dataset referenced by both.
+	 */
+	private static void merge(Map<String, DatasetLockTable.Access> datasets, Map<String, DatasetLockTable.Access> references) {
+		for (Map.Entry<String, DatasetLockTable.Access> reference : references.entrySet()) {
+			if (datasets.get(reference.getKey()) != DatasetLockTable.Access.WRITE) {
+				datasets.put(reference.getKey(), reference.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Gets the operand field of each DD statement, joined with its continuation lines. Comments, in-stream data and the sequence
+	 * columns are left out.
+	 */
+	private static List<String> getDdOperands(String jcl) {
+		List<StringBuilder> ddOperands = new ArrayList<>();
+		StringBuilder operands = null;
+		boolean continued = false;
+		for (String line : StringUtils.defaultString(jcl).split("\\R")) { //$NON-NLS-1$
+			if (line.length() > STATEMENT_COLUMNS) {
+				line = line.substring(0, STATEMENT_COLUMNS);
+			}
+			if (!line.startsWith("//") || line.startsWith("//*")) { //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
+
+			String text = line.substring(2);
+			String operandField;
+			if (continued && text.startsWith(" ")) { //$NON-NLS-1$
+				operandField = getOperandField(text.trim());
+			} else {
+				// skip the name field, then read the operation field
+				int i = text.indexOf(' ');
+				String rest = i < 0 ? StringUtils.EMPTY : text.substring(i).trim();
+				String operation = StringUtils.substringBefore(rest, " "); //$NON-NLS-1$
+				operandField = getOperandField(StringUtils.substringAfter(rest, " ").trim()); //$NON-NLS-1$
+				operands = null;
+				if ("DD".equals(operation)) { //$NON-NLS-1$
+					operands = new StringBuilder();
+					ddOperands.add(operands);
+				}
+			}
+
+			if (operands != null) {
+				operands.append(operandField);
+			}
+			continued = operandField.endsWith(","); //$NON-NLS-1$
+		}
+
+		List<String> operandFields = new ArrayList<>();
+		for (StringBuilder ddOperand : ddOperands) {
+			operandFields.add(ddOperand.toString());
+		}
+
+		return operandFields;
+	}
+
+	/**
+	 * Gets the operand field at the start of a statement's text: everything up to the first blank outside of quotes, after which the
+	 * comment starts.
+	 */
+	private static String getOperandField(String text) {
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (c == ' ' && !quoted) {
+				return text.substring(0, i);
+			}
+		}
+
+		return text;
+	}
+
+	/**
+	 * Splits the operand field of a statement at the commas outside of parentheses and quotes.
+	 */
+	private static List<String> getOperands(String operandField) {
+		List<String> operands = new ArrayList<>();
+		int depth = 0;
+		boolean quoted = false;
+		int start = 0;
+		for (int i = 0; i < operandField.length(); i++) {
+			char c = operandField.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (!quoted && c == '(') {
+				depth++;
+			} else if (!quoted && c == ')') {
+				depth--;
+			} else if (!quoted && depth == 0 && c == ',') {
+				operands.add(operandField.substring(start, i).trim().toUpperCase(Locale.ENGLISH));
+				start = i + 1;
+			}
+		}
+		operands.add(operandField.substring(start).trim().toUpperCase(Locale.ENGLISH));
+
+		return operands;
+	}
+
+	/**
+	 * Gets the name of a permanent dataset from a <code>DSN</code> value, without any member or generation.
+	 * 
+	 * @return the dataset name, or <code>null</code> for a temporary dataset, a backward reference or <code>NULLFILE</code>
+	 */
+	private static String getDatasetName(String value) {
+		String name = StringUtils.substringBefore(StringUtils.remove(value, '\''), "(").trim(); //$NON-NLS-1$
+		if (name.isEmpty() || name.startsWith("&") || name.startsWith("*.") || "NULLFILE".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return null;
+		}
+
+		return name;
+	}
+
+	/**
+	 * Gets the status of a <code>DISP</code> value, such as <code>SHR</code> for <code>(SHR,KEEP)</code>.
+	 */
+	private static String getStatus(String value) {
+		String status = StringUtils.removeStart(value.trim(), "("); //$NON-NLS-1$
+		return StringUtils.substringBefore(StringUtils.substringBefore(status, ","), ")").trim(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -137,6 +137,42 @@ public abstract class JclDescriptorImpl<T extends BuildStep & Describable<T>> ex
 		return FormValidation.ok();
 	}
 
+	/**
+	 * Validator for the 'Connection retries' field.
+	 * 
+	 * @param connectionRetries
+	 *            the number of connection retries passed from the config.jelly "connectionRetries" field
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckConnectionRetries(@QueryParameter String connectionRetries) {
+		String tempValue = StringUtils.trimToEmpty(connectionRetries);
+		if (!StringUtils.isNumeric(tempValue)) {
+			return FormValidation.error(Messages.checkConnectionRetriesError());
+		}
+
+		return FormValidation.ok();
+	}
+
+	/**
+	 * Validator for the 'Additional host connections' field.
+	 * 
+	 * @param additionalConnectionIds
+	 *            the pooled host connection identifiers passed from the config.jelly "additionalConnectionIds" field
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckAdditionalConnectionIds(@QueryParameter String additionalConnectionIds) {
+		for (String line : StringUtils.split(StringUtils.defaultString(additionalConnectionIds), "\r\n")) { //$NON-NLS-1$
+			String poolConnectionId = line.trim();
+			if (!poolConnectionId.isEmpty() && TopazUtilitiesConfiguration.getHostConnection(poolConnectionId) == null) {
+				return FormValidation.error(Messages.checkAdditionalConnectionIdsError(poolConnectionId));
+			}
+		}
+
+		return FormValidation.ok();
+	}
+
 	/**
 	 * Fills in the Host Connection selection box with applicable connections.
 	 * 
@@ -169,8 +205,7 @@ public abstract class JclDescriptorImpl<T extends BuildStep & Describable<T>> ex
 				isSelected = connectionId.matches(connection.getConnectionId());
 			}
 
-			model.add(new Option(connection.getDescription() + " [" + connection.getHostPort() + ']', //$NON-NLS-1$
-					connection.getConnectionId(), isSelected));
+			model.add(new Option(HostHealthMonitor.getOptionLabel(connection), connection.getConnectionId(), isSelected));
 		}
 
 		return model;
@@ -219,4 +254,22 @@ public abstract class JclDescriptorImpl<T extends BuildStep & Describable<T>> ex
 
 		return model;
 	}
+
+	/**
+	 * Fills in the Priority selection box with the priority classes.
+	 * 
+	 * @param priority
+	 *            the selected priority class; can be null
+	 * 
+	 * @return priority class selections, starting with the choice of the global priority rules
+	 */
+	public ListBoxModel doFillPriorityItems(@QueryParameter String priority) {
+		ListBoxModel model = new ListBoxModel();
+		model.add(new Option(Messages.priorityFromRules(), StringUtils.EMPTY, StringUtils.isEmpty(priority)));
+		for (SubmissionScheduler.Priority priorityClass : SubmissionScheduler.Priority.values()) {
+			model.add(new Option(priorityClass.name(), priorityClass.name(), priorityClass.name().equals(priority)));
+		}
+
+		return model;
+	}
 }
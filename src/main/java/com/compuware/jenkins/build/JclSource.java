@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+
+/**
+ * JCL to submit, either as the JCL text itself or as a dataset member holding it.
+ */
+public final class JclSource implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String text;
+	private final String dataset;
+
+	private JclSource(String text, String dataset) {
+		this.text = text;
+		this.dataset = dataset;
+	}
+
+	/**
+	 * Creates a source of JCL text.
+	 * 
+	 * @param text
+	 *            the JCL statements
+	 * 
+	 * @return the JCL source
+	 */
+	public static JclSource ofText(String text) {
+		return new JclSource(text, null);
+	}
+
+	/**
+	 * Creates a source of JCL held by a dataset or dataset member.
+	 * 
+	 * @param dataset
+	 *            the dataset name, such as <code>A.B.JCL(MEMBER)</code>
+	 * 
+	 * @return the JCL source
+	 */
+	public static JclSource ofDataset(String dataset) {
+		return new JclSource(null, dataset);
+	}
+
+	/**
+	 * Gets whether the JCL is held by a dataset.
+	 * 
+	 * @return <code>true</code> for a dataset, <code>false</code> for JCL text
+	 */
+	public boolean isDataset() {
+		return dataset != null;
+	}
+
+	/**
+	 * Gets the JCL text.
+	 * 
+	 * @return the JCL statements, or <code>null</code> if the JCL is held by a dataset
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Gets the dataset holding the JCL.
+	 * 
+	 * @return the dataset name, or <code>null</code> for JCL text
+	 */
+	public String getDataset() {
+		return dataset;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isDataset() ? dataset : SubmissionJournal.getItemKey(text);
+	}
+}
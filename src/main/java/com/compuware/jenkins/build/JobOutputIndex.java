@@ -0,0 +1,392 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.console.LineTransformationOutputStream;
+
+/**
+ * A compact index of job output, built line by line while the output streams. Each message identifier (such as
+ * <code>IEC141I</code>), abend code (such as <code>S0C7</code>) and DD name found in the output is mapped to the jobs and output
+ * offsets it was found at, so questions like "which jobs issued IEC141I" are answered without reading the output again.
+ * <p>
+ * The index keeps at most {@link TopazUtilitiesConstants#OUTPUT_INDEX_MAX_POSTINGS} occurrences of a term, while still counting
+ * every occurrence, and at most {@link TopazUtilitiesConstants#OUTPUT_INDEX_MAX_TERMS} terms.
+ */
+public final class JobOutputIndex implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final Pattern MESSAGE_ID_PATTERN = Pattern.compile(TopazUtilitiesConstants.MESSAGE_ID_REGEX);
+	private static final Pattern ABEND_CODE_PATTERN = Pattern.compile(TopazUtilitiesConstants.ABEND_CODE_REGEX);
+	private static final Pattern DD_NAME_PATTERN = Pattern.compile(TopazUtilitiesConstants.DD_NAME_REGEX);
+	private static final Pattern JOB_ID_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_ID_REGEX);
+	private static final Pattern JOB_REFERENCE_PATTERN = Pattern.compile(TopazUtilitiesConstants.JOB_REFERENCE_REGEX);
+
+	/**
+	 * The kind of an indexed term.
+	 */
+	public enum Kind {
+		MESSAGE, ABEND, DD
+	}
+
+	/**
+	 * An occurrence of a term in the job output.
+	 */
+	public static final class Posting implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final Kind kind;
+		private final String jobName;
+		private final String jobId;
+		private final String source;
+		private final long offset;
+		private final long line;
+		private final String text;
+
+		private Posting(Kind kind, String jobName, String jobId, String source, long offset, long line, String text) {
+			this.kind = kind;
+			this.jobName = jobName;
+			this.jobId = jobId;
+			this.source = source;
+			this.offset = offset;
+			this.line = line;
+			this.text = text;
+		}
+
+		private Posting withSource(String newSource) {
+			return new Posting(kind, jobName, jobId, newSource, offset, line, text);
+		}
+
+		/**
+		 * Gets the kind of the term.
+		 * 
+		 * @return the kind
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Gets the name of the job whose output holds the term.
+		 * 
+		 * @return the job name, or <code>null</code> if unknown
+		 */
+		public String getJobName() {
+			return jobName;
+		}
+
+		/**
+		 * Gets the identifier of the job whose output holds the term.
+		 * 
+		 * @return the job identifier, or <code>null</code> if the term was found before any job was referenced
+		 */
+		public String getJobId() {
+			return jobId;
+		}
+
+		/**
+		 * Gets the archived log the offset refers to.
+		 * 
+		 * @return the log path, relative to the build's artifacts, or <code>null</code> if the output was written to the console
+		 */
+		public String getSource() {
+			return source;
+		}
+
+		/**
+		 * Gets the byte offset of the line holding the term, from the start of the step's output.
+		 * 
+		 * @return the offset
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Gets the number of the line holding the term, from the start of the step's output.
+		 * 
+		 * @return the line number, starting at <code>1</code>
+		 */
+		public long getLine() {
+			return line;
+		}
+
+		/**
+		 * Gets the line holding the term, abbreviated.
+		 * 
+		 * @return the line
+		 */
+		public String getText() {
+			return text;
+		}
+	}
+
+	/**
+	 * Copies output to an index line by line.
+	 */
+	public static final class Indexer extends LineTransformationOutputStream {
+		private final JobOutputIndex index;
+		private final Charset charset;
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param index
+		 *            the index to add the output to
+		 * @param charset
+		 *            the charset of the output
+		 */
+		public Indexer(JobOutputIndex index, Charset charset) {
+			this.index = index;
+			this.charset = charset;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.console.LineTransformationOutputStream#eol(byte[], int)
+		 */
+		@Override
+		protected void eol(byte[] b, int len) throws IOException {
+			index.indexLine(trimEOL(new String(b, 0, len, charset)), len);
+		}
+	}
+
+	private final Map<String, List<Posting>> postings = new TreeMap<>();
+	private final Map<String, Integer> counts = new TreeMap<>();
+
+	// the position in the output being indexed; only meaningful while the output streams
+	private transient String jobName;
+	private transient String jobId;
+	private transient long offset;
+	private transient long lineCount;
+
+	/**
+	 * Indexes the next line of output.
+	 * 
+	 * @param line
+	 *            the line, without its line terminator
+	 * @param byteLength
+	 *            the length of the line in bytes, including its line terminator
+	 */
+	public synchronized void indexLine(String line, int byteLength) {
+		long lineOffset = offset;
+		offset += byteLength;
+		lineCount++;
+
+		Matcher reference = JOB_REFERENCE_PATTERN.matcher(line);
+		if (reference.find()) {
+			jobName = reference.group(1);
+			jobId = reference.group(2);
+		} else {
+			Matcher id = JOB_ID_PATTERN.matcher(line);
+			if (id.find() && !id.group().equals(jobId)) {
+				jobName = null;
+				jobId = id.group();
+			}
+		}
+
+		Map<String, Kind> terms = extractTerms(line);
+		if (terms.isEmpty()) {
+			return;
+		}
+
+		String text = StringUtils.abbreviate(line.trim(), TopazUtilitiesConstants.OUTPUT_INDEX_TEXT_LENGTH);
+		for (Map.Entry<String, Kind> term : terms.entrySet()) {
+			add(term.getKey(), new Posting(term.getValue(), jobName, jobId, null, lineOffset, lineCount, text), 1);
+		}
+	}
+
+	/**
+	 * Extracts the terms of a line of output.
+	 * 
+	 * @param line
+	 *            the line
+	 * 
+	 * @return the kind of each term found, by term
+	 */
+	static Map<String, Kind> extractTerms(String line) {
+		Map<String, Kind> terms = new LinkedHashMap<>();
+		Matcher message = MESSAGE_ID_PATTERN.matcher(line);
+		while (message.find()) {
+			terms.put(message.group(1), Kind.MESSAGE);
+		}
+
+		Matcher abend = ABEND_CODE_PATTERN.matcher(line);
+		while (abend.find()) {
+			// system abend codes are three hexadecimal digits, user abend codes four decimal digits
+			String abendCode = abend.group(1).toUpperCase();
+			if (abendCode.length() == 3) {
+				abendCode = 'S' + abendCode;
+			} else if (abendCode.length() == 4 && StringUtils.isNumeric(abendCode)) {
+				abendCode = 'U' + abendCode;
+			}
+			terms.put(abendCode, Kind.ABEND);
+		}
+
+		Matcher dd = DD_NAME_PATTERN.matcher(line);
+		while (dd.find()) {
+			for (int group = 1; group <= dd.groupCount(); group++) {
+				if (dd.group(group) != null) {
+					terms.put(dd.group(group), Kind.DD);
+				}
+			}
+		}
+
+		return terms;
+	}
+
+	private void add(String term, Posting posting, int count) {
+		List<Posting> termPostings = postings.get(term);
+		if (termPostings == null) {
+			if (postings.size() >= TopazUtilitiesConstants.OUTPUT_INDEX_MAX_TERMS) {
+				return;
+			}
+			termPostings = new ArrayList<>();
+			postings.put(term, termPostings);
+		}
+
+		if (posting != null && termPostings.size() < TopazUtilitiesConstants.OUTPUT_INDEX_MAX_POSTINGS) {
+			termPostings.add(posting);
+		}
+		counts.merge(term, count, Integer::sum);
+	}
+
+	/**
+	 * Adds the terms of another index to this index.
+	 * 
+	 * @param other
+	 *            the other index
+	 * @param source
+	 *            the archived log the other index's offsets refer to, or <code>null</code> if the output was written to the console
+	 */
+	public void addAll(JobOutputIndex other, String source) {
+		Map<String, List<Posting>> otherPostings;
+		Map<String, Integer> otherCounts;
+		synchronized (other) {
+			otherPostings = new TreeMap<>(other.postings);
+			otherCounts = new TreeMap<>(other.counts);
+		}
+
+		synchronized (this) {
+			for (Map.Entry<String, List<Posting>> entry : otherPostings.entrySet()) {
+				String term = entry.getKey();
+				List<Posting> termPostings = entry.getValue();
+				int unlisted = otherCounts.get(term) - termPostings.size();
+				for (Posting posting : termPostings) {
+					add(term, posting.getSource() == null ? posting.withSource(source) : posting, 1);
+				}
+				if (unlisted > 0) {
+					add(term, null, unlisted);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets whether no term was indexed.
+	 * 
+	 * @return <code>true</code> if the index is empty
+	 */
+	public synchronized boolean isEmpty() {
+		return postings.isEmpty();
+	}
+
+	/**
+	 * Gets the indexed terms.
+	 * 
+	 * @return the terms, in alphabetical order
+	 */
+	public synchronized List<String> getTerms() {
+		return new ArrayList<>(postings.keySet());
+	}
+
+	/**
+	 * Gets the kind of a term.
+	 * 
+	 * @param term
+	 *            the term
+	 * 
+	 * @return the kind, or <code>null</code> if the term was not indexed
+	 */
+	public synchronized Kind getKind(String term) {
+		List<Posting> termPostings = postings.get(term);
+		return termPostings != null && !termPostings.isEmpty() ? termPostings.get(0).getKind() : null;
+	}
+
+	/**
+	 * Gets the number of occurrences of a term, including those beyond the kept postings.
+	 * 
+	 * @param term
+	 *            the term
+	 * 
+	 * @return the occurrence count
+	 */
+	public synchronized int getCount(String term) {
+		Integer count = counts.get(term);
+		return count != null ? count.intValue() : 0;
+	}
+
+	/**
+	 * Finds the occurrences of a term.
+	 * 
+	 * @param term
+	 *            the term, such as <code>IEC141I</code>; case is ignored
+	 * 
+	 * @return the kept occurrences, in output order
+	 */
+	public synchronized List<Posting> find(String term) {
+		List<Posting> termPostings = postings.get(StringUtils.upperCase(StringUtils.trim(term)));
+		return termPostings != null ? new ArrayList<>(termPostings) : Collections.<Posting>emptyList();
+	}
+
+	/**
+	 * Finds the jobs whose output holds a term.
+	 * 
+	 * @param term
+	 *            the term, such as <code>IEC141I</code>; case is ignored
+	 * 
+	 * @return the jobs, as <code>NAME(ID)</code> or the job identifier alone when the name is unknown
+	 */
+	public List<String> findJobs(String term) {
+		Set<String> jobs = new LinkedHashSet<>();
+		for (Posting posting : find(term)) {
+			if (posting.getJobId() != null) {
+				jobs.add(posting.getJobName() != null ? posting.getJobName() + '(' + posting.getJobId() + ')' : posting.getJobId());
+			}
+		}
+
+		return new ArrayList<>(jobs);
+	}
+}
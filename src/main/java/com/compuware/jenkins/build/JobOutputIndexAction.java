@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerResponse;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.model.Run;
+import jenkins.model.RunAction2;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Holds the {@link JobOutputIndex} of a build, merged from the output of its Submit JCL steps, and answers searches such as "which
+ * jobs issued IEC141I" from its page, or as JSON from <code>search?term=IEC141I</code>, without reading the output again.
+ */
+public class JobOutputIndexAction implements RunAction2 {
+
+	private final JobOutputIndex index = new JobOutputIndex();
+	private transient Run<?, ?> run;
+
+	/**
+	 * Adds the index of a submission's output to the index of the build.
+	 * 
+	 * @param run
+	 *            the build
+	 * @param outcome
+	 *            the outcome of the submission
+	 */
+	static void record(Run<?, ?> run, SubmissionOutcome outcome) {
+		JobOutputIndex outcomeIndex = outcome.getIndex();
+		if (outcomeIndex == null || outcomeIndex.isEmpty()) {
+			return;
+		}
+
+		JobOutputIndexAction indexAction;
+		synchronized (run) {
+			indexAction = run.getAction(JobOutputIndexAction.class);
+			if (indexAction == null) {
+				indexAction = new JobOutputIndexAction();
+				run.addAction(indexAction);
+			}
+		}
+
+		// the index covers the last attempt, whose full output is the last archived log when the console log is bounded
+		List<String> logNames = outcome.getLogNames();
+		String source = logNames.isEmpty() ? null
+				: TopazUtilitiesConstants.LOG_ARTIFACT_DIR + '/' + logNames.get(logNames.size() - 1);
+		indexAction.index.addAll(outcomeIndex, source);
+	}
+
+	/**
+	 * Gets the build this action belongs to.
+	 * 
+	 * @return the build
+	 */
+	public Run<?, ?> getRun() {
+		return run;
+	}
+
+	/**
+	 * Gets the index of the build.
+	 * 
+	 * @return the index
+	 */
+	public JobOutputIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * Writes the occurrences of a term as JSON: the term, its kind and total count, the jobs whose output holds it and each kept
+	 * occurrence with its job, archived log, offset, line number and text.
+	 * 
+	 * @param rsp
+	 *            the response
+	 * @param term
+	 *            the term, such as <code>IEC141I</code>
+	 * 
+	 * @throws IOException
+	 *             if the response could not be written
+	 */
+	public void doSearch(StaplerResponse rsp, @QueryParameter String term) throws IOException {
+		String normalizedTerm = StringUtils.upperCase(StringUtils.trimToEmpty(term));
+		JSONArray occurrences = new JSONArray();
+		for (JobOutputIndex.Posting posting : index.find(normalizedTerm)) {
+			JSONObject occurrence = new JSONObject();
+			occurrence.put("jobName", posting.getJobName()); //$NON-NLS-1$
+			occurrence.put("jobId", posting.getJobId()); //$NON-NLS-1$
+			occurrence.put("source", posting.getSource()); //$NON-NLS-1$
+			occurrence.put("offset", posting.getOffset()); //$NON-NLS-1$
+			occurrence.put("line", posting.getLine()); //$NON-NLS-1$
+			occurrence.put("text", posting.getText()); //$NON-NLS-1$
+			occurrences.add(occurrence);
+		}
+
+		JobOutputIndex.Kind kind = index.getKind(normalizedTerm);
+		JSONObject result = new JSONObject();
+		result.put("term", normalizedTerm); //$NON-NLS-1$
+		result.put("kind", kind != null ? kind.name() : null); //$NON-NLS-1$
+		result.put("count", index.getCount(normalizedTerm)); //$NON-NLS-1$
+		result.put("jobs", index.findJobs(normalizedTerm)); //$NON-NLS-1$
+		result.put("occurrences", occurrences); //$NON-NLS-1$
+
+		rsp.setContentType("application/json;charset=UTF-8"); //$NON-NLS-1$
+		rsp.getWriter().write(result.toString());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getIconFileName()
+	 */
+	@Override
+	public String getIconFileName() {
+		return "search.png"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.jobOutputIndexActionDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getUrlName()
+	 */
+	@Override
+	public String getUrlName() {
+		return "topazOutputIndex"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onAttached(hudson.model.Run)
+	 */
+	@Override
+	public void onAttached(Run<?, ?> r) {
+		run = r;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onLoad(hudson.model.Run)
+	 */
+	@Override
+	public void onLoad(Run<?, ?> r) {
+		run = r;
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.scriptsecurity.sandbox.whitelists.Whitelisted;
+
+/**
+ * The outcome of one submitted job, as reported by the CLI output.
+ */
+public class JobResult implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String name;
+	private final String id;
+	private final String conditionCode;
+	private final long elapsedMillis;
+	private final long queueMillis;
+	private final long submittedAt;
+
+	/**
+	 * Constructor for a job whose time in the JES input queue was not observed.
+	 * 
+	 * @param name
+	 *            the job name, or <code>null</code> if it was not reported
+	 * @param id
+	 *            the JES job identifier
+	 * @param conditionCode
+	 *            the condition code, abend code or <code>JCL ERROR</code>; <code>null</code> if the completion was not reported
+	 * @param elapsedMillis
+	 *            the time from the job's submission to its completion, or <code>-1</code> if the completion was not reported
+	 */
+	public JobResult(String name, String id, String conditionCode, long elapsedMillis) {
+		this(name, id, conditionCode, elapsedMillis, -1);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param name
+	 *            the job name, or <code>null</code> if it was not reported
+	 * @param id
+	 *            the JES job identifier
+	 * @param conditionCode
+	 *            the condition code, abend code or <code>JCL ERROR</code>; <code>null</code> if the completion was not reported
+	 * @param elapsedMillis
+	 *            the time from the job's submission to its completion, or <code>-1</code> if the completion was not reported
+	 * @param queueMillis
+	 *            the time from the job's submission until it was first seen out of the JES input queue, or <code>-1</code> if not
+	 *            observed
+	 */
+	public JobResult(String name, String id, String conditionCode, long elapsedMillis, long queueMillis) {
+		this(name, id, conditionCode, elapsedMillis, queueMillis, -1);
+	}
+
+	/**
+	 * Constructor for a job whose submission time was observed.
+	 * 
+	 * @param name
+	 *            the job name, or <code>null</code> if it was not reported
+	 * @param id
+	 *            the JES job identifier
+	 * @param conditionCode
+	 *            the condition code, abend code or <code>JCL ERROR</code>; <code>null</code> if the completion was not reported
+	 * @param elapsedMillis
+	 *            the time from the job's submission to its completion, or <code>-1</code> if the completion was not reported
+	 * @param queueMillis
+	 *            the time from the job's submission until it was first seen out of the JES input queue, or <code>-1</code> if not
+	 *            observed
+	 * @param submittedAt
+	 *            the time the job was submitted, in milliseconds since the epoch, or <code>-1</code> if not observed
+	 */
+	public JobResult(String name, String id, String conditionCode, long elapsedMillis, long queueMillis, long submittedAt) {
+		this.name = name;
+		this.id = id;
+		this.conditionCode = conditionCode;
+		this.elapsedMillis = elapsedMillis;
+		this.queueMillis = queueMillis;
+		this.submittedAt = submittedAt;
+	}
+
+	/**
+	 * Gets the job name.
+	 * 
+	 * @return the job name, or <code>null</code> if it was not reported
+	 */
+	@Whitelisted
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the JES job identifier.
+	 * 
+	 * @return the job identifier, such as <code>JOB01234</code>
+	 */
+	@Whitelisted
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Gets the condition code.
+	 * 
+	 * @return the condition code, such as <code>0004</code>, an abend code, such as <code>S0C7</code>, or <code>JCL ERROR</code>;
+	 *         <code>null</code> if the completion was not reported
+	 */
+	@Whitelisted
+	public String getConditionCode() {
+		return conditionCode;
+	}
+
+	/**
+	 * Gets the numeric condition code.
+	 * 
+	 * @return the condition code, or <code>-1</code> if the job abended, failed with a JCL error or its completion was not reported
+	 */
+	@Whitelisted
+	public int getReturnCode() {
+		return StringUtils.isNumeric(conditionCode) && !conditionCode.isEmpty() ? Integer.parseInt(conditionCode) : -1;
+	}
+
+	/**
+	 * Gets whether the job ended without a numeric condition code, because it abended or failed with a JCL error.
+	 * 
+	 * @return <code>true</code> if the job abended or failed with a JCL error
+	 */
+	@Whitelisted
+	public boolean isAbended() {
+		return conditionCode != null && getReturnCode() < 0;
+	}
+
+	/**
+	 * Gets the time from the job's submission to its completion, as observed in the CLI output.
+	 * 
+	 * @return the elapsed time in milliseconds, or <code>-1</code> if the completion was not reported
+	 */
+	@Whitelisted
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	/**
+	 * Gets the time from the job's submission until it was first seen out of the JES input queue, to the accuracy of the job status
+	 * polling of the in-process submission engines.
+	 * 
+	 * @return the queue time in milliseconds, or <code>-1</code> if it was not observed
+	 */
+	@Whitelisted
+	public long getQueueMillis() {
+		return queueMillis;
+	}
+
+	/**
+	 * Gets the time the job was submitted, by the clock of the machine that submitted it.
+	 * 
+	 * @return the submission time in milliseconds since the epoch, or <code>-1</code> if it was not observed
+	 */
+	public long getSubmittedAt() {
+		return submittedAt;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	@Whitelisted
+	public String toString() {
+		return StringUtils.defaultString(name) + '(' + id + ") CC=" + StringUtils.defaultString(conditionCode, "?"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import hudson.console.LineTransformationOutputStream;
+
+/**
+ * Prefixes every line written to it before passing it on, so that the output of concurrent CLI calls sharing one console can be told
+ * apart. Each line is passed on in a single write.
+ */
+public class LinePrefixOutputStream extends LineTransformationOutputStream {
+
+	private final OutputStream out;
+	private final byte[] prefix;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param out
+	 *            the stream to pass the prefixed lines on to; it is not closed by this stream
+	 * @param prefix
+	 *            the line prefix
+	 */
+	public LinePrefixOutputStream(OutputStream out, String prefix) {
+		this.out = out;
+		this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.console.LineTransformationOutputStream#eol(byte[], int)
+	 */
+	@Override
+	protected void eol(byte[] b, int len) throws IOException {
+		byte[] line = new byte[prefix.length + len];
+		System.arraycopy(prefix, 0, line, 0, prefix.length);
+		System.arraycopy(b, 0, line, prefix.length, len);
+		out.write(line);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.OutputStream#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+}
@@ -0,0 +1,301 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.Extension;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+
+/**
+ * Expands member name patterns, such as <code>A.B.JCL(PAY*)</code>, into the matching dataset(member)s.
+ * <p>
+ * A dataset's directory is listed at most once per build and host connection. Optionally, a listing is also reused by later builds
+ * for a limited time, as long as the dataset's fingerprint has not changed.
+ */
+public class MemberCatalog {
+	private static final Pattern MEMBER_PATTERN = Pattern.compile("^([^()]+)\\(([^()]+)\\)$"); //$NON-NLS-1$
+	private static final String MEMBER_NAME_CHAR = "[A-Z0-9$#@]"; //$NON-NLS-1$
+
+	private static final Map<String, MemberCatalog> BUILD_CATALOGS = new ConcurrentHashMap<>();
+	private static final Map<String, PdsDirectory> SHARED_DIRECTORIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Opens a lister when the host first needs to be queried.
+	 */
+	public interface ListerFactory {
+
+		/**
+		 * Opens a lister.
+		 * 
+		 * @return the lister
+		 * 
+		 * @throws IOException
+		 *             if the lister could not be opened
+		 */
+		MemberLister open() throws IOException;
+	}
+
+	private final String connectionId;
+	private final Map<String, PdsDirectory> directories = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier, used to key the shared listings
+	 */
+	public MemberCatalog(String connectionId) {
+		this.connectionId = connectionId;
+	}
+
+	/**
+	 * Gets the catalog of a build for a host connection.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the catalog, released when the build is finalized
+	 */
+	public static MemberCatalog forBuild(Run<?, ?> run, String connectionId) {
+		return BUILD_CATALOGS.computeIfAbsent(run.getExternalizableId() + '|' + connectionId, key -> new MemberCatalog(connectionId));
+	}
+
+	/**
+	 * Gets whether an item names members with a pattern.
+	 * 
+	 * @param item
+	 *            a dataset or dataset(member)
+	 * 
+	 * @return <code>true</code> if the member name contains <code>*</code> or <code>%</code>
+	 */
+	public static boolean isPattern(String item) {
+		Matcher matcher = MEMBER_PATTERN.matcher(item);
+		return matcher.matches() && StringUtils.containsAny(matcher.group(2), TopazUtilitiesConstants.MEMBER_WILDCARD_CHARS);
+	}
+
+	/**
+	 * Converts an ISPF member name pattern, where <code>*</code> matches any characters and <code>%</code> matches one character, to
+	 * a regular expression.
+	 * 
+	 * @param memberPattern
+	 *            the member name pattern
+	 * 
+	 * @return the regular expression
+	 */
+	public static Pattern toRegex(String memberPattern) {
+		StringBuilder regex = new StringBuilder();
+		for (char c : memberPattern.toUpperCase().toCharArray()) {
+			if (c == '*') {
+				regex.append(MEMBER_NAME_CHAR).append('*');
+			} else if (c == '%') {
+				regex.append(MEMBER_NAME_CHAR);
+			} else {
+				regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+
+		return Pattern.compile(regex.toString());
+	}
+
+	/**
+	 * Expands the member name patterns of a list of items. Items without a pattern are kept as they are.
+	 * 
+	 * @param items
+	 *            datasets and dataset(member)s, in submission order
+	 * @param listerFactory
+	 *            opens a lister when a directory is not cached; the lister is closed before returning
+	 * @param sharedMaxAgeMillis
+	 *            how long a listing may be reused by later builds; <code>0</code> to only reuse it within a build
+	 * @param logger
+	 *            the logger to report expansions to
+	 * 
+	 * @return the expanded items, in submission order with the members of a pattern in directory order
+	 * 
+	 * @throws IOException
+	 *             if a directory could not be listed
+	 */
+	public List<String> expand(List<String> items, ListerFactory listerFactory, long sharedMaxAgeMillis, PrintStream logger)
+			throws IOException {
+		List<String> expanded = new ArrayList<>();
+		MemberLister lister = null;
+		try {
+			for (String item : items) {
+				if (!isPattern(item)) {
+					expanded.add(item);
+					continue;
+				}
+
+				Matcher matcher = MEMBER_PATTERN.matcher(item);
+				matcher.matches();
+				String dsn = matcher.group(1).trim().toUpperCase();
+				Pattern memberRegex = toRegex(matcher.group(2).trim());
+
+				PdsDirectory directory = directories.get(dsn);
+				if (directory == null) {
+					if (lister == null) {
+						lister = listerFactory.open();
+					}
+					directory = getDirectory(lister, dsn, sharedMaxAgeMillis);
+					directories.put(dsn, directory);
+				}
+
+				int matches = 0;
+				for (PdsMember member : directory.getMembers()) {
+					if (memberRegex.matcher(member.getName()).matches()) {
+						expanded.add(dsn + '(' + member.getName() + ')');
+						matches++;
+					}
+				}
+
+				if (matches == 0) {
+					logger.println(Messages.memberPatternNoMatch(item));
+				} else {
+					logger.println(Messages.memberPatternExpanded(item, matches));
+				}
+			}
+		} finally {
+			IOUtils.closeQuietly(lister);
+		}
+
+		return expanded;
+	}
+
+	/**
+	 * Gets the directory entries of the members named by a list of items, with their ISPF statistics. Each dataset's directory is
+	 * listed at most once per build, and a listing already made by this build is reused.
+	 * 
+	 * @param items
+	 *            datasets and dataset(member)s, without patterns
+	 * @param listerFactory
+	 *            opens a lister when a directory was not listed yet; the lister is closed before returning
+	 * 
+	 * @return the directory entry of each dataset(member) item found in its dataset's directory
+	 * 
+	 * @throws IOException
+	 *             if a directory could not be listed
+	 */
+	public Map<String, PdsMember> getMembers(List<String> items, ListerFactory listerFactory) throws IOException {
+		Map<String, PdsMember> members = new HashMap<>();
+		MemberLister lister = null;
+		try {
+			for (String item : items) {
+				Matcher matcher = MEMBER_PATTERN.matcher(item.trim());
+				if (!matcher.matches() || isPattern(item.trim())) {
+					continue;
+				}
+
+				String dsn = matcher.group(1).trim().toUpperCase();
+				String memberName = matcher.group(2).trim().toUpperCase();
+				PdsDirectory directory = directories.get(dsn);
+				if (directory == null) {
+					if (lister == null) {
+						lister = listerFactory.open();
+					}
+					directory = lister.list(dsn);
+					directories.put(dsn, directory);
+				}
+
+				for (PdsMember member : directory.getMembers()) {
+					if (member.getName().equals(memberName)) {
+						members.put(item, member);
+						break;
+					}
+				}
+			}
+		} finally {
+			IOUtils.closeQuietly(lister);
+		}
+
+		return members;
+	}
+
+	/**
+	 * Gets a directory from the shared listings when still valid, otherwise lists it.
+	 */
+	private PdsDirectory getDirectory(MemberLister lister, String dsn, long sharedMaxAgeMillis) throws IOException {
+		if (sharedMaxAgeMillis <= 0) {
+			return lister.list(dsn);
+		}
+
+		String sharedKey = connectionId + '|' + dsn;
+		PdsDirectory shared = SHARED_DIRECTORIES.get(sharedKey);
+		if (shared != null && shared.getFingerprint() != null
+				&& System.currentTimeMillis() - shared.getListedAt() < sharedMaxAgeMillis
+				&& shared.getFingerprint().equals(lister.getFingerprint(dsn))) {
+			return shared;
+		}
+
+		PdsDirectory directory = lister.list(dsn);
+		SHARED_DIRECTORIES.put(sharedKey, directory);
+		return directory;
+	}
+
+	/**
+	 * Gets how long listings may be reused by later builds, from the global configuration.
+	 * 
+	 * @return the maximum age in milliseconds; <code>0</code> if listings are only reused within a build
+	 */
+	public static long getSharedMaxAgeMillis() {
+		return TimeUnit.MINUTES.toMillis(TopazUtilitiesConfiguration.get().getMemberListCacheMinutes());
+	}
+
+	/**
+	 * Releases the catalogs of a build.
+	 * 
+	 * @param run
+	 *            the build
+	 */
+	static void release(Run<?, ?> run) {
+		String prefix = run.getExternalizableId() + '|';
+		BUILD_CATALOGS.keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	/**
+	 * Releases the catalogs of finished builds.
+	 */
+	@Extension
+	public static class ReleaseListener extends RunListener<Run<?, ?>> {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.listeners.RunListener#onFinalized(hudson.model.Run)
+		 */
+		@Override
+		public void onFinalized(Run<?, ?> run) {
+			release(run);
+		}
+	}
+}
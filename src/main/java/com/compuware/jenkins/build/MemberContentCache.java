@@ -0,0 +1,242 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Controller-wide cache of the JCL held by dataset members, keyed by host connection, credential, dataset, member and the member's
+ * ISPF statistics. A member is only fetched from the host again once its statistics change, and the members to fetch are read over a
+ * single logged on connection, dataset by dataset, so reading the JCL of a suite of hundreds of members is cheap once cached.
+ * <p>
+ * The statistics are only a fingerprint: a member replaced by a program that does not maintain them keeps its cached content.
+ * Members without statistics are read every time and never cached. The least recently used members are evicted once the cache
+ * exceeds its size.
+ */
+public final class MemberContentCache {
+	private static final Pattern MEMBER_PATTERN = Pattern.compile("^([^()]+)\\(([^()]+)\\)$"); //$NON-NLS-1$
+	private static final MemberContentCache INSTANCE = new MemberContentCache();
+
+	/**
+	 * Reads the content of members from the host.
+	 */
+	public interface MemberReader extends Closeable {
+
+		/**
+		 * Reads a member with a single host request.
+		 * 
+		 * @param dsn
+		 *            the dataset name, without quotes
+		 * @param member
+		 *            the member name
+		 * 
+		 * @return the member content
+		 * 
+		 * @throws IOException
+		 *             if the member could not be read
+		 */
+		String read(String dsn, String member) throws IOException;
+	}
+
+	/**
+	 * Opens a reader when the host first needs to be read.
+	 */
+	public interface ReaderFactory {
+
+		/**
+		 * Opens a reader.
+		 * 
+		 * @return the reader
+		 * 
+		 * @throws IOException
+		 *             if the reader could not be opened
+		 */
+		MemberReader open() throws IOException;
+	}
+
+	private static final class Entry {
+		private final String statistics;
+		private final String content;
+
+		private Entry(String statistics, String content) {
+			this.statistics = statistics;
+			this.content = content;
+		}
+
+		private long getSize() {
+			return 2L * content.length();
+		}
+	}
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	/**
+	 * Constructor.
+	 */
+	MemberContentCache() {
+	}
+
+	/**
+	 * Gets the controller-wide cache.
+	 * 
+	 * @return the cache
+	 */
+	public static MemberContentCache get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the ISPF statistics of a member as a value that changes whenever the member is saved by ISPF.
+	 * 
+	 * @param member
+	 *            the directory entry of the member
+	 * 
+	 * @return the statistics, or <code>null</code> if the member has no statistics
+	 */
+	public static String getStatistics(PdsMember member) {
+		if (!member.hasStatistics()) {
+			return null;
+		}
+
+		return "ispf:" + member.getVersion() + '|' + member.getChanged() + '|' + member.getSize() + '|' + member.getUserId(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Gets the content of members, reading the members that are not cached with their current statistics from the host.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            the credential the members are read with; a member cached for one credential is not shown to another, which may not be
+	 *            allowed to read it
+	 * @param members
+	 *            the directory entry of each dataset(member) item, such as <code>A.B.JCL(PAYJOB)</code>
+	 * @param readerFactory
+	 *            opens a reader when a member is not cached; the reader is closed before returning
+	 * @param maxSize
+	 *            the size of the cache in bytes; <code>0</code> to read every member without caching it
+	 * @param logger
+	 *            the logger to report the members read to
+	 * 
+	 * @return the content of each dataset(member) item, in the order of the given items
+	 * 
+	 * @throws IOException
+	 *             if a member could not be read
+	 */
+	public Map<String, String> getContents(String connectionId, String credentialsId, Map<String, PdsMember> members,
+			ReaderFactory readerFactory, long maxSize, PrintStream logger) throws IOException {
+		Map<String, String> contents = new LinkedHashMap<>();
+		Map<String, List<String>> missesByDataset = new LinkedHashMap<>();
+		for (Map.Entry<String, PdsMember> member : members.entrySet()) {
+			Matcher matcher = MEMBER_PATTERN.matcher(member.getKey().trim());
+			if (!matcher.matches()) {
+				continue;
+			}
+
+			String statistics = getStatistics(member.getValue());
+			String cached = statistics != null && maxSize > 0 ? getCached(getKey(connectionId, credentialsId, member.getKey()), statistics) : null;
+			contents.put(member.getKey(), cached);
+			if (cached == null) {
+				missesByDataset.computeIfAbsent(matcher.group(1).trim().toUpperCase(Locale.ENGLISH), dsn -> new ArrayList<>()).add(member.getKey());
+			}
+		}
+
+		if (missesByDataset.isEmpty()) {
+			logger.println(Messages.memberContentCacheRead(contents.size(), 0));
+			return contents;
+		}
+
+		int read = 0;
+		try (MemberReader reader = readerFactory.open()) {
+			for (Map.Entry<String, List<String>> dataset : missesByDataset.entrySet()) {
+				for (String item : dataset.getValue()) {
+					PdsMember member = members.get(item);
+					String content = reader.read(dataset.getKey(), member.getName());
+					contents.put(item, content);
+					read++;
+
+					String statistics = getStatistics(member);
+					if (statistics != null && maxSize > 0) {
+						put(getKey(connectionId, credentialsId, item), new Entry(statistics, content), maxSize);
+					}
+				}
+			}
+		}
+
+		logger.println(Messages.memberContentCacheRead(contents.size() - read, read));
+		return contents;
+	}
+
+	private static String getKey(String connectionId, String credentialsId, String item) {
+		return connectionId + '|' + credentialsId + '|' + item.trim().toUpperCase(Locale.ENGLISH);
+	}
+
+	private synchronized String getCached(String key, String statistics) {
+		Entry entry = entries.get(key);
+		return entry != null && entry.statistics.equals(statistics) ? entry.content : null;
+	}
+
+	private synchronized void put(String key, Entry entry, long maxSize) {
+		if (entry.getSize() > maxSize) {
+			return;
+		}
+
+		Entry replaced = entries.put(key, entry);
+		size += entry.getSize() - (replaced != null ? replaced.getSize() : 0);
+		for (Iterator<Entry> eldest = entries.values().iterator(); size > maxSize && eldest.hasNext();) {
+			size -= eldest.next().getSize();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * Gets the number of cached members.
+	 * 
+	 * @return the member count
+	 */
+	public synchronized int getCount() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets the size of the cached members.
+	 * 
+	 * @return the size in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Empties the cache.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads a dataset(member) list line by line and cuts it into chunks whose comma-joined length stays within the CLI argument limit.
+ * Member name patterns are expanded as they are read, so only the current chunk and the pending members of one pattern are held in
+ * memory.
+ */
+public class MemberListChunker implements WorkChunkSource {
+
+	/**
+	 * Expands a single member name pattern.
+	 */
+	public interface PatternExpander {
+
+		/**
+		 * Expands a member name pattern.
+		 * 
+		 * @param pattern
+		 *            a dataset(member) with a member name pattern
+		 * 
+		 * @return the matching dataset(member)s
+		 * 
+		 * @throws IOException
+		 *             if the dataset could not be listed
+		 */
+		List<String> expand(String pattern) throws IOException;
+	}
+
+	private final Deque<BufferedReader> readers;
+	private final int maxChunkLength;
+	private final PatternExpander expander;
+	private final Deque<String> pending = new ArrayDeque<>();
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param readers
+	 *            the member lists, read in order, one dataset or dataset(member) per line; closed once read or with this chunker
+	 * @param maxChunkLength
+	 *            the maximum length of a chunk's comma-joined members; a single longer member forms a chunk of its own
+	 * @param expander
+	 *            expands member name patterns, or <code>null</code> to keep patterns as they are
+	 */
+	public MemberListChunker(List<BufferedReader> readers, int maxChunkLength, PatternExpander expander) {
+		this.readers = new ArrayDeque<>(readers);
+		this.maxChunkLength = maxChunkLength;
+		this.expander = expander;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.WorkChunkSource#nextChunk()
+	 */
+	@Override
+	public List<String> nextChunk() throws IOException {
+		List<String> chunk = new ArrayList<>();
+		int length = 0;
+		String member;
+		while ((member = nextMember()) != null) {
+			int memberLength = chunk.isEmpty() ? member.length() : member.length() + 1;
+			if (!chunk.isEmpty() && length + memberLength > maxChunkLength) {
+				pending.addFirst(member);
+				break;
+			}
+
+			chunk.add(member);
+			length += memberLength;
+		}
+
+		return chunk.isEmpty() ? null : chunk;
+	}
+
+	/**
+	 * Gets the next member, reading and expanding lines as needed.
+	 */
+	private String nextMember() throws IOException {
+		while (pending.isEmpty() && !readers.isEmpty()) {
+			String line = readers.peekFirst().readLine();
+			if (line == null) {
+				readers.removeFirst().close();
+				continue;
+			}
+
+			String item = line.trim();
+			if (item.isEmpty()) {
+				continue;
+			}
+
+			List<String> members = expander != null && MemberCatalog.isPattern(item) ? expander.expand(item)
+					: Collections.singletonList(item);
+			pending.addAll(members);
+		}
+
+		return pending.pollFirst();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		while (!readers.isEmpty()) {
+			readers.removeFirst().close();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Lists the member directories of partitioned datasets on the host.
+ */
+public interface MemberLister extends Closeable {
+
+	/**
+	 * Lists the member directory of a partitioned dataset with a single host request.
+	 * 
+	 * @param dsn
+	 *            the dataset name, without quotes
+	 * 
+	 * @return the member directory
+	 * 
+	 * @throws IOException
+	 *             if the directory could not be listed
+	 */
+	PdsDirectory list(String dsn) throws IOException;
+
+	/**
+	 * Gets a value that changes whenever the dataset changes, at a lower cost than listing its directory.
+	 * 
+	 * @param dsn
+	 *            the dataset name, without quotes
+	 * 
+	 * @return the fingerprint, or <code>null</code> if the dataset cannot be fingerprinted
+	 * 
+	 * @throws IOException
+	 *             if the dataset could not be queried
+	 */
+	String getFingerprint(String dsn) throws IOException;
+}
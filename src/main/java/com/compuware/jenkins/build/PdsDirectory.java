@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The member directory of a partitioned dataset, as listed at one point in time.
+ */
+public class PdsDirectory implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String dsn;
+	private final String fingerprint;
+	private final List<PdsMember> members;
+	private final long listedAt;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param dsn
+	 *            the dataset name
+	 * @param fingerprint
+	 *            a value that changes whenever the dataset changes, or <code>null</code> if none is known
+	 * @param members
+	 *            the members, in directory order
+	 * @param listedAt
+	 *            when the directory was listed, in milliseconds since the epoch
+	 */
+	public PdsDirectory(String dsn, String fingerprint, List<PdsMember> members, long listedAt) {
+		this.dsn = dsn;
+		this.fingerprint = fingerprint;
+		this.members = Collections.unmodifiableList(new ArrayList<>(members));
+		this.listedAt = listedAt;
+	}
+
+	/**
+	 * Gets the dataset name.
+	 * 
+	 * @return the dataset name
+	 */
+	public String getDsn() {
+		return dsn;
+	}
+
+	/**
+	 * Gets the value that changes whenever the dataset changes.
+	 * 
+	 * @return the fingerprint, or <code>null</code> if none is known
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Gets the members.
+	 * 
+	 * @return the members, in directory order
+	 */
+	public List<PdsMember> getMembers() {
+		return members;
+	}
+
+	/**
+	 * Gets a member.
+	 * 
+	 * @param name
+	 *            the member name
+	 * 
+	 * @return the member, or <code>null</code> if there is no such member
+	 */
+	public PdsMember getMember(String name) {
+		for (PdsMember member : members) {
+			if (member.getName().equals(name)) {
+				return member;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets when the directory was listed.
+	 * 
+	 * @return the listing time, in milliseconds since the epoch
+	 */
+	public long getListedAt() {
+		return listedAt;
+	}
+}
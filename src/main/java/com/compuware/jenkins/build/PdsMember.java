@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+
+/**
+ * A member of a partitioned dataset, with its ISPF statistics when the member has any.
+ */
+public class PdsMember implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String name;
+	private final String version;
+	private final String changed;
+	private final int size;
+	private final String userId;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param name
+	 *            the member name
+	 * @param version
+	 *            the ISPF version and modification level, such as <code>01.02</code>; <code>null</code> without statistics
+	 * @param changed
+	 *            the ISPF last change date and time, such as <code>2021/05/01 10:22</code>; <code>null</code> without statistics
+	 * @param size
+	 *            the number of lines; <code>-1</code> without statistics
+	 * @param userId
+	 *            the user ID of the last change; <code>null</code> without statistics
+	 */
+	public PdsMember(String name, String version, String changed, int size, String userId) {
+		this.name = name;
+		this.version = version;
+		this.changed = changed;
+		this.size = size;
+		this.userId = userId;
+	}
+
+	/**
+	 * Gets the member name.
+	 * 
+	 * @return the member name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the ISPF version and modification level.
+	 * 
+	 * @return the version, or <code>null</code> if the member has no statistics
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the ISPF last change date and time.
+	 * 
+	 * @return the last change, or <code>null</code> if the member has no statistics
+	 */
+	public String getChanged() {
+		return changed;
+	}
+
+	/**
+	 * Gets the number of lines.
+	 * 
+	 * @return the size, or <code>-1</code> if the member has no statistics
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Gets the user ID of the last change.
+	 * 
+	 * @return the user ID, or <code>null</code> if the member has no statistics
+	 */
+	public String getUserId() {
+		return userId;
+	}
+
+	/**
+	 * Gets whether the member has ISPF statistics.
+	 * 
+	 * @return <code>true</code> if the member has statistics
+	 */
+	public boolean hasStatistics() {
+		return changed != null;
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.Random;
+
+/**
+ * Computes exponentially growing retry delays with jitter, so that steps failing at the same moment do not retry in lock step.
+ */
+public class RetryBackoff {
+
+	private final long baseDelayMillis;
+	private final long maxDelayMillis;
+	private final Random random;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param baseDelayMillis
+	 *            the delay ceiling of the first retry
+	 * @param maxDelayMillis
+	 *            the upper bound of any delay
+	 * @param random
+	 *            the source of jitter
+	 */
+	public RetryBackoff(long baseDelayMillis, long maxDelayMillis, Random random) {
+		this.baseDelayMillis = baseDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		this.random = random;
+	}
+
+	/**
+	 * Gets the delay before the given retry. The ceiling doubles with each attempt, up to the maximum delay, and the delay is picked
+	 * uniformly from the upper half of the ceiling ("equal jitter").
+	 * 
+	 * @param attempt
+	 *            the zero based retry attempt
+	 * 
+	 * @return the delay in milliseconds
+	 */
+	public long getDelayMillis(int attempt) {
+		long ceiling = maxDelayMillis;
+		if (attempt < Long.SIZE - 2 && baseDelayMillis <= (maxDelayMillis >> attempt)) {
+			ceiling = baseDelayMillis << attempt;
+		}
+
+		long half = ceiling / 2;
+		return half + (long) (random.nextDouble() * (ceiling - half));
+	}
+}
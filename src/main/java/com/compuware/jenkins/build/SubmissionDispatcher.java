@@ -0,0 +1,242 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+
+/**
+ * Spreads batches of work items over a pool of host connections, weighted by the capacity of each connection.
+ * <p>
+ * Every connection is given as many workers as its capacity. The workers take batches from one shared queue as they become free, so
+ * the load rebalances itself as jobs finish: a connection whose jobs complete sooner simply takes more batches. Once a batch fails no
+ * further batches are started, matching the behavior of a single CLI call that stops at the first failing job.
+ * <p>
+ * A connection with an {@link AdaptiveConcurrencyLimit} is given as many workers as its highest limit, and each worker takes a permit
+ * of the limit before taking a batch, so the number of concurrent submissions follows the limit as it adapts.
+ */
+public class SubmissionDispatcher {
+
+	/**
+	 * Submits one batch of work items through one host connection.
+	 */
+	public interface BatchSubmitter {
+		/**
+		 * Submits a batch.
+		 * 
+		 * @param connectionId
+		 *            the host connection to submit through
+		 * @param batch
+		 *            the work items to submit
+		 * 
+		 * @throws IOException
+		 *             if the batch failed
+		 * @throws InterruptedException
+		 *             if the submission was interrupted
+		 */
+		void submit(String connectionId, List<String> batch) throws IOException, InterruptedException;
+	}
+
+	private static final int BATCHES_PER_SLOT = 4;
+
+	private final Map<String, Integer> connectionCapacities;
+	private final Map<String, AdaptiveConcurrencyLimit> adaptiveLimits;
+
+	/**
+	 * Constructor for connections with a fixed capacity.
+	 * 
+	 * @param connectionCapacities
+	 *            the capacity of each pooled connection, in pool order
+	 */
+	public SubmissionDispatcher(Map<String, Integer> connectionCapacities) {
+		this(connectionCapacities, Collections.<String, AdaptiveConcurrencyLimit>emptyMap());
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionCapacities
+	 *            the capacity of each pooled connection, in pool order
+	 * @param adaptiveLimits
+	 *            the adaptive limit of the pooled connections whose capacity adapts to the host's condition
+	 */
+	public SubmissionDispatcher(Map<String, Integer> connectionCapacities, Map<String, AdaptiveConcurrencyLimit> adaptiveLimits) {
+		this.connectionCapacities = new LinkedHashMap<>();
+		for (Map.Entry<String, Integer> entry : connectionCapacities.entrySet()) {
+			this.connectionCapacities.put(entry.getKey(), Math.max(1, entry.getValue().intValue()));
+		}
+		this.adaptiveLimits = new HashMap<>(adaptiveLimits);
+	}
+
+	/**
+	 * Gets the total number of concurrent submissions over all pooled connections; for a connection with an adaptive limit, its
+	 * current limit.
+	 * 
+	 * @return the number of slots
+	 */
+	public int getSlotCount() {
+		int slots = 0;
+		for (Map.Entry<String, Integer> entry : connectionCapacities.entrySet()) {
+			AdaptiveConcurrencyLimit adaptiveLimit = adaptiveLimits.get(entry.getKey());
+			slots += adaptiveLimit != null ? adaptiveLimit.getLimit() : entry.getValue().intValue();
+		}
+
+		return slots;
+	}
+
+	/**
+	 * Gets the number of workers of a pooled connection: its capacity, or the highest limit of its adaptive limit.
+	 */
+	private int getWorkerCount(String connectionId) {
+		AdaptiveConcurrencyLimit adaptiveLimit = adaptiveLimits.get(connectionId);
+		return adaptiveLimit != null ? adaptiveLimit.getMaxLimit() : connectionCapacities.get(connectionId).intValue();
+	}
+
+	/**
+	 * Gets a batch size that gives every worker several batches, so the work can still be rebalanced late in the run, without calling
+	 * the CLI once per work item for large amounts of work.
+	 * 
+	 * @param workItemCount
+	 *            the number of work items
+	 * 
+	 * @return the number of work items per batch
+	 */
+	public int getBatchSize(int workItemCount) {
+		int batches = getSlotCount() * BATCHES_PER_SLOT;
+		return Math.max(1, (workItemCount + batches - 1) / batches);
+	}
+
+	/**
+	 * Splits work items into batches, keeping their order.
+	 * 
+	 * @param workItems
+	 *            the work items
+	 * @param batchSize
+	 *            the maximum number of work items per batch
+	 * 
+	 * @return the batches
+	 */
+	public static List<List<String>> partition(List<String> workItems, int batchSize) {
+		List<List<String>> batches = new ArrayList<>();
+		for (int i = 0; i < workItems.size(); i += batchSize) {
+			batches.add(new ArrayList<>(workItems.subList(i, Math.min(workItems.size(), i + batchSize))));
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Submits all work items and waits for them to finish.
+	 * 
+	 * @param workItems
+	 *            the work items
+	 * @param batchSize
+	 *            the maximum number of work items per batch
+	 * @param submitter
+	 *            submits each batch
+	 * 
+	 * @throws IOException
+	 *             the failure of the first failing batch
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted; running submissions are interrupted as well
+	 */
+	public void dispatch(List<String> workItems, int batchSize, BatchSubmitter submitter) throws IOException, InterruptedException {
+		Queue<List<String>> queue = new ConcurrentLinkedQueue<>(partition(workItems, batchSize));
+		// the first batch to fail, in the order the failures happened rather than the order of the workers
+		AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+		int workerCount = 0;
+		for (String connectionId : connectionCapacities.keySet()) {
+			workerCount += getWorkerCount(connectionId);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(workerCount,
+				new NamingThreadFactory(new DaemonThreadFactory(), SubmissionDispatcher.class.getSimpleName()));
+		try {
+			List<Future<Void>> workers = new ArrayList<>();
+			for (String connectionId : connectionCapacities.keySet()) {
+				AdaptiveConcurrencyLimit adaptiveLimit = adaptiveLimits.get(connectionId);
+				for (int i = 0; i < getWorkerCount(connectionId); i++) {
+					workers.add(executor.submit(() -> {
+						while (firstFailure.get() == null) {
+							try {
+								// give up waiting for a permit once a batch failed or no batch is left
+								if (adaptiveLimit != null
+										&& !adaptiveLimit.acquire(() -> firstFailure.get() == null && !queue.isEmpty())) {
+									break;
+								}
+								try {
+									List<String> batch = queue.poll();
+									if (batch == null) {
+										break;
+									}
+									submitter.submit(connectionId, batch);
+								} finally {
+									if (adaptiveLimit != null) {
+										adaptiveLimit.release();
+									}
+								}
+							} catch (IOException | InterruptedException | RuntimeException e) {
+								firstFailure.compareAndSet(null, e);
+								throw e;
+							}
+						}
+
+						return null;
+					}));
+				}
+			}
+
+			for (Future<Void> worker : workers) {
+				try {
+					worker.get();
+				} catch (ExecutionException e) {
+					// the worker recorded its failure as it happened, unless it was an error
+					firstFailure.compareAndSet(null, e.getCause());
+				}
+			}
+
+			Throwable failure = firstFailure.get();
+			if (failure instanceof IOException) {
+				throw (IOException) failure;
+			} else if (failure instanceof InterruptedException) {
+				throw (InterruptedException) failure;
+			} else if (failure instanceof RuntimeException) {
+				throw (RuntimeException) failure;
+			} else if (failure != null) {
+				throw new IOException(failure);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
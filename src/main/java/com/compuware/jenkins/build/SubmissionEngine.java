@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+
+import hudson.ExtensionList;
+import hudson.ExtensionPoint;
+
+/**
+ * Submits JCL to a host on behalf of a Submit JCL build step. The engine of a submission is chosen by the host connection's
+ * {@link HostConnectionSettings#getSubmissionEngine() settings}; the Topaz CLI engine is used when none is configured.
+ */
+public abstract class SubmissionEngine implements ExtensionPoint {
+
+	/**
+	 * Gets all the registered submission engines.
+	 * 
+	 * @return the submission engines
+	 */
+	public static ExtensionList<SubmissionEngine> all() {
+		return ExtensionList.lookup(SubmissionEngine.class);
+	}
+
+	/**
+	 * Gets a submission engine by its identifier.
+	 * 
+	 * @param id
+	 *            the engine identifier
+	 * 
+	 * @return the engine, or the Topaz CLI engine if there is no such engine
+	 */
+	public static SubmissionEngine get(String id) {
+		for (SubmissionEngine engine : all()) {
+			if (engine.getId().equals(id)) {
+				return engine;
+			}
+		}
+
+		return all().get(CliSubmissionEngine.class);
+	}
+
+	/**
+	 * Gets the submission engine configured for a host connection.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the configured engine, or the Topaz CLI engine if the connection has none
+	 */
+	public static SubmissionEngine forConnection(String connectionId) {
+		return get(TopazUtilitiesConfiguration.get().getSettings(connectionId).getSubmissionEngine());
+	}
+
+	/**
+	 * Gets the identifier the engine is configured by.
+	 * 
+	 * @return the engine identifier
+	 */
+	public abstract String getId();
+
+	/**
+	 * Gets the name of the engine shown in the host connection settings.
+	 * 
+	 * @return the display name
+	 */
+	public abstract String getDisplayName();
+
+	/**
+	 * Submits the work of a request and waits for the outcome.
+	 * 
+	 * @param request
+	 *            the submission request
+	 * 
+	 * @return the outcome
+	 * 
+	 * @throws IOException
+	 *             if the submission could not be made
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the submission
+	 */
+	public abstract SubmissionOutcome submit(SubmissionRequest request) throws IOException, InterruptedException;
+}
@@ -0,0 +1,423 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import hudson.model.InvisibleAction;
+import hudson.model.Run;
+import jenkins.model.RunAction2;
+
+/**
+ * Records, with the build, each work item a Submit JCL step has submitted, the jobs reported for it and whether it completed. The
+ * journal is saved after every CLI call, so a Pipeline step resumed after a controller restart, or a rerun of a failed build, can
+ * skip the work items that already completed.
+ */
+public class SubmissionJournal extends InvisibleAction implements RunAction2 {
+	private static final int MAX_READABLE_KEY_LENGTH = 80;
+	private static final String DIGEST_KEY_PREFIX = "sha256:"; //$NON-NLS-1$
+
+	/**
+	 * The state of a work item.
+	 */
+	public enum State {
+		/** The work item's CLI call was started but has not ended. */
+		IN_FLIGHT,
+		/** The work item's CLI call ended successfully. */
+		COMPLETED,
+		/** The work item's CLI call failed. */
+		FAILED
+	}
+
+	/**
+	 * The journal entry of one work item.
+	 */
+	public static final class Entry {
+		private final String scope;
+		private final String stepId;
+		private final String itemKey;
+		private final String connectionId;
+		private final State state;
+		private final List<JobResult> jobs;
+		private final long updated;
+		private final Integer carriedFrom;
+		private final String fingerprint;
+
+		private Entry(String scope, String stepId, String itemKey, String connectionId, State state, List<JobResult> jobs,
+				Integer carriedFrom, String fingerprint) {
+			this.scope = scope;
+			this.stepId = stepId;
+			this.itemKey = itemKey;
+			this.connectionId = connectionId;
+			this.state = state;
+			this.jobs = new ArrayList<>(jobs);
+			this.updated = System.currentTimeMillis();
+			this.carriedFrom = carriedFrom;
+			this.fingerprint = fingerprint;
+		}
+
+		/**
+		 * Gets the step execution the entry belongs to.
+		 * 
+		 * @return the scope
+		 */
+		public String getScope() {
+			return scope;
+		}
+
+		/**
+		 * Gets the identity of the step the entry belongs to, the same for the same step configuration across builds.
+		 * 
+		 * @return the step identity, or <code>null</code> if not recorded
+		 */
+		public String getStepId() {
+			return stepId;
+		}
+
+		/**
+		 * Gets the work item key.
+		 * 
+		 * @return the work item itself when short, otherwise its digest
+		 */
+		public String getItemKey() {
+			return itemKey;
+		}
+
+		/**
+		 * Gets the host connection the work item was submitted through.
+		 * 
+		 * @return the host connection identifier
+		 */
+		public String getConnectionId() {
+			return connectionId;
+		}
+
+		/**
+		 * Gets the state of the work item.
+		 * 
+		 * @return the state
+		 */
+		public State getState() {
+			return state;
+		}
+
+		/**
+		 * Gets the jobs reported by the CLI call that submitted the work item.
+		 * 
+		 * @return the jobs
+		 */
+		public List<JobResult> getJobs() {
+			return Collections.unmodifiableList(jobs);
+		}
+
+		/**
+		 * Gets when the entry was last updated.
+		 * 
+		 * @return the update time, in milliseconds since the epoch
+		 */
+		public long getUpdated() {
+			return updated;
+		}
+
+		/**
+		 * Gets the build the completed work item was carried over from.
+		 * 
+		 * @return the build number, or <code>null</code> if the work item was submitted by this build
+		 */
+		public Integer getCarriedFrom() {
+			return carriedFrom;
+		}
+
+		/**
+		 * Gets the fingerprint of the work item's content and dependencies when it was submitted.
+		 * 
+		 * @return the fingerprint, or <code>null</code> if the work item was not fingerprinted
+		 */
+		public String getFingerprint() {
+			return fingerprint;
+		}
+	}
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+	private transient Run<?, ?> run;
+
+	/**
+	 * Gets the journal of a build, attaching a new journal if the build has none.
+	 * 
+	 * @param run
+	 *            the build
+	 * 
+	 * @return the build's journal
+	 */
+	public static SubmissionJournal of(Run<?, ?> run) {
+		synchronized (run) {
+			SubmissionJournal journal = run.getAction(SubmissionJournal.class);
+			if (journal == null) {
+				journal = new SubmissionJournal();
+				run.addAction(journal);
+			}
+
+			return journal;
+		}
+	}
+
+	/**
+	 * Gets the key a work item is journaled under.
+	 * 
+	 * @param item
+	 *            a work item, such as a dataset(member) or the JCL of a job
+	 * 
+	 * @return the work item itself when short, otherwise its SHA-256 digest
+	 */
+	public static String getItemKey(String item) {
+		return item.length() <= MAX_READABLE_KEY_LENGTH && item.indexOf('\n') < 0 ? item
+				: DIGEST_KEY_PREFIX + DigestUtils.sha256Hex(item.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Gets the build this journal belongs to.
+	 * 
+	 * @return the build
+	 */
+	public Run<?, ?> getRun() {
+		return run;
+	}
+
+	/**
+	 * Gets the keys of the work items that completed.
+	 * 
+	 * @param scope
+	 *            the step execution to look at, or <code>null</code> for all of them
+	 * 
+	 * @return the completed work item keys
+	 */
+	public synchronized Set<String> getCompletedItemKeys(String scope) {
+		Set<String> keys = new HashSet<>();
+		for (Entry entry : entries.values()) {
+			if (entry.state == State.COMPLETED && (scope == null || scope.equals(entry.scope))) {
+				keys.add(entry.itemKey);
+			}
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Gets the fingerprint a work item had when a step completed it. The same work item completed by another step, such as one
+	 * submitting it to another host connection, is not looked at.
+	 * 
+	 * @param stepId
+	 *            the identity of the step
+	 * @param itemKey
+	 *            the work item key
+	 * 
+	 * @return the fingerprint, or <code>null</code> if the step did not complete the work item or did not fingerprint it
+	 */
+	public synchronized String getCompletedFingerprint(String stepId, String itemKey) {
+		for (Entry entry : entries.values()) {
+			if (entry.state == State.COMPLETED && stepId.equals(entry.stepId) && entry.itemKey.equals(itemKey)
+					&& entry.fingerprint != null) {
+				return entry.fingerprint;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the entries of the work items whose CLI call never ended.
+	 * 
+	 * @param scope
+	 *            the step execution to look at
+	 * 
+	 * @return the in-flight entries
+	 */
+	public synchronized List<Entry> getInFlightEntries(String scope) {
+		List<Entry> inFlight = new ArrayList<>();
+		for (Entry entry : entries.values()) {
+			if (entry.state == State.IN_FLIGHT && scope.equals(entry.scope)) {
+				inFlight.add(entry);
+			}
+		}
+
+		return inFlight;
+	}
+
+	/**
+	 * Gets all entries.
+	 * 
+	 * @return a copy of the entries, in the order they were first recorded
+	 */
+	public synchronized List<Entry> getEntries() {
+		return new ArrayList<>(entries.values());
+	}
+
+	/**
+	 * Records the state of work items submitted by one CLI call.
+	 * 
+	 * @param scope
+	 *            the step execution submitting the work items
+	 * @param itemKeys
+	 *            the work item keys
+	 * @param connectionId
+	 *            the host connection the work items were submitted through
+	 * @param state
+	 *            the new state
+	 * @param jobs
+	 *            the jobs reported so far by the CLI call
+	 */
+	public void record(String scope, List<String> itemKeys, String connectionId, State state, List<JobResult> jobs) {
+		record(scope, itemKeys, connectionId, state, jobs, Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * Records the state of work items submitted by one CLI call, with the fingerprints of their content and dependencies.
+	 * 
+	 * @param scope
+	 *            the step execution submitting the work items
+	 * @param itemKeys
+	 *            the work item keys
+	 * @param connectionId
+	 *            the host connection the work items were submitted through
+	 * @param state
+	 *            the new state
+	 * @param jobs
+	 *            the jobs reported so far by the CLI call
+	 * @param fingerprints
+	 *            the fingerprint of each work item key; work items without a fingerprint are left out
+	 */
+	public void record(String scope, List<String> itemKeys, String connectionId, State state, List<JobResult> jobs,
+			Map<String, String> fingerprints) {
+		record(scope, null, itemKeys, connectionId, state, jobs, fingerprints);
+	}
+
+	/**
+	 * Records the state of work items submitted by one CLI call of an identified step, with the fingerprints of their content and
+	 * dependencies.
+	 * 
+	 * @param scope
+	 *            the step execution submitting the work items
+	 * @param stepId
+	 *            the identity of the step, the same for the same step configuration across builds; <code>null</code> if unknown
+	 * @param itemKeys
+	 *            the work item keys
+	 * @param connectionId
+	 *            the host connection the work items were submitted through
+	 * @param state
+	 *            the new state
+	 * @param jobs
+	 *            the jobs reported so far by the CLI call
+	 * @param fingerprints
+	 *            the fingerprint of each work item key; work items without a fingerprint are left out
+	 */
+	public synchronized void record(String scope, String stepId, List<String> itemKeys, String connectionId, State state,
+			List<JobResult> jobs, Map<String, String> fingerprints) {
+		for (String itemKey : itemKeys) {
+			entries.put(scope + '|' + itemKey,
+					new Entry(scope, stepId, itemKey, connectionId, state, jobs, null, fingerprints.get(itemKey)));
+		}
+	}
+
+	/**
+	 * Carries the completed work items of an earlier build over to a step execution of this journal, so they are skipped by that step.
+	 * 
+	 * @param previous
+	 *            the journal of the earlier build
+	 * @param buildNumber
+	 *            the number of the earlier build
+	 * @param scope
+	 *            the step execution the work items are carried over to
+	 * @param stepId
+	 *            the identity of the step; only the work items of the same step are carried over
+	 * 
+	 * @return the number of work items carried over
+	 */
+	public int carryOver(SubmissionJournal previous, int buildNumber, String scope, String stepId) {
+		return carryOver(previous, buildNumber, scope, stepId, null);
+	}
+
+	/**
+	 * Carries some of the completed work items of an earlier build over to a step execution of this journal, so they are skipped by
+	 * that step only. A work item the step execution has already journaled keeps its entry.
+	 * 
+	 * @param previous
+	 *            the journal of the earlier build
+	 * @param buildNumber
+	 *            the number of the earlier build
+	 * @param scope
+	 *            the step execution the work items are carried over to
+	 * @param stepId
+	 *            the identity of the step the work items are carried over to; when not <code>null</code>, only the work items of the
+	 *            same step are carried over
+	 * @param itemKeys
+	 *            the keys of the work items to carry over, or <code>null</code> for all completed work items
+	 * 
+	 * @return the number of work items carried over
+	 */
+	public int carryOver(SubmissionJournal previous, int buildNumber, String scope, String stepId, Set<String> itemKeys) {
+		Map<String, Entry> completed = new LinkedHashMap<>();
+		for (Entry entry : previous.getEntries()) {
+			if (entry.state == State.COMPLETED && (stepId == null || stepId.equals(entry.stepId))
+					&& (itemKeys == null || itemKeys.contains(entry.itemKey))) {
+				completed.put(entry.itemKey, entry);
+			}
+		}
+
+		int carried = 0;
+		synchronized (this) {
+			for (Entry entry : completed.values()) {
+				Integer origin = entry.carriedFrom != null ? entry.carriedFrom : Integer.valueOf(buildNumber);
+				if (entries.putIfAbsent(scope + '|' + entry.itemKey,
+						new Entry(scope, stepId != null ? stepId : entry.stepId, entry.itemKey, entry.connectionId, State.COMPLETED,
+								entry.jobs, origin, entry.fingerprint)) == null) {
+					carried++;
+				}
+			}
+		}
+
+		return carried;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onAttached(hudson.model.Run)
+	 */
+	@Override
+	public void onAttached(Run<?, ?> r) {
+		run = r;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onLoad(hudson.model.Run)
+	 */
+	@Override
+	public void onLoad(Run<?, ?> r) {
+		run = r;
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of one submission made by a {@link SubmissionEngine}.
+ */
+public final class SubmissionOutcome implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final int exitValue;
+	private final String summary;
+	private final List<JobResult> jobs;
+	private final int attempts;
+	private final List<String> logNames;
+	private final JobOutputIndex index;
+	private final List<TimelineSpan> spans;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param exitValue
+	 *            <code>0</code> if the submission succeeded, otherwise the reason code of the failure
+	 * @param summary
+	 *            a line summarizing the outcome for the build log
+	 * @param jobs
+	 *            the submitted jobs
+	 * @param attempts
+	 *            the number of attempts made
+	 */
+	public SubmissionOutcome(int exitValue, String summary, List<JobResult> jobs, int attempts) {
+		this(exitValue, summary, jobs, attempts, Collections.<String>emptyList(), null, Collections.<TimelineSpan>emptyList());
+	}
+
+	private SubmissionOutcome(int exitValue, String summary, List<JobResult> jobs, int attempts, List<String> logNames,
+			JobOutputIndex index, List<TimelineSpan> spans) {
+		this.exitValue = exitValue;
+		this.summary = summary;
+		this.jobs = new ArrayList<>(jobs);
+		this.attempts = attempts;
+		this.logNames = new ArrayList<>(logNames);
+		this.index = index;
+		this.spans = new ArrayList<>(spans);
+	}
+
+	/**
+	 * Gets whether the submission succeeded.
+	 * 
+	 * @return <code>true</code> if the exit value is <code>0</code>
+	 */
+	public boolean isSuccess() {
+		return exitValue == 0;
+	}
+
+	/**
+	 * Gets the exit value of the last attempt.
+	 * 
+	 * @return the exit value
+	 */
+	public int getExitValue() {
+		return exitValue;
+	}
+
+	/**
+	 * Gets a line summarizing the outcome for the build log.
+	 * 
+	 * @return the summary
+	 */
+	public String getSummary() {
+		return summary;
+	}
+
+	/**
+	 * Gets the jobs reported by the last attempt.
+	 * 
+	 * @return the jobs
+	 */
+	public List<JobResult> getJobs() {
+		return Collections.unmodifiableList(jobs);
+	}
+
+	/**
+	 * Gets the number of attempts made.
+	 * 
+	 * @return the number of attempts
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * Gets the names of the full CLI output logs written by the attempts, when the console log is bounded.
+	 * 
+	 * @return the log file names
+	 */
+	public List<String> getLogNames() {
+		return Collections.unmodifiableList(logNames);
+	}
+
+	/**
+	 * Gets the index of the job output observed by the last attempt.
+	 * 
+	 * @return the index, or <code>null</code> if the engine did not index the output
+	 */
+	public JobOutputIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the phases the engine observed while submitting, other than the jobs themselves, such as the CLI start of each attempt.
+	 * 
+	 * @return the spans
+	 */
+	public List<TimelineSpan> getSpans() {
+		return Collections.unmodifiableList(spans);
+	}
+
+	/**
+	 * Gets a copy of this outcome listing the given full CLI output logs.
+	 * 
+	 * @param names
+	 *            the log file names
+	 * 
+	 * @return the new outcome
+	 */
+	SubmissionOutcome withLogNames(List<String> names) {
+		return new SubmissionOutcome(exitValue, summary, jobs, attempts, names, index, spans);
+	}
+
+	/**
+	 * Gets a copy of this outcome with the given job output index.
+	 * 
+	 * @param outputIndex
+	 *            the index
+	 * 
+	 * @return the new outcome
+	 */
+	SubmissionOutcome withIndex(JobOutputIndex outputIndex) {
+		return new SubmissionOutcome(exitValue, summary, jobs, attempts, logNames, outputIndex, spans);
+	}
+
+	/**
+	 * Gets a copy of this outcome with the given phase spans.
+	 * 
+	 * @param phaseSpans
+	 *            the spans
+	 * 
+	 * @return the new outcome
+	 */
+	SubmissionOutcome withSpans(List<TimelineSpan> phaseSpans) {
+		return new SubmissionOutcome(exitValue, summary, jobs, attempts, logNames, index, phaseSpans);
+	}
+}
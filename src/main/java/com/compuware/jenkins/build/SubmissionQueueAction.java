@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.kohsuke.stapler.StaplerResponse;
+
+import hudson.Extension;
+import hudson.model.RootAction;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Shows administrators the controller-wide submission queue of each host connection: the queue depth, the slots taken and the wait
+ * times, to tune the submission slots and priority rules.
+ */
+@Extension
+public class SubmissionQueueAction implements RootAction {
+
+	/**
+	 * Gets the statistics of every host connection submitted to since the controller started.
+	 * 
+	 * @return the queue statistics, by host connection
+	 */
+	public List<SubmissionScheduler.Stats> getStats() {
+		Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+		return SubmissionScheduler.get().getStats();
+	}
+
+	/**
+	 * Writes the statistics of every host connection as JSON.
+	 * 
+	 * @param rsp
+	 *            the response
+	 * 
+	 * @throws IOException
+	 *             if the response could not be written
+	 */
+	public void doStats(StaplerResponse rsp) throws IOException {
+		JSONArray connections = new JSONArray();
+		for (SubmissionScheduler.Stats stats : getStats()) {
+			JSONObject connection = new JSONObject();
+			connection.put("connectionId", stats.getConnectionId()); //$NON-NLS-1$
+			connection.put("waiting", stats.getWaiting()); //$NON-NLS-1$
+			connection.put("running", stats.getRunning()); //$NON-NLS-1$
+			connection.put("granted", stats.getGranted()); //$NON-NLS-1$
+			connection.put("averageWaitMillis", stats.getAverageWaitMillis()); //$NON-NLS-1$
+			connection.put("maxWaitMillis", stats.getMaxWaitMillis()); //$NON-NLS-1$
+			connections.add(connection);
+		}
+
+		rsp.setContentType("application/json;charset=UTF-8"); //$NON-NLS-1$
+		rsp.getWriter().write(connections.toString());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getIconFileName()
+	 */
+	@Override
+	public String getIconFileName() {
+		return Jenkins.get().hasPermission(Jenkins.ADMINISTER) ? "hourglass.png" : null; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.submissionQueueActionDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getUrlName()
+	 */
+	@Override
+	public String getUrlName() {
+		return "topazSubmissionQueue"; //$NON-NLS-1$
+	}
+}
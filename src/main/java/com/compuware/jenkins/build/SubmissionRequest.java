@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.List;
+
+import hudson.EnvVars;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+
+/**
+ * The work a Submit JCL build step hands to a {@link SubmissionEngine} for one host connection.
+ */
+public final class SubmissionRequest {
+
+	private final SubmitJclBaseBuilder builder;
+	private final Run<?, ?> run;
+	private final FilePath workspace;
+	private final Launcher launcher;
+	private final TaskListener listener;
+	private final EnvVars env;
+	private final String connectionId;
+	private final List<String> workItems;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param builder
+	 *            the build step submitting the work
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param env
+	 *            the build environment
+	 * @param connectionId
+	 *            the host connection to submit to
+	 * @param workItems
+	 *            the work items to submit, or <code>null</code> to submit all of the step's work
+	 */
+	SubmissionRequest(SubmitJclBaseBuilder builder, Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener,
+			EnvVars env, String connectionId, List<String> workItems) {
+		this.builder = builder;
+		this.run = run;
+		this.workspace = workspace;
+		this.launcher = launcher;
+		this.listener = listener;
+		this.env = env;
+		this.connectionId = connectionId;
+		this.workItems = workItems;
+	}
+
+	/**
+	 * Gets the build step submitting the work.
+	 * 
+	 * @return the build step
+	 */
+	public SubmitJclBaseBuilder getBuilder() {
+		return builder;
+	}
+
+	/**
+	 * Gets the current running Jenkins build.
+	 * 
+	 * @return the build
+	 */
+	public Run<?, ?> getRun() {
+		return run;
+	}
+
+	/**
+	 * Gets the Jenkins job workspace directory.
+	 * 
+	 * @return the workspace
+	 */
+	public FilePath getWorkspace() {
+		return workspace;
+	}
+
+	/**
+	 * Gets the way to start a process.
+	 * 
+	 * @return the launcher
+	 */
+	public Launcher getLauncher() {
+		return launcher;
+	}
+
+	/**
+	 * Gets the build listener.
+	 * 
+	 * @return the listener
+	 */
+	public TaskListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Gets the build environment.
+	 * 
+	 * @return the environment
+	 */
+	public EnvVars getEnvironment() {
+		return env;
+	}
+
+	/**
+	 * Gets the host connection to submit to.
+	 * 
+	 * @return the host connection identifier
+	 */
+	public String getConnectionId() {
+		return connectionId;
+	}
+
+	/**
+	 * Gets the work items to submit.
+	 * 
+	 * @return the work items, or <code>null</code> to submit all of the step's work
+	 */
+	public List<String> getWorkItems() {
+		return workItems;
+	}
+
+	/**
+	 * Gets the host session the submission can reuse the logon of.
+	 * 
+	 * @return the session of the step's <code>topazSession</code> block, or <code>null</code> if the step does not run in a session
+	 *         block or the session is logged on to another host connection or with another credential
+	 */
+	public TopazSession getSession() {
+		TopazSession session = builder.getSession();
+		return session != null && session.covers(connectionId, builder.getCredentialsId()) ? session : null;
+	}
+
+	/**
+	 * Gets the JCL to submit, for engines that submit JCL themselves rather than passing the step's arguments to the CLI.
+	 * 
+	 * @return the JCL sources, or <code>null</code> if the build step cannot describe its work as JCL sources
+	 * 
+	 * @throws IOException
+	 *             if the work could not be resolved
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while resolving the work
+	 */
+	public List<JclSource> getJclSources() throws IOException, InterruptedException {
+		return builder.getJclSources(run, workspace, listener, workItems);
+	}
+}
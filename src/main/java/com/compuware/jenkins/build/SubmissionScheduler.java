@@ -0,0 +1,315 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Controller-wide queue in front of every submission, shared by all builds, folders and jobs. Each host connection has a number of
+ * submission slots; when they are all taken, submissions wait and the slot freed next goes to the waiting submission of the highest
+ * priority.
+ * <p>
+ * To prevent starvation, waiting ages a submission: a submission of a lower priority class ranks as if it had been queued one aging
+ * interval later per class below {@link Priority#HIGH}, so once it has waited that long it ranks ahead of newly queued submissions
+ * of higher priority. The queue depth, slot usage and wait times of each connection are recorded to tune capacity.
+ */
+public final class SubmissionScheduler {
+	private static final SubmissionScheduler INSTANCE = new SubmissionScheduler(TopazUtilitiesConstants.SCHEDULER_AGING_MILLIS);
+
+	/**
+	 * The priority class of a submission.
+	 */
+	public enum Priority {
+		HIGH, NORMAL, LOW;
+
+		/**
+		 * Parses a priority class.
+		 * 
+		 * @param value
+		 *            the priority class name, case insensitive
+		 * 
+		 * @return the priority class, or <code>null</code> if the value names none
+		 */
+		public static Priority parse(String value) {
+			for (Priority priority : values()) {
+				if (priority.name().equalsIgnoreCase(value != null ? value.trim() : null)) {
+					return priority;
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * Parses the priority class set on a step, rejecting values that name no priority class.
+		 * 
+		 * @param value
+		 *            the priority class name, case insensitive; empty to use the global priority rules
+		 * 
+		 * @return the priority class, or <code>null</code> if the value is empty
+		 * 
+		 * @throws IllegalArgumentException
+		 *             if the value names no priority class
+		 */
+		public static Priority parseSetting(String value) {
+			Priority priority = parse(value);
+			if (priority == null && value != null && !value.trim().isEmpty()) {
+				throw new IllegalArgumentException(Messages.priorityUnknown(value.trim()));
+			}
+
+			return priority;
+		}
+	}
+
+	/**
+	 * A slot taken by a submission; closing the ticket frees the slot.
+	 */
+	public final class Ticket implements AutoCloseable {
+		private final Lane lane;
+		private final long waitMillis;
+		private boolean closed;
+
+		private Ticket(Lane lane, long waitMillis) {
+			this.lane = lane;
+			this.waitMillis = waitMillis;
+		}
+
+		/**
+		 * Gets how long the submission waited for its slot.
+		 * 
+		 * @return the wait time in milliseconds
+		 */
+		public long getWaitMillis() {
+			return waitMillis;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+			synchronized (SubmissionScheduler.this) {
+				if (!closed) {
+					closed = true;
+					lane.running--;
+					SubmissionScheduler.this.notifyAll();
+				}
+			}
+		}
+	}
+
+	/**
+	 * The statistics of a host connection's queue.
+	 */
+	public static final class Stats {
+		private final String connectionId;
+		private final int waiting;
+		private final int running;
+		private final long granted;
+		private final long totalWaitMillis;
+		private final long maxWaitMillis;
+
+		private Stats(String connectionId, int waiting, int running, long granted, long totalWaitMillis, long maxWaitMillis) {
+			this.connectionId = connectionId;
+			this.waiting = waiting;
+			this.running = running;
+			this.granted = granted;
+			this.totalWaitMillis = totalWaitMillis;
+			this.maxWaitMillis = maxWaitMillis;
+		}
+
+		/**
+		 * Gets the host connection.
+		 * 
+		 * @return the host connection identifier
+		 */
+		public String getConnectionId() {
+			return connectionId;
+		}
+
+		/**
+		 * Gets the number of submissions waiting for a slot.
+		 * 
+		 * @return the queue depth
+		 */
+		public int getWaiting() {
+			return waiting;
+		}
+
+		/**
+		 * Gets the number of slots taken.
+		 * 
+		 * @return the running submission count
+		 */
+		public int getRunning() {
+			return running;
+		}
+
+		/**
+		 * Gets the number of slots granted since the controller started.
+		 * 
+		 * @return the granted slot count
+		 */
+		public long getGranted() {
+			return granted;
+		}
+
+		/**
+		 * Gets the average time a submission waited for its slot.
+		 * 
+		 * @return the average wait time in milliseconds
+		 */
+		public long getAverageWaitMillis() {
+			return granted > 0 ? totalWaitMillis / granted : 0;
+		}
+
+		/**
+		 * Gets the longest time a submission waited for its slot.
+		 * 
+		 * @return the longest wait time in milliseconds
+		 */
+		public long getMaxWaitMillis() {
+			return maxWaitMillis;
+		}
+	}
+
+	private static final class Waiter {
+		private final Priority priority;
+		private final long queuedAt;
+		private final long sequence;
+
+		private Waiter(Priority priority, long queuedAt, long sequence) {
+			this.priority = priority;
+			this.queuedAt = queuedAt;
+			this.sequence = sequence;
+		}
+	}
+
+	private static final class Lane {
+		private final List<Waiter> waiting = new ArrayList<>();
+		private int running;
+		private long granted;
+		private long totalWaitMillis;
+		private long maxWaitMillis;
+	}
+
+	private final long agingMillis;
+	private final Map<String, Lane> lanes = new LinkedHashMap<>();
+	private long sequence;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param agingMillis
+	 *            how long a submission waits to rank like a submission of the next higher priority class
+	 */
+	SubmissionScheduler(long agingMillis) {
+		this.agingMillis = agingMillis;
+	}
+
+	/**
+	 * Gets the controller-wide scheduler.
+	 * 
+	 * @return the scheduler
+	 */
+	public static SubmissionScheduler get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Waits for a submission slot of a host connection.
+	 * 
+	 * @param connectionId
+	 *            the host connection
+	 * @param priority
+	 *            the priority class of the submission
+	 * @param slots
+	 *            the number of slots of the connection; <code>0</code> or less for no limit
+	 * 
+	 * @return the ticket holding the slot, to be closed once the submission has ended
+	 * 
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting; the submission leaves the queue
+	 */
+	public synchronized Ticket acquire(String connectionId, Priority priority, int slots) throws InterruptedException {
+		Lane lane = lanes.computeIfAbsent(connectionId, k -> new Lane());
+		long queuedAt = System.currentTimeMillis();
+		Waiter waiter = new Waiter(priority, queuedAt, sequence++);
+		lane.waiting.add(waiter);
+		try {
+			while ((slots > 0 && lane.running >= slots) || next(lane) != waiter) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			lane.waiting.remove(waiter);
+			notifyAll();
+			throw e;
+		}
+
+		lane.waiting.remove(waiter);
+		lane.running++;
+		long waitMillis = System.currentTimeMillis() - queuedAt;
+		lane.granted++;
+		lane.totalWaitMillis += waitMillis;
+		lane.maxWaitMillis = Math.max(lane.maxWaitMillis, waitMillis);
+
+		// the next waiter may fit in a remaining slot
+		notifyAll();
+		return new Ticket(lane, waitMillis);
+	}
+
+	/**
+	 * Gets the waiting submission that takes the next free slot: the one with the earliest aged queue time, in queue order for ties.
+	 */
+	private Waiter next(Lane lane) {
+		Waiter next = null;
+		for (Waiter waiter : lane.waiting) {
+			if (next == null || getRank(waiter) < getRank(next) || (getRank(waiter) == getRank(next) && waiter.sequence < next.sequence)) {
+				next = waiter;
+			}
+		}
+
+		return next;
+	}
+
+	private long getRank(Waiter waiter) {
+		return waiter.queuedAt + waiter.priority.ordinal() * agingMillis;
+	}
+
+	/**
+	 * Gets the statistics of every host connection submitted to since the controller started.
+	 * 
+	 * @return the statistics, by host connection
+	 */
+	public synchronized List<Stats> getStats() {
+		List<Stats> stats = new ArrayList<>();
+		for (Map.Entry<String, Lane> entry : lanes.entrySet()) {
+			Lane lane = entry.getValue();
+			stats.add(new Stats(entry.getKey(), lane.waiting.size(), lane.running, lane.granted, lane.totalWaitMillis,
+					lane.maxWaitMillis));
+		}
+
+		return stats;
+	}
+}
@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import hudson.Extension;
+import hudson.tasks.Builder;
+import hudson.util.FormValidation;
+import jenkins.model.Jenkins;
+
+/**
+ * Pipeline step submitting free-form JCL, returning the submitted jobs.
+ */
+public class SubmitFreeFormJclStep extends SubmitJclBaseStep {
+
+	private static final long serialVersionUID = 1L;
+
+	/** The function name of the step in Pipeline scripts. */
+	public static final String FUNCTION_NAME = "topazRunFreeFormJcl"; //$NON-NLS-1$
+
+	private final String jcl;
+	private boolean splitJobs;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 * @param jcl
+	 *            the JCL to submit
+	 */
+	@DataBoundConstructor
+	public SubmitFreeFormJclStep(String connectionId, String credentialsId, String maxConditionCode, String jcl) {
+		super(connectionId, credentialsId, maxConditionCode);
+		this.jcl = StringUtils.trimToEmpty(jcl);
+	}
+
+	/**
+	 * Gets the value of the 'JCL' statements.
+	 * 
+	 * @return <code>String</code> value of jcl
+	 */
+	public String getJcl() {
+		return jcl;
+	}
+
+	/**
+	 * Gets whether the jobs of the JCL may be spread over the pooled host connections.
+	 * 
+	 * @return <code>true</code> if each job may go to another connection
+	 */
+	public boolean isSplitJobs() {
+		return splitJobs;
+	}
+
+	/**
+	 * Sets whether the jobs of the JCL may be spread over the pooled host connections.
+	 * 
+	 * @param splitJobs
+	 *            <code>true</code> to let each job go to another connection
+	 */
+	@DataBoundSetter
+	public void setSplitJobs(boolean splitJobs) {
+		this.splitJobs = splitJobs;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseStep#newBuilder()
+	 */
+	@Override
+	protected SubmitJclBaseBuilder newBuilder() {
+		SubmitJclBuilder builder = new SubmitJclBuilder(getConnectionId(), getCredentialsId(), getMaxConditionCode(), getJcl());
+		builder.setSplitJobs(splitJobs);
+		return builder;
+	}
+
+	/**
+	 * Descriptor of the <code>topazRunFreeFormJcl</code> Pipeline step. Its function name differs from the build step symbol
+	 * <code>topazSubmitFreeFormJcl</code>, so existing Pipeline scripts keep calling the build step, while new scripts can use the returned
+	 * {@link SubmitJclResult}.
+	 */
+	@Extension
+	public static final class DescriptorImpl extends SubmitJclStepDescriptor {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#getFunctionName()
+		 */
+		@Override
+		public String getFunctionName() {
+			return FUNCTION_NAME;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.jclDescriptorDisplayName();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see com.compuware.jenkins.build.SubmitJclStepDescriptor#getBuilderDescriptor()
+		 */
+		@Override
+		protected JclDescriptorImpl<Builder> getBuilderDescriptor() {
+			return Jenkins.get().getDescriptorByType(SubmitJclBuilder.DescriptorImpl.class);
+		}
+
+		/**
+		 * Validator for the 'JCL' field.
+		 * 
+		 * @param jcl
+		 *            the value of the field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckJcl(@QueryParameter String jcl) {
+			return ((SubmitJclBuilder.DescriptorImpl) getBuilderDescriptor()).doCheckJcl(jcl);
+		}
+	}
+}
@@ -19,26 +19,47 @@ package com.compuware.jenkins.build;
 
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Properties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.DataBoundSetter;
 
 import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
-import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
-import com.compuware.jenkins.common.utils.ArgumentUtils;
-import com.compuware.jenkins.common.utils.CLIVersionUtils;
-import com.compuware.jenkins.common.utils.CommonConstants;
+import com.compuware.jenkins.common.configuration.HostConnection;
 
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.Items;
+import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.TaskListener;
-import hudson.remoting.VirtualChannel;
 import hudson.tasks.Builder;
 import hudson.util.ArgumentListBuilder;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import hudson.util.StreamTaskListener;
 import jenkins.tasks.SimpleBuildStep;
 
 /**
@@ -49,6 +70,14 @@ public abstract class SubmitJclBaseBuilder extends Builder implements SimpleBuil
 	private final String connectionId;
 	private final String credentialsId;
 	private final String maxConditionCode;
+	private boolean boundedConsoleLog;
+	private Integer connectionRetries;
+	private String additionalConnectionIds;
+	private boolean resumeFromPreviousBuild;
+	private String priority;
+	private boolean incremental;
+	private String incrementalDependencies;
+	private transient TopazSession session;
 
 	public SubmitJclBaseBuilder() {
 		connectionId = null;
@@ -111,6 +140,208 @@ public abstract class SubmitJclBaseBuilder extends Builder implements SimpleBuil
 		return maxConditionCode;
 	}
 
+	/**
+	 * Gets whether only a summary of the CLI output is written to the console, with the full output archived as a compressed
+	 * artifact.
+	 * 
+	 * @return <code>true</code> if the console log is bounded
+	 */
+	public boolean isBoundedConsoleLog() {
+		return boundedConsoleLog;
+	}
+
+	/**
+	 * Sets whether only a summary of the CLI output is written to the console, with the full output archived as a compressed
+	 * artifact.
+	 * 
+	 * @param boundedConsoleLog
+	 *            <code>true</code> to bound the console log
+	 */
+	@DataBoundSetter
+	public void setBoundedConsoleLog(boolean boundedConsoleLog) {
+		this.boundedConsoleLog = boundedConsoleLog;
+	}
+
+	/**
+	 * Gets the number of times the CLI is called again after a transient host connection failure.
+	 * 
+	 * @return the number of connection retries
+	 */
+	public int getConnectionRetries() {
+		return connectionRetries != null ? connectionRetries.intValue() : TopazUtilitiesConstants.DEFAULT_CONNECTION_RETRIES;
+	}
+
+	/**
+	 * Sets the number of times the CLI is called again after a transient host connection failure.
+	 * 
+	 * @param connectionRetries
+	 *            the number of connection retries; <code>0</code> to never retry
+	 */
+	@DataBoundSetter
+	public void setConnectionRetries(int connectionRetries) {
+		this.connectionRetries = Math.max(0, connectionRetries);
+	}
+
+	/**
+	 * Gets the identifiers of the host connections pooled with the 'Host connection', each on a separate line.
+	 * 
+	 * @return <code>String</code> value of additionalConnectionIds
+	 */
+	public String getAdditionalConnectionIds() {
+		return additionalConnectionIds;
+	}
+
+	/**
+	 * Sets the identifiers of the host connections pooled with the 'Host connection', each on a separate line. The pooled connections
+	 * must reach equivalent systems, as any work item may be submitted through any of them.
+	 * 
+	 * @param additionalConnectionIds
+	 *            the pooled host connection identifiers
+	 */
+	@DataBoundSetter
+	public void setAdditionalConnectionIds(String additionalConnectionIds) {
+		this.additionalConnectionIds = StringUtils.trimToNull(additionalConnectionIds);
+	}
+
+	/**
+	 * Gets whether the work items completed by the previous build are skipped when that build did not succeed.
+	 * 
+	 * @return <code>true</code> if a failed build is resumed
+	 */
+	public boolean isResumeFromPreviousBuild() {
+		return resumeFromPreviousBuild;
+	}
+
+	/**
+	 * Sets whether the work items completed by the previous build are skipped when that build did not succeed.
+	 * 
+	 * @param resumeFromPreviousBuild
+	 *            <code>true</code> to resume a failed build
+	 */
+	@DataBoundSetter
+	public void setResumeFromPreviousBuild(boolean resumeFromPreviousBuild) {
+		this.resumeFromPreviousBuild = resumeFromPreviousBuild;
+	}
+
+	/**
+	 * Gets the priority class of the step's submissions in the controller-wide submission queue.
+	 * 
+	 * @return <code>String</code> value of priority; <code>null</code> to use the global priority rules
+	 */
+	public String getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority class of the step's submissions in the controller-wide submission queue.
+	 * 
+	 * @param priority
+	 *            <code>HIGH</code>, <code>NORMAL</code> or <code>LOW</code>; empty to use the global priority rules
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the value names no priority class
+	 */
+	@DataBoundSetter
+	public void setPriority(String priority) {
+		SubmissionScheduler.Priority priorityClass = SubmissionScheduler.Priority.parseSetting(priority);
+		this.priority = priorityClass != null ? priorityClass.name() : null;
+	}
+
+	/**
+	 * Gets whether only the work items whose content or dependencies changed since the previous successful build are submitted.
+	 * 
+	 * @return <code>boolean</code> value of incremental
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets whether only the work items whose content or dependencies changed since the previous successful build are submitted.
+	 * 
+	 * @param incremental
+	 *            <code>true</code> to skip unchanged work items
+	 */
+	@DataBoundSetter
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Gets the workspace files every work item depends on, such as procedures and INCLUDE members kept with the JCL.
+	 * 
+	 * @return <code>String</code> value of incrementalDependencies; an Ant style file pattern, or <code>null</code> for none
+	 */
+	public String getIncrementalDependencies() {
+		return incrementalDependencies;
+	}
+
+	/**
+	 * Sets the workspace files every work item depends on; when any of them changes, every work item is submitted again.
+	 * 
+	 * @param incrementalDependencies
+	 *            an Ant style file pattern relative to the workspace, such as <code>jcl/procs/**</code>
+	 */
+	@DataBoundSetter
+	public void setIncrementalDependencies(String incrementalDependencies) {
+		this.incrementalDependencies = StringUtils.trimToNull(incrementalDependencies);
+	}
+
+	/**
+	 * Gets the priority class of the step's submissions: the step's own priority, or else the class the global priority rules give
+	 * the build's job, or else {@link SubmissionScheduler.Priority#NORMAL}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * 
+	 * @return the priority class
+	 */
+	protected SubmissionScheduler.Priority getSubmissionPriority(Run<?, ?> run) {
+		SubmissionScheduler.Priority priorityClass = SubmissionScheduler.Priority.parse(priority);
+		if (priorityClass == null) {
+			priorityClass = TopazUtilitiesConfiguration.get().getPriority(run.getParent().getFullName());
+		}
+
+		return priorityClass != null ? priorityClass : SubmissionScheduler.Priority.NORMAL;
+	}
+
+	/**
+	 * Gets the host session of the <code>topazSession</code> block the step runs in.
+	 * 
+	 * @return the session, or <code>null</code> if the step does not run in a session block
+	 */
+	public TopazSession getSession() {
+		return session;
+	}
+
+	/**
+	 * Sets the host session of the <code>topazSession</code> block the step runs in.
+	 * 
+	 * @param session
+	 *            the session, or <code>null</code>
+	 */
+	void setSession(TopazSession session) {
+		this.session = session;
+	}
+
+	/**
+	 * Gets the identifiers of the host connections pooled with the 'Host connection'.
+	 * 
+	 * @return the pooled host connection identifiers, excluding the 'Host connection'
+	 */
+	protected List<String> getAdditionalConnectionIdList() {
+		List<String> poolConnectionIds = new ArrayList<>();
+		for (String line : StringUtils.split(StringUtils.defaultString(additionalConnectionIds), "\r\n")) { //$NON-NLS-1$
+			String poolConnectionId = line.trim();
+			if (!poolConnectionId.isEmpty() && !poolConnectionId.equals(getConnectionId())
+					&& !poolConnectionIds.contains(poolConnectionId)) {
+				poolConnectionIds.add(poolConnectionId);
+			}
+		}
+
+		return poolConnectionIds;
+	}
+
 	/**
 	 * Performs the JCL Submit.
 	 * 
@@ -130,63 +361,161 @@ public abstract class SubmitJclBaseBuilder extends Builder implements SimpleBuil
 	 */
 	public void perform(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener)
 			throws IOException, InterruptedException {
-		// obtain argument values to pass to the CLI
-		PrintStream logger = listener.getLogger();
-		CpwrGlobalConfiguration globalConfig = CpwrGlobalConfiguration.get();
-		VirtualChannel vChannel = launcher.getChannel();
-		if (vChannel == null) {
-			throw new IllegalStateException("Could not get virtual channel from launcher."); //$NON-NLS-1$
+		// a build step called from a Pipeline script returns nothing, and cannot see an enclosing topazSession block
+		String resultStepName = getResultStepName();
+		if (!(run instanceof AbstractBuild) && resultStepName != null) {
+			listener.getLogger().println(Messages.buildStepInPipeline(getDescriptor().getDisplayName(), resultStepName));
 		}
 
-		// Check CLI compatibility
-		FilePath cliDirectory = new FilePath(vChannel, globalConfig.getTopazCLILocation(launcher));
-		String cliVersion = CLIVersionUtils.getCLIVersion(cliDirectory, TopazUtilitiesConstants.JCL_MINIMUM_CLI_VERSION);
-		CLIVersionUtils.checkCLICompatibility(cliVersion, TopazUtilitiesConstants.JCL_MINIMUM_CLI_VERSION);
+		submitJcl(run, workspace, launcher, listener);
+	}
+
+	/**
+	 * Gets the function name of the Pipeline step that submits like this build step, and returns its result to the script.
+	 * 
+	 * @return the function name; <code>null</code> if there is no such step
+	 */
+	protected String getResultStepName() {
+		return null;
+	}
+
+	/**
+	 * Performs the JCL Submit, recording each job reported by the CLI output.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * 
+	 * @return the submitted jobs
+	 * 
+	 * @throws IOException
+	 *             if an error in checking CLI compatibility, retrieving the environment or launching the CLI command
+	 * @throws InterruptedException
+	 *             if an error in checking CLI compatibility, retrieving the environment or launching the CLI command
+	 */
+	public SubmitJclResult submitJcl(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener)
+			throws IOException, InterruptedException {
+		return submitJcl(run, workspace, launcher, listener, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * Performs the JCL Submit, recording each job reported by the CLI output and journaling each work item with the build.
+	 * <p>
+	 * Work items the journal records as completed for the same scope, or carried over from a failed previous build, are skipped.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param journalScope
+	 *            identifies the step execution in the build's {@link SubmissionJournal}; a resumed execution passes its original scope
+	 * 
+	 * @return the submitted jobs
+	 * 
+	 * @throws IOException
+	 *             if an error in checking CLI compatibility, retrieving the environment or launching the CLI command
+	 * @throws InterruptedException
+	 *             if an error in checking CLI compatibility, retrieving the environment or launching the CLI command
+	 */
+	public SubmitJclResult submitJcl(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, String journalScope)
+			throws IOException, InterruptedException {
+		PrintStream logger = listener.getLogger();
+		EnvVars env = run.getEnvironment(listener);
 
-		Properties remoteProperties = vChannel.call(new RemoteSystemProperties());
-		String remoteFileSeparator = remoteProperties.getProperty(CommonConstants.FILE_SEPARATOR_PROPERTY_KEY);
-		boolean isShell = launcher.isUnix();
-		String osFile = isShell ? TopazUtilitiesConstants.SUBMIT_JCL_CLI_SH : TopazUtilitiesConstants.SUBMIT_JCL_CLI_BAT;	
+		SubmissionJournal journal = SubmissionJournal.of(run);
+		if (isResumeFromPreviousBuild()) {
+			carryOverPreviousBuild(run, journal, journalScope, getStepIdentity(), logger);
+		}
 
-		String cliScriptFile = globalConfig.getTopazCLILocation(launcher) + remoteFileSeparator + osFile;
-		logger.println("cliScriptFile: " + cliScriptFile); //$NON-NLS-1$
-		String cliScriptFileRemote = new FilePath(vChannel, cliScriptFile).getRemote();
-		logger.println("cliScriptFileRemote: " + cliScriptFileRemote); //$NON-NLS-1$
+		// a CLI call interrupted by a restart may still be running, or its jobs may still run on the host, so never submit it again
+		List<SubmissionJournal.Entry> inFlight = journal.getInFlightEntries(journalScope);
+		if (!inFlight.isEmpty()) {
+			for (SubmissionJournal.Entry entry : inFlight) {
+				logger.println(Messages.journalInFlight(entry.getItemKey(), entry.getConnectionId(),
+						StringUtils.join(entry.getJobs(), ", "))); //$NON-NLS-1$
+			}
+			throw new AbortException(Messages.journalInFlightAbort(inFlight.size()));
+		}
 
-		String topazCliWorkspace = workspace.getRemote() + remoteFileSeparator + CommonConstants.TOPAZ_CLI_WORKSPACE
-				+ UUID.randomUUID().toString();
-		FilePath topazDataDir = new FilePath(vChannel, topazCliWorkspace);
-		logger.println("topazCliWorkspace: " + topazCliWorkspace); //$NON-NLS-1$
-		String maxConditionCodeStr = ArgumentUtils.escapeForScript(getMaxConditionCode());
+		TimelineSpan stepSpan = new TimelineSpan(getDescriptor().getDisplayName(), System.currentTimeMillis());
+		stepSpan.setAttribute("topaz.connection.id", getConnectionId()); //$NON-NLS-1$
+		SubmissionContext context = new SubmissionContext(env, journal, journalScope, getStepIdentity(), stepSpan);
+		try {
+			submitWork(run, workspace, launcher, listener, context);
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			stepSpan.setError(e.getMessage());
+			throw e;
+		} finally {
+			logWorkItemResults(logger, context);
+			stepSpan.end(System.currentTimeMillis());
+			SubmitJclTimelineAction.record(run, stepSpan, logger);
+		}
 
-		ArgumentListBuilder args = globalConfig.getArgumentBuilder(cliScriptFileRemote, cliVersion, run.getParent(), getCredentialsId(), getConnectionId());
-		args.add(CommonConstants.DATA_PARM, topazCliWorkspace);
-		args.add(TopazUtilitiesConstants.MAX_CC_PARM, maxConditionCodeStr);
+		return context.result;
+	}
 
-		// Let extending classes add their arguments.
-		addArguments(run, workspace, launcher, listener, args);
+	/**
+	 * Submits the work of the step, spread over the connection pool when there is more than one connection and the work can be split.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param context
+	 *            the submission context
+	 * 
+	 * @throws IOException
+	 *             if the work could not be read or a submission could not be made or failed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for a submission
+	 */
+	private void submitWork(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, SubmissionContext context)
+			throws IOException, InterruptedException {
+		Map<String, Integer> connectionCapacities = getReachableConnections(getConnectionCapacities(), listener.getLogger());
+		WorkChunkSource chunks = openWorkChunks(run, workspace, listener);
+		if (chunks != null) {
+			try {
+				submitChunks(run, workspace, launcher, listener, context, connectionCapacities, chunks);
+			} finally {
+				chunks.close();
+			}
 
-		logger.println();
+			return;
+		}
 
-		// create the CLI workspace (in case it doesn't already exist)
-		EnvVars env = run.getEnvironment(listener);
-		FilePath workDir = new FilePath(vChannel, workspace.getRemote());
-		workDir.mkdirs();
+		List<String> workItems = getWorkItems(run, listener);
+		if (!workItems.isEmpty()) {
+			workItems = skipUnchanged(run, workspace, listener, context, workItems);
+			if (workItems.isEmpty()) {
+				return;
+			}
+			context.plannedItems.addAll(workItems);
+		}
 
-		// invoke the CLI (execute the batch/shell script)
-		int exitValue = launcher.launch().cmds(args).envs(env).stdout(logger).pwd(workDir).join();
-		if (exitValue != 0) {
-			throw new AbortException("Call " + osFile + " exited with value = " + exitValue); //$NON-NLS-1$ //$NON-NLS-2$
+		if (isPooled(connectionCapacities, workItems)) {
+			submitToPool(run, workspace, launcher, listener, context, connectionCapacities, workItems);
 		} else {
-			logger.println("Call " + osFile + " exited with value = " + exitValue); //$NON-NLS-1$ //$NON-NLS-2$
-			topazDataDir.deleteRecursive();
+			submit(run, workspace, launcher, listener, context, getFirstConnectionId(connectionCapacities),
+					workItems.isEmpty() ? null : workItems);
 		}
 	}
 
 	/**
-	 * Adds arguments to be sent to the CLI.
-	 * <p>
-	 * Extensions of this class should call this method to add their own arguments.
+	 * Submits the work chunk by chunk. The next chunk is staged on another thread while the current chunk runs, so reading and
+	 * expanding a large work list overlaps with the CLI calls.
 	 * 
 	 * @param run
 	 *            the current running Jenkins build
@@ -196,15 +525,968 @@ public abstract class SubmitJclBaseBuilder extends Builder implements SimpleBuil
 	 *            the way to start a process
 	 * @param listener
 	 *            the build listener
-	 * @param args
-	 *            the argument list builder to add CLI arguments to
+	 * @param context
+	 *            the submission context
+	 * @param connectionCapacities
+	 *            the capacity of each pooled connection
+	 * @param chunks
+	 *            the source of the work chunks
 	 * 
 	 * @throws IOException
-	 *             if an error in the communication between {@link VirtualChannel}s when attempting to get remote system properties.
+	 *             if a chunk could not be staged or a CLI call could not be launched or failed
 	 * @throws InterruptedException
-	 *             if the current thread is interrupted while waiting for the completion of a call to get remote system properties.
+	 *             if the current thread is interrupted while staging or submitting a chunk
 	 */
-	protected abstract void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener,
-			ArgumentListBuilder args) throws IOException, InterruptedException;
+	private void submitChunks(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, SubmissionContext context,
+			Map<String, Integer> connectionCapacities, WorkChunkSource chunks) throws IOException, InterruptedException {
+		PrintStream logger = listener.getLogger();
+		ExecutorService stager = Executors.newSingleThreadExecutor(
+				new NamingThreadFactory(new DaemonThreadFactory(), SubmitJclBaseBuilder.class.getSimpleName() + ".stager")); //$NON-NLS-1$
+		try {
+			Future<List<String>> staged = stager.submit(chunks::nextChunk);
+			int chunkCount = 0;
+			List<String> chunk;
+			while ((chunk = getStagedChunk(staged)) != null) {
+				staged = stager.submit(chunks::nextChunk);
+				chunkCount++;
+				logger.println(Messages.submitChunk(chunkCount, chunk.size()));
+				chunk = skipUnchanged(run, workspace, listener, context, chunk);
+				if (chunk.isEmpty()) {
+					continue;
+				}
+				context.plannedItems.addAll(chunk);
+				if (isPooled(connectionCapacities, chunk)) {
+					submitToPool(run, workspace, launcher, listener, context, connectionCapacities, chunk);
+				} else {
+					submit(run, workspace, launcher, listener, context, getFirstConnectionId(connectionCapacities), chunk);
+				}
+			}
+		} finally {
+			stager.shutdownNow();
+			awaitStager(stager);
+		}
+	}
+
+	/**
+	 * Waits until a chunk still being staged is read, so the caller does not close the chunk source while it is in use. An interrupt
+	 * does not end the wait early; it is restored once the stager has stopped.
+	 */
+	private static void awaitStager(ExecutorService stager) {
+		boolean interrupted = false;
+		boolean terminated = false;
+		while (!terminated) {
+			try {
+				terminated = stager.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Gets whether work items are spread over the connection pool: when there is more than one connection, or when the items do not
+	 * fit in a single batch.
+	 */
+	private boolean isPooled(Map<String, Integer> connectionCapacities, List<String> workItems) {
+		return workItems.size() > 1 && (connectionCapacities.size() > 1 || workItems.size() > getMaxBatchSize());
+	}
+
+	/**
+	 * Waits for a staged chunk, rethrowing any staging failure.
+	 */
+	private static List<String> getStagedChunk(Future<List<String>> staged) throws IOException, InterruptedException {
+		try {
+			return staged.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof InterruptedException) {
+				throw (InterruptedException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Spreads the work items over the pooled host connections. Each connection is given as many concurrent CLI calls as its configured
+	 * capacity, and each of those takes the next batch of work items as soon as its previous batch finished, so a faster or larger
+	 * system ends up with more of the work.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param context
+	 *            the submission context
+	 * @param connectionCapacities
+	 *            the capacity of each pooled connection
+	 * @param workItems
+	 *            the work items to submit
+	 * 
+	 * @throws IOException
+	 *             if a CLI call could not be launched or failed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the CLI calls
+	 */
+	private void submitToPool(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, SubmissionContext context,
+			Map<String, Integer> connectionCapacities, List<String> workItems) throws IOException, InterruptedException {
+		PrintStream logger = listener.getLogger();
+		Map<String, AdaptiveConcurrencyLimit> adaptiveLimits = new HashMap<>();
+		for (String poolConnectionId : connectionCapacities.keySet()) {
+			AdaptiveConcurrencyLimit adaptiveLimit = AdaptiveConcurrencyLimit.get(poolConnectionId);
+			if (adaptiveLimit != null) {
+				adaptiveLimits.put(poolConnectionId, adaptiveLimit);
+			}
+		}
+
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(connectionCapacities, adaptiveLimits);
+		int batchSize = Math.min(dispatcher.getBatchSize(workItems.size()), getMaxBatchSize());
+		logger.println(Messages.connectionPoolDispatch(workItems.size(), connectionCapacities.size(), dispatcher.getSlotCount(), batchSize));
+
+		Map<String, String> labels = getConnectionLabels(connectionCapacities.keySet());
+		dispatcher.dispatch(workItems, batchSize, (batchConnectionId, batch) -> {
+			LinePrefixOutputStream prefixedLog = new LinePrefixOutputStream(logger, '[' + labels.get(batchConnectionId) + "] "); //$NON-NLS-1$
+			try {
+				submit(run, workspace, launcher, new StreamTaskListener(prefixedLog, run.getCharset()), context, batchConnectionId, batch);
+			} finally {
+				prefixedLog.close();
+			}
+		});
+	}
+
+	/**
+	 * Submits work to a single host connection through the connection's {@link SubmissionEngine}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param context
+	 *            the submission context
+	 * @param submitConnectionId
+	 *            the host connection to submit to
+	 * @param allWorkItems
+	 *            the work items to submit, including any the journal records as completed, which are skipped; <code>null</code> to
+	 *            submit all of the work
+	 * 
+	 * @throws IOException
+	 *             if the submission could not be made or failed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the submission
+	 */
+	private void submit(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, SubmissionContext context,
+			String submitConnectionId, List<String> allWorkItems) throws IOException, InterruptedException {
+		PrintStream logger = listener.getLogger();
+
+		// skip the work items the journal records as completed
+		List<String> workItems = allWorkItems;
+		List<String> itemKeys = new ArrayList<>();
+		if (allWorkItems != null) {
+			context.reachedItems.addAll(allWorkItems);
+			workItems = new ArrayList<>();
+			for (String workItem : allWorkItems) {
+				String itemKey = SubmissionJournal.getItemKey(workItem);
+				if (!context.completedItemKeys.contains(itemKey)) {
+					workItems.add(workItem);
+					itemKeys.add(itemKey);
+				}
+			}
+
+			if (workItems.size() < allWorkItems.size()) {
+				logger.println(Messages.journalSkipped(allWorkItems.size() - workItems.size()));
+			}
+			if (workItems.isEmpty()) {
+				return;
+			}
+		}
+
+		SubmissionEngine engine = SubmissionEngine.forConnection(submitConnectionId);
+		journal(run, context, itemKeys, submitConnectionId, SubmissionJournal.State.IN_FLIGHT, Collections.<JobResult>emptyList());
+
+		TimelineSpan submissionSpan = new TimelineSpan(Messages.timelineSubmission(), System.currentTimeMillis());
+		submissionSpan.setAttribute("topaz.connection.id", submitConnectionId); //$NON-NLS-1$
+		if (workItems != null) {
+			submissionSpan.setAttribute("topaz.work_items", //$NON-NLS-1$
+					workItems.size() == 1 ? workItems.get(0) : String.valueOf(workItems.size()));
+		}
+		context.stepSpan.addChild(submissionSpan);
+
+		// wait for a controller-wide slot of the connection, in priority order with the submissions of every other build
+		SubmissionScheduler.Priority priorityClass = getSubmissionPriority(run);
+		SubmissionOutcome outcome;
+		try (DatasetLockTable.Lease datasetLease = lockDatasets(run, workspace, listener, workItems);
+				SubmissionScheduler.Ticket ticket = SubmissionScheduler.get().acquire(submitConnectionId, priorityClass,
+						TopazUtilitiesConfiguration.get().getSettings(submitConnectionId).getSubmissionSlots())) {
+			if (ticket.getWaitMillis() >= TopazUtilitiesConstants.SCHEDULER_LOG_WAIT_MILLIS) {
+				logger.println(Messages.submissionQueueWaited(submitConnectionId, priorityClass,
+						TimeUnit.MILLISECONDS.toSeconds(ticket.getWaitMillis())));
+			}
+			long startedAt = System.currentTimeMillis();
+			addWaitSpans(submissionSpan, datasetLease, ticket, startedAt);
+			try {
+				outcome = engine.submit(new SubmissionRequest(this, run, workspace, launcher, listener, context.env,
+						submitConnectionId, workItems));
+			} catch (IOException e) {
+				// a configuration error says nothing about the host
+				if (!(e instanceof AbortException)) {
+					recordSample(logger, submitConnectionId, startedAt, Collections.<JobResult>emptyList(), 1);
+				}
+				throw e;
+			}
+			recordSample(logger, submitConnectionId, startedAt, outcome.getJobs(), outcome.getAttempts() - 1);
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			submissionSpan.setError(e.getMessage());
+			submissionSpan.end(System.currentTimeMillis());
+			journal(run, context, itemKeys, submitConnectionId, SubmissionJournal.State.FAILED, Collections.<JobResult>emptyList());
+			context.addFailedItems(workItems, e.getMessage());
+			throw e;
+		}
+
+		long endedAt = System.currentTimeMillis();
+		submissionSpan.addChildren(outcome.getSpans());
+		for (JobResult job : outcome.getJobs()) {
+			submissionSpan.addChild(TimelineSpan.forJob(job, endedAt));
+		}
+		if (!outcome.isSuccess()) {
+			submissionSpan.setError(outcome.getSummary());
+		}
+		submissionSpan.end(endedAt);
+
+		JobOutputIndexAction.record(run, outcome);
+		if (outcome.isSuccess()) {
+			context.result.addJobs(outcome.getJobs());
+			if (workItems != null && getMaxBatchSize() == 1) {
+				context.result.addWorkItemJobs(workItems.get(0), outcome.getJobs());
+			}
+			journal(run, context, itemKeys, submitConnectionId, SubmissionJournal.State.COMPLETED, outcome.getJobs());
+			logger.println(outcome.getSummary());
+			return;
+		}
+
+		journal(run, context, itemKeys, submitConnectionId, SubmissionJournal.State.FAILED, outcome.getJobs());
+		context.addFailedItems(workItems, outcome.getSummary());
+		throw new AbortException(outcome.getSummary());
+	}
+
+	/**
+	 * Waits until no submission of any build updates a dataset the work uses, or uses a dataset the work updates, when dataset locking
+	 * is configured. The datasets are taken before a submission slot, so a submission waiting for its datasets holds no slot.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            the work items to submit, or <code>null</code> to submit all of the work
+	 * 
+	 * @return the lease holding the datasets, or <code>null</code> if the work is not locked
+	 * 
+	 * @throws IOException
+	 *             if the JCL could not be read
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the datasets
+	 */
+	private DatasetLockTable.Lease lockDatasets(Run<?, ?> run, FilePath workspace, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		if (!TopazUtilitiesConfiguration.get().isDatasetLocking()) {
+			return null;
+		}
+
+		Map<String, DatasetLockTable.Access> datasets = getDatasetReferences(run, workspace, listener, workItems);
+		if (datasets.isEmpty()) {
+			return null;
+		}
+
+		DatasetLockTable.Lease lease = DatasetLockTable.get().acquire(run.getFullDisplayName(), datasets);
+		if (!lease.getConflicts().isEmpty()) {
+			listener.getLogger().println(Messages.datasetLockWaited(TimeUnit.MILLISECONDS.toSeconds(lease.getWaitMillis()),
+					StringUtils.join(lease.getConflicts(), ", "))); //$NON-NLS-1$
+		}
+
+		return lease;
+	}
+
+	/**
+	 * Adds the waits of a submission for its datasets and for its submission slot to the submission's span. The waits are timed back
+	 * from the time the slot was granted.
+	 * 
+	 * @param submissionSpan
+	 *            the span of the submission
+	 * @param datasetLease
+	 *            the lease holding the datasets, or <code>null</code> if the work is not locked
+	 * @param ticket
+	 *            the submission slot
+	 * @param grantedAt
+	 *            the time the slot was granted
+	 */
+	private static void addWaitSpans(TimelineSpan submissionSpan, DatasetLockTable.Lease datasetLease,
+			SubmissionScheduler.Ticket ticket, long grantedAt) {
+		long lockedAt = grantedAt - ticket.getWaitMillis();
+		if (datasetLease != null) {
+			submissionSpan.addChild(
+					new TimelineSpan(Messages.timelineDatasetLockWait(), lockedAt - datasetLease.getWaitMillis(), lockedAt));
+		}
+		submissionSpan.addChild(new TimelineSpan(Messages.timelineQueueWait(), lockedAt, grantedAt));
+	}
+
+	/**
+	 * Adjusts the adaptive limit of a host connection, if it has one, to a finished submission and logs any change of the limit.
+	 * 
+	 * @param logger
+	 *            the build logger
+	 * @param submitConnectionId
+	 *            the host connection submitted to
+	 * @param startedAt
+	 *            when the submission started, in milliseconds since the epoch
+	 * @param jobs
+	 *            the jobs of the submission
+	 * @param connectionErrors
+	 *            the number of connection failures the submission ran into
+	 */
+	private static void recordSample(PrintStream logger, String submitConnectionId, long startedAt, List<JobResult> jobs,
+			int connectionErrors) {
+		AdaptiveConcurrencyLimit adaptiveLimit = AdaptiveConcurrencyLimit.get(submitConnectionId);
+		if (adaptiveLimit == null) {
+			return;
+		}
+
+		long queueMillis = -1;
+		for (JobResult job : jobs) {
+			queueMillis = Math.max(queueMillis, job.getQueueMillis());
+		}
+
+		long latencyMillis = (System.currentTimeMillis() - startedAt) / Math.max(1, jobs.size());
+		int previousLimit = adaptiveLimit.getLimit();
+		AdaptiveConcurrencyLimit.Signal signal = adaptiveLimit.record(startedAt, latencyMillis, queueMillis, connectionErrors);
+		int limit = adaptiveLimit.getLimit();
+		if (limit < previousLimit) {
+			logger.println(Messages.adaptiveLimitDecreased(previousLimit, limit, getSignalDescription(signal)));
+		} else if (limit > previousLimit) {
+			logger.println(Messages.adaptiveLimitIncreased(previousLimit, limit));
+		}
+	}
+
+	/**
+	 * Describes the host condition that made an adaptive limit back off.
+	 */
+	private static String getSignalDescription(AdaptiveConcurrencyLimit.Signal signal) {
+		switch (signal) {
+			case CONNECTION_ERRORS:
+				return Messages.adaptiveSignalConnectionErrors();
+			case QUEUE_TIME:
+				return Messages.adaptiveSignalQueueTime();
+			default:
+				return Messages.adaptiveSignalLatency();
+		}
+	}
+
+	/**
+	 * Gets the pooled host connections and their capacities, starting with the step's own host connection.
+	 * 
+	 * @return the capacity of each pooled connection, in pool order
+	 */
+	protected Map<String, Integer> getConnectionCapacities() {
+		TopazUtilitiesConfiguration utilitiesConfig = TopazUtilitiesConfiguration.get();
+		Map<String, Integer> capacities = new LinkedHashMap<>();
+		capacities.put(getConnectionId(), utilitiesConfig.getCapacity(getConnectionId()));
+		for (String poolConnectionId : getAdditionalConnectionIdList()) {
+			capacities.put(poolConnectionId, utilitiesConfig.getCapacity(poolConnectionId));
+		}
+
+		return capacities;
+	}
+
+	/**
+	 * Gets the largest number of work items a single CLI call submits. A step that submits one work item per call gets the jobs of
+	 * each work item recorded separately in its {@link SubmitJclResult}.
+	 * 
+	 * @return the maximum batch size; unlimited by default
+	 */
+	protected int getMaxBatchSize() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Gets the line that sums up the results of the work items of a step that submits one work item per CLI call, and so reports the
+	 * jobs of each work item on its own line.
+	 * 
+	 * @param workItemCount
+	 *            the number of work items whose jobs completed
+	 * @param maxReturnCode
+	 *            the highest condition code of their jobs
+	 * 
+	 * @return the summary line; <code>null</code>, the default, for none
+	 */
+	protected String getWorkItemsSummary(int workItemCount, int maxReturnCode) {
+		return null;
+	}
+
+	/**
+	 * Reports the jobs and highest condition code of each work item, followed by the summary of all of them, for a step that submits
+	 * one work item per CLI call. This runs whether or not the step failed; a failed step also reports its failed work items and the
+	 * work items it never submitted.
+	 * 
+	 * @param logger
+	 *            the build logger
+	 * @param context
+	 *            the submission context
+	 */
+	private void logWorkItemResults(PrintStream logger, SubmissionContext context) {
+		if (getMaxBatchSize() != 1) {
+			return;
+		}
+
+		SubmitJclResult result = context.result;
+		List<String> completed = result.getWorkItems();
+		List<String> notSubmitted = new ArrayList<>();
+		synchronized (context.plannedItems) {
+			for (String workItem : context.plannedItems) {
+				String failure = context.failedItems.get(workItem);
+				if (completed.contains(workItem)) {
+					logger.println(Messages.workItemResult(workItem, result.getWorkItemJobs(workItem).size(),
+							result.getMaxReturnCode(workItem)));
+				} else if (failure != null) {
+					logger.println(Messages.workItemFailed(workItem, failure));
+				} else if (!context.reachedItems.contains(workItem)) {
+					notSubmitted.add(workItem);
+				}
+			}
+		}
+		if (!notSubmitted.isEmpty()) {
+			logger.println(Messages.workItemsNotSubmitted(notSubmitted.size(), StringUtils.join(notSubmitted, ", "))); //$NON-NLS-1$
+		}
+		String summary = getWorkItemsSummary(completed.size(), result.getMaxReturnCode());
+		if (!completed.isEmpty() && summary != null) {
+			logger.println(summary);
+		}
+	}
+
+	/**
+	 * Leaves out the pooled host connections the {@link HostHealthMonitor} knows to be down, so the step does not wait for their
+	 * connection timeouts. The monitor probes from the controller, while the Topaz CLI connects from the agent, so by default its
+	 * results are only advisory: when every pooled connection is down, they are all kept with a warning, unless the global
+	 * configuration asks to fail the step.
+	 * 
+	 * @param connectionCapacities
+	 *            the capacity of each pooled connection, in pool order
+	 * @param logger
+	 *            the build log the left out or suspect connections are reported to
+	 * 
+	 * @return the capacity of each connection not known to be down, in pool order, or of every connection if all are down
+	 * 
+	 * @throws AbortException
+	 *             if every connection is down and {@link TopazUtilitiesConfiguration#isFailWhenHostsDown()} is set
+	 */
+	protected Map<String, Integer> getReachableConnections(Map<String, Integer> connectionCapacities, PrintStream logger)
+			throws AbortException {
+		Map<String, Integer> reachable = new LinkedHashMap<>();
+		Map<String, HostHealthMonitor.Health> down = new LinkedHashMap<>();
+		for (Map.Entry<String, Integer> entry : connectionCapacities.entrySet()) {
+			HostHealthMonitor.Health health = HostHealthMonitor.getHealth(entry.getKey());
+			if (health == null || health.isReachable()) {
+				reachable.put(entry.getKey(), entry.getValue());
+			} else {
+				down.put(entry.getKey(), health);
+			}
+		}
+
+		if (down.isEmpty()) {
+			return connectionCapacities;
+		}
+
+		long now = System.currentTimeMillis();
+		Map<String, String> labels = getConnectionLabels(down.keySet());
+		if (reachable.isEmpty()) {
+			if (TopazUtilitiesConfiguration.get().isFailWhenHostsDown()) {
+				throw new AbortException(Messages.hostConnectionsDownAbort(StringUtils.join(labels.values(), ", "))); //$NON-NLS-1$
+			}
+			for (Map.Entry<String, HostHealthMonitor.Health> entry : down.entrySet()) {
+				logger.println(Messages.hostConnectionDown(labels.get(entry.getKey()),
+						TimeUnit.MILLISECONDS.toSeconds(now - entry.getValue().getDownSince()), entry.getValue().getFailure()));
+			}
+			return connectionCapacities;
+		}
+
+		for (Map.Entry<String, HostHealthMonitor.Health> entry : down.entrySet()) {
+			logger.println(Messages.hostConnectionSkipped(labels.get(entry.getKey()),
+					TimeUnit.MILLISECONDS.toSeconds(now - entry.getValue().getDownSince())));
+		}
+
+		return reachable;
+	}
+
+	/**
+	 * Gets the connection a step submits to when it does not spread its work over the pool: its own host connection, unless it is
+	 * down and another pooled connection took its place.
+	 */
+	private static String getFirstConnectionId(Map<String, Integer> connectionCapacities) {
+		return connectionCapacities.keySet().iterator().next();
+	}
+
+	/**
+	 * Gets a readable label for each pooled host connection.
+	 * 
+	 * @param poolConnectionIds
+	 *            the pooled host connection identifiers
+	 * 
+	 * @return the label of each connection
+	 */
+	private static Map<String, String> getConnectionLabels(Collection<String> poolConnectionIds) {
+		Map<String, String> labels = new HashMap<>();
+		for (String poolConnectionId : poolConnectionIds) {
+			HostConnection connection = TopazUtilitiesConfiguration.getHostConnection(poolConnectionId);
+			labels.put(poolConnectionId, connection != null ? connection.getDescription() : poolConnectionId);
+		}
+
+		return labels;
+	}
+
+	/**
+	 * Holds the details that are resolved once per step and shared by every submission the step makes.
+	 */
+	private static final class SubmissionContext {
+		private final EnvVars env;
+		private final SubmitJclResult result = new SubmitJclResult();
+		private final SubmissionJournal journal;
+		private final String journalScope;
+		private final Set<String> completedItemKeys;
+		private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+		private Run<?, ?> baseline;
+		private boolean baselineResolved;
+		private String dependencyFingerprint;
+		private final TimelineSpan stepSpan;
+		private final String stepId;
+		private final Set<String> plannedItems = Collections.synchronizedSet(new LinkedHashSet<String>());
+		private final Set<String> reachedItems = Collections.synchronizedSet(new HashSet<String>());
+		private final Map<String, String> failedItems = new ConcurrentHashMap<>();
+
+		private SubmissionContext(EnvVars env, SubmissionJournal journal, String journalScope, String stepId, TimelineSpan stepSpan) {
+			this.env = env;
+			this.stepId = stepId;
+			this.stepSpan = stepSpan;
+			this.journal = journal;
+			this.journalScope = journalScope;
+			this.completedItemKeys = journal.getCompletedItemKeys(journalScope);
+		}
+
+		/**
+		 * Records the work items of a failed submission, with the reason it failed.
+		 */
+		private void addFailedItems(List<String> workItems, String reason) {
+			if (workItems != null) {
+				for (String workItem : workItems) {
+					failedItems.put(workItem, StringUtils.defaultString(reason));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets a fingerprint of the content of each work item, compared with the fingerprint recorded by the previous successful build to
+	 * find the work items to submit again. By default, the fingerprint is a digest of the work item itself, such as the JCL of a job.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            the work items
+	 * 
+	 * @return the fingerprint of each work item; work items that cannot be fingerprinted are left out and always submitted
+	 * 
+	 * @throws IOException
+	 *             if the content could not be inspected
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while inspecting the content
+	 */
+	protected Map<String, String> getContentFingerprints(Run<?, ?> run, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		Map<String, String> fingerprints = new HashMap<>();
+		for (String workItem : workItems) {
+			fingerprints.put(workItem, "sha256:" + DigestUtils.sha256Hex(workItem.getBytes(StandardCharsets.UTF_8))); //$NON-NLS-1$
+		}
+
+		return fingerprints;
+	}
+
+	/**
+	 * Gets a fingerprint of the content of each work item, for work items held in the workspace.
+	 * <p>
+	 * By default this calls {@link #getContentFingerprints(Run, TaskListener, List)}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            the work items
+	 * 
+	 * @return the fingerprint of each work item; work items that cannot be fingerprinted are left out and always submitted
+	 * 
+	 * @throws IOException
+	 *             if the content could not be inspected
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while inspecting the content
+	 */
+	protected Map<String, String> getContentFingerprints(Run<?, ?> run, FilePath workspace, TaskListener listener,
+			List<String> workItems) throws IOException, InterruptedException {
+		return getContentFingerprints(run, listener, workItems);
+	}
+
+	/**
+	 * Leaves out the work items whose content and dependencies have not changed since the previous successful build submitted them.
+	 * The skipped work items are carried over to this build's journal, so the next build compares with them as well.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * @param context
+	 *            the submission context
+	 * @param workItems
+	 *            the work items
+	 * 
+	 * @return the work items to submit
+	 * 
+	 * @throws IOException
+	 *             if the work items or their dependencies could not be fingerprinted
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while fingerprinting
+	 */
+	private List<String> skipUnchanged(Run<?, ?> run, FilePath workspace, TaskListener listener, SubmissionContext context,
+			List<String> workItems) throws IOException, InterruptedException {
+		if (!isIncremental()) {
+			return workItems;
+		}
+
+		PrintStream logger = listener.getLogger();
+		SubmissionJournal baselineJournal = null;
+		synchronized (context) {
+			if (!context.baselineResolved) {
+				context.baselineResolved = true;
+				context.baseline = run.getPreviousSuccessfulBuild();
+				context.dependencyFingerprint = getDependencyFingerprint(workspace);
+				if (context.baseline == null) {
+					logger.println(Messages.incrementalNoBaseline());
+				}
+			}
+			if (context.baseline != null) {
+				baselineJournal = context.baseline.getAction(SubmissionJournal.class);
+			}
+		}
+
+		Map<String, String> contentFingerprints = getContentFingerprints(run, workspace, listener, workItems);
+		List<String> changed = new ArrayList<>();
+		Set<String> unchangedKeys = new HashSet<>();
+		for (String workItem : workItems) {
+			String itemKey = SubmissionJournal.getItemKey(workItem);
+			String fingerprint = contentFingerprints.get(workItem);
+			if (fingerprint == null) {
+				changed.add(workItem);
+				continue;
+			}
+
+			if (context.dependencyFingerprint != null) {
+				fingerprint += '|' + context.dependencyFingerprint;
+			}
+			context.fingerprints.put(itemKey, fingerprint);
+			if (baselineJournal != null && fingerprint.equals(baselineJournal.getCompletedFingerprint(context.stepId, itemKey))) {
+				unchangedKeys.add(itemKey);
+			} else {
+				changed.add(workItem);
+			}
+		}
+
+		if (baselineJournal != null) {
+			context.journal.carryOver(baselineJournal, context.baseline.getNumber(), context.journalScope, context.stepId,
+					unchangedKeys);
+			run.save();
+			logger.println(Messages.incrementalSkipped(workItems.size() - changed.size(), workItems.size(),
+					context.baseline.getDisplayName()));
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Gets a digest of the workspace files every work item depends on.
+	 * 
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * 
+	 * @return the digest, or <code>null</code> if the step has no dependencies
+	 * 
+	 * @throws IOException
+	 *             if the files could not be read
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while reading the files
+	 */
+	private String getDependencyFingerprint(FilePath workspace) throws IOException, InterruptedException {
+		if (getIncrementalDependencies() == null || workspace == null) {
+			return null;
+		}
+
+		// digest the files where they are, keyed by their path relative to the workspace
+		Map<String, String> digests = new TreeMap<>();
+		for (FilePath file : workspace.list(getIncrementalDependencies())) {
+			digests.put(file.getRemote().substring(workspace.getRemote().length()), file.digest());
+		}
+
+		return "deps:" + DigestUtils.sha256Hex(digests.toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Gets an identity of the step that stays the same across builds as long as the step's configuration does, so a build only
+	 * carries over the work items the same step completed in the previous build.
+	 * 
+	 * @return a digest of the step's class and configuration
+	 */
+	protected String getStepIdentity() {
+		return "step:" + DigestUtils.sha256Hex(Items.XSTREAM2.toXML(this)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Carries the work items the same step completed in the previous build over to this build's journal when the previous build did
+	 * not succeed.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param journal
+	 *            the current build's journal
+	 * @param journalScope
+	 *            the step execution the work items are carried over to
+	 * @param stepId
+	 *            the identity of the step
+	 * @param logger
+	 *            the build logger
+	 */
+	private static void carryOverPreviousBuild(Run<?, ?> run, SubmissionJournal journal, String journalScope, String stepId,
+			PrintStream logger) {
+		Run<?, ?> previous = run.getPreviousCompletedBuild();
+		if (previous == null || previous.getResult() == null || !previous.getResult().isWorseThan(Result.SUCCESS)) {
+			return;
+		}
+
+		SubmissionJournal previousJournal = previous.getAction(SubmissionJournal.class);
+		if (previousJournal != null) {
+			int carried = journal.carryOver(previousJournal, previous.getNumber(), journalScope, stepId);
+			logger.println(Messages.journalCarriedOver(carried, previous.getDisplayName()));
+		}
+	}
+
+	/**
+	 * Records the state of work items in the build's journal and saves the build, so the state survives a restart.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param context
+	 *            the submission context holding the journal
+	 * @param itemKeys
+	 *            the journal keys of the work items
+	 * @param connectionId
+	 *            the host connection the work items were submitted through
+	 * @param state
+	 *            the new state
+	 * @param jobs
+	 *            the jobs reported so far
+	 * 
+	 * @throws IOException
+	 *             if the build could not be saved
+	 */
+	private static void journal(Run<?, ?> run, SubmissionContext context, List<String> itemKeys, String connectionId,
+			SubmissionJournal.State state, List<JobResult> jobs) throws IOException {
+		if (itemKeys.isEmpty()) {
+			return;
+		}
+
+		context.journal.record(context.journalScope, context.stepId, itemKeys, connectionId, state, jobs, context.fingerprints);
+		run.save();
+	}
+
+	/**
+	 * Gets the units of work that can be submitted independently of each other, such as JCL members or jobs.
+	 * <p>
+	 * Extensions of this class that can split their work should override this method, and accept a subset of its items in
+	 * {@link #addArguments(Run, FilePath, Launcher, TaskListener, ArgumentListBuilder, List, Map)}.
+	 * 
+	 * @return the work items; an empty list if the work cannot be split
+	 */
+	protected List<String> getWorkItems() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Gets the units of work for a build, resolving anything that needs the host, such as member name patterns.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param listener
+	 *            the build listener
+	 * 
+	 * @return the work items; an empty list if the work cannot be split
+	 * 
+	 * @throws IOException
+	 *             if the work items could not be resolved
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while resolving the work items
+	 */
+	protected List<String> getWorkItems(Run<?, ?> run, TaskListener listener) throws IOException, InterruptedException {
+		return getWorkItems();
+	}
+
+	/**
+	 * Opens a source of work chunks for work too large to be read or passed to a single CLI call at once.
+	 * <p>
+	 * Extensions of this class that can split their work into chunks should override this method, and accept the items of a chunk in
+	 * {@link #addArguments(Run, FilePath, Launcher, TaskListener, ArgumentListBuilder, List, Map)}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * 
+	 * @return the chunk source, or <code>null</code> to submit the work items of {@link #getWorkItems(Run, TaskListener)} instead
+	 * 
+	 * @throws IOException
+	 *             if the work could not be opened
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while opening the work
+	 */
+	protected WorkChunkSource openWorkChunks(Run<?, ?> run, FilePath workspace, TaskListener listener)
+			throws IOException, InterruptedException {
+		return null;
+	}
+
+	/**
+	 * Adds arguments to be sent to the CLI, handing any file the arguments refer to back as content to stage rather than writing it.
+	 * The staged files are written on the agent by the CLI call itself and deleted once the call ends, saving a channel round trip
+	 * for each file.
+	 * <p>
+	 * Extensions of this class implement this method to add their own arguments.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param launcher
+	 *            the way to start a process
+	 * @param listener
+	 *            the build listener
+	 * @param args
+	 *            the argument list builder to add CLI arguments to
+	 * @param workItems
+	 *            a subset of the items returned by {@link #getWorkItems(Run, TaskListener)}, or <code>null</code> to submit all of the
+	 *            work
+	 * @param stagedFiles
+	 *            receives the content of each file to stage, by its path on the agent
+	 * 
+	 * @throws IOException
+	 *             if an error occurs staging the work items
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while staging the work items
+	 */
+	protected abstract void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener,
+			ArgumentListBuilder args, List<String> workItems, Map<String, String> stagedFiles) throws IOException, InterruptedException;
+
+	/**
+	 * Gets the JCL to submit, for {@link SubmissionEngine}s that submit JCL themselves rather than passing the step's arguments to the
+	 * CLI.
+	 * <p>
+	 * Extensions of this class should override this method to be usable with such engines.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            a subset of the items returned by {@link #getWorkItems(Run, TaskListener)}, or <code>null</code> to submit all of the
+	 *            work
+	 * 
+	 * @return the JCL sources, or <code>null</code> if the work cannot be described as JCL sources
+	 * 
+	 * @throws IOException
+	 *             if the work could not be resolved
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while resolving the work
+	 */
+	protected List<JclSource> getJclSources(Run<?, ?> run, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		return null;
+	}
+
+	/**
+	 * Gets the datasets the work reads and updates, for serializing conflicting submissions across builds. By default they are read
+	 * from the DD statements of the JCL sources of {@link #getJclSources(Run, FilePath, TaskListener, List)}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            a subset of the items returned by {@link #getWorkItems(Run, TaskListener)}, or <code>null</code> to submit all of the
+	 *            work
+	 * 
+	 * @return the access of each dataset, by dataset name; empty if the work is not serialized
+	 * 
+	 * @throws IOException
+	 *             if the JCL could not be read
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while reading the JCL
+	 */
+	protected Map<String, DatasetLockTable.Access> getDatasetReferences(Run<?, ?> run, FilePath workspace, TaskListener listener,
+			List<String> workItems) throws IOException, InterruptedException {
+		return JclDatasetReferences.of(getJclSources(run, workspace, listener, workItems));
+	}
+
+	/**
+	 * Gets the JCL to submit, for work items held in the workspace.
+	 * <p>
+	 * By default this calls {@link #getJclSources(Run, TaskListener, List)}.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            a subset of the items returned by {@link #getWorkItems(Run, TaskListener)}, or <code>null</code> to submit all of the
+	 *            work
+	 * 
+	 * @return the JCL sources, or <code>null</code> if the work cannot be described as JCL sources
+	 * 
+	 * @throws IOException
+	 *             if the work could not be resolved
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while resolving the work
+	 */
+	protected List<JclSource> getJclSources(Run<?, ?> run, FilePath workspace, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		return getJclSources(run, listener, workItems);
+	}
 
 }
\ No newline at end of file
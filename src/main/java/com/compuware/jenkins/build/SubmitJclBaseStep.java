@@ -0,0 +1,320 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.workflow.steps.Step;
+import org.jenkinsci.plugins.workflow.steps.StepContext;
+import org.jenkinsci.plugins.workflow.steps.StepExecution;
+import org.jenkinsci.plugins.workflow.steps.SynchronousNonBlockingStepExecution;
+import org.kohsuke.stapler.DataBoundSetter;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+
+/**
+ * Captures the common configuration of the Pipeline Submit JCL steps. Unlike the build steps they mirror, these steps return a
+ * {@link SubmitJclResult} listing the submitted jobs.
+ * <p>
+ * The step is serialized with its execution, so an execution interrupted by a controller restart can be resumed: the work items
+ * its {@link SubmissionJournal} scope records as completed are skipped.
+ */
+public abstract class SubmitJclBaseStep extends Step implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String connectionId;
+	private final String credentialsId;
+	private final String maxConditionCode;
+	private boolean boundedConsoleLog;
+	private Integer connectionRetries;
+	private String additionalConnectionIds;
+	private boolean resumeFromPreviousBuild;
+	private String priority;
+	private boolean incremental;
+	private String incrementalDependencies;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 */
+	protected SubmitJclBaseStep(String connectionId, String credentialsId, String maxConditionCode) {
+		this.connectionId = StringUtils.trimToEmpty(connectionId);
+		this.credentialsId = StringUtils.trimToEmpty(credentialsId);
+		this.maxConditionCode = StringUtils.trimToEmpty(maxConditionCode);
+	}
+
+	/**
+	 * Gets the unique identifier of the 'Host connection'.
+	 * 
+	 * @return <code>String</code> value of connectionId
+	 */
+	public String getConnectionId() {
+		return connectionId;
+	}
+
+	/**
+	 * Gets the value of the 'Login Credentials'.
+	 * 
+	 * @return <code>String</code> value of credentialsId
+	 */
+	public String getCredentialsId() {
+		return credentialsId;
+	}
+
+	/**
+	 * Gets the value of the 'Max Condition Code'.
+	 * 
+	 * @return <code>String</code> value of maxConditionCode
+	 */
+	public String getMaxConditionCode() {
+		return maxConditionCode;
+	}
+
+	/**
+	 * Gets whether only a summary of the CLI output is written to the console.
+	 * 
+	 * @return <code>boolean</code> value of boundedConsoleLog
+	 */
+	public boolean isBoundedConsoleLog() {
+		return boundedConsoleLog;
+	}
+
+	/**
+	 * Sets whether only a summary of the CLI output is written to the console.
+	 * 
+	 * @param boundedConsoleLog
+	 *            <code>true</code> to bound the console log
+	 */
+	@DataBoundSetter
+	public void setBoundedConsoleLog(boolean boundedConsoleLog) {
+		this.boundedConsoleLog = boundedConsoleLog;
+	}
+
+	/**
+	 * Gets how many times a CLI call is retried after a transient host connection failure.
+	 * 
+	 * @return <code>int</code> value of connectionRetries
+	 */
+	public int getConnectionRetries() {
+		return connectionRetries != null ? connectionRetries.intValue() : TopazUtilitiesConstants.DEFAULT_CONNECTION_RETRIES;
+	}
+
+	/**
+	 * Sets how many times a CLI call is retried after a transient host connection failure.
+	 * 
+	 * @param connectionRetries
+	 *            the number of retries
+	 */
+	@DataBoundSetter
+	public void setConnectionRetries(int connectionRetries) {
+		this.connectionRetries = Math.max(0, connectionRetries);
+	}
+
+	/**
+	 * Gets the additional host connections the work is spread over.
+	 * 
+	 * @return <code>String</code> value of additionalConnectionIds
+	 */
+	public String getAdditionalConnectionIds() {
+		return additionalConnectionIds;
+	}
+
+	/**
+	 * Sets the additional host connections the work is spread over.
+	 * 
+	 * @param additionalConnectionIds
+	 *            host connection identifiers, separated by commas or line breaks
+	 */
+	@DataBoundSetter
+	public void setAdditionalConnectionIds(String additionalConnectionIds) {
+		this.additionalConnectionIds = StringUtils.trimToNull(additionalConnectionIds);
+	}
+
+	/**
+	 * Gets whether the work items completed by the previous build are skipped when that build did not succeed.
+	 * 
+	 * @return <code>boolean</code> value of resumeFromPreviousBuild
+	 */
+	public boolean isResumeFromPreviousBuild() {
+		return resumeFromPreviousBuild;
+	}
+
+	/**
+	 * Sets whether the work items completed by the previous build are skipped when that build did not succeed.
+	 * 
+	 * @param resumeFromPreviousBuild
+	 *            <code>true</code> to resume a failed build
+	 */
+	@DataBoundSetter
+	public void setResumeFromPreviousBuild(boolean resumeFromPreviousBuild) {
+		this.resumeFromPreviousBuild = resumeFromPreviousBuild;
+	}
+
+	/**
+	 * Gets the priority class of the step's submissions in the controller-wide submission queue.
+	 * 
+	 * @return <code>String</code> value of priority; <code>null</code> to use the global priority rules
+	 */
+	public String getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority class of the step's submissions in the controller-wide submission queue.
+	 * 
+	 * @param priority
+	 *            <code>HIGH</code>, <code>NORMAL</code> or <code>LOW</code>; empty to use the global priority rules
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the value names no priority class
+	 */
+	@DataBoundSetter
+	public void setPriority(String priority) {
+		SubmissionScheduler.Priority priorityClass = SubmissionScheduler.Priority.parseSetting(priority);
+		this.priority = priorityClass != null ? priorityClass.name() : null;
+	}
+
+	/**
+	 * Gets whether only the work items whose content or dependencies changed since the previous successful build are submitted.
+	 * 
+	 * @return <code>boolean</code> value of incremental
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets whether only the work items whose content or dependencies changed since the previous successful build are submitted.
+	 * 
+	 * @param incremental
+	 *            <code>true</code> to skip unchanged work items
+	 */
+	@DataBoundSetter
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Gets the workspace files every work item depends on.
+	 * 
+	 * @return <code>String</code> value of incrementalDependencies; an Ant style file pattern, or <code>null</code> for none
+	 */
+	public String getIncrementalDependencies() {
+		return incrementalDependencies;
+	}
+
+	/**
+	 * Sets the workspace files every work item depends on; when any of them changes, every work item is submitted again.
+	 * 
+	 * @param incrementalDependencies
+	 *            an Ant style file pattern relative to the workspace
+	 */
+	@DataBoundSetter
+	public void setIncrementalDependencies(String incrementalDependencies) {
+		this.incrementalDependencies = StringUtils.trimToNull(incrementalDependencies);
+	}
+
+	/**
+	 * Creates the build step that performs the submit.
+	 * 
+	 * @return a build step configured like this step
+	 */
+	protected SubmitJclBaseBuilder createBuilder() {
+		SubmitJclBaseBuilder builder = newBuilder();
+		builder.setBoundedConsoleLog(isBoundedConsoleLog());
+		builder.setConnectionRetries(getConnectionRetries());
+		builder.setAdditionalConnectionIds(getAdditionalConnectionIds());
+		builder.setResumeFromPreviousBuild(isResumeFromPreviousBuild());
+		builder.setPriority(getPriority());
+		builder.setIncremental(isIncremental());
+		builder.setIncrementalDependencies(getIncrementalDependencies());
+		return builder;
+	}
+
+	/**
+	 * Creates the build step with the step specific configuration.
+	 * 
+	 * @return a new build step
+	 */
+	protected abstract SubmitJclBaseBuilder newBuilder();
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jenkinsci.plugins.workflow.steps.Step#start(org.jenkinsci.plugins.workflow.steps.StepContext)
+	 */
+	@Override
+	public StepExecution start(StepContext context) throws Exception {
+		return new Execution(this, context);
+	}
+
+	/**
+	 * Runs the submit outside of the Pipeline thread and returns its result. The execution keeps its journal scope across restarts.
+	 */
+	private static final class Execution extends SynchronousNonBlockingStepExecution<SubmitJclResult> {
+		private static final long serialVersionUID = 1L;
+
+		private final SubmitJclBaseStep step;
+		private final String journalScope = UUID.randomUUID().toString();
+
+		private Execution(SubmitJclBaseStep step, StepContext context) {
+			super(context);
+			this.step = step;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepExecution#onResume()
+		 */
+		@Override
+		public void onResume() {
+			try {
+				start();
+			} catch (Exception e) {
+				getContext().onFailure(e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.SynchronousNonBlockingStepExecution#run()
+		 */
+		@Override
+		protected SubmitJclResult run() throws Exception {
+			StepContext context = getContext();
+			SubmitJclBaseBuilder builder = step.createBuilder();
+			builder.setSession(context.get(TopazSession.class));
+			return builder.submitJcl(context.get(Run.class), context.get(FilePath.class), context.get(Launcher.class),
+					context.get(TaskListener.class), journalScope);
+		}
+	}
+}
@@ -17,11 +17,18 @@
 package com.compuware.jenkins.build;
 
 import java.io.IOException;
-import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 import org.kohsuke.stapler.QueryParameter;
 
 import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
@@ -41,8 +48,10 @@ import hudson.util.FormValidation;
  */
 public class SubmitJclBuilder extends SubmitJclBaseBuilder {
 
+	private static final Pattern JOB_STATEMENT_PATTERN = Pattern.compile("(?m)^(?=//[A-Z$#@][A-Z0-9$#@]{0,7}\\s+JOB\\b)"); //$NON-NLS-1$
+
 	private String jcl;
-	private FilePath jclFile;
+	private boolean splitJobs;
 
 	public SubmitJclBuilder(String connectionId) {
 		super(connectionId);
@@ -76,6 +85,28 @@ public class SubmitJclBuilder extends SubmitJclBaseBuilder {
 		return jcl;
 	}
 
+	/**
+	 * Gets whether the jobs of the JCL may be spread over the pooled host connections.
+	 * 
+	 * @return <code>true</code> if each job may go to another connection; <code>false</code> if all jobs go to the step's own
+	 *         connection
+	 */
+	public boolean isSplitJobs() {
+		return splitJobs;
+	}
+
+	/**
+	 * Sets whether the jobs of the JCL may be spread over the pooled host connections. JCL is often written as one stream, whose jobs
+	 * rely on running on the same system in order, so by default they are all submitted through the step's own connection.
+	 * 
+	 * @param splitJobs
+	 *            <code>true</code> to let each job go to another connection
+	 */
+	@DataBoundSetter
+	public void setSplitJobs(boolean splitJobs) {
+		this.splitJobs = splitJobs;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -86,6 +117,31 @@ public class SubmitJclBuilder extends SubmitJclBaseBuilder {
 		return (DescriptorImpl) super.getDescriptor();
 	}
 
+	/**
+	 * Keeps the jobs on the step's own host connection, unless they may be split over the pooled connections.
+	 */
+	@Override
+	protected Map<String, Integer> getConnectionCapacities() {
+		Map<String, Integer> capacities = super.getConnectionCapacities();
+		if (splitJobs) {
+			return capacities;
+		}
+
+		Map<String, Integer> ownCapacity = new LinkedHashMap<>();
+		ownCapacity.put(getConnectionId(), capacities.get(getConnectionId()));
+		return ownCapacity;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#getResultStepName()
+	 */
+	@Override
+	protected String getResultStepName() {
+		return SubmitFreeFormJclStep.FUNCTION_NAME;
+	}
+
 	/**
 	 * DescriptorImpl is used to create instances of <code>SubmitJclBuilder</code>. It also contains the global configuration options as
 	 * fields, just like the <code>SubmitJclBuilder</code> contains the configuration options for a job
@@ -126,51 +182,59 @@ public class SubmitJclBuilder extends SubmitJclBaseBuilder {
 	 * (non-Javadoc)
 	 * 
 	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#addArguments(hudson.model.Run, hudson.FilePath, hudson.Launcher,
-	 * hudson.model.TaskListener, hudson.util.ArgumentListBuilder)
+	 * hudson.model.TaskListener, hudson.util.ArgumentListBuilder, java.util.List, java.util.Map)
 	 */
 	@Override
-	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args)
-			throws IOException, InterruptedException {
-		PrintStream logger = listener.getLogger();
+	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args,
+			List<String> workItems, Map<String, String> stagedFiles) throws IOException, InterruptedException {
+		String jclContent = workItems == null ? getJcl() : StringUtils.join(workItems, StringUtils.EMPTY);
+		String jclFileName = workspace.child("jcl" + UUID.randomUUID().toString() + ".txt").getRemote(); //$NON-NLS-1$ //$NON-NLS-2$
+		stagedFiles.put(jclFileName, StringUtils.defaultString(jclContent));
 
-		jclFile = workspace.createTextTempFile("jcl", ".txt", getJcl()); //$NON-NLS-1$ //$NON-NLS-2$
-		String escapedJclFileName = ArgumentUtils.escapeForScript(jclFile.getRemote());
-		logger.println("jcl: " + escapedJclFileName); //$NON-NLS-1$
+		String escapedJclFileName = ArgumentUtils.escapeForScript(jclFileName);
+		listener.getLogger().println("jcl: " + escapedJclFileName); //$NON-NLS-1$
 
 		args.add(TopazUtilitiesConstants.JCL, escapedJclFileName);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#perform(hudson.model.Run, hudson.FilePath, hudson.Launcher,
-	 * hudson.model.TaskListener)
+	/**
+	 * Gets each job of the 'JCL' statements as its own source, or all of the statements as a single source when they hold no JOB
+	 * statement.
 	 */
 	@Override
-	public void perform(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener)
-			throws IOException, InterruptedException {
-		try {
-			super.perform(run, workspace, launcher, listener);
-		} finally {
-			cleanUp();
+	protected List<JclSource> getJclSources(Run<?, ?> run, TaskListener listener, List<String> workItems) {
+		List<String> jobs = workItems != null ? workItems : getWorkItems();
+		if (jobs.isEmpty()) {
+			jobs = Collections.singletonList(StringUtils.defaultString(getJcl()));
+		}
+
+		List<JclSource> sources = new ArrayList<>();
+		for (String job : jobs) {
+			sources.add(JclSource.ofText(job));
 		}
+
+		return sources;
 	}
 
 	/**
-	 * Handle clean up when finished builder execution.
-	 * <p>
-	 * A temporary JCL file is created during builder execution that is consumed by the CLI and is 
-	 * deleted when execution is finished.
+	 * Gets each job of the 'JCL' statements, starting at its JOB statement. Any statements ahead of the first JOB statement are kept
+	 * with the first job.
 	 * 
-	 * @throws IOException
-	 *             if unable to delete temporary JCL file
-	 * @throws InterruptedException
-	 *             if unable to delete temporary JCL file
+	 * @return the JCL of each job
 	 */
-	protected void cleanUp() throws IOException, InterruptedException {
-		if (jclFile != null) {
-			jclFile.delete();
+	@Override
+	protected List<String> getWorkItems() {
+		List<String> jobs = new ArrayList<>();
+		String prologue = StringUtils.EMPTY;
+		for (String job : JOB_STATEMENT_PATTERN.split(StringUtils.defaultString(getJcl()))) {
+			if (jobs.isEmpty() && !JOB_STATEMENT_PATTERN.matcher(job).lookingAt()) {
+				prologue = job;
+			} else {
+				jobs.add(jobs.isEmpty() ? prologue + job : job);
+			}
 		}
+
+		return jobs;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.EnvVars;
+import hudson.Launcher;
+import hudson.Util;
+import hudson.remoting.RemoteOutputStream;
+import hudson.util.ArgumentListBuilder;
+import hudson.util.StreamTaskListener;
+import jenkins.security.MasterToSlaveCallable;
+
+/**
+ * Runs one CLI call entirely on the agent with a single channel round trip: it creates the working directory, writes the staged
+ * files, launches the CLI (calling it again after a transient connection failure), parses its output, and cleans up. The CLI output
+ * is streamed back to the build log as it is produced. Each CLI process is started under the agent's {@link CliProcessLimiter}, and
+ * can use the agent's {@link CliClassDataSharing} archive of its CLI version.
+ */
+public class SubmitJclCallable extends MasterToSlaveCallable<SubmissionOutcome, IOException> {
+	private static final long serialVersionUID = 1L;
+
+	private final ArgumentListBuilder args;
+	private final EnvVars env;
+	private final String workDir;
+	private final String topazDataDir;
+	private final Map<String, String> stagedFiles;
+	private final CliRunner runner;
+	private final int maxCliProcesses;
+	private final String boundedLogDir;
+	private final OutputStream logger;
+	private final String charsetName;
+	private String cdsArchiveDir;
+	private String cliVersion;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param args
+	 *            the CLI command line
+	 * @param env
+	 *            the CLI environment
+	 * @param workDir
+	 *            the CLI working directory
+	 * @param topazDataDir
+	 *            the CLI data directory, deleted after a successful call
+	 * @param stagedFiles
+	 *            the contents of the files to write before the call, by path; deleted after the call
+	 * @param runner
+	 *            the retry policy
+	 * @param maxCliProcesses
+	 *            the maximum number of CLI processes the agent runs at the same time; <code>0</code> for the agent's default limit
+	 * @param boundedLogDir
+	 *            the directory the full output is compressed into, or <code>null</code> to copy the full output to the build log
+	 * @param logger
+	 *            the build log; it is not closed
+	 * @param charset
+	 *            the charset of the CLI output
+	 */
+	public SubmitJclCallable(ArgumentListBuilder args, EnvVars env, String workDir, String topazDataDir, Map<String, String> stagedFiles,
+			CliRunner runner, int maxCliProcesses, String boundedLogDir, OutputStream logger, Charset charset) {
+		this.args = args;
+		this.env = env;
+		this.workDir = workDir;
+		this.topazDataDir = topazDataDir;
+		this.stagedFiles = new LinkedHashMap<>(stagedFiles);
+		this.runner = runner;
+		this.maxCliProcesses = maxCliProcesses;
+		this.boundedLogDir = boundedLogDir;
+		this.logger = new RemoteOutputStream(new CloseShieldOutputStream(logger));
+		this.charsetName = charset.name();
+	}
+
+	/**
+	 * Lets the CLI use the class data sharing archive of its version, writing the archive on the first call.
+	 * 
+	 * @param archiveDir
+	 *            the directory of the agent's archives
+	 * @param version
+	 *            the CLI version
+	 * 
+	 * @return this callable
+	 */
+	public SubmitJclCallable withClassDataSharing(String archiveDir, String version) {
+		this.cdsArchiveDir = archiveDir;
+		this.cliVersion = version;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.Callable#call()
+	 */
+	@Override
+	public SubmissionOutcome call() throws IOException {
+		Charset charset = Charset.forName(charsetName);
+		PrintStream log = new PrintStream(logger, true, charsetName);
+		Launcher launcher = new Launcher.LocalLauncher(new StreamTaskListener(log, charset));
+		File dir = new File(workDir);
+		dir.mkdirs();
+		int processLimit = maxCliProcesses > 0 ? maxCliProcesses : CliProcessLimiter.getDefaultLimit();
+
+		List<File> written = new ArrayList<>();
+		try {
+			// staged files are written with the agent's default charset, like FilePath.createTextTempFile
+			for (Map.Entry<String, String> stagedFile : stagedFiles.entrySet()) {
+				File file = new File(stagedFile.getKey());
+				written.add(file);
+				Files.write(file.toPath(), stagedFile.getValue().getBytes(Charset.defaultCharset()));
+			}
+
+			List<String> logNames = new ArrayList<>();
+			SubmissionOutcome outcome = runner.run(outputParser -> {
+				// a permit is only held while the process runs, not while a retry waits
+				try (CliProcessLimiter.Permit permit = CliProcessLimiter.get().acquire(processLimit)) {
+					if (permit.getWaitMillis() >= TopazUtilitiesConstants.CLI_PROCESS_LOG_WAIT_MILLIS) {
+						log.println(Messages.cliProcessWaited(TimeUnit.MILLISECONDS.toSeconds(permit.getWaitMillis()), processLimit));
+					}
+
+					CliClassDataSharing.Launch cds = cdsArchiveDir != null
+							? CliClassDataSharing.get().prepare(cdsArchiveDir, cliVersion) : null;
+					int exitValue;
+					try {
+						exitValue = launch(launcher, dir, log, cds, outputParser, logNames, charset);
+					} catch (IOException | InterruptedException | RuntimeException e) {
+						if (cds != null) {
+							cds.cancel();
+						}
+						throw e;
+					}
+
+					if (cds != null) {
+						cds.finish(exitValue, log);
+					}
+					return exitValue;
+				}
+			}, log, charset);
+
+			if (outcome.getExitValue() == 0) {
+				Util.deleteRecursive(new File(topazDataDir));
+			}
+
+			return outcome.withLogNames(logNames);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} finally {
+			for (File file : written) {
+				Files.deleteIfExists(file.toPath());
+			}
+			log.flush();
+		}
+	}
+
+	/**
+	 * Launches the CLI once and waits for it to end.
+	 */
+	private int launch(Launcher launcher, File dir, PrintStream log, CliClassDataSharing.Launch cds, OutputStream outputParser,
+			List<String> logNames, Charset charset) throws IOException, InterruptedException {
+		EnvVars launchEnv = env;
+		OutputStream parser = outputParser;
+		if (cds != null) {
+			// the agent's own options are kept, as the launch environment replaces them
+			String javaToolOptions = cds.getJavaToolOptions(env.containsKey(TopazUtilitiesConstants.JAVA_TOOL_OPTIONS_ENV)
+					? env.get(TopazUtilitiesConstants.JAVA_TOOL_OPTIONS_ENV) : System.getenv(TopazUtilitiesConstants.JAVA_TOOL_OPTIONS_ENV));
+			if (javaToolOptions != null) {
+				launchEnv = new EnvVars(env);
+				launchEnv.put(TopazUtilitiesConstants.JAVA_TOOL_OPTIONS_ENV, javaToolOptions);
+			}
+			parser = cds.watch(outputParser);
+		}
+
+		if (boundedLogDir == null) {
+			return launcher.launch().cmds(args).envs(launchEnv).stdout(new TeeOutputStream(log, parser)).pwd(dir).join();
+		}
+
+		File logDir = new File(boundedLogDir);
+		logDir.mkdirs();
+		String logName = UUID.randomUUID().toString() + TopazUtilitiesConstants.LOG_ARTIFACT_EXTENSION;
+		logNames.add(logName);
+		BoundedLogOutputStream boundedLog = new BoundedLogOutputStream(
+				new GZIPOutputStream(new FileOutputStream(new File(logDir, logName))), log, charset);
+		try {
+			return launcher.launch().cmds(args).envs(launchEnv).stdout(new TeeOutputStream(boundedLog, parser)).pwd(dir).join();
+		} finally {
+			boundedLog.close();
+			boundedLog.writeSummary(log);
+		}
+	}
+}
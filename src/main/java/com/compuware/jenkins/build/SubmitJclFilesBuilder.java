@@ -0,0 +1,323 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.jenkinsci.Symbol;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.utils.ArgumentUtils;
+
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.tasks.Builder;
+import hudson.util.ArgumentListBuilder;
+import hudson.util.FormValidation;
+
+/**
+ * Captures the configuration information for a build step submitting the workspace JCL files matching an Ant style pattern. Each file
+ * is submitted by its own CLI call, several at a time, so the jobs of every file are reported separately.
+ */
+public class SubmitJclFilesBuilder extends SubmitJclBaseBuilder {
+
+	private final String jclFiles;
+	private Integer parallelism;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 * @param jclFiles
+	 *            an Ant style pattern of the JCL files, relative to the workspace
+	 */
+	@DataBoundConstructor
+	public SubmitJclFilesBuilder(String connectionId, String credentialsId, String maxConditionCode, String jclFiles) {
+		super(connectionId, credentialsId, maxConditionCode);
+		this.jclFiles = StringUtils.trimToEmpty(jclFiles);
+	}
+
+	/**
+	 * Gets the Ant style pattern of the JCL files.
+	 * 
+	 * @return <code>String</code> value of jclFiles
+	 */
+	public String getJclFiles() {
+		return jclFiles;
+	}
+
+	/**
+	 * Gets the number of files submitted at the same time.
+	 * 
+	 * @return <code>int</code> value of parallelism
+	 */
+	public int getParallelism() {
+		return parallelism != null ? parallelism.intValue() : TopazUtilitiesConstants.SUBMIT_DEFAULT_PARALLELISM;
+	}
+
+	/**
+	 * Sets the number of files submitted at the same time.
+	 * 
+	 * @param parallelism
+	 *            the number of concurrent CLI calls on the step's own host connection
+	 */
+	@DataBoundSetter
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.tasks.Builder#getDescriptor()
+	 */
+	@Override
+	public DescriptorImpl getDescriptor() {
+		return (DescriptorImpl) super.getDescriptor();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#getResultStepName()
+	 */
+	@Override
+	protected String getResultStepName() {
+		return SubmitJclFilesStep.FUNCTION_NAME;
+	}
+
+	/**
+	 * DescriptorImpl is used to create instances of <code>SubmitJclFilesBuilder</code>.
+	 */
+	@Symbol("topazSubmitJclFiles")
+	@Extension
+	public static final class DescriptorImpl extends JclDescriptorImpl<Builder> {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.jclFilesDescriptorDisplayName();
+		}
+
+		/**
+		 * Validator for the 'JCL files' field.
+		 * 
+		 * @param jclFiles
+		 *            the pattern passed from the config.jelly "jclFiles" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckJclFiles(@QueryParameter String jclFiles) {
+			if (StringUtils.isBlank(jclFiles)) {
+				return FormValidation.error(Messages.checkJclFilesError());
+			}
+
+			return FormValidation.ok();
+		}
+
+		/**
+		 * Validator for the 'Parallelism' field.
+		 * 
+		 * @param parallelism
+		 *            the value passed from the config.jelly "parallelism" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckParallelism(@QueryParameter String parallelism) {
+			String tempValue = StringUtils.trimToEmpty(parallelism);
+			if (!tempValue.isEmpty() && (!StringUtils.isNumeric(tempValue) || NumberUtils.toInt(tempValue) < 1)) {
+				return FormValidation.error(Messages.checkParallelismError());
+			}
+
+			return FormValidation.ok();
+		}
+	}
+
+	/**
+	 * Lists the matching workspace files, relative to the workspace and in name order.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param workspace
+	 *            the Jenkins job workspace directory
+	 * @param listener
+	 *            the build listener
+	 * 
+	 * @return the relative paths of the files
+	 * 
+	 * @throws IOException
+	 *             if no file matches the pattern or the workspace could not be listed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while listing the workspace
+	 */
+	List<String> listJclFiles(Run<?, ?> run, FilePath workspace, TaskListener listener) throws IOException, InterruptedException {
+		String pattern = run.getEnvironment(listener).expand(getJclFiles());
+		String root = workspace.getRemote();
+
+		List<String> paths = new ArrayList<>();
+		for (FilePath file : workspace.list(pattern, null, false)) {
+			String path = file.getRemote();
+			if (path.startsWith(root)) {
+				path = StringUtils.stripStart(path.substring(root.length()), "/\\"); //$NON-NLS-1$
+			}
+			paths.add(path.replace('\\', '/'));
+		}
+
+		if (paths.isEmpty()) {
+			throw new AbortException(Messages.jclFilesNoMatch(pattern));
+		}
+
+		Collections.sort(paths);
+		listener.getLogger().println(Messages.jclFilesMatched(paths.size(), pattern, getParallelism()));
+		return paths;
+	}
+
+	/**
+	 * Hands the matching files over as a single chunk, so they are spread over the connection pool one file per CLI call.
+	 */
+	@Override
+	protected WorkChunkSource openWorkChunks(Run<?, ?> run, FilePath workspace, TaskListener listener)
+			throws IOException, InterruptedException {
+		List<String> paths = listJclFiles(run, workspace, listener);
+		return new WorkChunkSource() {
+			private boolean read;
+
+			@Override
+			public List<String> nextChunk() {
+				if (read) {
+					return null;
+				}
+				read = true;
+				return paths;
+			}
+
+			@Override
+			public void close() {
+				// nothing to release
+			}
+		};
+	}
+
+	/**
+	 * Gives the step's own host connection as many slots as the configured parallelism.
+	 */
+	@Override
+	protected Map<String, Integer> getConnectionCapacities() {
+		Map<String, Integer> capacities = super.getConnectionCapacities();
+		capacities.put(getConnectionId(), getParallelism());
+		return capacities;
+	}
+
+	/**
+	 * Submits a single file per CLI call, so the jobs and condition codes of each file are reported on their own.
+	 */
+	@Override
+	protected int getMaxBatchSize() {
+		return 1;
+	}
+
+	/**
+	 * Passes a single file to the CLI as it is; several files are concatenated into a staged file.
+	 */
+	@Override
+	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args,
+			List<String> workItems, Map<String, String> stagedFiles) throws IOException, InterruptedException {
+		List<String> paths = workItems != null ? workItems : listJclFiles(run, workspace, listener);
+
+		String jclFileName;
+		if (paths.size() == 1) {
+			jclFileName = workspace.child(paths.get(0)).getRemote();
+		} else {
+			StringBuilder jclContent = new StringBuilder();
+			for (String path : paths) {
+				jclContent.append(StringUtils.chomp(workspace.child(path).readToString())).append('\n');
+			}
+			jclFileName = workspace.child("jcl" + UUID.randomUUID().toString() + ".txt").getRemote(); //$NON-NLS-1$ //$NON-NLS-2$
+			stagedFiles.put(jclFileName, jclContent.toString());
+		}
+
+		String escapedJclFileName = ArgumentUtils.escapeForScript(jclFileName);
+		listener.getLogger().println("jcl: " + escapedJclFileName); //$NON-NLS-1$
+
+		args.add(TopazUtilitiesConstants.JCL, escapedJclFileName);
+	}
+
+	/**
+	 * Gets the content of each file as its own source.
+	 */
+	@Override
+	protected List<JclSource> getJclSources(Run<?, ?> run, FilePath workspace, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		List<String> paths = workItems != null ? workItems : listJclFiles(run, workspace, listener);
+
+		List<JclSource> sources = new ArrayList<>();
+		for (String path : paths) {
+			sources.add(JclSource.ofText(workspace.child(path).readToString()));
+		}
+
+		return sources;
+	}
+
+	/**
+	 * Gets the digest of each file as its fingerprint.
+	 */
+	@Override
+	protected Map<String, String> getContentFingerprints(Run<?, ?> run, FilePath workspace, TaskListener listener,
+			List<String> workItems) throws IOException, InterruptedException {
+		Map<String, String> fingerprints = new HashMap<>();
+		for (String path : workItems) {
+			FilePath file = workspace.child(path);
+			if (file.exists()) {
+				fingerprints.put(path, "md5:" + file.digest()); //$NON-NLS-1$
+			}
+		}
+
+		return fingerprints;
+	}
+
+	/**
+	 * Sums up the highest condition code of all the files against the maximum condition code.
+	 */
+	@Override
+	protected String getWorkItemsSummary(int workItemCount, int maxReturnCode) {
+		return Messages.jclFilesResult(workItemCount, maxReturnCode, getMaxConditionCode());
+	}
+}
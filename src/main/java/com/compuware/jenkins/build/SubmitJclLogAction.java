@@ -0,0 +1,164 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.IOUtils;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerResponse;
+
+import hudson.model.Run;
+import jenkins.model.RunAction2;
+import jenkins.util.VirtualFile;
+
+/**
+ * Lists the full CLI output logs archived by Submit JCL steps running with a bounded console log. A log is only read from the
+ * artifact storage when it is requested.
+ */
+public class SubmitJclLogAction implements RunAction2 {
+
+	private final List<String> artifactPaths = new ArrayList<>();
+	private transient Run<?, ?> run;
+
+	/**
+	 * Gets the build this action belongs to.
+	 * 
+	 * @return the build
+	 */
+	public Run<?, ?> getRun() {
+		return run;
+	}
+
+	/**
+	 * Gets the archived log paths, relative to the build's artifacts.
+	 * 
+	 * @return a copy of the archived log paths
+	 */
+	public synchronized List<String> getArtifactPaths() {
+		return new ArrayList<>(artifactPaths);
+	}
+
+	/**
+	 * Records an archived log.
+	 * 
+	 * @param artifactPath
+	 *            the log path, relative to the build's artifacts
+	 */
+	public synchronized void addArtifactPath(String artifactPath) {
+		artifactPaths.add(artifactPath);
+	}
+
+	/**
+	 * Gets the compressed size of an archived log.
+	 * 
+	 * @param artifactPath
+	 *            the log path, relative to the build's artifacts
+	 * 
+	 * @return the size in bytes, or <code>-1</code> if unknown
+	 */
+	public long getCompressedSize(String artifactPath) {
+		try {
+			return run.getArtifactManager().root().child(artifactPath).length();
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Streams an archived log, uncompressed, as plain text, to users who may see the build's artifacts.
+	 * 
+	 * @param rsp
+	 *            the response
+	 * @param path
+	 *            the log path, relative to the build's artifacts
+	 * 
+	 * @throws IOException
+	 *             if the log could not be read
+	 */
+	public void doLog(StaplerResponse rsp, @QueryParameter String path) throws IOException {
+		run.checkPermission(Run.ARTIFACTS);
+		if (path == null || !getArtifactPaths().contains(path)) {
+			rsp.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+
+		VirtualFile log = run.getArtifactManager().root().child(path);
+		rsp.setContentType("text/plain"); //$NON-NLS-1$
+		try (InputStream in = new GZIPInputStream(log.open()); OutputStream out = rsp.getOutputStream()) {
+			IOUtils.copy(in, out);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getIconFileName()
+	 */
+	@Override
+	public String getIconFileName() {
+		// the logs are artifacts of the build, so the link is hidden from users who may not see them
+		return run.hasPermission(Run.ARTIFACTS) ? "notepad.png" : null; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.submitJclLogActionDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getUrlName()
+	 */
+	@Override
+	public String getUrlName() {
+		return "topazSubmitLogs"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onAttached(hudson.model.Run)
+	 */
+	@Override
+	public void onAttached(Run<?, ?> r) {
+		run = r;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onLoad(hudson.model.Run)
+	 */
+	@Override
+	public void onLoad(Run<?, ?> r) {
+		run = r;
+	}
+}
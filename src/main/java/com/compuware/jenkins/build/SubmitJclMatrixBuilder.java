@@ -0,0 +1,433 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.jenkinsci.Symbol;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.utils.ArgumentUtils;
+
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.tasks.Builder;
+import hudson.util.ArgumentListBuilder;
+import hudson.util.FormValidation;
+
+/**
+ * Captures the configuration information for a build step submitting one JCL body once for each set of values of its symbols. Each
+ * parameter set is rendered and submitted by its own CLI call, several at a time, and its jobs are reported under the parameter set.
+ * <p>
+ * The parameter sets are a table: the first line names the symbols, and each further line holds the values of one parameter set,
+ * separated by commas. A value holding a comma is enclosed in double quotes. Empty lines and lines starting with <code>#</code> are
+ * ignored. The JCL refers to a symbol as <code>&amp;NAME</code> or <code>&amp;NAME.</code>, like a JCL symbol; symbols not named in
+ * the table are left to the host.
+ */
+public class SubmitJclMatrixBuilder extends SubmitJclBaseBuilder {
+
+	private static final Pattern SYMBOL_NAME_PATTERN = Pattern.compile("[A-Z$#@][A-Z0-9$#@]{0,7}"); //$NON-NLS-1$
+	// a symbol reference, not preceded by another ampersand, with its whole name and the period that may end it
+	private static final Pattern SYMBOL_REFERENCE_PATTERN = Pattern.compile("(?<!&)&([A-Za-z$#@][A-Za-z0-9$#@]*)(\\.)?"); //$NON-NLS-1$
+
+	private final String jcl;
+	private final String parameters;
+	private Integer parallelism;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 * @param jcl
+	 *            the JCL statements, referring to the symbols of the parameter sets
+	 * @param parameters
+	 *            the table of parameter sets
+	 */
+	@DataBoundConstructor
+	public SubmitJclMatrixBuilder(String connectionId, String credentialsId, String maxConditionCode, String jcl, String parameters) {
+		super(connectionId, credentialsId, maxConditionCode);
+		this.jcl = StringUtils.trimToEmpty(jcl);
+		this.parameters = StringUtils.trimToEmpty(parameters);
+	}
+
+	/**
+	 * Gets the value of the 'JCL' statements.
+	 * 
+	 * @return <code>String</code> value of jcl
+	 */
+	public String getJcl() {
+		return jcl;
+	}
+
+	/**
+	 * Gets the table of parameter sets.
+	 * 
+	 * @return <code>String</code> value of parameters
+	 */
+	public String getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Gets the number of parameter sets submitted at the same time.
+	 * 
+	 * @return <code>int</code> value of parallelism
+	 */
+	public int getParallelism() {
+		return parallelism != null ? parallelism.intValue() : TopazUtilitiesConstants.SUBMIT_DEFAULT_PARALLELISM;
+	}
+
+	/**
+	 * Sets the number of parameter sets submitted at the same time.
+	 * 
+	 * @param parallelism
+	 *            the number of concurrent CLI calls on the step's own host connection
+	 */
+	@DataBoundSetter
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.tasks.Builder#getDescriptor()
+	 */
+	@Override
+	public DescriptorImpl getDescriptor() {
+		return (DescriptorImpl) super.getDescriptor();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#getResultStepName()
+	 */
+	@Override
+	protected String getResultStepName() {
+		return SubmitJclMatrixStep.FUNCTION_NAME;
+	}
+
+	/**
+	 * DescriptorImpl is used to create instances of <code>SubmitJclMatrixBuilder</code>.
+	 */
+	@Symbol("topazSubmitJclMatrix")
+	@Extension
+	public static final class DescriptorImpl extends JclDescriptorImpl<Builder> {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.matrixDescriptorDisplayName();
+		}
+
+		/**
+		 * Validator for the 'JCL' field.
+		 * 
+		 * @param jcl
+		 *            the JCL passed from the config.jelly "jcl" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckJcl(@QueryParameter String jcl) {
+			if (StringUtils.isBlank(jcl)) {
+				return FormValidation.error(Messages.checkJclError());
+			}
+
+			return FormValidation.ok();
+		}
+
+		/**
+		 * Validator for the 'Parameter sets' field.
+		 * 
+		 * @param parameters
+		 *            the table passed from the config.jelly "parameters" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckParameters(@QueryParameter String parameters) {
+			try {
+				return FormValidation.ok(Messages.matrixParameterSets(parseParameterSets(parameters).size()));
+			} catch (IllegalArgumentException e) {
+				return FormValidation.error(e.getMessage());
+			}
+		}
+
+		/**
+		 * Validator for the 'Parallelism' field.
+		 * 
+		 * @param parallelism
+		 *            the value passed from the config.jelly "parallelism" field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckParallelism(@QueryParameter String parallelism) {
+			String tempValue = StringUtils.trimToEmpty(parallelism);
+			if (!tempValue.isEmpty() && (!StringUtils.isNumeric(tempValue) || NumberUtils.toInt(tempValue) < 1)) {
+				return FormValidation.error(Messages.checkParallelismError());
+			}
+
+			return FormValidation.ok();
+		}
+	}
+
+	/**
+	 * Parses a table of parameter sets.
+	 * 
+	 * @param table
+	 *            the symbol names on the first line, then the values of one parameter set per line
+	 * 
+	 * @return the values of each parameter set by symbol name, by parameter set label such as <code>REGION=EAST,HLQ=PAY.EAST</code>
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the table is malformed
+	 */
+	static Map<String, Map<String, String>> parseParameterSets(String table) {
+		List<String> names = null;
+		Map<String, Map<String, String>> parameterSets = new LinkedHashMap<>();
+		int lineNumber = 0;
+		for (String line : StringUtils.defaultString(table).split("\\R")) { //$NON-NLS-1$
+			lineNumber++;
+			if (line.trim().isEmpty() || line.trim().startsWith("#")) { //$NON-NLS-1$
+				continue;
+			}
+
+			List<String> values = splitValues(line);
+			if (names == null) {
+				names = new ArrayList<>();
+				for (String value : values) {
+					String name = StringUtils.removeStart(value, "&").toUpperCase(Locale.ENGLISH); //$NON-NLS-1$
+					if (!SYMBOL_NAME_PATTERN.matcher(name).matches() || names.contains(name)) {
+						throw new IllegalArgumentException(Messages.matrixInvalidName(value));
+					}
+					names.add(name);
+				}
+				continue;
+			}
+
+			if (values.size() != names.size()) {
+				throw new IllegalArgumentException(Messages.matrixColumnCount(lineNumber, values.size(), names.size()));
+			}
+
+			Map<String, String> parameterSet = new LinkedHashMap<>();
+			List<String> label = new ArrayList<>();
+			for (int i = 0; i < names.size(); i++) {
+				parameterSet.put(names.get(i), values.get(i));
+				label.add(names.get(i) + '=' + values.get(i));
+			}
+
+			String parameterSetLabel = StringUtils.join(label, ',');
+			if (parameterSets.put(parameterSetLabel, parameterSet) != null) {
+				throw new IllegalArgumentException(Messages.matrixDuplicate(lineNumber, parameterSetLabel));
+			}
+		}
+
+		if (parameterSets.isEmpty()) {
+			throw new IllegalArgumentException(Messages.matrixEmpty());
+		}
+
+		return parameterSets;
+	}
+
+	/**
+	 * Splits a line of the table at the commas outside of double quotes, removing the quotes and trimming each value.
+	 */
+	private static List<String> splitValues(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == ',' && !quoted) {
+				values.add(value.toString().trim());
+				value.setLength(0);
+			} else {
+				value.append(c);
+			}
+		}
+		values.add(value.toString().trim());
+
+		return values;
+	}
+
+	/**
+	 * Renders JCL for a parameter set, replacing each <code>&amp;NAME</code> or <code>&amp;NAME.</code> of its symbols with the value.
+	 * Temporary dataset names such as <code>&amp;&amp;NAME</code> are left alone. The JCL is rendered in a single pass, so the values
+	 * are never searched for symbols themselves.
+	 * 
+	 * @param jcl
+	 *            the JCL statements
+	 * @param parameterSet
+	 *            the value of each symbol, by symbol name
+	 * 
+	 * @return the rendered JCL
+	 */
+	static String render(String jcl, Map<String, String> parameterSet) {
+		Matcher matcher = SYMBOL_REFERENCE_PATTERN.matcher(StringUtils.defaultString(jcl));
+		StringBuffer rendered = new StringBuffer();
+		while (matcher.find()) {
+			String value = parameterSet.get(matcher.group(1));
+			matcher.appendReplacement(rendered, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+		}
+		matcher.appendTail(rendered);
+
+		return rendered.toString();
+	}
+
+	/**
+	 * Gets the parameter sets, failing the step if the table is malformed.
+	 */
+	private Map<String, Map<String, String>> getParameterSets() throws AbortException {
+		try {
+			return parseParameterSets(getParameters());
+		} catch (IllegalArgumentException e) {
+			throw new AbortException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Renders the JCL of the given parameter sets.
+	 */
+	private List<String> renderAll(List<String> workItems) throws AbortException {
+		Map<String, Map<String, String>> parameterSets = getParameterSets();
+		List<String> rendered = new ArrayList<>();
+		for (String label : workItems != null ? workItems : new ArrayList<>(parameterSets.keySet())) {
+			Map<String, String> parameterSet = parameterSets.get(label);
+			if (parameterSet == null) {
+				throw new AbortException(Messages.matrixUnknownSet(label));
+			}
+			rendered.add(render(getJcl(), parameterSet));
+		}
+
+		return rendered;
+	}
+
+	/**
+	 * Gets the label of each parameter set, in table order.
+	 */
+	@Override
+	protected List<String> getWorkItems(Run<?, ?> run, TaskListener listener) throws IOException, InterruptedException {
+		List<String> labels = new ArrayList<>(getParameterSets().keySet());
+		listener.getLogger().println(Messages.matrixSubmitting(labels.size(), getParallelism()));
+		return labels;
+	}
+
+	/**
+	 * Gives the step's own host connection as many slots as the configured parallelism.
+	 */
+	@Override
+	protected Map<String, Integer> getConnectionCapacities() {
+		Map<String, Integer> capacities = super.getConnectionCapacities();
+		capacities.put(getConnectionId(), getParallelism());
+		return capacities;
+	}
+
+	/**
+	 * Submits a single parameter set per CLI call, so the jobs and condition codes of each parameter set are reported on their own.
+	 */
+	@Override
+	protected int getMaxBatchSize() {
+		return 1;
+	}
+
+	/**
+	 * Stages the rendered JCL of the given parameter sets.
+	 */
+	@Override
+	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args,
+			List<String> workItems, Map<String, String> stagedFiles) throws IOException, InterruptedException {
+		String jclFileName = workspace.child("jcl" + UUID.randomUUID().toString() + ".txt").getRemote(); //$NON-NLS-1$ //$NON-NLS-2$
+		stagedFiles.put(jclFileName, StringUtils.join(renderAll(workItems), StringUtils.EMPTY));
+
+		PrintStream logger = listener.getLogger();
+		if (workItems != null && workItems.size() == 1) {
+			logger.println(Messages.matrixParameterSet(workItems.get(0)));
+		}
+		String escapedJclFileName = ArgumentUtils.escapeForScript(jclFileName);
+		logger.println("jcl: " + escapedJclFileName); //$NON-NLS-1$
+
+		args.add(TopazUtilitiesConstants.JCL, escapedJclFileName);
+	}
+
+	/**
+	 * Gets the rendered JCL of each parameter set as its own source.
+	 */
+	@Override
+	protected List<JclSource> getJclSources(Run<?, ?> run, TaskListener listener, List<String> workItems) throws AbortException {
+		List<JclSource> sources = new ArrayList<>();
+		for (String rendered : renderAll(workItems)) {
+			sources.add(JclSource.ofText(rendered));
+		}
+
+		return sources;
+	}
+
+	/**
+	 * Gets a digest of the rendered JCL of each parameter set as its fingerprint.
+	 */
+	@Override
+	protected Map<String, String> getContentFingerprints(Run<?, ?> run, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		List<String> rendered = renderAll(workItems);
+		Map<String, String> renderedFingerprints = super.getContentFingerprints(run, listener, rendered);
+
+		Map<String, String> fingerprints = new HashMap<>();
+		for (int i = 0; i < workItems.size(); i++) {
+			fingerprints.put(workItems.get(i), renderedFingerprints.get(rendered.get(i)));
+		}
+
+		return fingerprints;
+	}
+
+	/**
+	 * Sums up the highest condition code of all the parameter sets against the maximum condition code.
+	 */
+	@Override
+	protected String getWorkItemsSummary(int workItemCount, int maxReturnCode) {
+		return Messages.matrixResult(workItemCount, maxReturnCode, getMaxConditionCode());
+	}
+}
@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import hudson.Extension;
+import hudson.tasks.Builder;
+import hudson.util.FormValidation;
+import jenkins.model.Jenkins;
+
+/**
+ * Pipeline step submitting one JCL body once for each parameter set, returning the submitted jobs of each parameter set.
+ */
+public class SubmitJclMatrixStep extends SubmitJclBaseStep {
+
+	private static final long serialVersionUID = 1L;
+
+	/** The function name of the step in Pipeline scripts. */
+	public static final String FUNCTION_NAME = "topazRunJclMatrix"; //$NON-NLS-1$
+
+	private final String jcl;
+	private final String parameters;
+	private Integer parallelism;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 * @param jcl
+	 *            the JCL statements, referring to the symbols of the parameter sets
+	 * @param parameters
+	 *            the table of parameter sets
+	 */
+	@DataBoundConstructor
+	public SubmitJclMatrixStep(String connectionId, String credentialsId, String maxConditionCode, String jcl, String parameters) {
+		super(connectionId, credentialsId, maxConditionCode);
+		this.jcl = StringUtils.trimToEmpty(jcl);
+		this.parameters = StringUtils.trimToEmpty(parameters);
+	}
+
+	/**
+	 * Gets the value of the 'JCL' statements.
+	 * 
+	 * @return <code>String</code> value of jcl
+	 */
+	public String getJcl() {
+		return jcl;
+	}
+
+	/**
+	 * Gets the table of parameter sets.
+	 * 
+	 * @return <code>String</code> value of parameters
+	 */
+	public String getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Gets the number of parameter sets submitted at the same time.
+	 * 
+	 * @return <code>Integer</code> value of parallelism, or <code>null</code> for the default
+	 */
+	public Integer getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of parameter sets submitted at the same time.
+	 * 
+	 * @param parallelism
+	 *            the number of concurrent CLI calls on the step's own host connection
+	 */
+	@DataBoundSetter
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseStep#newBuilder()
+	 */
+	@Override
+	protected SubmitJclBaseBuilder newBuilder() {
+		SubmitJclMatrixBuilder builder = new SubmitJclMatrixBuilder(getConnectionId(), getCredentialsId(), getMaxConditionCode(),
+				getJcl(), getParameters());
+		if (parallelism != null) {
+			builder.setParallelism(parallelism.intValue());
+		}
+		return builder;
+	}
+
+	/**
+	 * Descriptor of the <code>topazRunJclMatrix</code> Pipeline step. Its function name differs from the build step symbol
+	 * <code>topazSubmitJclMatrix</code>, so Pipeline scripts can call either, and the step returns the {@link SubmitJclResult}.
+	 */
+	@Extension
+	public static final class DescriptorImpl extends SubmitJclStepDescriptor {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#getFunctionName()
+		 */
+		@Override
+		public String getFunctionName() {
+			return FUNCTION_NAME;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.matrixDescriptorDisplayName();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see com.compuware.jenkins.build.SubmitJclStepDescriptor#getBuilderDescriptor()
+		 */
+		@Override
+		protected JclDescriptorImpl<Builder> getBuilderDescriptor() {
+			return Jenkins.get().getDescriptorByType(SubmitJclMatrixBuilder.DescriptorImpl.class);
+		}
+
+		/**
+		 * Validator for the 'JCL' field.
+		 * 
+		 * @param jcl
+		 *            the value of the field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckJcl(@QueryParameter String jcl) {
+			return ((SubmitJclMatrixBuilder.DescriptorImpl) getBuilderDescriptor()).doCheckJcl(jcl);
+		}
+
+		/**
+		 * Validator for the 'Parameter sets' field.
+		 * 
+		 * @param parameters
+		 *            the value of the field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckParameters(@QueryParameter String parameters) {
+			return ((SubmitJclMatrixBuilder.DescriptorImpl) getBuilderDescriptor()).doCheckParameters(parameters);
+		}
+
+		/**
+		 * Validator for the 'Parallelism' field.
+		 * 
+		 * @param parallelism
+		 *            the value of the field
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckParallelism(@QueryParameter String parallelism) {
+			return ((SubmitJclMatrixBuilder.DescriptorImpl) getBuilderDescriptor()).doCheckParallelism(parallelism);
+		}
+	}
+}
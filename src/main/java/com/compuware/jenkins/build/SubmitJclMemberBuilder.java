@@ -16,17 +16,29 @@
  */
 package com.compuware.jenkins.build;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 import org.kohsuke.stapler.QueryParameter;
 
 import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
 import com.compuware.jenkins.common.utils.ArgumentUtils;
 
+import hudson.AbortException;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -43,6 +55,7 @@ import jenkins.tasks.SimpleBuildStep;
 public class SubmitJclMemberBuilder extends SubmitJclBaseBuilder implements SimpleBuildStep {
 
 	private String jclMember;
+	private String jclMemberFile;
 
 	public SubmitJclMemberBuilder(String connectionId) {
 		super(connectionId);
@@ -76,6 +89,27 @@ public class SubmitJclMemberBuilder extends SubmitJclBaseBuilder implements Simp
 		return jclMember;
 	}
 
+	/**
+	 * Gets the workspace file listing additional datasets / members, one per line.
+	 * 
+	 * @return <code>String</code> value of jclMemberFile
+	 */
+	public String getJclMemberFile() {
+		return jclMemberFile;
+	}
+
+	/**
+	 * Sets the workspace file listing additional datasets / members, one per line. The file is read while the members already read
+	 * are being submitted.
+	 * 
+	 * @param jclMemberFile
+	 *            a path relative to the workspace
+	 */
+	@DataBoundSetter
+	public void setJclMemberFile(String jclMemberFile) {
+		this.jclMemberFile = StringUtils.trimToNull(jclMemberFile);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -86,6 +120,16 @@ public class SubmitJclMemberBuilder extends SubmitJclBaseBuilder implements Simp
 		return (DescriptorImpl) super.getDescriptor();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#getResultStepName()
+	 */
+	@Override
+	protected String getResultStepName() {
+		return SubmitJclMembersStep.FUNCTION_NAME;
+	}
+
 	/**
 	 * DescriptorImpl is used to create instances of <code>SubmitJclMemberBuilder</code>. It also contains the global configuration options as
 	 * fields, just like the <code>SubmitJclMemberBuilder</code> contains the configuration options for a job
@@ -126,17 +170,197 @@ public class SubmitJclMemberBuilder extends SubmitJclBaseBuilder implements Simp
 	 * (non-Javadoc)
 	 * 
 	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#addArguments(hudson.model.Run, hudson.FilePath, hudson.Launcher,
-	 * hudson.model.TaskListener, hudson.util.ArgumentListBuilder)
+	 * hudson.model.TaskListener, hudson.util.ArgumentListBuilder, java.util.List, java.util.Map)
 	 */
 	@Override
-	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args)
-			throws IOException, InterruptedException {
+	protected void addArguments(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener, ArgumentListBuilder args,
+			List<String> workItems, Map<String, String> stagedFiles) throws IOException, InterruptedException {
 		PrintStream logger = listener.getLogger();
 
-		String escapedJclMember = ArgumentUtils.escapeForScript(StringUtils.replaceChars(getJclMember(), '\n', ','));
+		String escapedJclMember = ArgumentUtils.escapeForScript(StringUtils.join(workItems != null ? workItems : getWorkItems(), ','));
 		args.add(TopazUtilitiesConstants.JCL_DSNS, escapedJclMember);
 
 		logger.println("jclMember: " + escapedJclMember); //$NON-NLS-1$
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmitJclBaseBuilder#getJclSources(hudson.model.Run, hudson.model.TaskListener, java.util.List)
+	 */
+	@Override
+	protected List<JclSource> getJclSources(Run<?, ?> run, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		List<JclSource> sources = new ArrayList<>();
+		for (String member : workItems != null ? workItems : getWorkItems(run, listener)) {
+			sources.add(JclSource.ofDataset(member));
+		}
+
+		return sources;
+	}
+
+	/**
+	 * Gets the datasets referenced by the JCL of the members when the member content cache is configured. Otherwise gets no datasets,
+	 * as the JCL of the members is not read by the plugin.
+	 */
+	@Override
+	protected Map<String, DatasetLockTable.Access> getDatasetReferences(Run<?, ?> run, FilePath workspace, TaskListener listener,
+			List<String> workItems) throws IOException, InterruptedException {
+		if (getMemberContentCacheSize() <= 0) {
+			return Collections.emptyMap();
+		}
+
+		List<JclSource> sources = new ArrayList<>();
+		for (String content : getMemberContents(run, listener, workItems != null ? workItems : getWorkItems(run, listener)).values()) {
+			sources.add(JclSource.ofText(content));
+		}
+
+		return JclDatasetReferences.of(sources);
+	}
+
+	/**
+	 * Gets the JCL held by members, from the member content cache when their ISPF statistics are unchanged. The members to read are
+	 * read from the host over a single connection.
+	 * 
+	 * @param run
+	 *            the current running Jenkins build
+	 * @param listener
+	 *            the build listener
+	 * @param workItems
+	 *            datasets and dataset(member)s, without patterns
+	 * 
+	 * @return the JCL of each dataset(member) item found in its dataset's directory
+	 * 
+	 * @throws IOException
+	 *             if a directory or member could not be read
+	 */
+	public Map<String, String> getMemberContents(Run<?, ?> run, TaskListener listener, List<String> workItems) throws IOException {
+		return readMembers(run, listener, MemberCatalog.forBuild(run, getConnectionId()).getMembers(workItems,
+				() -> new FtpMemberLister(ZosFtpClient.open(run, getConnectionId(), getCredentialsId()))));
+	}
+
+	private Map<String, String> readMembers(Run<?, ?> run, TaskListener listener, Map<String, PdsMember> members) throws IOException {
+		return MemberContentCache.get().getContents(getConnectionId(), getCredentialsId(), members,
+				() -> new FtpMemberLister(ZosFtpClient.open(run, getConnectionId(), getCredentialsId())), getMemberContentCacheSize(),
+				listener.getLogger());
+	}
+
+	/**
+	 * Gets the size of the member content cache, from the global configuration.
+	 * 
+	 * @return the size in bytes; <code>0</code> if member content is not cached
+	 */
+	private static long getMemberContentCacheSize() {
+		return TopazUtilitiesConfiguration.get().getMemberContentCacheMegabytes() * TopazUtilitiesConstants.BYTES_PER_MEGABYTE;
+	}
+
+	/**
+	 * Gets each dataset or dataset(member) listed in the 'Dataset(member)' field.
+	 * 
+	 * @return the listed datasets and members
+	 */
+	@Override
+	protected List<String> getWorkItems() {
+		List<String> members = new ArrayList<>();
+		for (String line : StringUtils.split(StringUtils.defaultString(getJclMember()), "\r\n")) { //$NON-NLS-1$
+			String member = line.trim();
+			if (!member.isEmpty()) {
+				members.add(member);
+			}
+		}
+
+		return members;
+	}
+
+	/**
+	 * Opens the member list in chunks when a member list file is configured or the 'Dataset(member)' field is too long for a single
+	 * CLI call. The 'Dataset(member)' field is submitted first, then the file.
+	 * 
+	 * @return the chunk source, or <code>null</code> if the members fit a single CLI call
+	 */
+	@Override
+	protected WorkChunkSource openWorkChunks(Run<?, ?> run, FilePath workspace, TaskListener listener)
+			throws IOException, InterruptedException {
+		String members = StringUtils.defaultString(getJclMember());
+		if (getJclMemberFile() == null && members.length() <= TopazUtilitiesConstants.MAX_JCL_DSNS_LENGTH) {
+			return null;
+		}
+
+		List<BufferedReader> memberLists = new ArrayList<>();
+		memberLists.add(new BufferedReader(new StringReader(members)));
+		if (getJclMemberFile() != null) {
+			FilePath memberFile = workspace.child(getJclMemberFile());
+			if (!memberFile.exists()) {
+				throw new AbortException(Messages.jclMemberFileNotFound(memberFile.getRemote()));
+			}
+			memberLists.add(new BufferedReader(new InputStreamReader(memberFile.read(), run.getCharset())));
+		}
+
+		MemberCatalog catalog = MemberCatalog.forBuild(run, getConnectionId());
+		return new MemberListChunker(memberLists, TopazUtilitiesConstants.MAX_JCL_DSNS_LENGTH,
+				pattern -> catalog.expand(Collections.singletonList(pattern),
+						() -> new FtpMemberLister(ZosFtpClient.open(run, getConnectionId(), getCredentialsId())),
+						MemberCatalog.getSharedMaxAgeMillis(), listener.getLogger()));
+	}
+
+	/**
+	 * Gets the ISPF statistics of each member as its fingerprint, listing each dataset's directory once per build. Members without
+	 * statistics are fingerprinted by a digest of their JCL when the member content cache is configured. Sequential datasets, and
+	 * members without statistics otherwise, cannot be fingerprinted and are always submitted.
+	 */
+	@Override
+	protected Map<String, String> getContentFingerprints(Run<?, ?> run, TaskListener listener, List<String> workItems)
+			throws IOException, InterruptedException {
+		Map<String, PdsMember> members = MemberCatalog.forBuild(run, getConnectionId()).getMembers(workItems,
+				() -> new FtpMemberLister(ZosFtpClient.open(run, getConnectionId(), getCredentialsId())));
+
+		Map<String, String> fingerprints = new HashMap<>();
+		Map<String, PdsMember> unfingerprinted = new HashMap<>();
+		for (Map.Entry<String, PdsMember> entry : members.entrySet()) {
+			String statistics = MemberContentCache.getStatistics(entry.getValue());
+			if (statistics != null) {
+				fingerprints.put(entry.getKey(), statistics);
+			} else {
+				unfingerprinted.put(entry.getKey(), entry.getValue());
+			}
+		}
+
+		if (!unfingerprinted.isEmpty() && getMemberContentCacheSize() > 0) {
+			for (Map.Entry<String, String> content : readMembers(run, listener, unfingerprinted).entrySet()) {
+				fingerprints.put(content.getKey(),
+						"sha256:" + DigestUtils.sha256Hex(content.getValue().getBytes(StandardCharsets.UTF_8))); //$NON-NLS-1$
+			}
+		}
+
+		return fingerprints;
+	}
+
+	/**
+	 * Gets each dataset or dataset(member) listed in the 'Dataset(member)' field, with member name patterns such as
+	 * <code>A.B.JCL(PAY*)</code> expanded into the matching members.
+	 * 
+	 * @return the listed datasets and members
+	 */
+	@Override
+	protected List<String> getWorkItems(Run<?, ?> run, TaskListener listener) throws IOException, InterruptedException {
+		List<String> members = getWorkItems();
+		boolean hasPattern = false;
+		for (String member : members) {
+			hasPattern |= MemberCatalog.isPattern(member);
+		}
+
+		if (!hasPattern) {
+			return members;
+		}
+
+		List<String> expanded = MemberCatalog.forBuild(run, getConnectionId()).expand(members,
+				() -> new FtpMemberLister(ZosFtpClient.open(run, getConnectionId(), getCredentialsId())),
+				MemberCatalog.getSharedMaxAgeMillis(), listener.getLogger());
+		if (expanded.isEmpty()) {
+			throw new AbortException(Messages.memberPatternNothingToSubmit());
+		}
+
+		return expanded;
+	}
+
 }
\ No newline at end of file
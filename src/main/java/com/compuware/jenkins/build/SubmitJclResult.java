@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jenkinsci.plugins.scriptsecurity.sandbox.whitelists.Whitelisted;
+
+/**
+ * The jobs submitted by a Submit JCL step, returned to Pipeline scripts so they can branch on job outcomes without reading the console
+ * log.
+ */
+public class SubmitJclResult implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final List<JobResult> jobs = new ArrayList<>();
+	private final Map<String, List<JobResult>> workItemJobs = new LinkedHashMap<>();
+
+	/**
+	 * Records the jobs reported by a CLI call.
+	 * 
+	 * @param callJobs
+	 *            the jobs, in reporting order
+	 */
+	synchronized void addJobs(List<JobResult> callJobs) {
+		jobs.addAll(callJobs);
+	}
+
+	/**
+	 * Records the jobs reported by a CLI call that submitted a single work item.
+	 * 
+	 * @param workItem
+	 *            the work item, such as a workspace JCL file
+	 * @param callJobs
+	 *            the jobs, in reporting order
+	 */
+	synchronized void addWorkItemJobs(String workItem, List<JobResult> callJobs) {
+		workItemJobs.computeIfAbsent(workItem, k -> new ArrayList<>()).addAll(callJobs);
+	}
+
+	/**
+	 * Gets the work items whose jobs were recorded separately, for steps that submit one work item per CLI call.
+	 * 
+	 * @return a copy of the work items, in completion order
+	 */
+	@Whitelisted
+	public synchronized List<String> getWorkItems() {
+		return new ArrayList<>(workItemJobs.keySet());
+	}
+
+	/**
+	 * Gets the jobs submitted for a work item.
+	 * 
+	 * @param workItem
+	 *            the work item, such as a workspace JCL file
+	 * 
+	 * @return a copy of the jobs, in reporting order; empty if none were recorded for the work item
+	 */
+	@Whitelisted
+	public synchronized List<JobResult> getWorkItemJobs(String workItem) {
+		List<JobResult> found = workItemJobs.get(workItem);
+		return found != null ? new ArrayList<>(found) : Collections.<JobResult>emptyList();
+	}
+
+	/**
+	 * Gets the highest numeric condition code of the jobs submitted for a work item.
+	 * 
+	 * @param workItem
+	 *            the work item, such as a workspace JCL file
+	 * 
+	 * @return the highest condition code, or <code>-1</code> if no job of the work item reported one
+	 */
+	@Whitelisted
+	public synchronized int getMaxReturnCode(String workItem) {
+		int max = -1;
+		for (JobResult job : workItemJobs.getOrDefault(workItem, Collections.<JobResult>emptyList())) {
+			max = Math.max(max, job.getReturnCode());
+		}
+
+		return max;
+	}
+
+	/**
+	 * Gets the submitted jobs.
+	 * 
+	 * @return a copy of the jobs, in reporting order
+	 */
+	@Whitelisted
+	public synchronized List<JobResult> getJobs() {
+		return new ArrayList<>(jobs);
+	}
+
+	/**
+	 * Gets a submitted job by name. When several jobs share the name, the last one reported is returned.
+	 * 
+	 * @param name
+	 *            the job name
+	 * 
+	 * @return the job, or <code>null</code> if no job of that name was reported
+	 */
+	@Whitelisted
+	public synchronized JobResult getJob(String name) {
+		JobResult found = null;
+		for (JobResult job : jobs) {
+			if (name.equals(job.getName())) {
+				found = job;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Gets the highest numeric condition code of the submitted jobs.
+	 * 
+	 * @return the highest condition code, or <code>-1</code> if no job reported one
+	 */
+	@Whitelisted
+	public synchronized int getMaxReturnCode() {
+		int max = -1;
+		for (JobResult job : jobs) {
+			max = Math.max(max, job.getReturnCode());
+		}
+
+		return max;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	@Whitelisted
+	public synchronized String toString() {
+		return jobs.toString();
+	}
+}
@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jenkinsci.plugins.workflow.steps.StepDescriptor;
+import org.kohsuke.stapler.AncestorInPath;
+import org.kohsuke.stapler.QueryParameter;
+
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Item;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.tasks.Builder;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import jenkins.model.Jenkins;
+
+/**
+ * Common descriptor of the Pipeline Submit JCL steps. Form validation and fill-in is delegated to the descriptor of the build step
+ * the Pipeline step mirrors, so both share their configuration page.
+ */
+public abstract class SubmitJclStepDescriptor extends StepDescriptor {
+	private static final Set<Class<?>> REQUIRED_CONTEXT = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(Run.class, FilePath.class, Launcher.class, TaskListener.class)));
+
+	/**
+	 * Gets the descriptor of the mirrored build step.
+	 * 
+	 * @return the build step descriptor
+	 */
+	protected abstract JclDescriptorImpl<Builder> getBuilderDescriptor();
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#getRequiredContext()
+	 */
+	@Override
+	public Set<? extends Class<?>> getRequiredContext() {
+		return REQUIRED_CONTEXT;
+	}
+
+	/**
+	 * Validator for the 'Host connection' field.
+	 * 
+	 * @param connectionId
+	 *            unique identifier for the host connection
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckConnectionId(@QueryParameter String connectionId) {
+		return getBuilderDescriptor().doCheckConnectionId(connectionId);
+	}
+
+	/**
+	 * Validator for the 'Login credentials' field.
+	 * 
+	 * @param credentialsId
+	 *            login credentials
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckCredentialsId(@QueryParameter String credentialsId) {
+		return getBuilderDescriptor().doCheckCredentialsId(credentialsId);
+	}
+
+	/**
+	 * Validator for the 'Max Condition Code' field.
+	 * 
+	 * @param maxConditionCode
+	 *            a maximum condition code
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckMaxConditionCode(@QueryParameter String maxConditionCode) {
+		return getBuilderDescriptor().doCheckMaxConditionCode(maxConditionCode);
+	}
+
+	/**
+	 * Validator for the 'Connection retries' field.
+	 * 
+	 * @param connectionRetries
+	 *            the number of retries
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckConnectionRetries(@QueryParameter String connectionRetries) {
+		return getBuilderDescriptor().doCheckConnectionRetries(connectionRetries);
+	}
+
+	/**
+	 * Validator for the 'Additional host connections' field.
+	 * 
+	 * @param additionalConnectionIds
+	 *            host connection identifiers
+	 * 
+	 * @return validation message
+	 */
+	public FormValidation doCheckAdditionalConnectionIds(@QueryParameter String additionalConnectionIds) {
+		return getBuilderDescriptor().doCheckAdditionalConnectionIds(additionalConnectionIds);
+	}
+
+	/**
+	 * Fills in the Priority selection box with the priority classes.
+	 * 
+	 * @param priority
+	 *            the selected priority class; can be null
+	 * 
+	 * @return priority class selections
+	 */
+	public ListBoxModel doFillPriorityItems(@QueryParameter String priority) {
+		return getBuilderDescriptor().doFillPriorityItems(priority);
+	}
+
+	/**
+	 * Fills in the Host Connection selection box with applicable connections.
+	 * 
+	 * @param context
+	 *            filter for host connections
+	 * @param connectionId
+	 *            an existing host connection identifier; can be null
+	 * @param project
+	 *            the Jenkins project
+	 * 
+	 * @return host connection selections
+	 */
+	public ListBoxModel doFillConnectionIdItems(@AncestorInPath Jenkins context, @QueryParameter String connectionId,
+			@AncestorInPath Item project) {
+		return getBuilderDescriptor().doFillConnectionIdItems(context, connectionId, project);
+	}
+
+	/**
+	 * Fills in the Login Credentials selection box with applicable connections.
+	 * 
+	 * @param context
+	 *            filter for login credentials
+	 * @param credentialsId
+	 *            existing login credentials; can be null
+	 * @param project
+	 *            the Jenkins project
+	 * 
+	 * @return login credentials selection
+	 */
+	public ListBoxModel doFillCredentialsIdItems(@AncestorInPath Jenkins context, @QueryParameter String credentialsId,
+			@AncestorInPath Item project) {
+		return getBuilderDescriptor().doFillCredentialsIdItems(context, credentialsId, project);
+	}
+}
@@ -0,0 +1,393 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.StaplerResponse;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.Util;
+import hudson.model.Run;
+import jenkins.model.RunAction2;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Shows where the time of the Submit JCL steps of a build went, as a Gantt-style timeline of the steps, their submissions, the waits
+ * for datasets and submission slots, the CLI calls and the jobs. The timeline is also exported as OpenTelemetry (OTLP/JSON) trace
+ * spans, written to the build directory and served from <code>otlp</code>, so trace tooling can analyse critical paths across builds.
+ */
+public class SubmitJclTimelineAction implements RunAction2 {
+
+	/**
+	 * A span of the timeline, placed on the timeline's time axis.
+	 */
+	public static final class Row {
+		private final TimelineSpan span;
+		private final int depth;
+		private final long originMillis;
+		private final double offset;
+		private final double width;
+
+		private Row(TimelineSpan span, int depth, long originMillis, long timelineMillis) {
+			this.span = span;
+			this.depth = depth;
+			this.originMillis = originMillis;
+			this.offset = 100.0 * (span.getStartMillis() - originMillis) / timelineMillis;
+			this.width = Math.max(0.2, 100.0 * span.getDurationMillis() / timelineMillis);
+		}
+
+		/**
+		 * Gets the span.
+		 * 
+		 * @return the span
+		 */
+		public TimelineSpan getSpan() {
+			return span;
+		}
+
+		/**
+		 * Gets how deep the span is nested in the span of its step.
+		 * 
+		 * @return the depth, <code>0</code> for a step
+		 */
+		public int getDepth() {
+			return depth;
+		}
+
+		/**
+		 * Gets the time from the start of the timeline to the start of the span.
+		 * 
+		 * @return the start time, such as <code>1.2 sec</code>
+		 */
+		public String getStart() {
+			return Util.getTimeSpanString(span.getStartMillis() - originMillis);
+		}
+
+		/**
+		 * Gets the duration of the span.
+		 * 
+		 * @return the duration, such as <code>1.2 sec</code>
+		 */
+		public String getDuration() {
+			return Util.getTimeSpanString(span.getDurationMillis());
+		}
+
+		/**
+		 * Gets where the span's bar starts.
+		 * 
+		 * @return the offset, in percent of the timeline's width
+		 */
+		public double getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Gets how long the span's bar is.
+		 * 
+		 * @return the width, in percent of the timeline's width
+		 */
+		public double getWidth() {
+			return Math.min(width, 100.0 - offset);
+		}
+
+		/**
+		 * Gets the attributes of the span as text.
+		 * 
+		 * @return the attributes, such as <code>jes.job.id=JOB01234</code>
+		 */
+		public String getAttributes() {
+			List<String> attributes = new ArrayList<>();
+			for (Map.Entry<String, String> attribute : span.getAttributes().entrySet()) {
+				attributes.add(attribute.getKey() + '=' + attribute.getValue());
+			}
+
+			return StringUtils.join(attributes, ", "); //$NON-NLS-1$
+		}
+	}
+
+	private final List<TimelineSpan> steps = new ArrayList<>();
+	private transient Run<?, ?> run;
+
+	/**
+	 * Adds the span of a Submit JCL step to the timeline of the build and writes the build's trace file again.
+	 * 
+	 * @param run
+	 *            the build
+	 * @param stepSpan
+	 *            the span of the step
+	 * @param logger
+	 *            the build logger, to report a trace file that could not be written
+	 */
+	static void record(Run<?, ?> run, TimelineSpan stepSpan, PrintStream logger) {
+		SubmitJclTimelineAction timelineAction;
+		synchronized (run) {
+			timelineAction = run.getAction(SubmitJclTimelineAction.class);
+			if (timelineAction == null) {
+				timelineAction = new SubmitJclTimelineAction();
+				run.addAction(timelineAction);
+			}
+		}
+
+		try {
+			timelineAction.addStep(stepSpan, new File(run.getRootDir(), TopazUtilitiesConstants.TIMELINE_TRACE_FILE));
+		} catch (IOException e) {
+			logger.println(Messages.timelineTraceNotWritten(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Gets the build this action belongs to.
+	 * 
+	 * @return the build
+	 */
+	public Run<?, ?> getRun() {
+		return run;
+	}
+
+	/**
+	 * Gets the spans of the Submit JCL steps of the build.
+	 * 
+	 * @return a copy of the step spans, in the order the steps ended
+	 */
+	public synchronized List<TimelineSpan> getSteps() {
+		return new ArrayList<>(steps);
+	}
+
+	/**
+	 * Adds the span of a Submit JCL step.
+	 * 
+	 * @param stepSpan
+	 *            the span of the step
+	 */
+	synchronized void addStep(TimelineSpan stepSpan) {
+		steps.add(stepSpan);
+	}
+
+	/**
+	 * Adds the span of a Submit JCL step and writes the trace file again. The trace is serialized and written while holding the
+	 * action's monitor, so steps ending at the same time cannot leave the file with an older trace or with their writes mixed.
+	 * 
+	 * @param stepSpan
+	 *            the span of the step
+	 * @param traceFile
+	 *            the trace file of the build
+	 * 
+	 * @throws IOException
+	 *             if the trace file could not be written; the span is added nonetheless
+	 */
+	synchronized void addStep(TimelineSpan stepSpan, File traceFile) throws IOException {
+		addStep(stepSpan);
+		FileUtils.writeStringToFile(traceFile, toOtlp().toString(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Gets every span of the timeline, each step followed by the spans it is made of, on a time axis running from the start of the
+	 * first step to the end of the last one.
+	 * 
+	 * @return the rows
+	 */
+	public List<Row> getRows() {
+		List<TimelineSpan> stepSpans = getSteps();
+		long originMillis = Long.MAX_VALUE;
+		long endMillis = Long.MIN_VALUE;
+		for (TimelineSpan step : stepSpans) {
+			originMillis = Math.min(originMillis, step.getStartMillis());
+			endMillis = Math.max(endMillis, step.getStartMillis() + step.getDurationMillis());
+		}
+
+		List<Row> rows = new ArrayList<>();
+		for (TimelineSpan step : stepSpans) {
+			addRows(rows, step, 0, originMillis, Math.max(1, endMillis - originMillis));
+		}
+
+		return rows;
+	}
+
+	private static void addRows(List<Row> rows, TimelineSpan span, int depth, long originMillis, long timelineMillis) {
+		rows.add(new Row(span, depth, originMillis, timelineMillis));
+		for (TimelineSpan child : span.getChildren()) {
+			addRows(rows, child, depth + 1, originMillis, timelineMillis);
+		}
+	}
+
+	/**
+	 * Gets the trace identifier of the build, the same each time the timeline is exported.
+	 * 
+	 * @return 32 hexadecimal digits
+	 */
+	public String getTraceId() {
+		return DigestUtils.md5Hex(run.getExternalizableId());
+	}
+
+	/**
+	 * Gets the timeline as an OTLP/JSON trace export request.
+	 * 
+	 * @return the export request
+	 */
+	JSONObject toOtlp() {
+		Map<String, String> resource = new LinkedHashMap<>();
+		resource.put("service.name", "jenkins"); //$NON-NLS-1$ //$NON-NLS-2$
+		resource.put("jenkins.job", run.getParent().getFullName()); //$NON-NLS-1$
+		resource.put("jenkins.build", String.valueOf(run.getNumber())); //$NON-NLS-1$
+		return toOtlp(getTraceId(), resource, getSteps());
+	}
+
+	/**
+	 * Gets spans as an OTLP/JSON trace export request: one resource with one instrumentation scope holding every span, each step a
+	 * root span. A span still running ends now.
+	 * 
+	 * @param traceId
+	 *            the trace identifier
+	 * @param resource
+	 *            the attributes of the resource, such as <code>service.name</code>
+	 * @param stepSpans
+	 *            the step spans
+	 * 
+	 * @return the export request
+	 */
+	static JSONObject toOtlp(String traceId, Map<String, String> resource, List<TimelineSpan> stepSpans) {
+		JSONArray spans = new JSONArray();
+		for (TimelineSpan step : stepSpans) {
+			addOtlpSpans(spans, traceId, null, step);
+		}
+
+		JSONObject scopeSpans = new JSONObject();
+		scopeSpans.put("scope", new JSONObject().element("name", TimelineSpan.class.getPackage().getName())); //$NON-NLS-1$ //$NON-NLS-2$
+		scopeSpans.put("spans", spans); //$NON-NLS-1$
+
+		JSONObject resourceSpans = new JSONObject();
+		resourceSpans.put("resource", new JSONObject().element("attributes", toOtlpAttributes(resource))); //$NON-NLS-1$ //$NON-NLS-2$
+		resourceSpans.put("scopeSpans", new JSONArray().element(scopeSpans)); //$NON-NLS-1$
+		return new JSONObject().element("resourceSpans", new JSONArray().element(resourceSpans)); //$NON-NLS-1$
+	}
+
+	private static void addOtlpSpans(JSONArray spans, String traceId, String parentSpanId, TimelineSpan span) {
+		long endMillis = span.getEndMillis() >= 0 ? span.getEndMillis() : Math.max(span.getStartMillis(), System.currentTimeMillis());
+		JSONObject otlpSpan = new JSONObject();
+		otlpSpan.put("traceId", traceId); //$NON-NLS-1$
+		otlpSpan.put("spanId", span.getSpanId()); //$NON-NLS-1$
+		if (parentSpanId != null) {
+			otlpSpan.put("parentSpanId", parentSpanId); //$NON-NLS-1$
+		}
+		otlpSpan.put("name", span.getName()); //$NON-NLS-1$
+		otlpSpan.put("kind", TopazUtilitiesConstants.OTLP_SPAN_KIND_INTERNAL); //$NON-NLS-1$
+		otlpSpan.put("startTimeUnixNano", String.valueOf(TimeUnit.MILLISECONDS.toNanos(span.getStartMillis()))); //$NON-NLS-1$
+		otlpSpan.put("endTimeUnixNano", String.valueOf(TimeUnit.MILLISECONDS.toNanos(endMillis))); //$NON-NLS-1$
+		otlpSpan.put("attributes", toOtlpAttributes(span.getAttributes())); //$NON-NLS-1$
+		JSONObject status = new JSONObject();
+		if (span.getError() != null) {
+			status.put("code", TopazUtilitiesConstants.OTLP_STATUS_CODE_ERROR); //$NON-NLS-1$
+			status.put("message", span.getError()); //$NON-NLS-1$
+		}
+		otlpSpan.put("status", status); //$NON-NLS-1$
+		spans.add(otlpSpan);
+
+		for (TimelineSpan child : span.getChildren()) {
+			addOtlpSpans(spans, traceId, span.getSpanId(), child);
+		}
+	}
+
+	private static JSONArray toOtlpAttributes(Map<String, String> attributes) {
+		JSONArray otlpAttributes = new JSONArray();
+		for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+			JSONObject otlpAttribute = new JSONObject();
+			otlpAttribute.put("key", attribute.getKey()); //$NON-NLS-1$
+			otlpAttribute.put("value", new JSONObject().element("stringValue", attribute.getValue())); //$NON-NLS-1$ //$NON-NLS-2$
+			otlpAttributes.add(otlpAttribute);
+		}
+
+		return otlpAttributes;
+	}
+
+	/**
+	 * Writes the timeline as an OTLP/JSON trace export request.
+	 * 
+	 * @param rsp
+	 *            the response
+	 * 
+	 * @throws IOException
+	 *             if the response could not be written
+	 */
+	public void doOtlp(StaplerResponse rsp) throws IOException {
+		rsp.setContentType("application/json;charset=UTF-8"); //$NON-NLS-1$
+		rsp.getWriter().write(toOtlp().toString());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getIconFileName()
+	 */
+	@Override
+	public String getIconFileName() {
+		return "clock.png"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.timelineActionDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.model.Action#getUrlName()
+	 */
+	@Override
+	public String getUrlName() {
+		return "topazTimeline"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onAttached(hudson.model.Run)
+	 */
+	@Override
+	public void onAttached(Run<?, ?> r) {
+		run = r;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.RunAction2#onLoad(hudson.model.Run)
+	 */
+	@Override
+	public void onLoad(Run<?, ?> r) {
+		run = r;
+	}
+}
@@ -0,0 +1,237 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * A timed phase of a Submit JCL step, such as the wait for a submission slot, the CLI start, a job's time in the JES input queue or
+ * its execution, with the phases it is made of. Spans observed on an agent are timed by the agent's clock.
+ */
+public final class TimelineSpan implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String spanId;
+	private final String name;
+	private final long startMillis;
+	private long endMillis = -1;
+	private String error;
+	private final Map<String, String> attributes = new LinkedHashMap<>();
+	private final List<TimelineSpan> children = new ArrayList<>();
+
+	/**
+	 * Constructor for a span still running.
+	 * 
+	 * @param name
+	 *            the phase name
+	 * @param startMillis
+	 *            the start time in milliseconds since the epoch
+	 */
+	public TimelineSpan(String name, long startMillis) {
+		this.spanId = String.format("%016x", ThreadLocalRandom.current().nextLong()); //$NON-NLS-1$
+		this.name = name;
+		this.startMillis = startMillis;
+	}
+
+	/**
+	 * Constructor for a span that has ended.
+	 * 
+	 * @param name
+	 *            the phase name
+	 * @param startMillis
+	 *            the start time in milliseconds since the epoch
+	 * @param endMillis
+	 *            the end time in milliseconds since the epoch
+	 */
+	public TimelineSpan(String name, long startMillis, long endMillis) {
+		this(name, startMillis);
+		end(endMillis);
+	}
+
+	/**
+	 * Creates the span of a submitted job, with its time in the JES input queue and its execution when the queue time was observed.
+	 * 
+	 * @param job
+	 *            the job
+	 * @param fallbackEndMillis
+	 *            the end time of a job whose completion was not reported
+	 * 
+	 * @return the span, or <code>null</code> if the job's submission time was not observed
+	 */
+	public static TimelineSpan forJob(JobResult job, long fallbackEndMillis) {
+		long submittedAt = job.getSubmittedAt();
+		if (submittedAt <= 0) {
+			return null;
+		}
+
+		long endMillis = job.getElapsedMillis() >= 0 ? submittedAt + job.getElapsedMillis() : Math.max(submittedAt, fallbackEndMillis);
+		TimelineSpan span = new TimelineSpan(StringUtils.defaultString(job.getName(), job.getId()), submittedAt, endMillis);
+		span.setAttribute("jes.job.id", job.getId()); //$NON-NLS-1$
+		span.setAttribute("jes.job.name", job.getName()); //$NON-NLS-1$
+		span.setAttribute("jes.job.condition_code", job.getConditionCode()); //$NON-NLS-1$
+		if (job.getConditionCode() == null || job.isAbended()) {
+			span.setError(StringUtils.defaultString(job.getConditionCode(), "?")); //$NON-NLS-1$
+		}
+
+		if (job.getQueueMillis() >= 0) {
+			long dequeuedAt = Math.min(submittedAt + job.getQueueMillis(), endMillis);
+			span.addChild(new TimelineSpan(Messages.timelineJesInputQueue(), submittedAt, dequeuedAt));
+			span.addChild(new TimelineSpan(Messages.timelineExecution(), dequeuedAt, endMillis));
+		}
+
+		return span;
+	}
+
+	/**
+	 * Gets the span identifier.
+	 * 
+	 * @return 16 hexadecimal digits
+	 */
+	public String getSpanId() {
+		return spanId;
+	}
+
+	/**
+	 * Gets the phase name.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the start time.
+	 * 
+	 * @return the start time in milliseconds since the epoch
+	 */
+	public long getStartMillis() {
+		return startMillis;
+	}
+
+	/**
+	 * Gets the end time.
+	 * 
+	 * @return the end time in milliseconds since the epoch, or <code>-1</code> if the span is still running
+	 */
+	public synchronized long getEndMillis() {
+		return endMillis;
+	}
+
+	/**
+	 * Gets the duration.
+	 * 
+	 * @return the duration in milliseconds, or <code>0</code> if the span is still running
+	 */
+	public synchronized long getDurationMillis() {
+		return endMillis >= 0 ? Math.max(0, endMillis - startMillis) : 0;
+	}
+
+	/**
+	 * Ends the span, unless it has already ended.
+	 * 
+	 * @param endMillis
+	 *            the end time in milliseconds since the epoch
+	 */
+	public synchronized void end(long endMillis) {
+		if (this.endMillis < 0) {
+			this.endMillis = Math.max(startMillis, endMillis);
+		}
+	}
+
+	/**
+	 * Gets the reason the phase failed.
+	 * 
+	 * @return the reason, or <code>null</code> if the phase did not fail
+	 */
+	public synchronized String getError() {
+		return error;
+	}
+
+	/**
+	 * Marks the phase as failed.
+	 * 
+	 * @param error
+	 *            the reason the phase failed
+	 */
+	public synchronized void setError(String error) {
+		this.error = StringUtils.defaultString(error);
+	}
+
+	/**
+	 * Gets the attributes describing the phase, such as the host connection or the job identifier.
+	 * 
+	 * @return a copy of the attributes, by name
+	 */
+	public synchronized Map<String, String> getAttributes() {
+		return new LinkedHashMap<>(attributes);
+	}
+
+	/**
+	 * Sets an attribute describing the phase.
+	 * 
+	 * @param key
+	 *            the attribute name, following the OpenTelemetry naming conventions
+	 * @param value
+	 *            the attribute value; a <code>null</code> value is ignored
+	 */
+	public synchronized void setAttribute(String key, String value) {
+		if (value != null) {
+			attributes.put(key, value);
+		}
+	}
+
+	/**
+	 * Gets the phases this phase is made of.
+	 * 
+	 * @return a copy of the child spans, in the order they were added
+	 */
+	public synchronized List<TimelineSpan> getChildren() {
+		return new ArrayList<>(children);
+	}
+
+	/**
+	 * Adds a phase this phase is made of. Concurrent submissions of the same step add their spans to the step's span.
+	 * 
+	 * @param child
+	 *            the child span; a <code>null</code> span is ignored
+	 */
+	public synchronized void addChild(TimelineSpan child) {
+		if (child != null) {
+			children.add(child);
+		}
+	}
+
+	/**
+	 * Adds phases this phase is made of.
+	 * 
+	 * @param spans
+	 *            the child spans
+	 */
+	public void addChildren(List<TimelineSpan> spans) {
+		for (TimelineSpan child : spans) {
+			addChild(child);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * A host session opened by the <code>topazSession</code> block step and handed to every Submit JCL step nested in the block. The
+ * session only holds its identity, so it can be persisted with the Pipeline; the logged on clients of each
+ * {@link SubmissionEngine} are kept on the controller, opened the first time a nested step needs them and closed when the block
+ * exits. After a controller restart the clients are simply opened again.
+ */
+public final class TopazSession implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The logged on clients of each open session, by session identifier and resource key.
+	 */
+	private static final Map<String, Map<String, Closeable>> RESOURCES = new HashMap<>();
+
+	/**
+	 * Opens a resource of a session.
+	 * 
+	 * @param <T>
+	 *            the resource type
+	 */
+	public interface Opener<T extends Closeable> {
+
+		/**
+		 * Opens the resource, logging on to the host if needed.
+		 * 
+		 * @return the resource
+		 * 
+		 * @throws IOException
+		 *             if the resource could not be opened
+		 */
+		T open() throws IOException;
+	}
+
+	private final String id = UUID.randomUUID().toString();
+	private final String connectionId;
+	private final String credentialsId;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            the host connection the session is logged on to
+	 * @param credentialsId
+	 *            the credential the session is logged on with
+	 */
+	public TopazSession(String connectionId, String credentialsId) {
+		this.connectionId = connectionId;
+		this.credentialsId = credentialsId;
+	}
+
+	/**
+	 * Gets the unique identifier of the session.
+	 * 
+	 * @return the session identifier
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Gets the host connection the session is logged on to.
+	 * 
+	 * @return the host connection identifier
+	 */
+	public String getConnectionId() {
+		return connectionId;
+	}
+
+	/**
+	 * Gets the credential the session is logged on with.
+	 * 
+	 * @return the credential identifier
+	 */
+	public String getCredentialsId() {
+		return credentialsId;
+	}
+
+	/**
+	 * Gets whether a submission to a host connection with a credential can use this session.
+	 * 
+	 * @param submitConnectionId
+	 *            the host connection of the submission
+	 * @param submitCredentialsId
+	 *            the credential of the submission
+	 * 
+	 * @return <code>true</code> if the session is logged on to the same connection with the same credential
+	 */
+	public boolean covers(String submitConnectionId, String submitCredentialsId) {
+		return connectionId.equals(submitConnectionId) && credentialsId.equals(submitCredentialsId);
+	}
+
+	/**
+	 * Gets a resource of the session, opening it the first time it is requested. Concurrent nested steps wait for a resource that
+	 * is being opened, so the session logs on once.
+	 * 
+	 * @param <T>
+	 *            the resource type
+	 * @param key
+	 *            identifies the resource, such as the identifier of the engine using it
+	 * @param type
+	 *            the resource type
+	 * @param opener
+	 *            opens the resource
+	 * 
+	 * @return the resource
+	 * 
+	 * @throws IOException
+	 *             if the resource could not be opened
+	 */
+	public <T extends Closeable> T getResource(String key, Class<T> type, Opener<T> opener) throws IOException {
+		Map<String, Closeable> resources;
+		synchronized (RESOURCES) {
+			resources = RESOURCES.computeIfAbsent(id, k -> new LinkedHashMap<>());
+		}
+
+		synchronized (resources) {
+			Closeable resource = resources.get(key);
+			if (!type.isInstance(resource)) {
+				resource = opener.open();
+				resources.put(key, resource);
+			}
+			return type.cast(resource);
+		}
+	}
+
+	/**
+	 * Gets the number of resources the session has open.
+	 * 
+	 * @return the open resource count
+	 */
+	public int getResourceCount() {
+		synchronized (RESOURCES) {
+			Map<String, Closeable> resources = RESOURCES.get(id);
+			return resources != null ? resources.size() : 0;
+		}
+	}
+
+	/**
+	 * Closes every resource of the session, logging off from the host.
+	 */
+	public void close() {
+		Map<String, Closeable> resources;
+		synchronized (RESOURCES) {
+			resources = RESOURCES.remove(id);
+		}
+
+		if (resources != null) {
+			synchronized (resources) {
+				for (Closeable resource : resources.values()) {
+					IOUtils.closeQuietly(resource);
+				}
+			}
+		}
+	}
+}
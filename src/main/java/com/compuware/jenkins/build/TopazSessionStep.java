@@ -0,0 +1,261 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.workflow.steps.BodyExecutionCallback;
+import org.jenkinsci.plugins.workflow.steps.Step;
+import org.jenkinsci.plugins.workflow.steps.StepContext;
+import org.jenkinsci.plugins.workflow.steps.StepDescriptor;
+import org.jenkinsci.plugins.workflow.steps.StepExecution;
+import org.kohsuke.stapler.AncestorInPath;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import jenkins.model.Jenkins;
+
+/**
+ * Pipeline block step opening a {@link TopazSession}: the Submit JCL steps nested in the block that submit to the same host
+ * connection with the same credential share the session's logon, which is closed when the block exits.
+ */
+public class TopazSessionStep extends Step {
+
+	private final String connectionId;
+	private final String credentialsId;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            unique id of the selected credential
+	 */
+	@DataBoundConstructor
+	public TopazSessionStep(String connectionId, String credentialsId) {
+		this.connectionId = StringUtils.trimToEmpty(connectionId);
+		this.credentialsId = StringUtils.trimToEmpty(credentialsId);
+	}
+
+	/**
+	 * Gets the unique identifier of the 'Host connection'.
+	 * 
+	 * @return <code>String</code> value of connectionId
+	 */
+	public String getConnectionId() {
+		return connectionId;
+	}
+
+	/**
+	 * Gets the value of the 'Login Credentials'.
+	 * 
+	 * @return <code>String</code> value of credentialsId
+	 */
+	public String getCredentialsId() {
+		return credentialsId;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jenkinsci.plugins.workflow.steps.Step#start(org.jenkinsci.plugins.workflow.steps.StepContext)
+	 */
+	@Override
+	public StepExecution start(StepContext context) throws Exception {
+		return new Execution(context, new TopazSession(connectionId, credentialsId));
+	}
+
+	/**
+	 * Runs the block with the session in its context, and closes the session when the block exits.
+	 */
+	private static final class Execution extends StepExecution {
+		private static final long serialVersionUID = 1L;
+
+		private final TopazSession session;
+
+		private Execution(StepContext context, TopazSession session) {
+			super(context);
+			this.session = session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepExecution#start()
+		 */
+		@Override
+		public boolean start() throws Exception {
+			getContext().get(TaskListener.class).getLogger()
+					.println(Messages.topazSessionOpened(session.getConnectionId(), session.getCredentialsId()));
+			getContext().newBodyInvoker().withContext(session).withCallback(new CloseSession(session)).start();
+			return false;
+		}
+	}
+
+	/**
+	 * Closes the session once the block has completed, whether it succeeded or failed.
+	 */
+	private static final class CloseSession extends BodyExecutionCallback.TailCall {
+		private static final long serialVersionUID = 1L;
+
+		private final TopazSession session;
+
+		private CloseSession(TopazSession session) {
+			this.session = session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.BodyExecutionCallback.TailCall#finished(org.jenkinsci.plugins.workflow.steps.StepContext)
+		 */
+		@Override
+		protected void finished(StepContext context) throws Exception {
+			// a session no nested step logged on with saved nothing, such as one around build steps or Topaz CLI submissions
+			boolean used = session.getResourceCount() > 0;
+			session.close();
+			PrintStream logger = context.get(TaskListener.class).getLogger();
+			logger.println(Messages.topazSessionClosed(session.getConnectionId()));
+			if (!used) {
+				logger.println(Messages.topazSessionUnused(session.getConnectionId()));
+			}
+		}
+	}
+
+	/**
+	 * Descriptor of the <code>topazSession</code> Pipeline step.
+	 */
+	@Extension
+	public static final class DescriptorImpl extends StepDescriptor {
+		private static final Set<Class<?>> REQUIRED_CONTEXT = Collections
+				.unmodifiableSet(new HashSet<>(Arrays.asList(Run.class, TaskListener.class)));
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#getFunctionName()
+		 */
+		@Override
+		public String getFunctionName() {
+			return "topazSession"; //$NON-NLS-1$
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see hudson.model.Descriptor#getDisplayName()
+		 */
+		@Override
+		public String getDisplayName() {
+			return Messages.topazSessionDisplayName();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#takesImplicitBlockArgument()
+		 */
+		@Override
+		public boolean takesImplicitBlockArgument() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jenkinsci.plugins.workflow.steps.StepDescriptor#getRequiredContext()
+		 */
+		@Override
+		public Set<? extends Class<?>> getRequiredContext() {
+			return REQUIRED_CONTEXT;
+		}
+
+		private static SubmitJclBuilder.DescriptorImpl getBuilderDescriptor() {
+			return Jenkins.get().getDescriptorByType(SubmitJclBuilder.DescriptorImpl.class);
+		}
+
+		/**
+		 * Validator for the 'Host connection' field.
+		 * 
+		 * @param connectionId
+		 *            unique identifier for the host connection
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckConnectionId(@QueryParameter String connectionId) {
+			return getBuilderDescriptor().doCheckConnectionId(connectionId);
+		}
+
+		/**
+		 * Validator for the 'Login credentials' field.
+		 * 
+		 * @param credentialsId
+		 *            login credentials
+		 * 
+		 * @return validation message
+		 */
+		public FormValidation doCheckCredentialsId(@QueryParameter String credentialsId) {
+			return getBuilderDescriptor().doCheckCredentialsId(credentialsId);
+		}
+
+		/**
+		 * Fills in the Host Connection selection box with applicable connections.
+		 * 
+		 * @param context
+		 *            filter for host connections
+		 * @param connectionId
+		 *            an existing host connection identifier; can be null
+		 * @param project
+		 *            the Jenkins project
+		 * 
+		 * @return host connection selections
+		 */
+		public ListBoxModel doFillConnectionIdItems(@AncestorInPath Jenkins context, @QueryParameter String connectionId,
+				@AncestorInPath Item project) {
+			return getBuilderDescriptor().doFillConnectionIdItems(context, connectionId, project);
+		}
+
+		/**
+		 * Fills in the Login Credentials selection box with applicable connections.
+		 * 
+		 * @param context
+		 *            filter for login credentials
+		 * @param credentialsId
+		 *            existing login credentials; can be null
+		 * @param project
+		 *            the Jenkins project
+		 * 
+		 * @return login credentials selection
+		 */
+		public ListBoxModel doFillCredentialsIdItems(@AncestorInPath Jenkins context, @QueryParameter String credentialsId,
+				@AncestorInPath Item project) {
+			return getBuilderDescriptor().doFillCredentialsIdItems(context, credentialsId, project);
+		}
+	}
+}
@@ -0,0 +1,436 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.jenkinsci.Symbol;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.StaplerRequest;
+
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+import com.compuware.jenkins.common.configuration.HostConnection;
+
+import hudson.Extension;
+import jenkins.model.GlobalConfiguration;
+import net.sf.json.JSONObject;
+
+/**
+ * Global configuration of the Topaz Utilities, complementing the host connections defined by the Compuware common configuration with
+ * settings that only the Topaz utilities use.
+ */
+@Symbol("topazUtilities")
+@Extension
+public class TopazUtilitiesConfiguration extends GlobalConfiguration {
+
+	private List<HostConnectionSettings> hostConnectionSettings = new ArrayList<>();
+	private int memberListCacheMinutes;
+	private int memberContentCacheMegabytes;
+	private int maxCliProcesses;
+	private boolean cliClassDataSharing;
+	private boolean warmUpAgents;
+	private int healthCheckSeconds;
+	private boolean failWhenHostsDown;
+	private int jobWaitMinutes;
+	private boolean datasetLocking;
+	private String priorityRules;
+
+	/**
+	 * Constructor.
+	 * <p>
+	 * In order to load the persisted global configuration, you have to call load() in the constructor.
+	 */
+	public TopazUtilitiesConfiguration() {
+		load();
+	}
+
+	/**
+	 * Gets the singleton instance of this configuration.
+	 * 
+	 * @return the Topaz Utilities configuration
+	 */
+	public static TopazUtilitiesConfiguration get() {
+		return GlobalConfiguration.all().get(TopazUtilitiesConfiguration.class);
+	}
+
+	/**
+	 * Gets a host connection of the Compuware common configuration.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the host connection, or <code>null</code> if there is no such connection
+	 */
+	public static HostConnection getHostConnection(String connectionId) {
+		for (HostConnection connection : CpwrGlobalConfiguration.get().getHostConnections()) {
+			if (connection.getConnectionId().equals(connectionId)) {
+				return connection;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the host name of a host connection.
+	 * 
+	 * @param connection
+	 *            the host connection
+	 * 
+	 * @return the host part of the connection's host and port
+	 */
+	public static String getHostName(HostConnection connection) {
+		String hostPort = StringUtils.trimToEmpty(connection.getHostPort());
+		int separator = hostPort.lastIndexOf(':');
+		return separator >= 0 ? hostPort.substring(0, separator) : hostPort;
+	}
+
+	/**
+	 * Gets the port of a host connection.
+	 * 
+	 * @param connection
+	 *            the host connection
+	 * 
+	 * @return the port part of the connection's host and port, or <code>-1</code> if it has none
+	 */
+	public static int getPort(HostConnection connection) {
+		String hostPort = StringUtils.trimToEmpty(connection.getHostPort());
+		int separator = hostPort.lastIndexOf(':');
+		return separator >= 0 ? NumberUtils.toInt(hostPort.substring(separator + 1), -1) : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see jenkins.model.GlobalConfiguration#configure(org.kohsuke.stapler.StaplerRequest, net.sf.json.JSONObject)
+	 */
+	@Override
+	public boolean configure(StaplerRequest req, JSONObject json) throws FormException {
+		hostConnectionSettings = new ArrayList<>();
+		req.bindJSON(this, json);
+		save();
+		return true;
+	}
+
+	/**
+	 * Gets the settings of each host connection.
+	 * 
+	 * @return the host connection settings
+	 */
+	public List<HostConnectionSettings> getHostConnectionSettings() {
+		return hostConnectionSettings != null ? Collections.unmodifiableList(hostConnectionSettings)
+				: Collections.<HostConnectionSettings>emptyList();
+	}
+
+	/**
+	 * Sets the settings of each host connection.
+	 * 
+	 * @param hostConnectionSettings
+	 *            the host connection settings
+	 */
+	@DataBoundSetter
+	public void setHostConnectionSettings(List<HostConnectionSettings> hostConnectionSettings) {
+		this.hostConnectionSettings = hostConnectionSettings != null ? new ArrayList<>(hostConnectionSettings) : new ArrayList<>();
+	}
+
+	/**
+	 * Gets the settings of a host connection.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the configured host connection settings, or the default settings if the connection has none
+	 */
+	public HostConnectionSettings getSettings(String connectionId) {
+		for (HostConnectionSettings settings : getHostConnectionSettings()) {
+			if (settings.getConnectionId().equals(connectionId)) {
+				return settings;
+			}
+		}
+
+		return new HostConnectionSettings(connectionId, HostConnectionSettings.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Gets the number of concurrent submissions a host connection can take.
+	 * 
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * 
+	 * @return the configured capacity, or {@link HostConnectionSettings#DEFAULT_CAPACITY} if the connection has no settings
+	 */
+	public int getCapacity(String connectionId) {
+		return getSettings(connectionId).getCapacity();
+	}
+
+	/**
+	 * Gets how long a member directory listing may be reused by later builds, as long as the dataset's fingerprint is unchanged.
+	 * 
+	 * @return the number of minutes; <code>0</code> if listings are only reused within a build
+	 */
+	public int getMemberListCacheMinutes() {
+		return memberListCacheMinutes;
+	}
+
+	/**
+	 * Sets how long a member directory listing may be reused by later builds, as long as the dataset's fingerprint is unchanged.
+	 * 
+	 * @param memberListCacheMinutes
+	 *            the number of minutes; <code>0</code> to only reuse listings within a build
+	 */
+	@DataBoundSetter
+	public void setMemberListCacheMinutes(int memberListCacheMinutes) {
+		this.memberListCacheMinutes = Math.max(0, memberListCacheMinutes);
+	}
+
+	/**
+	 * Gets the size of the controller-wide cache of the JCL held by dataset members, keyed by the members' ISPF statistics.
+	 * 
+	 * @return the size in megabytes; <code>0</code> if member content is not cached
+	 */
+	public int getMemberContentCacheMegabytes() {
+		return memberContentCacheMegabytes;
+	}
+
+	/**
+	 * Sets the size of the controller-wide cache of the JCL held by dataset members, keyed by the members' ISPF statistics.
+	 * 
+	 * @param memberContentCacheMegabytes
+	 *            the size in megabytes; <code>0</code> to not cache member content
+	 */
+	@DataBoundSetter
+	public void setMemberContentCacheMegabytes(int memberContentCacheMegabytes) {
+		this.memberContentCacheMegabytes = Math.max(0, memberContentCacheMegabytes);
+		if (this.memberContentCacheMegabytes == 0) {
+			MemberContentCache.get().clear();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of Topaz CLI processes each agent runs at the same time.
+	 * 
+	 * @return the number of processes; <code>0</code> if derived from each agent's processors and memory
+	 */
+	public int getMaxCliProcesses() {
+		return maxCliProcesses;
+	}
+
+	/**
+	 * Sets the maximum number of Topaz CLI processes each agent runs at the same time.
+	 * 
+	 * @param maxCliProcesses
+	 *            the number of processes; <code>0</code> to derive it from each agent's processors and memory
+	 */
+	@DataBoundSetter
+	public void setMaxCliProcesses(int maxCliProcesses) {
+		this.maxCliProcesses = Math.max(0, maxCliProcesses);
+	}
+
+	/**
+	 * Gets whether the Topaz CLI of each agent starts from a class data sharing archive of its version.
+	 * 
+	 * @return <code>true</code> if the agents maintain an archive
+	 */
+	public boolean isCliClassDataSharing() {
+		return cliClassDataSharing;
+	}
+
+	/**
+	 * Sets whether the Topaz CLI of each agent starts from a class data sharing archive of its version.
+	 * 
+	 * @param cliClassDataSharing
+	 *            <code>true</code> to have the agents maintain an archive
+	 */
+	@DataBoundSetter
+	public void setCliClassDataSharing(boolean cliClassDataSharing) {
+		this.cliClassDataSharing = cliClassDataSharing;
+	}
+
+	/**
+	 * Gets whether agents are prepared for Topaz CLI calls as soon as they come online.
+	 * 
+	 * @return <code>true</code> if agents are warmed up
+	 */
+	public boolean isWarmUpAgents() {
+		return warmUpAgents;
+	}
+
+	/**
+	 * Sets whether agents are prepared for Topaz CLI calls as soon as they come online.
+	 * 
+	 * @param warmUpAgents
+	 *            <code>true</code> to warm up agents
+	 */
+	@DataBoundSetter
+	public void setWarmUpAgents(boolean warmUpAgents) {
+		this.warmUpAgents = warmUpAgents;
+	}
+
+	/**
+	 * Gets whether submissions that update the same datasets wait for each other, across all builds.
+	 * 
+	 * @return <code>true</code> if conflicting submissions are serialized
+	 */
+	public boolean isDatasetLocking() {
+		return datasetLocking;
+	}
+
+	/**
+	 * Sets whether submissions that update the same datasets wait for each other, across all builds.
+	 * 
+	 * @param datasetLocking
+	 *            <code>true</code> to serialize conflicting submissions
+	 */
+	@DataBoundSetter
+	public void setDatasetLocking(boolean datasetLocking) {
+		this.datasetLocking = datasetLocking;
+	}
+
+	/**
+	 * Gets how often the host and port of each host connection are probed.
+	 * 
+	 * @return the interval in seconds; <code>0</code> if the connections are not probed
+	 */
+	public int getHealthCheckSeconds() {
+		return healthCheckSeconds;
+	}
+
+	/**
+	 * Sets how often the host and port of each host connection are probed.
+	 * 
+	 * @param healthCheckSeconds
+	 *            the interval in seconds; <code>0</code> to not probe the connections
+	 */
+	@DataBoundSetter
+	public void setHealthCheckSeconds(int healthCheckSeconds) {
+		this.healthCheckSeconds = Math.max(0, healthCheckSeconds);
+	}
+
+	/**
+	 * Gets whether a step fails when the health checks find every host connection it could submit to down.
+	 * 
+	 * @return <code>true</code> if the step fails; <code>false</code> if it logs a warning and submits as usual
+	 */
+	public boolean isFailWhenHostsDown() {
+		return failWhenHostsDown;
+	}
+
+	/**
+	 * Sets whether a step fails when the health checks find every host connection it could submit to down.
+	 * 
+	 * @param failWhenHostsDown
+	 *            <code>true</code> to fail the step; <code>false</code> to log a warning and submit as usual
+	 */
+	@DataBoundSetter
+	public void setFailWhenHostsDown(boolean failWhenHostsDown) {
+		this.failWhenHostsDown = failWhenHostsDown;
+	}
+
+	/**
+	 * Gets how long a step submitting through the FTP (JES interface) or z/OSMF submission engine waits for each job to complete.
+	 * 
+	 * @return the number of minutes; <code>0</code> if the step waits until every job completes
+	 */
+	public int getJobWaitMinutes() {
+		return jobWaitMinutes;
+	}
+
+	/**
+	 * Sets how long a step submitting through the FTP (JES interface) or z/OSMF submission engine waits for each job to complete.
+	 * 
+	 * @param jobWaitMinutes
+	 *            the number of minutes; <code>0</code> to wait until every job completes
+	 */
+	@DataBoundSetter
+	public void setJobWaitMinutes(int jobWaitMinutes) {
+		this.jobWaitMinutes = Math.max(0, jobWaitMinutes);
+	}
+
+	/**
+	 * Gets the rules assigning a priority class to the submissions of folders and jobs.
+	 * 
+	 * @return one <code>pattern=class</code> rule per line, such as <code>release/**=HIGH</code>; can be null
+	 */
+	public String getPriorityRules() {
+		return priorityRules;
+	}
+
+	/**
+	 * Sets the rules assigning a priority class to the submissions of folders and jobs.
+	 * 
+	 * @param priorityRules
+	 *            one <code>pattern=class</code> rule per line
+	 */
+	@DataBoundSetter
+	public void setPriorityRules(String priorityRules) {
+		this.priorityRules = StringUtils.trimToNull(priorityRules);
+	}
+
+	/**
+	 * Gets the priority class of the submissions of a job, from the first priority rule whose pattern matches the job's full name.
+	 * In a pattern, <code>*</code> matches within a folder and <code>**</code> across folders.
+	 * 
+	 * @param jobFullName
+	 *            the full name of the job, such as <code>release/payroll</code>
+	 * 
+	 * @return the priority class, or <code>null</code> if no rule matches
+	 */
+	public SubmissionScheduler.Priority getPriority(String jobFullName) {
+		for (String line : StringUtils.split(StringUtils.defaultString(priorityRules), "\r\n")) { //$NON-NLS-1$
+			String rule = line.trim();
+			int separator = rule.lastIndexOf('=');
+			if (rule.isEmpty() || rule.startsWith("#") || separator <= 0) { //$NON-NLS-1$
+				continue;
+			}
+
+			SubmissionScheduler.Priority priority = SubmissionScheduler.Priority.parse(rule.substring(separator + 1));
+			if (priority != null && globToRegex(rule.substring(0, separator).trim()).matcher(jobFullName).matches()) {
+				return priority;
+			}
+		}
+
+		return null;
+	}
+
+	private static Pattern globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			if (glob.startsWith("**/", i)) { //$NON-NLS-1$
+				// any number of folders, including none
+				regex.append("(?:.*/)?"); //$NON-NLS-1$
+				i += 2;
+			} else if (glob.startsWith("**", i)) { //$NON-NLS-1$
+				regex.append(".*"); //$NON-NLS-1$
+				i++;
+			} else if (c == '*') {
+				regex.append("[^/]*"); //$NON-NLS-1$
+			} else if (c == '?') {
+				regex.append("[^/]"); //$NON-NLS-1$
+			} else {
+				regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+
+		return Pattern.compile(regex.toString());
+	}
+}
@@ -0,0 +1,373 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPClientConfig;
+import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.net.ftp.FTPFileEntryParser;
+import org.apache.commons.net.ftp.FTPFileEntryParserImpl;
+import org.apache.commons.net.ftp.FTPReply;
+import org.apache.commons.net.ftp.FTPSClient;
+import org.apache.commons.net.ftp.parser.FTPFileEntryParserFactory;
+
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredentials;
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.HostConnection;
+
+import hudson.AbortException;
+import hudson.model.Run;
+
+/**
+ * A client for the z/OS FTP server, covering the directory listing and text transfer commands used by the Topaz utilities. It
+ * wraps an Apache Commons Net {@link FTPClient}, or an {@link FTPSClient} when the control and data connections are protected with
+ * explicit TLS. Passive data connections are used, and listings are returned as their raw lines, as the z/OS listings are parsed by
+ * their callers.
+ * <p>
+ * The client is not thread safe; each thread should use its own client.
+ */
+public class ZosFtpClient implements Closeable {
+
+	/**
+	 * A reply of the FTP server.
+	 */
+	public static final class Reply {
+		private final int code;
+		private final List<String> lines;
+
+		private Reply(FTPClient client) {
+			this.code = client.getReplyCode();
+			String[] replyStrings = client.getReplyStrings();
+			this.lines = replyStrings != null ? Collections.unmodifiableList(Arrays.asList(replyStrings))
+					: Collections.<String>emptyList();
+		}
+
+		/**
+		 * Gets the reply code.
+		 * 
+		 * @return the three digit reply code
+		 */
+		public int getCode() {
+			return code;
+		}
+
+		/**
+		 * Gets the reply lines, including their reply code.
+		 * 
+		 * @return the reply lines
+		 */
+		public List<String> getLines() {
+			return lines;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.join(" ", lines); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Keeps each listing line as is, as the z/OS dataset, member and JES listings are parsed by the callers of {@link #list(String)}.
+	 */
+	private static final class RawLineParser extends FTPFileEntryParserImpl implements FTPFileEntryParserFactory {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.apache.commons.net.ftp.FTPFileEntryParser#parseFTPEntry(java.lang.String)
+		 */
+		@Override
+		public FTPFile parseFTPEntry(String listEntry) {
+			FTPFile file = new FTPFile();
+			file.setRawListing(listEntry);
+			return file;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.apache.commons.net.ftp.parser.FTPFileEntryParserFactory#createFileEntryParser(java.lang.String)
+		 */
+		@Override
+		public FTPFileEntryParser createFileEntryParser(String key) {
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.apache.commons.net.ftp.parser.FTPFileEntryParserFactory#createFileEntryParser(org.apache.commons.net.ftp.
+		 * FTPClientConfig)
+		 */
+		@Override
+		public FTPFileEntryParser createFileEntryParser(FTPClientConfig config) {
+			return this;
+		}
+	}
+
+	private final String host;
+	private final int port;
+	private final FTPClient client;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param host
+	 *            the host name
+	 * @param port
+	 *            the FTP port
+	 * @param tls
+	 *            <code>true</code> to protect the control and data connections with explicit TLS
+	 * @param timeoutMillis
+	 *            the connect and read timeout
+	 */
+	public ZosFtpClient(String host, int port, boolean tls, int timeoutMillis) {
+		this.host = host;
+		this.port = port;
+		client = tls ? new FTPSClient(false) : new FTPClient();
+		client.setConnectTimeout(timeoutMillis);
+		client.setDefaultTimeout(timeoutMillis);
+		client.setDataTimeout(timeoutMillis);
+		client.setControlEncoding(StandardCharsets.UTF_8.name());
+		// the listings are read as raw lines, so the server's system type is never asked for
+		client.configure(new FTPClientConfig(FTPClientConfig.SYST_MVS));
+		client.setParserFactory(new RawLineParser());
+		// connect to the control host rather than the advertised address, which is often not reachable through NAT
+		client.setPassiveNatWorkaroundStrategy(advertised -> host);
+	}
+
+	/**
+	 * Opens a logged on client for a host connection, using the FTP settings of the connection and a username/password credential.
+	 * 
+	 * @param run
+	 *            the build the credentials are looked up for
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            the identifier of a username/password credential
+	 * 
+	 * @return the connected and logged on client
+	 * 
+	 * @throws IOException
+	 *             if the connection or credentials are unknown, or the client could not connect or log on
+	 */
+	public static ZosFtpClient open(Run<?, ?> run, String connectionId, String credentialsId) throws IOException {
+		HostConnection connection = TopazUtilitiesConfiguration.getHostConnection(connectionId);
+		if (connection == null) {
+			throw new AbortException(Messages.checkAdditionalConnectionIdsError(connectionId));
+		}
+
+		StandardUsernamePasswordCredentials credentials = CredentialsProvider.findCredentialById(credentialsId,
+				StandardUsernamePasswordCredentials.class, run);
+		if (credentials == null) {
+			throw new AbortException(Messages.usernamePasswordCredentialsRequired(credentialsId));
+		}
+
+		HostConnectionSettings settings = TopazUtilitiesConfiguration.get().getSettings(connectionId);
+		ZosFtpClient client = new ZosFtpClient(TopazUtilitiesConfiguration.getHostName(connection), settings.getFtpPort(),
+				settings.isFtpTls(), TopazUtilitiesConstants.FTP_TIMEOUT_MILLIS);
+		try {
+			client.connect();
+			client.login(credentials.getUsername(), credentials.getPassword().getPlainText());
+			return client;
+		} catch (IOException e) {
+			IOUtils.closeQuietly(client);
+			throw e;
+		}
+	}
+
+	/**
+	 * Connects to the FTP server, negotiating TLS if requested.
+	 * 
+	 * @throws IOException
+	 *             if the connection could not be established
+	 */
+	public void connect() throws IOException {
+		client.connect(host, port);
+		expect(FTPReply.isPositiveCompletion(client.getReplyCode()));
+
+		if (client instanceof FTPSClient) {
+			FTPSClient ftpsClient = (FTPSClient) client;
+			ftpsClient.execPBSZ(0);
+			ftpsClient.execPROT("P"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Logs on and selects text transfers through passive data connections.
+	 * 
+	 * @param user
+	 *            the user ID
+	 * @param password
+	 *            the password
+	 * 
+	 * @throws IOException
+	 *             if the log on was rejected
+	 */
+	public void login(String user, String password) throws IOException {
+		expect(client.login(user, password));
+		expect(client.setFileType(FTP.ASCII_FILE_TYPE));
+		client.enterLocalPassiveMode();
+	}
+
+	/**
+	 * Gets whether the control connection is still open.
+	 * 
+	 * @return <code>true</code> if connected
+	 */
+	public boolean isConnected() {
+		return client.isConnected();
+	}
+
+	/**
+	 * Sends a command over the control connection and reads its reply.
+	 * 
+	 * @param command
+	 *            the command
+	 * 
+	 * @return the reply
+	 * 
+	 * @throws IOException
+	 *             if the control connection failed
+	 */
+	public Reply sendCommand(String command) throws IOException {
+		client.sendCommand(command);
+		return new Reply(client);
+	}
+
+	/**
+	 * Changes the working directory, for example to a partitioned dataset.
+	 * 
+	 * @param path
+	 *            the directory, such as <code>'A.B.JCL'</code>
+	 * 
+	 * @throws IOException
+	 *             if the directory could not be changed
+	 */
+	public void changeWorkingDirectory(String path) throws IOException {
+		expect(client.changeWorkingDirectory(path));
+	}
+
+	/**
+	 * Lists a directory.
+	 * 
+	 * @param path
+	 *            the path or pattern to list; <code>null</code> to list the working directory
+	 * 
+	 * @return the listing lines, or an empty list if nothing was found
+	 * 
+	 * @throws IOException
+	 *             if the listing failed
+	 */
+	public List<String> list(String path) throws IOException {
+		// the server answers 550 when nothing matches, which leaves the listing empty
+		FTPFile[] files = client.listFiles(path);
+		List<String> lines = new ArrayList<>();
+		for (FTPFile file : files) {
+			if (!file.getRawListing().isEmpty()) {
+				lines.add(file.getRawListing());
+			}
+		}
+
+		return lines;
+	}
+
+	/**
+	 * Retrieves a text file, such as a dataset member.
+	 * 
+	 * @param path
+	 *            the path to retrieve, such as <code>'A.B.JCL(MEMBER)'</code>
+	 * 
+	 * @return the file contents
+	 * 
+	 * @throws IOException
+	 *             if the file could not be retrieved
+	 */
+	public String retrieve(String path) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		if (!client.retrieveFile(path, content)) {
+			if (client.getReplyCode() == FTPReply.FILE_UNAVAILABLE) {
+				throw new IOException(Messages.ftpFileNotFound(path));
+			}
+			throw new IOException(Messages.ftpUnexpectedReply(new Reply(client)));
+		}
+
+		return new String(content.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Stores text.
+	 * 
+	 * @param path
+	 *            the path to store to
+	 * @param content
+	 *            the text to store
+	 * 
+	 * @return the final reply of the transfer, whether or not the text was stored
+	 * 
+	 * @throws IOException
+	 *             if the connection failed
+	 */
+	public Reply store(String path, String content) throws IOException {
+		client.storeFile(path, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		return new Reply(client);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!client.isConnected()) {
+			return;
+		}
+
+		try {
+			client.logout();
+		} catch (IOException e) {
+			// the server may already have dropped the connection
+		} finally {
+			client.disconnect();
+		}
+	}
+
+	private void expect(boolean positive) throws IOException {
+		if (!positive) {
+			throw new IOException(Messages.ftpUnexpectedReply(new Reply(client)));
+		}
+	}
+}
@@ -0,0 +1,370 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredentials;
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.HostConnection;
+
+import hudson.AbortException;
+import hudson.ProxyConfiguration;
+import hudson.model.Run;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * A minimal client for the z/OSMF REST jobs interface.
+ * <p>
+ * Requests go through {@link HttpURLConnection}, whose keep-alive cache pools the connections to each server: every response body is
+ * read to its end, or its error stream drained, so the connection goes back to the cache for the next request. The client is thread
+ * safe.
+ * <p>
+ * Each request is authenticated with the user's password unless the client has {@link #logon() logged on}, in which case the
+ * session token cookies z/OSMF returned are sent instead, until the client is closed.
+ */
+public class ZosmfClient implements Closeable {
+
+	private final String baseUrl;
+	private final String user;
+	private final String authorization;
+	private final int timeoutMillis;
+	private volatile String sessionCookies;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param baseUrl
+	 *            the z/OSMF URL, such as <code>https://host:443</code>
+	 * @param user
+	 *            the user ID
+	 * @param password
+	 *            the password
+	 * @param timeoutMillis
+	 *            the connect and read timeout
+	 */
+	public ZosmfClient(String baseUrl, String user, String password, int timeoutMillis) {
+		this.baseUrl = StringUtils.removeEnd(baseUrl, "/"); //$NON-NLS-1$
+		this.user = user;
+		this.authorization = "Basic " //$NON-NLS-1$
+				+ Base64.getEncoder().encodeToString((user + ':' + password).getBytes(StandardCharsets.UTF_8));
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Creates a client for a host connection, using the z/OSMF URL of the connection's settings and a username/password credential.
+	 * 
+	 * @param run
+	 *            the build the credentials are looked up for
+	 * @param connectionId
+	 *            a unique host connection identifier
+	 * @param credentialsId
+	 *            the identifier of a username/password credential
+	 * 
+	 * @return the client
+	 * 
+	 * @throws IOException
+	 *             if the connection or credentials are unknown
+	 */
+	public static ZosmfClient open(Run<?, ?> run, String connectionId, String credentialsId) throws IOException {
+		HostConnection connection = TopazUtilitiesConfiguration.getHostConnection(connectionId);
+		if (connection == null) {
+			throw new AbortException(Messages.checkAdditionalConnectionIdsError(connectionId));
+		}
+
+		StandardUsernamePasswordCredentials credentials = CredentialsProvider.findCredentialById(credentialsId,
+				StandardUsernamePasswordCredentials.class, run);
+		if (credentials == null) {
+			throw new AbortException(Messages.usernamePasswordCredentialsRequired(credentialsId));
+		}
+
+		String zosmfUrl = TopazUtilitiesConfiguration.get().getSettings(connectionId).getZosmfUrl();
+		if (StringUtils.isBlank(zosmfUrl)) {
+			zosmfUrl = "https://" + TopazUtilitiesConfiguration.getHostName(connection) + ':' //$NON-NLS-1$
+					+ TopazUtilitiesConstants.ZOSMF_DEFAULT_PORT;
+		}
+
+		return new ZosmfClient(zosmfUrl, credentials.getUsername(), credentials.getPassword().getPlainText(),
+				TopazUtilitiesConstants.ZOSMF_TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * Gets the user ID the client authenticates with.
+	 * 
+	 * @return the user ID
+	 */
+	public String getUser() {
+		return user;
+	}
+
+	/**
+	 * Logs on to z/OSMF, so later requests are authenticated with a session token rather than the password.
+	 * 
+	 * @throws IOException
+	 *             if the logon failed
+	 */
+	public void logon() throws IOException {
+		HttpURLConnection connection = connect("POST", TopazUtilitiesConstants.ZOSMF_AUTHENTICATE_PATH, null); //$NON-NLS-1$
+		read(connection, "POST", TopazUtilitiesConstants.ZOSMF_AUTHENTICATE_PATH); //$NON-NLS-1$
+
+		List<String> cookies = new ArrayList<>();
+		List<String> setCookies = connection.getHeaderFields().get("Set-Cookie"); //$NON-NLS-1$
+		if (setCookies != null) {
+			for (String setCookie : setCookies) {
+				cookies.add(StringUtils.substringBefore(setCookie, ";").trim()); //$NON-NLS-1$
+			}
+		}
+
+		if (cookies.isEmpty()) {
+			throw new IOException(Messages.zosmfLogonFailed(baseUrl));
+		}
+		sessionCookies = StringUtils.join(cookies, "; "); //$NON-NLS-1$
+	}
+
+	/**
+	 * Gets whether the client has logged on and authenticates with a session token.
+	 * 
+	 * @return <code>true</code> if the client is logged on
+	 */
+	public boolean isLoggedOn() {
+		return sessionCookies != null;
+	}
+
+	/**
+	 * Logs off from z/OSMF if the client has logged on.
+	 * 
+	 * @throws IOException
+	 *             if the logoff failed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (sessionCookies != null) {
+			try {
+				request("DELETE", TopazUtilitiesConstants.ZOSMF_AUTHENTICATE_PATH, null, null); //$NON-NLS-1$
+			} finally {
+				sessionCookies = null;
+			}
+		}
+	}
+
+	/**
+	 * Submits JCL text.
+	 * 
+	 * @param jcl
+	 *            the JCL statements
+	 * 
+	 * @return the submitted job, with its <code>jobname</code> and <code>jobid</code>
+	 * 
+	 * @throws IOException
+	 *             if the job was not accepted
+	 */
+	public JSONObject submitJcl(String jcl) throws IOException {
+		return JSONObject.fromObject(request("PUT", TopazUtilitiesConstants.ZOSMF_JOBS_PATH, "text/plain", jcl)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Submits the JCL held by a dataset or dataset member.
+	 * 
+	 * @param dataset
+	 *            the fully qualified dataset name, such as <code>A.B.JCL(MEMBER)</code>
+	 * 
+	 * @return the submitted job, with its <code>jobname</code> and <code>jobid</code>
+	 * 
+	 * @throws IOException
+	 *             if the job was not accepted
+	 */
+	public JSONObject submitDataset(String dataset) throws IOException {
+		JSONObject body = new JSONObject();
+		body.put("file", "//'" + StringUtils.strip(dataset, "'") + '\''); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return JSONObject.fromObject(request("PUT", TopazUtilitiesConstants.ZOSMF_JOBS_PATH, "application/json", body.toString())); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Lists the jobs of the client's user, so the status of many jobs can be read with a single request.
+	 * 
+	 * @return the jobs, each with its <code>jobid</code>, <code>status</code> and <code>retcode</code>
+	 * 
+	 * @throws IOException
+	 *             if the jobs could not be listed
+	 */
+	public JSONArray listJobs() throws IOException {
+		String query = "?owner=" + encode(user) + "&prefix=*&max-jobs=" + TopazUtilitiesConstants.ZOSMF_MAX_LISTED_JOBS; //$NON-NLS-1$ //$NON-NLS-2$
+		return JSONArray.fromObject(request("GET", TopazUtilitiesConstants.ZOSMF_JOBS_PATH + query, null, null)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Gets the status of a job.
+	 * 
+	 * @param jobName
+	 *            the job name
+	 * @param jobId
+	 *            the job identifier
+	 * 
+	 * @return the job, with its <code>status</code> and <code>retcode</code>; <code>null</code> if the job no longer exists
+	 * 
+	 * @throws IOException
+	 *             if the job status could not be read
+	 */
+	public JSONObject getJob(String jobName, String jobId) throws IOException {
+		String path = jobPath(jobName, jobId);
+		HttpURLConnection connection = connect("GET", path, null); //$NON-NLS-1$
+		if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+			try (InputStream err = connection.getErrorStream()) {
+				if (err != null) {
+					IOUtils.skip(err, Long.MAX_VALUE);
+				}
+			}
+			return null;
+		}
+
+		return JSONObject.fromObject(read(connection, "GET", path)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Lists the spool files of a job.
+	 * 
+	 * @param jobName
+	 *            the job name
+	 * @param jobId
+	 *            the job identifier
+	 * 
+	 * @return the spool files, each with its <code>id</code>, <code>ddname</code> and <code>stepname</code>
+	 * 
+	 * @throws IOException
+	 *             if the spool files could not be listed
+	 */
+	public JSONArray listSpoolFiles(String jobName, String jobId) throws IOException {
+		return JSONArray.fromObject(request("GET", jobPath(jobName, jobId) + "/files", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Streams the records of a spool file, without holding the whole file in memory.
+	 * 
+	 * @param jobName
+	 *            the job name
+	 * @param jobId
+	 *            the job identifier
+	 * @param fileId
+	 *            the spool file identifier
+	 * @param out
+	 *            the stream receiving the records; it is not closed
+	 * 
+	 * @throws IOException
+	 *             if the spool file could not be read
+	 */
+	public void streamSpoolFile(String jobName, String jobId, int fileId, OutputStream out) throws IOException {
+		String path = jobPath(jobName, jobId) + "/files/" + fileId + "/records"; //$NON-NLS-1$ //$NON-NLS-2$
+		HttpURLConnection connection = connect("GET", path, null); //$NON-NLS-1$
+		checkResponse(connection, "GET", path); //$NON-NLS-1$
+		try (InputStream in = connection.getInputStream()) {
+			IOUtils.copy(in, out);
+		}
+	}
+
+	private static String jobPath(String jobName, String jobId) throws IOException {
+		return TopazUtilitiesConstants.ZOSMF_JOBS_PATH + '/' + encode(jobName) + '/' + encode(jobId);
+	}
+
+	private static String encode(String value) throws IOException {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+	}
+
+	/**
+	 * Sends a request and reads its response.
+	 * 
+	 * @param method
+	 *            the HTTP method
+	 * @param path
+	 *            the path and query, relative to the z/OSMF URL
+	 * @param contentType
+	 *            the content type of the body, or <code>null</code> for no body
+	 * @param body
+	 *            the request body, or <code>null</code> for no body
+	 * 
+	 * @return the response body
+	 * 
+	 * @throws IOException
+	 *             if the request failed
+	 */
+	private String request(String method, String path, String contentType, String body) throws IOException {
+		HttpURLConnection connection = connect(method, path, contentType);
+		if (body != null) {
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		return read(connection, method, path);
+	}
+
+	private static String read(HttpURLConnection connection, String method, String path) throws IOException {
+		checkResponse(connection, method, path);
+		try (InputStream in = connection.getInputStream()) {
+			return IOUtils.toString(in, StandardCharsets.UTF_8);
+		}
+	}
+
+	private HttpURLConnection connect(String method, String path, String contentType) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) ProxyConfiguration.open(new URL(baseUrl + path));
+		connection.setRequestMethod(method);
+		connection.setConnectTimeout(timeoutMillis);
+		connection.setReadTimeout(timeoutMillis);
+		String cookies = sessionCookies;
+		if (cookies != null) {
+			connection.setRequestProperty("Cookie", cookies); //$NON-NLS-1$
+		} else {
+			connection.setRequestProperty("Authorization", authorization); //$NON-NLS-1$
+		}
+		connection.setRequestProperty(TopazUtilitiesConstants.ZOSMF_CSRF_HEADER, "true"); //$NON-NLS-1$
+		if (contentType != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", contentType + "; charset=UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return connection;
+	}
+
+	/**
+	 * Fails a request with an error status. The error response is read to its end, so the connection can still be reused.
+	 */
+	private static void checkResponse(HttpURLConnection connection, String method, String path) throws IOException {
+		int status = connection.getResponseCode();
+		if (status < 400) {
+			return;
+		}
+
+		String error;
+		try (InputStream err = connection.getErrorStream()) {
+			error = err != null ? IOUtils.toString(err, StandardCharsets.UTF_8) : StringUtils.EMPTY;
+		}
+		throw new IOException(Messages.zosmfRequestFailed(method, path, status, StringUtils.abbreviate(error.trim(), 500)));
+	}
+}
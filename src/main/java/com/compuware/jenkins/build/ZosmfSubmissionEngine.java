@@ -0,0 +1,307 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.AbortException;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Run;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Submits JCL in process, through the z/OSMF REST jobs interface, and polls the submitted jobs until they complete. No process is
+ * started and nothing runs on the build's agent. The jobs of a step are submitted concurrently, the status of all of them is read
+ * with one job listing per poll, and the spool files of a failed job are streamed into the build log. Steps in a
+ * {@link TopazSession} share one logon.
+ */
+@Extension
+public class ZosmfSubmissionEngine extends SubmissionEngine {
+
+	public static final String ID = "zosmf"; //$NON-NLS-1$
+
+	private static final ExecutorService REQUESTS = Executors.newFixedThreadPool(TopazUtilitiesConstants.ZOSMF_MAX_CONCURRENT_REQUESTS,
+			new NamingThreadFactory(new DaemonThreadFactory(), ZosmfSubmissionEngine.class.getSimpleName()));
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return Messages.zosmfSubmissionEngineDisplayName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.compuware.jenkins.build.SubmissionEngine#submit(com.compuware.jenkins.build.SubmissionRequest)
+	 */
+	@Override
+	public SubmissionOutcome submit(SubmissionRequest request) throws IOException, InterruptedException {
+		SubmitJclBaseBuilder builder = request.getBuilder();
+		List<JclSource> sources = request.getJclSources();
+		if (sources == null) {
+			throw new AbortException(Messages.submissionEngineUnsupported(getDisplayName(), builder.getDescriptor().getDisplayName()));
+		}
+
+		// a session keeps one logged on client for its nested steps, which z/OSMF authenticates with the session's token
+		Run<?, ?> run = request.getRun();
+		String connectionId = request.getConnectionId();
+		String credentialsId = builder.getCredentialsId();
+		TopazSession session = request.getSession();
+		ZosmfClient client = session != null ? session.getResource(ID, ZosmfClient.class, () -> {
+			ZosmfClient sessionClient = ZosmfClient.open(run, connectionId, credentialsId);
+			sessionClient.logon();
+			return sessionClient;
+		}) : ZosmfClient.open(run, connectionId, credentialsId);
+		return submitJobs(client, sources, NumberUtils.toInt(StringUtils.trim(builder.getMaxConditionCode())),
+				request.getListener().getLogger(), TopazUtilitiesConstants.JES_POLL_INTERVAL_MILLIS,
+				TimeUnit.MINUTES.toMillis(TopazUtilitiesConfiguration.get().getJobWaitMinutes()));
+	}
+
+	/**
+	 * Submits each JCL source as a job, then waits for every job to complete.
+	 * 
+	 * @param client
+	 *            the z/OSMF client
+	 * @param sources
+	 *            the JCL to submit
+	 * @param maxConditionCode
+	 *            the highest condition code a job may end with
+	 * @param logger
+	 *            the build logger
+	 * @param pollIntervalMillis
+	 *            the time between two job listings
+	 * @param jobWaitMillis
+	 *            the longest time to wait for each job to complete; <code>0</code> to wait until it completes
+	 * 
+	 * @return the outcome, listing every job z/OSMF accepted; its exit value is <code>1</code> if a job was not accepted, ended
+	 *         above the maximum condition code, abended, is no longer listed or did not complete in time
+	 * 
+	 * @throws IOException
+	 *             if no job was accepted or a request failed
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the jobs
+	 */
+	static SubmissionOutcome submitJobs(ZosmfClient client, List<JclSource> sources, int maxConditionCode, PrintStream logger,
+			long pollIntervalMillis, long jobWaitMillis) throws IOException, InterruptedException {
+		List<Future<JSONObject>> submissions = new ArrayList<>();
+		for (JclSource source : sources) {
+			submissions.add(REQUESTS.submit(() -> source.isDataset() ? client.submitDataset(source.getDataset())
+					: client.submitJcl(source.getText())));
+		}
+
+		// log the jobs in the order of their sources, whatever order z/OSMF accepted them in; a job not accepted does not stop the
+		// others, which z/OSMF may already have accepted and which then still have to be waited for and reported
+		Map<String, String> pending = new LinkedHashMap<>();
+		Map<String, Long> submittedAt = new LinkedHashMap<>();
+		IOException rejection = null;
+		int rejected = 0;
+		try {
+			for (int i = 0; i < submissions.size(); i++) {
+				JSONObject job = null;
+				IOException error = null;
+				try {
+					job = submissions.get(i).get();
+					if (job.optString("jobname", null) == null || job.optString("jobid", null) == null) { //$NON-NLS-1$ //$NON-NLS-2$
+						error = new AbortException(Messages.jesSubmitFailed(job));
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					error = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+				}
+				if (error != null) {
+					rejection = rejection != null ? rejection : error;
+					rejected++;
+					logger.println(Messages.zosmfJobRejected(i + 1, sources.size(), error.getMessage()));
+					continue;
+				}
+
+				String jobName = job.getString("jobname"); //$NON-NLS-1$
+				String jobId = job.getString("jobid"); //$NON-NLS-1$
+				pending.put(jobId, jobName);
+				submittedAt.put(jobId, System.currentTimeMillis());
+				logger.println(Messages.zosmfJobSubmitted(jobName, jobId));
+			}
+		} catch (InterruptedException e) {
+			for (Future<JSONObject> submission : submissions) {
+				submission.cancel(true);
+			}
+			throw e;
+		}
+
+		// with no job accepted there is nothing to wait for, and the error says more than an empty outcome
+		if (rejection != null && submittedAt.isEmpty()) {
+			throw rejection;
+		}
+
+		// list the jobs of the user once per poll, rather than once per job
+		Map<String, JobResult> completed = new LinkedHashMap<>();
+		Map<String, Long> dequeuedAt = new LinkedHashMap<>();
+		while (!pending.isEmpty()) {
+			Thread.sleep(pollIntervalMillis);
+			Map<String, JSONObject> listed = new LinkedHashMap<>();
+			for (Object job : client.listJobs()) {
+				listed.put(((JSONObject) job).optString("jobid"), (JSONObject) job); //$NON-NLS-1$
+			}
+
+			for (Map.Entry<String, String> entry : new ArrayList<>(pending.entrySet())) {
+				String jobId = entry.getKey();
+				String jobName = entry.getValue();
+				JSONObject job = listed.get(jobId);
+				if (job == null) {
+					job = client.getJob(jobName, jobId);
+				}
+				if (job != null && !"INPUT".equals(job.optString("status"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					dequeuedAt.putIfAbsent(jobId, System.currentTimeMillis());
+				}
+
+				String conditionCode = null;
+				if (job == null) {
+					logger.println(Messages.jesJobNotFound(jobName, jobId));
+				} else if (isComplete(job)) {
+					conditionCode = getConditionCode(job.getString("retcode")); //$NON-NLS-1$
+					logger.println(Messages.jesJobCompleted(jobName, jobId, conditionCode));
+				} else if (jobWaitMillis > 0 && System.currentTimeMillis() - submittedAt.get(jobId) >= jobWaitMillis) {
+					// a held job, or one waiting for an initiator, would otherwise keep the step waiting forever
+					logger.println(Messages.jesJobTimedOut(jobName, jobId, Util.getTimeSpanString(jobWaitMillis)));
+				} else {
+					continue;
+				}
+
+				pending.remove(jobId);
+				Long jobDequeuedAt = dequeuedAt.get(jobId);
+				completed.put(jobId, new JobResult(jobName, jobId, conditionCode, System.currentTimeMillis() - submittedAt.get(jobId),
+						jobDequeuedAt != null ? jobDequeuedAt - submittedAt.get(jobId) : -1, submittedAt.get(jobId)));
+			}
+		}
+
+		List<JobResult> jobs = new ArrayList<>();
+		JobOutputIndex index = new JobOutputIndex();
+		int failed = 0;
+		for (String jobId : submittedAt.keySet()) {
+			JobResult job = completed.get(jobId);
+			jobs.add(job);
+			// a job without a condition code was purged or timed out, so it cannot be shown to have succeeded
+			if (job.getConditionCode() == null) {
+				failed++;
+			} else if (job.isAbended() || job.getReturnCode() > maxConditionCode) {
+				failed++;
+				streamSpool(client, job, logger, index);
+			}
+		}
+
+		if (rejected > 0) {
+			return new SubmissionOutcome(1, Messages.zosmfSubmissionIncomplete(rejected, sources.size(), failed, jobs.size(),
+					maxConditionCode), jobs, 1).withIndex(index);
+		}
+
+		if (failed > 0) {
+			return new SubmissionOutcome(1, Messages.jesSubmissionFailed(failed, jobs.size(), maxConditionCode), jobs, 1)
+					.withIndex(index);
+		}
+
+		return new SubmissionOutcome(0, Messages.jesSubmissionSucceeded(jobs.size(), maxConditionCode), jobs, 1).withIndex(index);
+	}
+
+	/**
+	 * Gets whether a listed job has completed. A job may show an <code>OUTPUT</code> status shortly before its return code is set.
+	 */
+	private static boolean isComplete(JSONObject job) {
+		Object retcode = job.opt("retcode"); //$NON-NLS-1$
+		return "OUTPUT".equals(job.optString("status")) && retcode instanceof String; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Converts a z/OSMF return code to a condition code.
+	 * 
+	 * @param retcode
+	 *            the return code, such as <code>CC 0004</code>, <code>ABEND S0C7</code> or <code>JCL ERROR</code>
+	 * 
+	 * @return the condition code, such as <code>0004</code>, an abend code, such as <code>S0C7</code>, or the return code as is
+	 */
+	static String getConditionCode(String retcode) {
+		String code = StringUtils.trimToEmpty(retcode);
+		if (code.startsWith("CC ")) { //$NON-NLS-1$
+			return StringUtils.leftPad(code.substring(3).trim(), 4, '0');
+		}
+
+		if (code.startsWith("ABEND ")) { //$NON-NLS-1$
+			// system abend codes are three hexadecimal digits, user abend codes four decimal digits
+			String abendCode = code.substring(6).trim().toUpperCase();
+			if (abendCode.length() == 3) {
+				abendCode = 'S' + abendCode;
+			} else if (abendCode.length() == 4 && StringUtils.isNumeric(abendCode)) {
+				abendCode = 'U' + abendCode;
+			}
+			return abendCode;
+		}
+
+		return code;
+	}
+
+	/**
+	 * Streams every spool file of a job into the build log, indexing it on the way.
+	 */
+	private static void streamSpool(ZosmfClient client, JobResult job, PrintStream logger, JobOutputIndex index) throws IOException {
+		try (PrintStream out = new PrintStream(
+				new TeeOutputStream(new CloseShieldOutputStream(logger), new JobOutputIndex.Indexer(index, StandardCharsets.UTF_8)), true,
+				StandardCharsets.UTF_8.name())) {
+			for (Object file : client.listSpoolFiles(job.getName(), job.getId())) {
+				JSONObject spoolFile = (JSONObject) file;
+				out.println(Messages.zosmfSpoolFile(job.getName(), job.getId(), spoolFile.optString("stepname"), //$NON-NLS-1$
+						spoolFile.optString("ddname"))); //$NON-NLS-1$
+				client.streamSpoolFile(job.getName(), job.getId(), spoolFile.getInt("id"), out); //$NON-NLS-1$
+				out.println();
+			}
+		}
+	}
+}
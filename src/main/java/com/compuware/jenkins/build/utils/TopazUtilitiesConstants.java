@@ -42,4 +42,101 @@ public class TopazUtilitiesConstants
 	public static final String JCL = "-jcl";
 	public static final String JCL_DSNS = "-jcldsns";
 	public static final String MAX_CC_PARM = "-maxcc";
+
+	// Bounded console logging
+	public static final int LOG_SUMMARY_HEAD_LINES = 50;
+	public static final int LOG_SUMMARY_TAIL_LINES = 100;
+	public static final int LOG_SUMMARY_MAX_ERROR_LINES = 200;
+	public static final String LOG_ARTIFACT_DIR = "topaz-submit-logs";
+	public static final String LOG_ARTIFACT_EXTENSION = ".log.gz";
+	public static final String LOG_ERROR_LINE_REGEX = "(?i:\\b(?:ERROR|ABEND(?:ED)?|FAILED|EXCEPTION|NOT RUN)\\b)|\\b[A-Z$]{3}[A-Z0-9]{0,2}\\d{3,4}[ES]\\b";
+
+	// Transient failure retry
+	public static final int DEFAULT_CONNECTION_RETRIES = 2;
+	public static final long RETRY_BASE_DELAY_MILLIS = 5000L;
+	public static final long RETRY_MAX_DELAY_MILLIS = 120000L;
+	public static final String JOB_ID_REGEX = "\\b(?:JOB|STC|TSU)\\d{5}\\b|\\b[JST]\\d{7}\\b";
+	public static final String CONNECTION_FAILURE_REGEX = "(?i)\\bconnection (?:refused|reset|timed out|closed|failed|lost)\\b"
+			+ "|\\b(?:unable|could not|failed) to connect\\b|\\bno route to host\\b|\\bhost is unreachable\\b"
+			+ "|\\b(?:UnknownHost|SocketTimeout|Connect|NoRouteToHost)Exception\\b|\\bHCI\\b.*\\b(?:unavailable|not available|not active)\\b"
+			+ "|\\bcommunication (?:error|failure)\\b";
+	public static final String JOB_REFERENCE_REGEX = "\\b([A-Z$#@][A-Z0-9$#@]{0,7})\\s*\\(\\s*((?:JOB|STC|TSU)\\d{5}|[JST]\\d{7})\\s*\\)";
+	public static final String JOB_COMPLETION_REGEX = "(?i)\\b(?:max(?:imum)?\\s*)?(?:condition code|cc|rc|return code)\\s*[=:]?\\s*(\\d{1,4})\\b"
+			+ "|\\babend(?:ed)?(?:\\s+code)?\\s*[=:]?\\s*([SU][0-9A-F]{3,4})\\b|\\b(JCL ERROR)\\b";
+
+	// Member wildcard expansion
+	public static final int FTP_TIMEOUT_MILLIS = 30000;
+	public static final String MEMBER_WILDCARD_CHARS = "*%";
+
+	// Chunked member submission; keeps the CLI command line well below the 8191 character limit of Windows batch files
+	public static final int MAX_JCL_DSNS_LENGTH = 4000;
+
+	// Agent-side CLI execution
+	public static final long AGENT_CLI_INFO_TTL_MILLIS = 300000L;
+
+	// In-process FTP (JES interface) submission
+	public static final long JES_POLL_INTERVAL_MILLIS = 2000L;
+	public static final int FTP_POOL_MAX_IDLE = 4;
+	public static final long FTP_POOL_IDLE_MILLIS = 60000L;
+	public static final String JES_SUBMITTED_REGEX = "(?i)\\bknown to JES as\\s+(\\S+)";
+	public static final String JOB_STATEMENT_REGEX = "(?m)^//([A-Z$#@][A-Z0-9$#@]{0,7})\\s+JOB\\b";
+
+	// z/OSMF REST jobs submission
+	public static final String ZOSMF_JOBS_PATH = "/zosmf/restjobs/jobs";
+	public static final String ZOSMF_AUTHENTICATE_PATH = "/zosmf/services/authenticate";
+	public static final String ZOSMF_CSRF_HEADER = "X-CSRF-ZOSMF-HEADER";
+	public static final int ZOSMF_DEFAULT_PORT = 443;
+	public static final int ZOSMF_TIMEOUT_MILLIS = 30000;
+	public static final int ZOSMF_MAX_CONCURRENT_REQUESTS = 4;
+	public static final int ZOSMF_MAX_LISTED_JOBS = 1000;
+
+	// job output index
+	public static final String MESSAGE_ID_REGEX = "(?<![A-Z0-9$#@])(\\$HASP\\d{3}|[A-Z]{3}[A-Z]{0,2}\\d{3,5}[IEWASD])\\b";
+	public static final String ABEND_CODE_REGEX = "(?i)\\b(?:ABEND(?:\\s+CODE)?\\s*[=:]?\\s*|(?:SYSTEM|USER)\\s+COMPLETION\\s+CODE\\s*=\\s*)([SU]?[0-9A-F]{3,4})\\b";
+	public static final String DD_NAME_REGEX = "^\\s*\\d*\\s*//([A-Z$#@][A-Z0-9$#@]{0,7})\\s+DD\\b|\\bDDNAME\\s*=\\s*([A-Z$#@][A-Z0-9$#@]{0,7})\\b|\\bIEC\\d{3}I\\s+[^,\\s]+,[^,\\s]*,[^,\\s]*,[^,\\s]*,([A-Z$#@][A-Z0-9$#@]{0,7}),";
+	public static final int OUTPUT_INDEX_MAX_POSTINGS = 100;
+	public static final int OUTPUT_INDEX_MAX_TERMS = 10000;
+	public static final int OUTPUT_INDEX_TEXT_LENGTH = 160;
+
+	// controller-wide submission queue
+	public static final long SCHEDULER_AGING_MILLIS = 300000L;
+	public static final long SCHEDULER_LOG_WAIT_MILLIS = 1000L;
+
+	// adaptive concurrency of the parallel submission path
+	public static final long ADAPTIVE_MAX_QUEUE_MILLIS = 60000L;
+	public static final double ADAPTIVE_LATENCY_TOLERANCE = 2.0;
+	public static final double ADAPTIVE_BASELINE_DRIFT = 0.05;
+	public static final double ADAPTIVE_BACKOFF_FACTOR = 0.5;
+	public static final long ADAPTIVE_PERMIT_WAIT_MILLIS = 1000L;
+
+	// agent-local limit of concurrent CLI processes
+	public static final long CLI_PROCESS_MEMORY_BYTES = 1024L * 1024L * 1024L;
+	public static final long CLI_PROCESS_LOG_WAIT_MILLIS = 1000L;
+
+	// class data sharing archive of the CLI JVM
+	public static final String JAVA_TOOL_OPTIONS_ENV = "JAVA_TOOL_OPTIONS";
+	public static final String CDS_ARCHIVE_DIR = "topaz-cli-cds";
+	public static final String CDS_ARCHIVE_PREFIX = "topaz-cli-";
+	public static final String CDS_ARCHIVE_EXTENSION = ".jsa";
+	public static final String CDS_DUMP_EXTENSION = ".tmp";
+	public static final String CDS_USE_OPTIONS = "-XX:+IgnoreUnrecognizedVMOptions -Xshare:auto -XX:SharedArchiveFile=";
+	public static final String CDS_GENERATE_OPTIONS = "-XX:+IgnoreUnrecognizedVMOptions -XX:ArchiveClassesAtExit=";
+
+	// agent warm up
+	public static final long WARMUP_MAX_BYTES = 2048L * 1024L * 1024L;
+	public static final int WARMUP_BUFFER_SIZE = 64 * 1024;
+	public static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	// host connection health monitor
+	public static final long HEALTH_MONITOR_TICK_MILLIS = 10000L;
+	public static final int HEALTH_PROBE_TIMEOUT_MILLIS = 5000;
+	public static final int HEALTH_STALE_INTERVALS = 3;
+
+	// steps submitting one work item per CLI call
+	public static final int SUBMIT_DEFAULT_PARALLELISM = 4;
+
+	// submission timeline
+	public static final String TIMELINE_TRACE_FILE = "topaz-trace.otlp.json";
+	public static final int OTLP_SPAN_KIND_INTERNAL = 1;
+	public static final int OTLP_STATUS_CODE_ERROR = 2;
 }
\ No newline at end of file
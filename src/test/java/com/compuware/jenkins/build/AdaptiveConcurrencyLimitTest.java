@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link AdaptiveConcurrencyLimit}.
+ */
+@SuppressWarnings("nls")
+public class AdaptiveConcurrencyLimitTest {
+
+	private static final long MAX_QUEUE_MILLIS = 60000;
+
+	/**
+	 * Test that the limit grows by one per limit's worth of samples with headroom, up to the highest limit.
+	 */
+	@Test
+	public void testAdditiveIncrease() {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(2, 4, MAX_QUEUE_MILLIS, 2.0);
+		assertThat(adaptiveLimit.getLimit(), is(2));
+
+		assertThat(adaptiveLimit.record(now(), 1000, 100, 0), is(AdaptiveConcurrencyLimit.Signal.HEADROOM));
+		adaptiveLimit.record(now(), 1000, 100, 0);
+		assertThat(adaptiveLimit.getLimit(), is(2));
+		adaptiveLimit.record(now(), 1000, 100, 0);
+		assertThat(adaptiveLimit.getLimit(), is(3));
+
+		for (int i = 0; i < 20; i++) {
+			adaptiveLimit.record(now(), 1000, -1, 0);
+		}
+		assertThat(adaptiveLimit.getLimit(), is(4));
+		assertThat(adaptiveLimit.getMaxLimit(), is(4));
+	}
+
+	/**
+	 * Test that connection errors, a long JES queue time or a latency well above the baseline halve the limit, down to one.
+	 */
+	@Test
+	public void testMultiplicativeDecrease() throws InterruptedException {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(8, 8, MAX_QUEUE_MILLIS, 2.0);
+
+		adaptiveLimit.record(now(), 1000, 100, 0);
+		Thread.sleep(5);
+		assertThat(adaptiveLimit.record(now(), 1000, 100, 1), is(AdaptiveConcurrencyLimit.Signal.CONNECTION_ERRORS));
+		assertThat(adaptiveLimit.getLimit(), is(4));
+
+		Thread.sleep(5);
+		assertThat(adaptiveLimit.record(now(), 1000, MAX_QUEUE_MILLIS + 1, 0), is(AdaptiveConcurrencyLimit.Signal.QUEUE_TIME));
+		assertThat(adaptiveLimit.getLimit(), is(2));
+
+		Thread.sleep(5);
+		assertThat(adaptiveLimit.record(now(), 2500, 100, 0), is(AdaptiveConcurrencyLimit.Signal.LATENCY));
+		assertThat(adaptiveLimit.getLimit(), is(1));
+
+		Thread.sleep(5);
+		adaptiveLimit.record(now(), 1000, 100, 3);
+		assertThat(adaptiveLimit.getLimit(), is(1));
+	}
+
+	/**
+	 * Test that the submissions already running when the limit backed off do not make it back off again.
+	 */
+	@Test
+	public void testOneDecreasePerWindow() throws InterruptedException {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(8, 8, MAX_QUEUE_MILLIS, 2.0);
+		long startedAt = now();
+		Thread.sleep(5);
+
+		adaptiveLimit.record(startedAt, 1000, 100, 1);
+		adaptiveLimit.record(startedAt, 1000, 100, 1);
+		adaptiveLimit.record(startedAt, 1000, MAX_QUEUE_MILLIS + 1, 0);
+		assertThat(adaptiveLimit.getLimit(), is(4));
+
+		Thread.sleep(5);
+		adaptiveLimit.record(now(), 1000, 100, 1);
+		assertThat(adaptiveLimit.getLimit(), is(2));
+	}
+
+	/**
+	 * Test that the latency baseline follows faster submissions at once and slower ones only gradually.
+	 */
+	@Test
+	public void testLatencyBaseline() {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(4, 4, MAX_QUEUE_MILLIS, 2.0);
+
+		adaptiveLimit.record(now(), 1000, -1, 0);
+		assertThat(adaptiveLimit.record(now(), 1900, -1, 0), is(AdaptiveConcurrencyLimit.Signal.HEADROOM));
+		adaptiveLimit.record(now(), 500, -1, 0);
+		assertThat(adaptiveLimit.record(now(), 1100, -1, 0), is(AdaptiveConcurrencyLimit.Signal.LATENCY));
+	}
+
+	/**
+	 * Test that permits are held to the limit, and that a wait is given up once the permit is no longer wanted.
+	 */
+	@Test
+	public void testPermits() throws InterruptedException {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(1, 2, MAX_QUEUE_MILLIS, 2.0);
+
+		assertThat(adaptiveLimit.acquire(() -> true), is(true));
+		assertThat(adaptiveLimit.getInFlight(), is(1));
+		assertThat(adaptiveLimit.acquire(() -> false), is(false));
+		assertThat(adaptiveLimit.getInFlight(), is(1));
+
+		Thread waiter = new Thread(() -> {
+			try {
+				adaptiveLimit.acquire(() -> true);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.start();
+		Thread.sleep(100);
+		assertThat(adaptiveLimit.getInFlight(), is(1));
+
+		adaptiveLimit.release();
+		waiter.join(10000);
+		assertThat(adaptiveLimit.getInFlight(), is(1));
+	}
+
+	private static long now() {
+		return System.currentTimeMillis();
+	}
+}
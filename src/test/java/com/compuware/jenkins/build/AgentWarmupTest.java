@@ -0,0 +1,126 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.kohsuke.stapler.Stapler;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+
+import hudson.FilePath;
+import hudson.model.Computer;
+import hudson.slaves.DumbSlave;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Test cases for {@link AgentWarmup}.
+ */
+@SuppressWarnings("nls")
+public class AgentWarmupTest {
+
+	@Rule
+	public JenkinsRule jenkinsRule = new JenkinsRule();
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that every file of the CLI installation is read, including those of its subdirectories.
+	 */
+	@Test
+	public void testCliFileWarmup() throws IOException {
+		File cliDir = folder.newFolder("TopazCLI");
+		File pluginsDir = new File(cliDir, "plugins");
+		pluginsDir.mkdirs();
+		Files.write(new File(cliDir, "SubmitJclCLI.sh").toPath(), new byte[10]);
+		Files.write(new File(pluginsDir, "a.jar").toPath(), new byte[100000]);
+		Files.write(new File(pluginsDir, "b.jar").toPath(), new byte[20]);
+
+		assertThat(new AgentWarmup.CliFileWarmup(cliDir.getAbsolutePath(), Long.MAX_VALUE).call(), is(100030L));
+	}
+
+	/**
+	 * Test that no further file is read once the limit is reached.
+	 */
+	@Test
+	public void testCliFileWarmupLimit() throws IOException {
+		File cliDir = folder.newFolder("TopazCLI");
+		for (int i = 0; i < 3; i++) {
+			Files.write(new File(cliDir, i + ".jar").toPath(), new byte[10]);
+		}
+
+		assertThat(new AgentWarmup.CliFileWarmup(cliDir.getAbsolutePath(), 15).call(), is(20L));
+	}
+
+	/**
+	 * Test that an agent coming online is warmed up, that its CLI details are kept for the CLI installation it was warmed up for,
+	 * and that its readiness is forgotten when it goes offline.
+	 */
+	@Test(timeout = 60000)
+	public void testReadiness() throws Exception {
+		File cliDir = folder.newFolder("TopazCLI");
+		new FilePath(new File(cliDir, "versions.xml")).write(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<versions>\n<version>20.4.1</version>\n</versions>\n", "UTF-8");
+
+		JSONObject json = new JSONObject();
+		json.put("hostConn", new JSONArray());
+		json.put("topazCLILocationLinux", cliDir.getAbsolutePath());
+		json.put("topazCLILocationWindows", cliDir.getAbsolutePath());
+		CpwrGlobalConfiguration.get().configure(Stapler.getCurrentRequest(), json);
+		TopazUtilitiesConfiguration.get().setWarmUpAgents(true);
+
+		DumbSlave agent = jenkinsRule.createOnlineSlave();
+		Computer computer = agent.toComputer();
+		while (AgentWarmup.getReadiness(computer) == null) {
+			Thread.sleep(100);
+		}
+
+		AgentWarmup.Readiness readiness = AgentWarmup.getReadiness(computer);
+		assertThat(readiness.getFailure(), readiness.isReady(), is(true));
+		assertThat(readiness.getCliVersion(), is("20.4.1"));
+		assertThat(readiness.getCliInfo(cliDir.getAbsolutePath()).getCliVersion(), is("20.4.1"));
+		assertThat(readiness.getCliInfo(new File(folder.getRoot(), "OtherCLI").getAbsolutePath()), is(nullValue()));
+
+		// the warm up details expire like the cached details, so a CLI upgrade is found on a long running agent
+		assertThat(readiness.getCliInfo(cliDir.getAbsolutePath(),
+				readiness.getReadyAt() + TopazUtilitiesConstants.AGENT_CLI_INFO_TTL_MILLIS), is(nullValue()));
+
+		computer.disconnect(null).get();
+		while (AgentWarmup.getReadiness(computer) != null) {
+			Thread.sleep(100);
+		}
+	}
+
+	/**
+	 * Test that a missing CLI installation fails the warm up.
+	 */
+	@Test(expected = IOException.class)
+	public void testMissingCli() throws IOException {
+		new AgentWarmup.CliFileWarmup(new File(folder.getRoot(), "missing").getAbsolutePath(), Long.MAX_VALUE).call();
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link BoundedLogOutputStream}.
+ */
+@SuppressWarnings("nls")
+public class BoundedLogOutputStreamTest {
+
+	/**
+	 * Test that the full output is kept while the summary only contains the head, tail and error lines.
+	 */
+	@Test
+	public void testSummary() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		BoundedLogOutputStream boundedLog = new BoundedLogOutputStream(new GZIPOutputStream(compressed), StandardCharsets.UTF_8, 2, 3,
+				10);
+
+		PrintStream out = new PrintStream(boundedLog, true, "UTF-8");
+		for (int i = 1; i <= 20; i++) {
+			out.println(i == 10 ? "IEF450I PAYJOB STEP1 - ABEND=S013 U0000 REASON=00000018" : "line " + i);
+		}
+		out.close();
+
+		String full = IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())), StandardCharsets.UTF_8);
+		assertThat("Expected the full log to contain every line.", full.split("\\R").length, is(20));
+
+		ByteArrayOutputStream summary = new ByteArrayOutputStream();
+		boundedLog.writeSummary(new PrintStream(summary, true, "UTF-8"));
+		String summaryStr = summary.toString("UTF-8");
+
+		assertThat(boundedLog.getLineCount(), is(20L));
+		assertThat(boundedLog.getErrorCount(), is(1L));
+		assertThat(summaryStr, containsString("line 1"));
+		assertThat(summaryStr, containsString("line 2"));
+		assertThat(summaryStr, not(containsString("line 3\n")));
+		assertThat(summaryStr, containsString("10: IEF450I"));
+		assertThat(summaryStr, containsString(Messages.boundedLogOmittedLines(15)));
+		assertThat(summaryStr, containsString("line 18"));
+		assertThat(summaryStr, containsString("line 20"));
+	}
+
+	/**
+	 * Test that the first lines are written to the console as they arrive and left out of the summary.
+	 */
+	@Test
+	public void testStreamedHead() throws IOException {
+		ByteArrayOutputStream console = new ByteArrayOutputStream();
+		BoundedLogOutputStream boundedLog = new BoundedLogOutputStream(new ByteArrayOutputStream(),
+				new PrintStream(console, true, "UTF-8"), StandardCharsets.UTF_8, 2, 3, 10);
+
+		PrintStream out = new PrintStream(boundedLog, true, "UTF-8");
+		out.println("line 1");
+		out.println("line 2");
+		out.println("line 3");
+		assertThat(console.toString("UTF-8"), is("line 1" + System.lineSeparator() + "line 2" + System.lineSeparator()));
+
+		for (int i = 4; i <= 10; i++) {
+			out.println("line " + i);
+		}
+		out.close();
+
+		ByteArrayOutputStream summary = new ByteArrayOutputStream();
+		boundedLog.writeSummary(new PrintStream(summary, true, "UTF-8"));
+		String summaryStr = summary.toString("UTF-8");
+
+		assertThat(summaryStr, not(containsString("line 1" + System.lineSeparator())));
+		assertThat(summaryStr, containsString(Messages.boundedLogOmittedLines(5)));
+		assertThat(summaryStr, containsString("line 10"));
+	}
+
+	/**
+	 * Test that short output is summarized without any omission notice.
+	 */
+	@Test
+	public void testShortOutput() throws IOException {
+		BoundedLogOutputStream boundedLog = new BoundedLogOutputStream(new ByteArrayOutputStream(), StandardCharsets.UTF_8, 2, 3, 10);
+		PrintStream out = new PrintStream(boundedLog, true, "UTF-8");
+		out.println("line 1");
+		out.print("line 2");
+		out.close();
+
+		ByteArrayOutputStream summary = new ByteArrayOutputStream();
+		boundedLog.writeSummary(new PrintStream(summary, true, "UTF-8"));
+
+		assertThat(boundedLog.getLineCount(), is(2L));
+		assertThat(summary.toString("UTF-8").contains("..."), is(false));
+	}
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Test cases for {@link CliClassDataSharing}.
+ */
+@SuppressWarnings("nls")
+public class CliClassDataSharingTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that the archive name only keeps the file name safe characters of the CLI version.
+	 */
+	@Test
+	public void testArchiveName() {
+		assertThat(CliClassDataSharing.getArchiveName("20.04.01"), is("topaz-cli-20.04.01.jsa"));
+		assertThat(CliClassDataSharing.getArchiveName("20.4 beta/1"), is("topaz-cli-20.4_beta_1.jsa"));
+	}
+
+	/**
+	 * Test that the first call writes the archive, replacing the archive of the previous CLI version, and that later calls map it.
+	 */
+	@Test
+	public void testGenerateThenUse() throws IOException {
+		CliClassDataSharing cds = new CliClassDataSharing();
+		File archiveDir = folder.newFolder("cds");
+		File oldArchive = new File(archiveDir, CliClassDataSharing.getArchiveName("19.1.1"));
+		Files.write(oldArchive.toPath(), new byte[] { 1 });
+
+		CliClassDataSharing.Launch generate = cds.prepare(archiveDir.getAbsolutePath(), "20.04.01");
+		assertThat(generate.getMode(), is(CliClassDataSharing.Mode.GENERATE));
+		assertThat(cds.prepare(archiveDir.getAbsolutePath(), "20.04.01").getMode(), is(CliClassDataSharing.Mode.NONE));
+
+		String options = generate.getJavaToolOptions("-Xmx1g");
+		assertThat(options, startsWith("-Xmx1g " + TopazUtilitiesConstants.CDS_GENERATE_OPTIONS));
+		writeOutput(generate);
+		Files.write(new File(StringUtils.substringAfterLast(options, "=")).toPath(), new byte[] { 2 });
+		ByteArrayOutputStream log = new ByteArrayOutputStream();
+		generate.finish(0, new PrintStream(log, true, "UTF-8"));
+
+		File archive = new File(archiveDir, CliClassDataSharing.getArchiveName("20.04.01"));
+		assertThat(archive.isFile(), is(true));
+		assertThat(oldArchive.exists(), is(false));
+		assertThat(archiveDir.list().length, is(1));
+		assertThat(generate.getStartupMillis(), is(greaterThanOrEqualTo(0L)));
+		assertThat(log.toString("UTF-8"), containsString(archive.getAbsolutePath()));
+
+		CliClassDataSharing.Launch use = cds.prepare(archiveDir.getAbsolutePath(), "20.04.01");
+		assertThat(use.getMode(), is(CliClassDataSharing.Mode.USE));
+		assertThat(use.getJavaToolOptions(null), is(TopazUtilitiesConstants.CDS_USE_OPTIONS + archive.getAbsolutePath()));
+		writeOutput(use);
+		log.reset();
+		use.finish(0, new PrintStream(log, true, "UTF-8"));
+		assertThat(log.toString("UTF-8"), containsString("with its class data sharing archive, against"));
+	}
+
+	/**
+	 * Test that a failed or interrupted call does not install an archive, so the next call writes it again.
+	 */
+	@Test
+	public void testFailedCall() throws IOException {
+		CliClassDataSharing cds = new CliClassDataSharing();
+		File archiveDir = folder.newFolder("cds");
+
+		CliClassDataSharing.Launch generate = cds.prepare(archiveDir.getAbsolutePath(), "20.04.01");
+		writeOutput(generate);
+		Files.write(new File(StringUtils.substringAfterLast(generate.getJavaToolOptions(null), "=")).toPath(), new byte[] { 2 });
+		generate.finish(8, new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"));
+
+		assertThat(archiveDir.list().length, is(0));
+		CliClassDataSharing.Launch interrupted = cds.prepare(archiveDir.getAbsolutePath(), "20.04.01");
+		assertThat(interrupted.getMode(), is(CliClassDataSharing.Mode.GENERATE));
+		interrupted.cancel();
+		assertThat(cds.prepare(archiveDir.getAbsolutePath(), "20.04.01").getMode(), is(CliClassDataSharing.Mode.GENERATE));
+	}
+
+	/**
+	 * Test that a CLI whose JVM does not write the archive is no longer asked to.
+	 */
+	@Test
+	public void testUnsupported() throws IOException {
+		CliClassDataSharing cds = new CliClassDataSharing();
+		File archiveDir = folder.newFolder("cds");
+
+		CliClassDataSharing.Launch generate = cds.prepare(archiveDir.getAbsolutePath(), "19.1.1");
+		ByteArrayOutputStream log = new ByteArrayOutputStream();
+		generate.finish(0, new PrintStream(log, true, "UTF-8"));
+
+		assertThat(log.toString("UTF-8"), containsString(Messages.cdsArchiveUnsupported("19.1.1")));
+		assertThat(cds.prepare(archiveDir.getAbsolutePath(), "19.1.1"), is(nullValue()));
+	}
+
+	private static void writeOutput(CliClassDataSharing.Launch launch) throws IOException {
+		try (OutputStream out = launch.watch(new ByteArrayOutputStream())) {
+			out.write("Topaz CLI started".getBytes(StandardCharsets.UTF_8));
+		}
+	}
+}
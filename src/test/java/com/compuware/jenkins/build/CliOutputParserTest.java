@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CliOutputParser} and {@link RetryBackoff}.
+ */
+@SuppressWarnings("nls")
+public class CliOutputParserTest {
+
+	private static CliOutputParser parse(String... lines) throws IOException {
+		CliOutputParser parser = new CliOutputParser(StandardCharsets.UTF_8);
+		try (PrintStream out = new PrintStream(parser, true, "UTF-8")) {
+			for (String line : lines) {
+				out.println(line);
+			}
+		}
+
+		return parser;
+	}
+
+	/**
+	 * Test that a connection failure before any submission is transient.
+	 */
+	@Test
+	public void testConnectionFailureIsTransient() throws IOException {
+		CliOutputParser parser = parse("Connecting to cw01:30947", "java.net.ConnectException: Connection refused");
+
+		assertThat(parser.isJobSubmitted(), is(false));
+		assertThat(parser.isTransientFailure(), is(true));
+	}
+
+	/**
+	 * Test that a failure after a job was submitted is never transient.
+	 */
+	@Test
+	public void testFailureAfterSubmitIsNotTransient() throws IOException {
+		CliOutputParser parser = parse("Job PAYJOB(JOB04567) submitted", "Connection reset by peer");
+
+		assertThat(parser.isJobSubmitted(), is(true));
+		assertThat(parser.isTransientFailure(), is(false));
+	}
+
+	/**
+	 * Test that a condition code failure is not transient.
+	 */
+	@Test
+	public void testConditionCodeFailureIsNotTransient() throws IOException {
+		CliOutputParser parser = parse("Job PAYJOB(J0004567) submitted", "PAYJOB(J0004567) completed with condition code 0008");
+
+		assertThat(parser.isTransientFailure(), is(false));
+	}
+
+	/**
+	 * Test that each job's name, identifier and condition code are recorded in the order the jobs were first reported.
+	 */
+	@Test
+	public void testJobResults() throws IOException {
+		CliOutputParser parser = parse("Job PAYJOB(JOB04567) submitted", "Job RPTJOB(JOB04568) submitted",
+				"RPTJOB(JOB04568) completed with condition code 0004", "Job BADJOB(JOB04569) submitted",
+				"BADJOB(JOB04569) ABEND=S0C7", "PAYJOB(JOB04567) completed with condition code 0000");
+
+		List<JobResult> jobs = parser.getJobs();
+		assertThat(jobs.size(), is(3));
+		assertThat(jobs.get(0).getName(), is("PAYJOB"));
+		assertThat(jobs.get(0).getId(), is("JOB04567"));
+		assertThat(jobs.get(0).getConditionCode(), is("0000"));
+		assertThat(jobs.get(0).getElapsedMillis(), is(greaterThanOrEqualTo(0L)));
+		assertThat(jobs.get(1).getReturnCode(), is(4));
+		assertThat(jobs.get(2).getConditionCode(), is("S0C7"));
+		assertThat(jobs.get(2).isAbended(), is(true));
+
+		SubmitJclResult result = new SubmitJclResult();
+		result.addJobs(jobs);
+		assertThat(result.getMaxReturnCode(), is(4));
+		assertThat(result.getJob("RPTJOB").getId(), is("JOB04568"));
+		assertThat(result.getJob("NOJOB"), is(nullValue()));
+	}
+
+	/**
+	 * Test that a job whose completion was not reported has no condition code.
+	 */
+	@Test
+	public void testIncompleteJob() throws IOException {
+		JobResult job = parse("Submitted job J0004567").getJobs().get(0);
+
+		assertThat(job.getName(), is(nullValue()));
+		assertThat(job.getId(), is("J0004567"));
+		assertThat(job.getConditionCode(), is(nullValue()));
+		assertThat(job.getElapsedMillis(), is(-1L));
+		assertThat(job.isAbended(), is(false));
+	}
+
+	/**
+	 * Test that retry delays grow exponentially within their jitter range and never exceed the maximum.
+	 */
+	@Test
+	public void testRetryBackoff() {
+		RetryBackoff backoff = new RetryBackoff(1000L, 10000L, new Random(42L));
+
+		assertThat(backoff.getDelayMillis(0), is(both(greaterThanOrEqualTo(500L)).and(lessThanOrEqualTo(1000L))));
+		assertThat(backoff.getDelayMillis(2), is(both(greaterThanOrEqualTo(2000L)).and(lessThanOrEqualTo(4000L))));
+		assertThat(backoff.getDelayMillis(5), is(both(greaterThanOrEqualTo(5000L)).and(lessThanOrEqualTo(10000L))));
+		assertThat(backoff.getDelayMillis(100), is(lessThanOrEqualTo(10000L)));
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Test cases for {@link CliProcessLimiter}.
+ */
+@SuppressWarnings("nls")
+public class CliProcessLimiterTest {
+
+	private static final long TIMEOUT_MILLIS = 10000;
+
+	/**
+	 * Test that the default limit allows one process per processor while each process has its share of memory.
+	 */
+	@Test
+	public void testDefaultLimit() {
+		long processMemory = TopazUtilitiesConstants.CLI_PROCESS_MEMORY_BYTES;
+		assertThat(CliProcessLimiter.getDefaultLimit(8, 16 * processMemory), is(8));
+		assertThat(CliProcessLimiter.getDefaultLimit(8, 3 * processMemory), is(3));
+		assertThat(CliProcessLimiter.getDefaultLimit(4, -1), is(4));
+		assertThat(CliProcessLimiter.getDefaultLimit(4, processMemory / 2), is(1));
+		assertThat(CliProcessLimiter.getDefaultLimit(), is(greaterThanOrEqualTo(1)));
+	}
+
+	/**
+	 * Test that calls beyond the limit wait and start in the order they were queued.
+	 */
+	@Test
+	public void testQueueOrder() throws Exception {
+		CliProcessLimiter limiter = new CliProcessLimiter();
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+		CliProcessLimiter.Permit first = limiter.acquire(2);
+		CliProcessLimiter.Permit second = limiter.acquire(2);
+		assertThat(limiter.getRunning(), is(2));
+
+		Thread a = startWaiter(limiter, 2, "a", started);
+		awaitWaiting(limiter, 1);
+		Thread b = startWaiter(limiter, 2, "b", started);
+		awaitWaiting(limiter, 2);
+		assertThat(started, is(empty()));
+
+		first.close();
+		first.close();
+		a.join(TIMEOUT_MILLIS);
+		second.close();
+		b.join(TIMEOUT_MILLIS);
+
+		assertThat(started, is(Arrays.asList("a", "b")));
+		assertThat(limiter.getRunning(), is(0));
+		assertThat(limiter.getWaiting(), is(0));
+	}
+
+	/**
+	 * Test that an interrupted call leaves the queue without taking a permit.
+	 */
+	@Test
+	public void testInterrupted() throws Exception {
+		CliProcessLimiter limiter = new CliProcessLimiter();
+		CliProcessLimiter.Permit permit = limiter.acquire(1);
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+		Thread waiter = startWaiter(limiter, 1, "interrupted", started);
+		awaitWaiting(limiter, 1);
+		waiter.interrupt();
+		waiter.join(TIMEOUT_MILLIS);
+
+		assertThat(started, is(empty()));
+		assertThat(limiter.getWaiting(), is(0));
+		permit.close();
+		try (CliProcessLimiter.Permit next = limiter.acquire(1)) {
+			assertThat(next.getWaitMillis(), is(lessThan(TIMEOUT_MILLIS)));
+			assertThat(limiter.getRunning(), is(1));
+		}
+	}
+
+	private static Thread startWaiter(CliProcessLimiter limiter, int limit, String name, List<String> started) {
+		Thread thread = new Thread(() -> {
+			try (CliProcessLimiter.Permit permit = limiter.acquire(limit)) {
+				started.add(name);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitWaiting(CliProcessLimiter limiter, int waiting) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (limiter.getWaiting() < waiting && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(limiter.getWaiting(), is(waiting));
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link DatasetLockTable} and {@link JclDatasetReferences}.
+ */
+@SuppressWarnings("nls")
+public class DatasetLockTableTest {
+
+	/**
+	 * Test that the datasets and dispositions of the DD statements are read, including continued and concatenated statements.
+	 */
+	@Test
+	public void testDatasetReferences() {
+		String jcl = "//PAYJOB JOB ('ACCT#',LOCAL),'NAME',CLASS=A,\n" +
+				"//             MSGCLASS=R\n" +
+				"//* DD DSN=COMMENT.DS,DISP=OLD\n" +
+				"//STEP1 EXEC PGM=IEBGENER\n" +
+				"//SYSUT1 DD DSN=PAY.MASTER,DISP=SHR    READ ONLY\n" +
+				"//SYSUT2 DD DSN=PAY.HIST.GDG(+1),\n" +
+				"//            DISP=(NEW,CATLG,DELETE),UNIT=SYSDA\n" +
+				"//TEMP DD DSN=&&TEMP,DISP=(NEW,PASS)\n" +
+				"//REF DD DSN=*.STEP1.SYSUT1,DISP=SHR\n" +
+				"//SYSIN DD *\n" +
+				"  DSN=INSTREAM.DATA,DISP=OLD\n" +
+				"/*\n" +
+				"//LIB DD DISP=SHR,DSN='pay.load(MEMBER)'\n" +
+				"//      DD DSN=PAY.MASTER,DISP=(MOD,KEEP)\n" +
+				"//OUT DD DSNAME=PAY.REPORT\n" +
+				"//NUL DD DSN=NULLFILE\n";
+
+		Map<String, DatasetLockTable.Access> datasets = JclDatasetReferences.parse(jcl);
+		assertThat(datasets.size(), is(4));
+		assertThat(datasets.get("PAY.MASTER"), is(DatasetLockTable.Access.WRITE));
+		assertThat(datasets.get("PAY.HIST.GDG"), is(DatasetLockTable.Access.WRITE));
+		assertThat(datasets.get("PAY.LOAD"), is(DatasetLockTable.Access.READ));
+		assertThat(datasets.get("PAY.REPORT"), is(DatasetLockTable.Access.WRITE));
+
+		assertThat(JclDatasetReferences.of(Arrays.asList(JclSource.ofDataset("A.B.JCL(PAYJOB)"))).isEmpty(), is(true));
+	}
+
+	/**
+	 * Test that readers share a dataset while a writer waits for them, and that unrelated datasets are granted at once.
+	 */
+	@Test
+	public void testReadersAndWriters() throws Exception {
+		DatasetLockTable table = new DatasetLockTable();
+		DatasetLockTable.Lease reader1 = table.acquire("payroll #1", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.READ));
+		DatasetLockTable.Lease reader2 = table.acquire("payroll #2", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.READ));
+		assertThat(table.getHolders("PAY.MASTER"), is(2));
+		assertThat(reader2.getConflicts().isEmpty(), is(true));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CountDownLatch asked = new CountDownLatch(1);
+			Future<DatasetLockTable.Lease> writer = executor.submit(() -> {
+				asked.countDown();
+				return table.acquire("payroll #3", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.WRITE));
+			});
+			asked.await();
+			while (table.getWaiting() == 0) {
+				Thread.sleep(10);
+			}
+
+			// a later reader of the dataset waits behind the writer, while other datasets are granted at once
+			DatasetLockTable.Lease other = table.acquire("billing #1", Collections.singletonMap("BILL.MASTER", DatasetLockTable.Access.WRITE));
+			other.close();
+			assertThat(writer.isDone(), is(false));
+
+			reader1.close();
+			assertThat(writer.isDone(), is(false));
+			reader2.close();
+
+			DatasetLockTable.Lease writerLease = writer.get(5, TimeUnit.SECONDS);
+			assertThat(writerLease.getConflicts(), is(Arrays.asList("PAY.MASTER (payroll #1, payroll #2)")));
+			assertThat(table.getHolders("PAY.MASTER"), is(1));
+			writerLease.close();
+			writerLease.close();
+			assertThat(table.getHolders("PAY.MASTER"), is(0));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that a reader asking after a waiting writer is not granted ahead of it.
+	 */
+	@Test
+	public void testWaitingWriterIsNotStarved() throws Exception {
+		DatasetLockTable table = new DatasetLockTable();
+		DatasetLockTable.Lease reader = table.acquire("payroll #1", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.READ));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<DatasetLockTable.Lease> writer = executor
+					.submit(() -> table.acquire("payroll #2", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.WRITE)));
+			while (table.getWaiting() < 1) {
+				Thread.sleep(10);
+			}
+			Future<DatasetLockTable.Lease> lateReader = executor
+					.submit(() -> table.acquire("payroll #3", Collections.singletonMap("PAY.MASTER", DatasetLockTable.Access.READ)));
+			while (table.getWaiting() < 2) {
+				Thread.sleep(10);
+			}
+
+			reader.close();
+			DatasetLockTable.Lease writerLease = writer.get(5, TimeUnit.SECONDS);
+			assertThat(lateReader.isDone(), is(false));
+			writerLease.close();
+			DatasetLockTable.Lease lateReaderLease = lateReader.get(5, TimeUnit.SECONDS);
+			assertThat(lateReaderLease.getConflicts(), is(Arrays.asList("PAY.MASTER (payroll #2)")));
+			lateReaderLease.close();
+			assertThat(table.getWaiting(), is(0));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import hudson.Util;
+
+/**
+ * Test cases for {@link FtpJesSubmissionEngine} and {@link FtpConnectionPool}, run against a {@link StandInFtpServer}.
+ */
+@SuppressWarnings("nls")
+public class FtpJesSubmissionEngineTest {
+
+	private StandInFtpServer server;
+	private ByteArrayOutputStream log;
+	private PrintStream logger;
+
+	@Before
+	public void setup() throws IOException {
+		server = new StandInFtpServer();
+		log = new ByteArrayOutputStream();
+		logger = new PrintStream(log, true, "UTF-8");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	private ZosFtpClient openClient() throws IOException {
+		ZosFtpClient client = new ZosFtpClient(InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), false, 5000);
+		client.connect();
+		client.login("tester", "secret");
+		return client;
+	}
+
+	/**
+	 * Test that JCL text and dataset members are submitted as separate jobs and polled until they complete.
+	 */
+	@Test
+	public void testSubmitJobs() throws Exception {
+		server.putDataset("A.B.JCL(RPTJOB)", "//RPTJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n//* RC=0004\n");
+
+		SubmissionOutcome outcome;
+		try (ZosFtpClient client = openClient()) {
+			outcome = FtpJesSubmissionEngine.submitJobs(client,
+					Arrays.asList(JclSource.ofText("//PAYJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n"), JclSource.ofDataset("A.B.JCL(RPTJOB)")),
+					4, logger, 10L, 0L);
+		}
+
+		assertThat(outcome.isSuccess(), is(true));
+		List<JobResult> jobs = outcome.getJobs();
+		assertThat(jobs.size(), is(2));
+		assertThat(jobs.get(0).getName(), is("PAYJOB"));
+		assertThat(jobs.get(0).getId(), is("JOB00001"));
+		assertThat(jobs.get(0).getConditionCode(), is("0000"));
+		assertThat(jobs.get(1).getName(), is("RPTJOB"));
+		assertThat(jobs.get(1).getReturnCode(), is(4));
+		assertThat(log.toString("UTF-8"), containsString(Messages.jesJobSubmitted("PAYJOB", "JOB00001")));
+
+		// the jobs were seen running in the first listing, so they left the input queue before completing
+		for (JobResult job : jobs) {
+			assertThat(job.getQueueMillis(), is(both(greaterThanOrEqualTo(0L)).and(lessThanOrEqualTo(job.getElapsedMillis()))));
+		}
+
+		// the jobs are polled with one listing per poll, not one per job
+		List<String> commands = server.getCommands();
+		assertThat(commands.indexOf("LIST"), is(greaterThan(commands.lastIndexOf("STOR"))));
+	}
+
+	/**
+	 * Test that an abended job or a job above the maximum condition code fails the submission.
+	 */
+	@Test
+	public void testFailedJobs() throws Exception {
+		SubmissionOutcome outcome;
+		try (ZosFtpClient client = openClient()) {
+			outcome = FtpJesSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//BADJOB JOB\n//* ABEND=0C7\n"),
+					JclSource.ofText("//HIGHRC JOB\n//* RC=0008\n")), 4, logger, 10L, 0L);
+		}
+
+		assertThat(outcome.isSuccess(), is(false));
+		assertThat(outcome.getJobs().get(0).getConditionCode(), is("S0C7"));
+		assertThat(outcome.getJobs().get(0).isAbended(), is(true));
+		assertThat(outcome.getJobs().get(1).getReturnCode(), is(8));
+		assertThat(outcome.getSummary(), is(Messages.jesSubmissionFailed(2, 2, 4)));
+	}
+
+	/**
+	 * Test that a job no longer listed by JES and a held job still queued when the wait is up fail the submission.
+	 */
+	@Test
+	public void testUnfinishedJobs() throws Exception {
+		SubmissionOutcome outcome;
+		try (ZosFtpClient client = openClient()) {
+			outcome = FtpJesSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//GONEJOB JOB\n//* PURGE\n"),
+					JclSource.ofText("//HELDJOB JOB TYPRUN=HOLD\n"), JclSource.ofText("//GOODJOB JOB\n")), 4, logger, 10L, 200L);
+		}
+
+		assertThat(outcome.isSuccess(), is(false));
+		assertThat(outcome.getJobs().get(0).getConditionCode(), is(nullValue()));
+		assertThat(outcome.getJobs().get(1).getConditionCode(), is(nullValue()));
+		assertThat(outcome.getJobs().get(1).getElapsedMillis(), is(greaterThanOrEqualTo(200L)));
+		assertThat(outcome.getJobs().get(2).getConditionCode(), is("0000"));
+		assertThat(outcome.getSummary(), is(Messages.jesSubmissionFailed(2, 3, 4)));
+
+		String logStr = log.toString("UTF-8");
+		assertThat(logStr, containsString(Messages.jesJobNotFound("GONEJOB", "JOB00001")));
+		assertThat(logStr, containsString(Messages.jesJobTimedOut("HELDJOB", "JOB00002", Util.getTimeSpanString(200L))));
+	}
+
+	/**
+	 * Test that a missing member fails the submission before any job is submitted.
+	 */
+	@Test
+	public void testMissingMember() throws Exception {
+		try (ZosFtpClient client = openClient()) {
+			FtpJesSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//PAYJOB JOB\n"), JclSource.ofDataset("A.B.JCL(NOPE)")),
+					4, logger, 10L, 0L);
+			fail("Expected the missing member to fail the submission.");
+		} catch (IOException e) {
+			assertThat(e.getMessage(), is(Messages.ftpFileNotFound("'A.B.JCL(NOPE)'")));
+		}
+
+		assertThat(server.getCommands(), not(hasItem("STOR")));
+	}
+
+	/**
+	 * Test the parsing of a JES interface job listing.
+	 */
+	@Test
+	public void testParseJobListing() {
+		Map<String, FtpJesSubmissionEngine.JobStatus> statuses = FtpJesSubmissionEngine.parseJobListing(Arrays.asList(
+				"JOBNAME  JOBID    OWNER    STATUS CLASS", "PAYJOB   JOB04567 TESTER   OUTPUT A        RC=0000 3 spool files",
+				"RPTJOB   J0004568 TESTER   ACTIVE A", "BADJOB   JOB04569 TESTER   OUTPUT A        ABEND=806 2 spool files",
+				"USRJOB   JOB04570 TESTER   OUTPUT A        ABEND=0016 2 spool files", "ERRJOB   JOB04571 TESTER   OUTPUT A        (JCL error) 2 spool files",
+				"NEWJOB   JOB04572 TESTER   INPUT  A"));
+
+		assertThat(statuses.size(), is(6));
+		assertThat(statuses.get("JOB04567").isComplete(), is(true));
+		assertThat(statuses.get("JOB04567").getConditionCode(), is("0000"));
+		assertThat(statuses.get("J0004568").isComplete(), is(false));
+		assertThat(statuses.get("J0004568").isQueued(), is(false));
+		assertThat(statuses.get("JOB04572").isQueued(), is(true));
+		assertThat(statuses.get("JOB04572").isComplete(), is(false));
+		assertThat(statuses.get("JOB04569").getConditionCode(), is("S806"));
+		assertThat(statuses.get("JOB04570").getConditionCode(), is("U0016"));
+		assertThat(statuses.get("JOB04571").getConditionCode(), is("JCL ERROR"));
+	}
+
+	/**
+	 * Test that a released client is reused, and that a client that no longer responds is replaced.
+	 */
+	@Test
+	public void testConnectionPool() throws Exception {
+		FtpConnectionPool pool = new FtpConnectionPool(2, 60000L);
+
+		ZosFtpClient first = pool.borrow("key", this::openClient);
+		pool.release("key", first);
+		assertThat(pool.getIdleCount("key"), is(1));
+
+		ZosFtpClient second = pool.borrow("key", this::openClient);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(server.getLogons(), is(1));
+
+		second.close();
+		pool.release("key", second);
+		ZosFtpClient third = pool.borrow("key", this::openClient);
+		assertThat(third, is(not(sameInstance(first))));
+		assertThat(server.getLogons(), is(2));
+		pool.discard(third);
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import hudson.AbortException;
+
+/**
+ * Test cases for {@link HostHealthMonitor}.
+ */
+@SuppressWarnings("nls")
+public class HostHealthMonitorTest {
+
+	public @Rule JenkinsRule rule = new JenkinsRule();
+
+	@After
+	public void tearDown() {
+		HostHealthMonitor.clear();
+	}
+
+	/**
+	 * Test that a listening port is reachable and a closed port is not.
+	 */
+	@Test
+	public void testProbe() throws IOException {
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+			HostHealthMonitor.Health health = HostHealthMonitor.probe("localhost", port, 5000);
+			assertThat(health.isReachable(), is(true));
+			assertThat(health.getLatencyMillis(), is(greaterThanOrEqualTo(0L)));
+			assertThat(health.getDownSince(), is(0L));
+			assertThat(health.getFailure(), is(nullValue()));
+		}
+
+		HostHealthMonitor.Health health = HostHealthMonitor.probe("localhost", port, 5000);
+		assertThat(health.isReachable(), is(false));
+		assertThat(health.getLatencyMillis(), is(-1L));
+		assertThat(health.getFailure(), is(notNullValue()));
+
+		assertThat(HostHealthMonitor.probe("localhost", -1, 5000).isReachable(), is(false));
+	}
+
+	/**
+	 * Test that a connection staying down keeps the time it went down, until it is reachable again.
+	 */
+	@Test
+	public void testRecordKeepsDownSince() throws Exception {
+		int closedPort = getClosedPort();
+		HostHealthMonitor.Health first = HostHealthMonitor.record("conn", HostHealthMonitor.probe("localhost", closedPort, 5000));
+		Thread.sleep(20);
+		HostHealthMonitor.Health second = HostHealthMonitor.record("conn", HostHealthMonitor.probe("localhost", closedPort, 5000));
+
+		assertThat(second.isReachable(), is(false));
+		assertThat(second.getDownSince(), is(first.getDownSince()));
+		assertThat(second.getCheckedAt(), is(greaterThan(first.getCheckedAt())));
+
+		try (ServerSocket server = new ServerSocket(0)) {
+			HostHealthMonitor.Health up = HostHealthMonitor.record("conn",
+					HostHealthMonitor.probe("localhost", server.getLocalPort(), 5000));
+			assertThat(up.isReachable(), is(true));
+			assertThat(up.getDownSince(), is(0L));
+		}
+	}
+
+	/**
+	 * Test that the host connections known to be down are left out of the pool, and that they are all kept with a warning when all
+	 * are down, as the agent may still reach them, unless the step is configured to fail.
+	 */
+	@Test
+	public void testReachableConnections() throws Exception {
+		TopazUtilitiesConfiguration configuration = TopazUtilitiesConfiguration.get();
+		configuration.setHealthCheckSeconds(60);
+		try {
+			HostHealthMonitor.record("down", HostHealthMonitor.probe("localhost", getClosedPort(), 5000));
+			SubmitJclBuilder builder = new SubmitJclBuilder("down", "credentialsId", "4", "jcl");
+			Map<String, Integer> capacities = new LinkedHashMap<>();
+			capacities.put("down", 1);
+			capacities.put("unprobed", 2);
+
+			ByteArrayOutputStream log = new ByteArrayOutputStream();
+			Map<String, Integer> reachable = builder.getReachableConnections(capacities, new PrintStream(log, true, "UTF-8"));
+			assertThat(reachable.keySet(), hasItems("unprobed"));
+			assertThat(reachable.size(), is(1));
+			assertThat(log.toString("UTF-8"), containsString("Host connection down has been unreachable"));
+
+			capacities.remove("unprobed");
+			log.reset();
+			assertThat(builder.getReachableConnections(capacities, new PrintStream(log, true, "UTF-8")), is(capacities));
+			assertThat(log.toString("UTF-8"), containsString("WARNING: Host connection down has been unreachable from the controller"));
+
+			configuration.setFailWhenHostsDown(true);
+			try {
+				builder.getReachableConnections(capacities, new PrintStream(log, true, "UTF-8"));
+				fail("A step whose connections are all down should fail when configured to");
+			} catch (AbortException e) {
+				assertThat(e.getMessage(), is(Messages.hostConnectionsDownAbort("down")));
+			}
+			configuration.setFailWhenHostsDown(false);
+
+			configuration.setHealthCheckSeconds(0);
+			assertThat(builder.getReachableConnections(capacities, new PrintStream(log, true, "UTF-8")), is(capacities));
+		} finally {
+			configuration.setHealthCheckSeconds(0);
+			configuration.setFailWhenHostsDown(false);
+			HostHealthMonitor.clear();
+		}
+	}
+
+
+	/**
+	 * Gets a local port nothing listens on.
+	 */
+	static int getClosedPort() throws IOException {
+		try (ServerSocket server = new ServerSocket(0)) {
+			return server.getLocalPort();
+		}
+	}
+}
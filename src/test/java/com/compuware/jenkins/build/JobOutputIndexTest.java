@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+/**
+ * Test cases for {@link JobOutputIndex}.
+ */
+@SuppressWarnings("nls")
+public class JobOutputIndexTest {
+
+	private static final String[] OUTPUT = { "Submitting A.B.JCL(PAYJOB)", "PAYJOB(JOB00001) submitted",
+			"   4 //INFILE   DD DSN=A.B.DATA,DISP=SHR",
+			"IEC141I 013-18,IGG0191B,PAYJOB,STEP1,INFILE,0A01,WRK001,A.B.DATA",
+			"IEA995I SYMPTOM DUMP OUTPUT  SYSTEM COMPLETION CODE=013  REASON CODE=00000018",
+			"$HASP395 PAYJOB   ENDED - ABEND=S013", "RPTJOB(JOB00002) submitted", "IEF142I RPTJOB STEP1 - STEP WAS EXECUTED - COND CODE 0000",
+			"IEC141I 013-18,IGG0191B,RPTJOB,STEP2,SYSUT1,0A01,WRK001,A.B.RPT", "JOB00003 submitted", "USER COMPLETION CODE=4038" };
+
+	private static JobOutputIndex index(String... lines) throws IOException {
+		JobOutputIndex index = new JobOutputIndex();
+		try (PrintStream out = new PrintStream(new JobOutputIndex.Indexer(index, StandardCharsets.UTF_8), true, "UTF-8")) {
+			for (String line : lines) {
+				out.print(line + "\n");
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Test the extraction of message identifiers, abend codes and DD names.
+	 */
+	@Test
+	public void testExtractTerms() {
+		Map<String, JobOutputIndex.Kind> terms = JobOutputIndex
+				.extractTerms("IEC141I 013-18,IGG0191B,PAYJOB,STEP1,INFILE,0A01,WRK001,A.B.DATA");
+		assertThat(terms.get("IEC141I"), is(JobOutputIndex.Kind.MESSAGE));
+		assertThat(terms.get("INFILE"), is(JobOutputIndex.Kind.DD));
+		assertThat(terms.containsKey("PAYJOB"), is(false));
+
+		assertThat(JobOutputIndex.extractTerms("$HASP395 PAYJOB   ENDED - ABEND=S0C7").keySet(), contains("$HASP395", "S0C7"));
+		assertThat(JobOutputIndex.extractTerms("IEF450I PAYJOB STEP1 - ABEND=S806 U0000 REASON=00000004").keySet(),
+				contains("IEF450I", "S806"));
+		assertThat(JobOutputIndex.extractTerms("SYSTEM COMPLETION CODE=0C4").keySet(), contains("S0C4"));
+		assertThat(JobOutputIndex.extractTerms("USER COMPLETION CODE=4038").keySet(), contains("U4038"));
+		assertThat(JobOutputIndex.extractTerms("  12 //SYSPRINT DD SYSOUT=*").keySet(), contains("SYSPRINT"));
+		assertThat(JobOutputIndex.extractTerms("PAYJOB(JOB00001) submitted").isEmpty(), is(true));
+	}
+
+	/**
+	 * Test that terms are attributed to the job whose output holds them, with the offset and number of their line.
+	 */
+	@Test
+	public void testJobAttribution() throws IOException {
+		JobOutputIndex index = index(OUTPUT);
+
+		assertThat(index.findJobs("IEC141I"), contains("PAYJOB(JOB00001)", "RPTJOB(JOB00002)"));
+		assertThat(index.findJobs("iec141i"), contains("PAYJOB(JOB00001)", "RPTJOB(JOB00002)"));
+		assertThat(index.findJobs("S013"), contains("PAYJOB(JOB00001)"));
+		assertThat(index.findJobs("SYSUT1"), contains("RPTJOB(JOB00002)"));
+		assertThat(index.findJobs("U4038"), contains("JOB00003"));
+		assertThat(index.getCount("S013"), is(2));
+		assertThat(index.getKind("INFILE"), is(JobOutputIndex.Kind.DD));
+
+		List<JobOutputIndex.Posting> postings = index.find("IEC141I");
+		long expectedOffset = 0;
+		for (int i = 0; i < 3; i++) {
+			expectedOffset += OUTPUT[i].length() + 1;
+		}
+		assertThat(postings.get(0).getLine(), is(4L));
+		assertThat(postings.get(0).getOffset(), is(expectedOffset));
+		assertThat(postings.get(0).getText(), startsWith("IEC141I 013-18"));
+		assertThat(postings.get(0).getSource(), is(nullValue()));
+	}
+
+	/**
+	 * Test that only a bounded number of occurrences is kept per term, while every occurrence is counted and merged.
+	 */
+	@Test
+	public void testBoundedPostingsAndMerge() throws IOException {
+		String[] lines = new String[TopazUtilitiesConstants.OUTPUT_INDEX_MAX_POSTINGS + 10];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = "PAYJOB(JOB00001) IEF196I IEF237I " + i;
+		}
+		JobOutputIndex stepIndex = index(lines);
+		assertThat(stepIndex.find("IEF196I").size(), is(TopazUtilitiesConstants.OUTPUT_INDEX_MAX_POSTINGS));
+		assertThat(stepIndex.getCount("IEF196I"), is(lines.length));
+
+		JobOutputIndex buildIndex = index(OUTPUT);
+		buildIndex.addAll(stepIndex, "topaz-submit-logs/a.log.gz");
+		assertThat(buildIndex.getCount("IEF196I"), is(lines.length));
+		assertThat(buildIndex.find("IEF196I").get(0).getSource(), is("topaz-submit-logs/a.log.gz"));
+		assertThat(buildIndex.getTerms(), hasItems("IEC141I", "IEF196I", "IEF237I"));
+	}
+
+	/**
+	 * Test that the CLI output parser indexes the output it parses.
+	 */
+	@Test
+	public void testCliOutputIndexed() throws IOException {
+		CliOutputParser parser = new CliOutputParser(StandardCharsets.UTF_8);
+		try (PrintStream out = new PrintStream(parser, true, "UTF-8")) {
+			for (String line : OUTPUT) {
+				out.print(line + "\n");
+			}
+		}
+
+		assertThat(parser.getIndex().findJobs("IEC141I"), contains("PAYJOB(JOB00001)", "RPTJOB(JOB00002)"));
+	}
+}
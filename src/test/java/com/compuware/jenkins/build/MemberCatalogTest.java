@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MemberCatalog} and {@link FtpMemberLister}.
+ */
+@SuppressWarnings("nls")
+public class MemberCatalogTest {
+
+	/**
+	 * A lister returning a fixed directory and counting host requests.
+	 */
+	private static class FakeMemberLister implements MemberLister {
+		private final String fingerprint;
+		private int listCount;
+		private int fingerprintCount;
+
+		FakeMemberLister(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public PdsDirectory list(String dsn) {
+			listCount++;
+			return new PdsDirectory(dsn, fingerprint, Arrays.asList(new PdsMember("PAYA", null, null, -1, null),
+					new PdsMember("PAYB1", null, null, -1, null), new PdsMember("RPT01", null, null, -1, null)),
+					System.currentTimeMillis());
+		}
+
+		@Override
+		public String getFingerprint(String dsn) {
+			fingerprintCount++;
+			return fingerprint;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Test that patterns are expanded in directory order while other items are kept, and that a dataset is only listed once.
+	 */
+	@Test
+	public void testExpand() throws IOException {
+		FakeMemberLister lister = new FakeMemberLister(null);
+		MemberCatalog catalog = new MemberCatalog("conn1");
+		ByteArrayOutputStream log = new ByteArrayOutputStream();
+		PrintStream logger = new PrintStream(log, true, "UTF-8");
+
+		List<String> expanded = catalog.expand(Arrays.asList("A.B.JCL(PAY*)", "A.B.JCL2", "a.b.jcl(%%%01)", "A.B.JCL(X*)"), () -> lister,
+				0, logger);
+
+		assertThat(expanded, is(Arrays.asList("A.B.JCL(PAYA)", "A.B.JCL(PAYB1)", "A.B.JCL2", "A.B.JCL(RPT01)")));
+		assertThat(lister.listCount, is(1));
+		assertThat(log.toString("UTF-8"), containsString(Messages.memberPatternNoMatch("A.B.JCL(X*)")));
+
+		catalog.expand(Arrays.asList("A.B.JCL(RPT*)"), () -> lister, 0, logger);
+		assertThat("Expected the build's listing to be reused.", lister.listCount, is(1));
+	}
+
+	/**
+	 * Test that a listing is only shared across builds while its fingerprint is unchanged.
+	 */
+	@Test
+	public void testSharedListing() throws IOException {
+		PrintStream logger = new PrintStream(new ByteArrayOutputStream());
+		FakeMemberLister lister = new FakeMemberLister("VOL001 3390 2026/10/18 1 15 FB 80 27920 PO SHARED.JCL");
+		new MemberCatalog("conn1").expand(Arrays.asList("SHARED.JCL(PAY*)"), () -> lister, 60000, logger);
+		new MemberCatalog("conn1").expand(Arrays.asList("SHARED.JCL(PAY*)"), () -> lister, 60000, logger);
+		assertThat(lister.listCount, is(1));
+		assertThat(lister.fingerprintCount, is(1));
+
+		FakeMemberLister changed = new FakeMemberLister("VOL001 3390 2026/10/18 1 16 FB 80 27920 PO SHARED.JCL");
+		new MemberCatalog("conn1").expand(Arrays.asList("SHARED.JCL(PAY*)"), () -> changed, 60000, logger);
+		assertThat(changed.listCount, is(1));
+	}
+
+	/**
+	 * Test that the directory entries of named members are looked up with one listing per dataset, skipping other items.
+	 */
+	@Test
+	public void testGetMembers() throws IOException {
+		FakeMemberLister lister = new FakeMemberLister(null);
+		MemberCatalog catalog = new MemberCatalog("conn1");
+
+		Map<String, PdsMember> members = catalog.getMembers(
+				Arrays.asList("A.B.JCL(PAYA)", "a.b.jcl(rpt01)", "A.B.JCL(NOPE)", "A.B.SEQ", "A.B.JCL(PAY*)"), () -> lister);
+
+		assertThat(members.size(), is(2));
+		assertThat(members.get("A.B.JCL(PAYA)").getName(), is("PAYA"));
+		assertThat(members.get("a.b.jcl(rpt01)").getName(), is("RPT01"));
+		assertThat(lister.listCount, is(1));
+	}
+
+	/**
+	 * Test that items without patterns never open a lister.
+	 */
+	@Test
+	public void testNoPattern() throws IOException {
+		List<String> items = Arrays.asList("A.B.JCL", "A.B.JCL(MEMBER)");
+		List<String> expanded = new MemberCatalog("conn1").expand(items, () -> {
+			throw new AssertionError("No lister expected.");
+		}, 0, new PrintStream(new ByteArrayOutputStream()));
+
+		assertThat(expanded, is(items));
+		assertThat(MemberCatalog.isPattern("A.B.JCL(MEMBER)"), is(false));
+		assertThat(MemberCatalog.isPattern("A.B.JCL(MEM%ER)"), is(true));
+	}
+
+	/**
+	 * Test parsing a member listing with and without ISPF statistics.
+	 */
+	@Test
+	public void testParseListing() {
+		List<PdsMember> members = FtpMemberLister.parseListing(Arrays.asList(
+				" Name     VV.MM   Created       Changed      Size  Init   Mod   Id",
+				" PAYA      01.03 2021/04/30 2026/10/01 10:22   15    10     0 USER1",
+				" NOSTATS"));
+
+		assertThat(members.size(), is(2));
+		assertThat(members.get(0).getName(), is("PAYA"));
+		assertThat(members.get(0).getVersion(), is("01.03"));
+		assertThat(members.get(0).getChanged(), is("2026/10/01 10:22"));
+		assertThat(members.get(0).getSize(), is(15));
+		assertThat(members.get(0).getUserId(), is("USER1"));
+		assertThat(members.get(1).getName(), is("NOSTATS"));
+		assertThat(members.get(1).hasStatistics(), is(false));
+	}
+}
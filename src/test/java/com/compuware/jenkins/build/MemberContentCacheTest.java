@@ -0,0 +1,152 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MemberContentCache}.
+ */
+@SuppressWarnings("nls")
+public class MemberContentCacheTest {
+
+	/**
+	 * Reads members as their name repeated, recording each read.
+	 */
+	private static class FakeMemberReader implements MemberContentCache.MemberReader {
+		private final List<String> reads = new ArrayList<>();
+		private int opened;
+
+		MemberContentCache.ReaderFactory factory() {
+			return () -> {
+				opened++;
+				return this;
+			};
+		}
+
+		@Override
+		public String read(String dsn, String member) {
+			reads.add(dsn + '(' + member + ')');
+			return "//" + member + " JOB\n//STEP1 EXEC PGM=IEFBR14\n";
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static final PrintStream LOGGER = new PrintStream(new ByteArrayOutputStream());
+
+	private static PdsMember member(String name, String version) {
+		return new PdsMember(name, version, "2026/10/18 10:22", 12, "USER01");
+	}
+
+	/**
+	 * Test that members are read from the host once, and again only once their ISPF statistics change, or for another host connection
+	 * or credential.
+	 */
+	@Test
+	public void testReadOnlyChangedMembers() throws IOException {
+		MemberContentCache cache = new MemberContentCache();
+		FakeMemberReader reader = new FakeMemberReader();
+		Map<String, PdsMember> members = new LinkedHashMap<>();
+		members.put("A.B.JCL(PAYJOB)", member("PAYJOB", "01.00"));
+		members.put("A.B.JCL(RPTJOB)", member("RPTJOB", "01.00"));
+		members.put("A.C.JCL(GLJOB)", member("GLJOB", "01.00"));
+
+		Map<String, String> contents = cache.getContents("cw01", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat(contents.keySet(), contains("A.B.JCL(PAYJOB)", "A.B.JCL(RPTJOB)", "A.C.JCL(GLJOB)"));
+		assertThat(contents.get("A.B.JCL(PAYJOB)"), startsWith("//PAYJOB JOB"));
+		assertThat(reader.reads, hasSize(3));
+		assertThat(reader.opened, is(1));
+		assertThat(cache.getCount(), is(3));
+
+		cache.getContents("cw01", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat(reader.reads, hasSize(3));
+		assertThat(reader.opened, is(1));
+
+		members.put("A.B.JCL(RPTJOB)", member("RPTJOB", "01.01"));
+		contents = cache.getContents("cw01", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat(reader.reads, hasSize(4));
+		assertThat(reader.reads.get(3), is("A.B.JCL(RPTJOB)"));
+		assertThat(contents.get("A.B.JCL(RPTJOB)"), startsWith("//RPTJOB JOB"));
+
+		cache.getContents("cw02", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat("Expected the members of another host connection to be read.", reader.reads, hasSize(7));
+
+		cache.getContents("cw01", "cred2", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat("Expected the members to be read again with another credential.", reader.reads, hasSize(10));
+	}
+
+	/**
+	 * Test that members without ISPF statistics are read every time and never cached, and that nothing is cached without a size.
+	 */
+	@Test
+	public void testUncachedMembers() throws IOException {
+		MemberContentCache cache = new MemberContentCache();
+		FakeMemberReader reader = new FakeMemberReader();
+		Map<String, PdsMember> members = new LinkedHashMap<>();
+		members.put("A.B.JCL(PAYJOB)", new PdsMember("PAYJOB", null, null, -1, null));
+
+		cache.getContents("cw01", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		cache.getContents("cw01", "cred1", members, reader.factory(), 1024 * 1024, LOGGER);
+		assertThat(reader.reads, hasSize(2));
+		assertThat(cache.getCount(), is(0));
+
+		members.put("A.B.JCL(PAYJOB)", member("PAYJOB", "01.00"));
+		cache.getContents("cw01", "cred1", members, reader.factory(), 0, LOGGER);
+		cache.getContents("cw01", "cred1", members, reader.factory(), 0, LOGGER);
+		assertThat(reader.reads, hasSize(4));
+		assertThat(cache.getCount(), is(0));
+	}
+
+	/**
+	 * Test that the least recently used members are evicted once the cache exceeds its size.
+	 */
+	@Test
+	public void testEviction() throws IOException {
+		MemberContentCache cache = new MemberContentCache();
+		FakeMemberReader reader = new FakeMemberReader();
+		long memberSize = 2L * reader.read("A.B.JCL", "JOB1").length();
+		reader.reads.clear();
+
+		for (String name : new String[] { "JOB1", "JOB2", "JOB3" }) {
+			Map<String, PdsMember> members = new LinkedHashMap<>();
+			members.put("A.B.JCL(" + name + ')', member(name, "01.00"));
+			cache.getContents("cw01", "cred1", members, reader.factory(), 2 * memberSize, LOGGER);
+		}
+
+		assertThat(cache.getCount(), is(2));
+		assertThat(cache.getSize(), is(2 * memberSize));
+
+		Map<String, PdsMember> first = new LinkedHashMap<>();
+		first.put("A.B.JCL(JOB1)", member("JOB1", "01.00"));
+		cache.getContents("cw01", "cred1", first, reader.factory(), 2 * memberSize, LOGGER);
+		assertThat("Expected the least recently used member to have been evicted.", reader.reads, hasSize(4));
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MemberListChunker}.
+ */
+@SuppressWarnings("nls")
+public class MemberListChunkerTest {
+
+	private static List<List<String>> readChunks(MemberListChunker chunker) throws IOException {
+		List<List<String>> chunks = new ArrayList<>();
+		List<String> chunk;
+		while ((chunk = chunker.nextChunk()) != null) {
+			chunks.add(chunk);
+		}
+		chunker.close();
+
+		return chunks;
+	}
+
+	/**
+	 * Test that chunks never exceed the maximum joined length and keep the list order across readers.
+	 */
+	@Test
+	public void testChunkLength() throws IOException {
+		MemberListChunker chunker = new MemberListChunker(
+				Arrays.asList(new BufferedReader(new StringReader("A.B.JCL(M1)\r\n\r\n  A.B.JCL(M2)  ")),
+						new BufferedReader(new StringReader("A.B.JCL(M3)\nA.B.JCL(M4)\nA.B.JCL(M5)\n"))),
+				24, null);
+
+		List<List<String>> chunks = readChunks(chunker);
+		assertThat(chunks.size(), is(3));
+		assertThat(chunks.get(0), is(Arrays.asList("A.B.JCL(M1)", "A.B.JCL(M2)")));
+		assertThat(chunks.get(1), is(Arrays.asList("A.B.JCL(M3)", "A.B.JCL(M4)")));
+		assertThat(chunks.get(2), is(Arrays.asList("A.B.JCL(M5)")));
+		for (List<String> chunk : chunks) {
+			assertThat(StringUtils.join(chunk, ',').length() <= 24, is(true));
+		}
+	}
+
+	/**
+	 * Test that member name patterns are expanded as they are read and their members spread over chunks.
+	 */
+	@Test
+	public void testPatternExpansion() throws IOException {
+		List<String> expanded = new ArrayList<>();
+		MemberListChunker chunker = new MemberListChunker(
+				Arrays.asList(new BufferedReader(new StringReader("A.B.JCL(P*)\nA.B.JCL2"))), 24, pattern -> {
+					expanded.add(pattern);
+					return Arrays.asList("A.B.JCL(P1)", "A.B.JCL(P2)", "A.B.JCL(P3)");
+				});
+
+		List<List<String>> chunks = readChunks(chunker);
+		assertThat(expanded, is(Arrays.asList("A.B.JCL(P*)")));
+		assertThat(chunks.get(0), is(Arrays.asList("A.B.JCL(P1)", "A.B.JCL(P2)")));
+		assertThat(chunks.get(1), is(Arrays.asList("A.B.JCL(P3)", "A.B.JCL2")));
+	}
+}
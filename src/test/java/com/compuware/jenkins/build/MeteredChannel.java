@@ -0,0 +1,223 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+
+import hudson.FilePath;
+import hudson.remoting.Callable;
+import hudson.remoting.Pipe;
+import hudson.remoting.VirtualChannel;
+
+/**
+ * A {@link VirtualChannel} wrapper for tests that counts the calls made through it, estimates the bytes each call transfers, and
+ * delays each call to simulate a remote agent.
+ */
+@SuppressWarnings("nls")
+public class MeteredChannel implements VirtualChannel {
+
+	private final VirtualChannel delegate;
+	private final long latencyMillis;
+	private final AtomicInteger calls = new AtomicInteger();
+	private final AtomicLong bytes = new AtomicLong();
+	private final List<String> callNames = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param delegate
+	 *            the channel making the calls
+	 * @param latencyMillis
+	 *            the delay added to each call, in milliseconds
+	 */
+	public MeteredChannel(VirtualChannel delegate, long latencyMillis) {
+		this.delegate = delegate;
+		this.latencyMillis = latencyMillis;
+	}
+
+	/**
+	 * Gets the number of calls made so far.
+	 * 
+	 * @return the call count
+	 */
+	public int getCalls() {
+		return calls.get();
+	}
+
+	/**
+	 * Gets the estimated number of bytes transferred so far, counting each callable and each returned value.
+	 * 
+	 * @return the byte count
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Gets the class names of the callables, in call order, for assertion messages.
+	 * 
+	 * @return the callable class names
+	 */
+	public synchronized List<String> getCallNames() {
+		return new ArrayList<>(callNames);
+	}
+
+	/**
+	 * Resets the counters.
+	 */
+	public synchronized void reset() {
+		calls.set(0);
+		bytes.set(0);
+		callNames.clear();
+	}
+
+	/**
+	 * Estimates the serialized size of an object. Streams and pipes are exported by the channel rather than copied, so they are
+	 * counted as a reference, as is anything that is not serializable.
+	 * 
+	 * @param object
+	 *            the object to measure
+	 * 
+	 * @return the size in bytes
+	 * 
+	 * @throws IOException
+	 *             if the object could not be serialized
+	 */
+	public static long sizeOf(Object object) throws IOException {
+		CountingOutputStream counter = new CountingOutputStream(new NullOutputStream());
+		try (ObjectOutputStream out = new ObjectOutputStream(counter) {
+			{
+				enableReplaceObject(true);
+			}
+
+			@Override
+			protected Object replaceObject(Object obj) throws IOException {
+				if (obj instanceof OutputStream || obj instanceof InputStream || obj instanceof Pipe || !(obj instanceof Serializable)) {
+					return obj.getClass().getName();
+				} else if (obj instanceof FilePath) {
+					return ((FilePath) obj).getRemote();
+				}
+				return obj;
+			}
+		}) {
+			out.writeObject(object);
+		}
+
+		return counter.getByteCount();
+	}
+
+	private void meter(Callable<?, ?> callable) throws IOException {
+		calls.incrementAndGet();
+		bytes.addAndGet(sizeOf(callable));
+		synchronized (this) {
+			callNames.add(callable.getClass().getName());
+		}
+
+		try {
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#call(hudson.remoting.Callable)
+	 */
+	@Override
+	public <V, T extends Throwable> V call(Callable<V, T> callable) throws IOException, T, InterruptedException {
+		meter(callable);
+		V result = delegate.call(callable);
+		bytes.addAndGet(sizeOf(result));
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#callAsync(hudson.remoting.Callable)
+	 */
+	@Override
+	public <V, T extends Throwable> Future<V> callAsync(Callable<V, T> callable) throws IOException {
+		meter(callable);
+		return delegate.callAsync(callable);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#join()
+	 */
+	@Override
+	public void join() throws InterruptedException {
+		delegate.join();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#join(long)
+	 */
+	@Override
+	public void join(long timeout) throws InterruptedException {
+		delegate.join(timeout);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#export(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public <T> T export(Class<T> type, T instance) {
+		return delegate.export(type, instance);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hudson.remoting.VirtualChannel#syncLocalIO()
+	 */
+	@Override
+	public void syncLocalIO() throws InterruptedException {
+		delegate.syncLocalIO();
+	}
+}
@@ -0,0 +1,288 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * A stand-in for the z/OS FTP server in tests. It serves dataset members and accepts jobs through its JES interface: each job is
+ * listed as active on the first listing after its submission and completes on the next one, with a return code of <code>0000</code>
+ * unless its JCL holds <code>ABEND=</code> or <code>RC=</code> followed by the completion to report. A job whose JCL holds
+ * <code>TYPRUN=HOLD</code> stays in the input queue, and one whose JCL holds <code>PURGE</code> is never listed.
+ */
+@SuppressWarnings("nls")
+public class StandInFtpServer implements Closeable {
+	private static final Pattern JOB_NAME_PATTERN = Pattern.compile("(?m)^//(\\S+)\\s+JOB\\b");
+	private static final Pattern COMPLETION_PATTERN = Pattern.compile("\\b(?:ABEND|RC)=\\w+");
+	private static final Pattern HOLD_PATTERN = Pattern.compile("\\bTYPRUN=HOLD\\b");
+	private static final Pattern PURGE_PATTERN = Pattern.compile("\\bPURGE\\b");
+
+	private static final class Job {
+		private final String name;
+		private final String id;
+		private final String completion;
+		private final boolean held;
+		private final boolean purged;
+		private int listings;
+
+		private Job(String name, String id, String completion, boolean held, boolean purged) {
+			this.name = name;
+			this.id = id;
+			this.completion = completion;
+			this.held = held;
+			this.purged = purged;
+		}
+	}
+
+	private final ServerSocket serverSocket;
+	private final Map<String, String> datasets = new HashMap<>();
+	private final Map<String, Job> jobs = new LinkedHashMap<>();
+	private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicInteger logons = new AtomicInteger();
+	private final AtomicInteger nextJobNumber = new AtomicInteger(1);
+
+	/**
+	 * Starts the server on a free local port.
+	 * 
+	 * @throws IOException
+	 *             if the server could not listen
+	 */
+	public StandInFtpServer() throws IOException {
+		serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(this::accept, "StandInFtpServer");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	/**
+	 * Gets the port the server listens on.
+	 * 
+	 * @return the port
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Adds a dataset or dataset member the server can serve.
+	 * 
+	 * @param name
+	 *            the fully qualified name, such as <code>A.B.JCL(MEMBER)</code>
+	 * @param content
+	 *            the content
+	 */
+	public synchronized void putDataset(String name, String content) {
+		datasets.put(name, content);
+	}
+
+	/**
+	 * Gets the number of successful log ons.
+	 * 
+	 * @return the log on count
+	 */
+	public int getLogons() {
+		return logons.get();
+	}
+
+	/**
+	 * Gets the commands received so far, without their arguments.
+	 * 
+	 * @return the command verbs, in order
+	 */
+	public List<String> getCommands() {
+		synchronized (commands) {
+			return new ArrayList<>(commands);
+		}
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				Thread session = new Thread(() -> serve(socket), "StandInFtpServer session");
+				session.setDaemon(true);
+				session.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		boolean jes = false;
+		ServerSocket dataServer = null;
+		try (Socket control = socket;
+				BufferedReader in = new BufferedReader(new InputStreamReader(control.getInputStream(), StandardCharsets.UTF_8));
+				Writer out = new OutputStreamWriter(control.getOutputStream(), StandardCharsets.UTF_8)) {
+			reply(out, "220 Stand-in FTP server ready");
+			String line;
+			while ((line = in.readLine()) != null) {
+				String verb = line.split(" ", 2)[0].toUpperCase();
+				String argument = line.length() > verb.length() ? line.substring(verb.length() + 1).trim() : null;
+				commands.add(verb);
+				switch (verb) {
+				case "USER":
+					reply(out, "331 Send password please.");
+					break;
+				case "PASS":
+					logons.incrementAndGet();
+					reply(out, "230 User is logged on.");
+					break;
+				case "SITE":
+					jes = argument.contains("FILETYPE=JES") || (jes && !argument.contains("FILETYPE=SEQ"));
+					reply(out, "200 SITE command was accepted");
+					break;
+				case "TYPE":
+				case "NOOP":
+					reply(out, "200 OK");
+					break;
+				case "PASV":
+					IOUtils.closeQuietly(dataServer);
+					dataServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+					int port = dataServer.getLocalPort();
+					reply(out, "227 Entering Passive Mode (127,0,0,1," + port / 256 + ',' + port % 256 + ")");
+					break;
+				case "RETR":
+					retrieve(out, dataServer, argument);
+					break;
+				case "STOR":
+					store(out, dataServer, jes);
+					break;
+				case "LIST":
+					list(out, dataServer, argument);
+					break;
+				case "QUIT":
+					reply(out, "221 Quit command received. Goodbye.");
+					return;
+				default:
+					reply(out, "502 Command not implemented");
+				}
+			}
+		} catch (IOException e) {
+			// the client dropped the connection
+		} finally {
+			IOUtils.closeQuietly(dataServer);
+		}
+	}
+
+	private void retrieve(Writer out, ServerSocket dataServer, String path) throws IOException {
+		String content;
+		synchronized (this) {
+			content = datasets.get(path.replace("'", ""));
+		}
+		if (content == null) {
+			reply(out, "550 Data set not found");
+			return;
+		}
+
+		reply(out, "125 Sending data set");
+		try (Socket data = dataServer.accept(); OutputStream dataOut = data.getOutputStream()) {
+			dataOut.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		reply(out, "250 Transfer completed successfully.");
+	}
+
+	private void store(Writer out, ServerSocket dataServer, boolean jes) throws IOException {
+		reply(out, "125 Storing data set");
+		String content;
+		try (Socket data = dataServer.accept()) {
+			content = IOUtils.toString(data.getInputStream(), StandardCharsets.UTF_8);
+		}
+		if (!jes) {
+			reply(out, "250 Transfer completed successfully.");
+			return;
+		}
+
+		Matcher name = JOB_NAME_PATTERN.matcher(content);
+		Matcher completion = COMPLETION_PATTERN.matcher(content);
+		String id = String.format("JOB%05d", nextJobNumber.getAndIncrement());
+		synchronized (this) {
+			jobs.put(id, new Job(name.find() ? name.group(1) : "NONAME", id, completion.find() ? completion.group() : "RC=0000",
+					HOLD_PATTERN.matcher(content).find(), PURGE_PATTERN.matcher(content).find()));
+		}
+		reply(out, "250-It is known to JES as " + id);
+		reply(out, "250 Transfer completed successfully.");
+	}
+
+	private void list(Writer out, ServerSocket dataServer, String jobId) throws IOException {
+		StringBuilder listing = new StringBuilder("JOBNAME  JOBID    OWNER    STATUS CLASS\r\n");
+		boolean found = false;
+		synchronized (this) {
+			for (Job job : jobs.values()) {
+				if (job.purged || (jobId != null && !jobId.equals(job.id))) {
+					continue;
+				}
+
+				found = true;
+				String status;
+				if (job.held) {
+					status = "INPUT  A";
+				} else {
+					status = job.listings++ == 0 ? "ACTIVE A" : "OUTPUT A        " + job.completion + " 3 spool files";
+				}
+				listing.append(String.format("%-8s %-8s TESTER   %s%n", job.name, job.id, status));
+			}
+		}
+		if (jobId != null && !found) {
+			reply(out, "550 No jobs found for JESJOBNAME=*, JESSTATUS=ALL and JESOWNER=TESTER");
+			return;
+		}
+
+		reply(out, "125 List started OK for JESJOBNAME=*, JESSTATUS=ALL and JESOWNER=TESTER");
+		try (Socket data = dataServer.accept(); OutputStream dataOut = data.getOutputStream()) {
+			dataOut.write(listing.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		reply(out, "250 List completed successfully.");
+	}
+
+	private static void reply(Writer out, String reply) throws IOException {
+		out.write(reply);
+		out.write("\r\n");
+		out.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+}
@@ -0,0 +1,371 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+
+/**
+ * A stand-in for the z/OSMF REST jobs interface in tests. Each job is listed as active on the first listing after its submission
+ * and completes on the next one, with a return code of <code>CC 0000</code> unless its JCL holds <code>ABEND=</code> or
+ * <code>RC=</code> followed by the completion to report. A job whose JCL holds <code>TYPRUN=HOLD</code> stays in the input queue,
+ * and one whose JCL holds <code>PURGE</code> is never listed. Every job has a JES message log and a <code>SYSPRINT</code> spool file
+ * holding its JCL. Requests are authenticated with a password or with the session token cookie returned by a logon.
+ */
+@SuppressWarnings("nls")
+public class StandInZosmfServer implements Closeable {
+	private static final Pattern JOB_NAME_PATTERN = Pattern.compile("(?m)^//(\\S+)\\s+JOB\\b");
+	private static final Pattern COMPLETION_PATTERN = Pattern.compile("\\b(ABEND|RC)=(\\w+)");
+	private static final Pattern HOLD_PATTERN = Pattern.compile("\\bTYPRUN=HOLD\\b");
+	private static final Pattern PURGE_PATTERN = Pattern.compile("\\bPURGE\\b");
+	private static final Pattern JOB_PATH_PATTERN = Pattern
+			.compile(Pattern.quote(TopazUtilitiesConstants.ZOSMF_JOBS_PATH) + "/([^/]+)/([^/]+)(/files(?:/(\\d+)/records)?)?");
+
+	private static final class Job {
+		private final String name;
+		private final String id;
+		private final String jcl;
+		private final String retcode;
+		private int listings;
+
+		private Job(String name, String id, String jcl, String retcode) {
+			this.name = name;
+			this.id = id;
+			this.jcl = jcl;
+			this.retcode = retcode;
+		}
+
+		private JSONObject toJson() {
+			JSONObject json = new JSONObject();
+			json.put("jobname", name);
+			json.put("jobid", id);
+			json.put("owner", "TESTER");
+			boolean held = HOLD_PATTERN.matcher(jcl).find();
+			json.put("status", held ? "INPUT" : listings < 2 ? "ACTIVE" : "OUTPUT");
+			json.put("retcode", held || listings < 2 ? JSONNull.getInstance() : retcode);
+			return json;
+		}
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Map<String, String> datasets = new HashMap<>();
+	private final Map<String, Job> jobs = new LinkedHashMap<>();
+	private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+	private final Set<Integer> clientPorts = Collections.synchronizedSet(new HashSet<>());
+	private final AtomicInteger inFlightSubmits = new AtomicInteger();
+	private final AtomicInteger maxInFlightSubmits = new AtomicInteger();
+	private final Set<String> sessionTokens = Collections.synchronizedSet(new HashSet<>());
+	private final AtomicInteger logons = new AtomicInteger();
+	private final AtomicInteger logoffs = new AtomicInteger();
+	private final AtomicInteger passwordAuthentications = new AtomicInteger();
+	private volatile long submitDelayMillis;
+	private volatile boolean listingJobs = true;
+
+	/**
+	 * Starts the server on a free loopback port.
+	 * 
+	 * @throws IOException
+	 *             if the server could not be started
+	 */
+	public StandInZosmfServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext(TopazUtilitiesConstants.ZOSMF_JOBS_PATH, this::handle);
+		server.createContext(TopazUtilitiesConstants.ZOSMF_AUTHENTICATE_PATH, this::authenticate);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * Gets the URL of the server.
+	 * 
+	 * @return the URL
+	 */
+	public String getUrl() {
+		return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ':' + server.getAddress().getPort();
+	}
+
+	/**
+	 * Adds a dataset or dataset member that jobs can be submitted from.
+	 * 
+	 * @param name
+	 *            the dataset name, such as <code>A.B.JCL(MEMBER)</code>
+	 * @param content
+	 *            the JCL
+	 */
+	public synchronized void putDataset(String name, String content) {
+		datasets.put(name, content);
+	}
+
+	/**
+	 * Sets how long each submission takes, so concurrent submissions overlap.
+	 * 
+	 * @param submitDelayMillis
+	 *            the submission time
+	 */
+	public void setSubmitDelayMillis(long submitDelayMillis) {
+		this.submitDelayMillis = submitDelayMillis;
+	}
+
+	/**
+	 * Sets whether the user's job listing includes the submitted jobs; when it does not, each job must be read on its own.
+	 * 
+	 * @param listingJobs
+	 *            <code>false</code> to return empty job listings
+	 */
+	public void setListingJobs(boolean listingJobs) {
+		this.listingJobs = listingJobs;
+	}
+
+	/**
+	 * Gets the requests received so far.
+	 * 
+	 * @return the method and path of each request
+	 */
+	public List<String> getRequests() {
+		synchronized (requests) {
+			return new ArrayList<>(requests);
+		}
+	}
+
+	/**
+	 * Gets the number of distinct client connections the requests were received on.
+	 * 
+	 * @return the connection count
+	 */
+	public int getConnectionCount() {
+		return clientPorts.size();
+	}
+
+	/**
+	 * Gets the highest number of submissions that were received at the same time.
+	 * 
+	 * @return the concurrent submission count
+	 */
+	public int getMaxConcurrentSubmits() {
+		return maxInFlightSubmits.get();
+	}
+
+	/**
+	 * Gets the number of logons.
+	 * 
+	 * @return the logon count
+	 */
+	public int getLogons() {
+		return logons.get();
+	}
+
+	/**
+	 * Gets the number of logoffs.
+	 * 
+	 * @return the logoff count
+	 */
+	public int getLogoffs() {
+		return logoffs.get();
+	}
+
+	/**
+	 * Gets the number of requests, including logons, that were authenticated with a password.
+	 * 
+	 * @return the password authentication count
+	 */
+	public int getPasswordAuthentications() {
+		return passwordAuthentications.get();
+	}
+
+	private boolean isAuthenticated(HttpExchange exchange) {
+		String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+		if (cookie != null) {
+			return sessionTokens.contains(cookie);
+		}
+
+		if (exchange.getRequestHeaders().containsKey("Authorization")) {
+			passwordAuthentications.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	private void authenticate(HttpExchange exchange) throws IOException {
+		try {
+			String method = exchange.getRequestMethod();
+			requests.add(method + ' ' + exchange.getRequestURI().getPath());
+			if ("POST".equals(method) && isAuthenticated(exchange)) {
+				String token = "LtpaToken2=token" + logons.incrementAndGet();
+				sessionTokens.add(token);
+				exchange.getResponseHeaders().add("Set-Cookie", token + "; Path=/; Secure; HttpOnly");
+				respond(exchange, 200, "{}");
+			} else if ("DELETE".equals(method) && sessionTokens.remove(exchange.getRequestHeaders().getFirst("Cookie"))) {
+				logoffs.incrementAndGet();
+				respond(exchange, 204, "");
+			} else {
+				respond(exchange, 401, "{}");
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			String path = exchange.getRequestURI().getPath();
+			String method = exchange.getRequestMethod();
+			requests.add(method + ' ' + path);
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+
+			if (!isAuthenticated(exchange)) {
+				respond(exchange, 401, "{}");
+			} else if (!exchange.getRequestHeaders().containsKey(TopazUtilitiesConstants.ZOSMF_CSRF_HEADER)) {
+				respond(exchange, 403, "{}");
+			} else if ("PUT".equals(method) && path.equals(TopazUtilitiesConstants.ZOSMF_JOBS_PATH)) {
+				submit(exchange, body);
+			} else if ("GET".equals(method) && path.equals(TopazUtilitiesConstants.ZOSMF_JOBS_PATH)) {
+				respond(exchange, 200, list().toString());
+			} else {
+				Matcher matcher = JOB_PATH_PATTERN.matcher(path);
+				Job job;
+				synchronized (this) {
+					job = matcher.matches() ? jobs.get(matcher.group(2)) : null;
+				}
+				if (job != null && PURGE_PATTERN.matcher(job.jcl).find()) {
+					job = null;
+				}
+
+				if (!"GET".equals(method) || job == null || !job.name.equals(matcher.group(1))) {
+					respond(exchange, 404, "{\"rc\":4,\"message\":\"No job found\"}");
+				} else if (matcher.group(3) == null) {
+					synchronized (this) {
+						job.listings++;
+						respond(exchange, 200, job.toJson().toString());
+					}
+				} else if (matcher.group(4) == null) {
+					respond(exchange, 200, "[{\"id\":2,\"ddname\":\"JESMSGLG\",\"stepname\":\"JES2\"},"
+							+ "{\"id\":102,\"ddname\":\"SYSPRINT\",\"stepname\":\"STEP1\"}]");
+				} else {
+					respond(exchange, 200, "2".equals(matcher.group(4)) ? "JOB LOG " + job.name + ' ' + job.id + '\n' : job.jcl);
+				}
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void submit(HttpExchange exchange, String body) throws IOException {
+		int inFlight = inFlightSubmits.incrementAndGet();
+		maxInFlightSubmits.accumulateAndGet(inFlight, Math::max);
+		try {
+			Thread.sleep(submitDelayMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			inFlightSubmits.decrementAndGet();
+		}
+
+		String jcl = body;
+		if (exchange.getRequestHeaders().getFirst("Content-Type").startsWith("application/json")) {
+			String file = JSONObject.fromObject(body).getString("file");
+			synchronized (this) {
+				jcl = datasets.get(file.substring(3, file.length() - 1));
+			}
+
+			if (jcl == null) {
+				respond(exchange, 400, "{\"rc\":4,\"message\":\"Dataset not found: " + file + "\"}");
+				return;
+			}
+		}
+
+		Matcher name = JOB_NAME_PATTERN.matcher(jcl);
+		if (!name.find()) {
+			respond(exchange, 400, "{\"rc\":4,\"message\":\"No JOB statement\"}");
+			return;
+		}
+
+		Matcher completion = COMPLETION_PATTERN.matcher(jcl);
+		String retcode = "CC 0000";
+		if (completion.find()) {
+			retcode = ("ABEND".equals(completion.group(1)) ? "ABEND " : "CC ") + completion.group(2);
+		}
+
+		Job job;
+		synchronized (this) {
+			job = new Job(name.group(1), String.format("JOB%05d", jobs.size() + 1), jcl, retcode);
+			jobs.put(job.id, job);
+		}
+		respond(exchange, 201, job.toJson().toString());
+	}
+
+	private synchronized JSONArray list() {
+		JSONArray listing = new JSONArray();
+		if (listingJobs) {
+			for (Job job : jobs.values()) {
+				if (!PURGE_PATTERN.matcher(job.jcl).find()) {
+					job.listings++;
+					listing.add(job.toJson());
+				}
+			}
+		}
+		return listing;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length > 0 ? bytes.length : -1);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
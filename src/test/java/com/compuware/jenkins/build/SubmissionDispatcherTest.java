@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import hudson.AbortException;
+
+/**
+ * Test cases for {@link SubmissionDispatcher}.
+ */
+@SuppressWarnings("nls")
+public class SubmissionDispatcherTest {
+
+	private static List<String> workItems(int count) {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			items.add("A.B.JCL(MEM" + i + ')');
+		}
+
+		return items;
+	}
+
+	/**
+	 * Test that batches keep every work item once and in order.
+	 */
+	@Test
+	public void testPartition() {
+		List<List<String>> batches = SubmissionDispatcher.partition(Arrays.asList("a", "b", "c", "d", "e"), 2);
+
+		assertThat(batches, contains(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Collections.singletonList("e")));
+	}
+
+	/**
+	 * Test the slot count and batch size derived from the connection capacities.
+	 */
+	@Test
+	public void testBatchSize() {
+		Map<String, Integer> capacities = new LinkedHashMap<>();
+		capacities.put("lpar1", 3);
+		capacities.put("lpar2", 1);
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(capacities);
+
+		assertThat(dispatcher.getSlotCount(), is(4));
+		assertThat(dispatcher.getBatchSize(5), is(1));
+		assertThat(dispatcher.getBatchSize(100), is(7));
+	}
+
+	/**
+	 * Test that every batch is submitted and that a connection with a higher capacity takes more of the work.
+	 */
+	@Test
+	public void testWeightedDispatch() throws IOException, InterruptedException {
+		Map<String, Integer> capacities = new LinkedHashMap<>();
+		capacities.put("lpar1", 3);
+		capacities.put("lpar2", 1);
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(capacities);
+
+		Map<String, AtomicInteger> submitted = new ConcurrentHashMap<>();
+		List<String> items = workItems(40);
+		dispatcher.dispatch(items, 1, (connectionId, batch) -> {
+			submitted.computeIfAbsent(connectionId, key -> new AtomicInteger()).addAndGet(batch.size());
+			Thread.sleep(20);
+		});
+
+		assertThat(submitted.get("lpar1").get() + submitted.get("lpar2").get(), is(40));
+		assertThat(submitted.get("lpar1").get(), is(greaterThan(submitted.get("lpar2").get())));
+	}
+
+	/**
+	 * Test that a connection with an adaptive limit runs no more batches at a time than its current limit.
+	 */
+	@Test
+	public void testAdaptiveLimit() throws IOException, InterruptedException {
+		AdaptiveConcurrencyLimit adaptiveLimit = new AdaptiveConcurrencyLimit(2, 6, 60000L, 2.0);
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(Collections.singletonMap("lpar1", 2),
+				Collections.singletonMap("lpar1", adaptiveLimit));
+		assertThat(dispatcher.getSlotCount(), is(2));
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger submitted = new AtomicInteger();
+		dispatcher.dispatch(workItems(20), 1, (connectionId, batch) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			running.decrementAndGet();
+			submitted.incrementAndGet();
+		});
+
+		assertThat(submitted.get(), is(20));
+		assertThat(maxRunning.get(), is(2));
+		assertThat(adaptiveLimit.getInFlight(), is(0));
+	}
+
+	/**
+	 * Test that no further batches are started once a batch failed, and that the failure is rethrown.
+	 */
+	@Test
+	public void testFailureStopsDispatch() throws InterruptedException {
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(Collections.singletonMap("lpar1", 1));
+
+		AtomicInteger submitted = new AtomicInteger();
+		try {
+			dispatcher.dispatch(workItems(10), 1, (connectionId, batch) -> {
+				if (submitted.incrementAndGet() == 3) {
+					throw new AbortException("Call SubmitJclCLI.sh exited with value = 1");
+				}
+			});
+			fail("Expected the failing batch to be rethrown.");
+		} catch (IOException e) {
+			assertThat(e, is(instanceOf(AbortException.class)));
+		}
+
+		assertThat(submitted.get(), is(3));
+	}
+
+	/**
+	 * Test that the failure rethrown is the one that happened first, whatever the order of the connections.
+	 */
+	@Test
+	public void testFirstFailureRethrown() throws InterruptedException {
+		Map<String, Integer> capacities = new LinkedHashMap<>();
+		capacities.put("lpar1", 1);
+		capacities.put("lpar2", 1);
+		SubmissionDispatcher dispatcher = new SubmissionDispatcher(capacities);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch failed = new CountDownLatch(1);
+		try {
+			dispatcher.dispatch(workItems(2), 1, (connectionId, batch) -> {
+				if ("lpar1".equals(connectionId)) {
+					started.countDown();
+					failed.await();
+					Thread.sleep(200);
+					throw new AbortException("late");
+				}
+
+				started.await();
+				failed.countDown();
+				throw new AbortException("early");
+			});
+			fail("Expected the failing batch to be rethrown.");
+		} catch (IOException e) {
+			assertThat(e.getMessage(), is("early"));
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SubmissionJournal}.
+ */
+@SuppressWarnings("nls")
+public class SubmissionJournalTest {
+
+	/**
+	 * Test that only completed work items of the same scope are reported as completed.
+	 */
+	@Test
+	public void testCompletedItemKeys() {
+		SubmissionJournal journal = new SubmissionJournal();
+		journal.record("scope1", Arrays.asList("A.B.JCL(M1)", "A.B.JCL(M2)"), "conn1", SubmissionJournal.State.IN_FLIGHT,
+				Collections.<JobResult>emptyList());
+		journal.record("scope1", Arrays.asList("A.B.JCL(M1)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Arrays.asList(new JobResult("M1JOB", "JOB00001", "0000", 1000L)));
+		journal.record("scope2", Arrays.asList("A.B.JCL(M3)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList());
+
+		assertThat(journal.getCompletedItemKeys("scope1"), contains("A.B.JCL(M1)"));
+		assertThat(journal.getCompletedItemKeys(null), containsInAnyOrder("A.B.JCL(M1)", "A.B.JCL(M3)"));
+		assertThat(journal.getInFlightEntries("scope1").size(), is(1));
+		assertThat(journal.getInFlightEntries("scope1").get(0).getItemKey(), is("A.B.JCL(M2)"));
+		assertThat(journal.getEntries().size(), is(3));
+	}
+
+	/**
+	 * Test that completed work items of an earlier build are carried over to a scope of the current build, keeping their origin.
+	 */
+	@Test
+	public void testCarryOver() {
+		SubmissionJournal previous = new SubmissionJournal();
+		previous.record("old", "step1", Arrays.asList("A.B.JCL(M1)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), Collections.<String, String>emptyMap());
+		previous.record("old", "step1", Arrays.asList("A.B.JCL(M2)"), "conn1", SubmissionJournal.State.FAILED,
+				Collections.<JobResult>emptyList(), Collections.<String, String>emptyMap());
+
+		SubmissionJournal journal = new SubmissionJournal();
+		assertThat(journal.carryOver(previous, 7, "new", "step1"), is(1));
+		assertThat(journal.getCompletedItemKeys("new"), contains("A.B.JCL(M1)"));
+		assertThat(journal.getEntries().get(0).getCarriedFrom(), is(7));
+		assertThat(journal.getEntries().get(0).getScope(), is("new"));
+
+		SubmissionJournal next = new SubmissionJournal();
+		next.carryOver(journal, 8, "newer", "step1");
+		assertThat("Expected the original build to be kept.", next.getEntries().get(0).getCarriedFrom(), is(7));
+	}
+
+	/**
+	 * Test that work items carried over to one step execution are not skipped by another step execution of the same build, and that
+	 * a carried entry never replaces an entry the step execution journaled itself.
+	 */
+	@Test
+	public void testCarryOverScopes() {
+		SubmissionJournal previous = new SubmissionJournal();
+		previous.record("old", Arrays.asList("A.B.JCL(M1)", "A.B.JCL(M2)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList());
+
+		SubmissionJournal journal = new SubmissionJournal();
+		journal.record("stepA", Arrays.asList("A.B.JCL(M2)"), "conn1", SubmissionJournal.State.IN_FLIGHT,
+				Collections.<JobResult>emptyList());
+		assertThat(journal.carryOver(previous, 7, "stepA", null), is(1));
+
+		assertThat(journal.getCompletedItemKeys("stepA"), contains("A.B.JCL(M1)"));
+		assertThat(journal.getInFlightEntries("stepA").size(), is(1));
+		assertThat(journal.getCompletedItemKeys("stepB"), is(empty()));
+
+		journal.record("stepB", Arrays.asList("A.B.JCL(M1)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList());
+		assertThat(journal.getCompletedItemKeys("stepB"), contains("A.B.JCL(M1)"));
+		assertThat(journal.getEntries().size(), is(3));
+	}
+
+	/**
+	 * Test that only the work items the same step completed in an earlier build are carried over to it.
+	 */
+	@Test
+	public void testCarryOverStepIdentity() {
+		SubmissionJournal previous = new SubmissionJournal();
+		previous.record("oldA", "stepA", Arrays.asList("A.B.JCL(M1)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), Collections.<String, String>emptyMap());
+		previous.record("oldB", "stepB", Arrays.asList("A.B.JCL(M2)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), Collections.<String, String>emptyMap());
+
+		SubmissionJournal journal = new SubmissionJournal();
+		assertThat(journal.carryOver(previous, 7, "newB", "stepB"), is(1));
+		assertThat(journal.getCompletedItemKeys("newB"), contains("A.B.JCL(M2)"));
+		assertThat(journal.getEntries().get(0).getStepId(), is("stepB"));
+		assertThat(journal.carryOver(previous, 7, "newC", "stepC"), is(0));
+		assertThat(journal.getCompletedItemKeys("newC"), is(empty()));
+	}
+
+	/**
+	 * Test that fingerprints are kept with completed work items, including those carried over to a later build.
+	 */
+	@Test
+	public void testFingerprints() {
+		SubmissionJournal previous = new SubmissionJournal();
+		Map<String, String> fingerprints = new HashMap<>();
+		fingerprints.put("A.B.JCL(M1)", "ispf:01.02|2026/10/18 10:22|40|USER1");
+		fingerprints.put("A.B.JCL(M2)", "ispf:01.01|2026/10/17 09:00|12|USER1");
+		previous.record("old", "step1", Arrays.asList("A.B.JCL(M1)", "A.B.JCL(M2)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), fingerprints);
+		previous.record("old", "step1", Arrays.asList("A.B.JCL(M3)"), "conn1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), Collections.<String, String>emptyMap());
+
+		assertThat(previous.getCompletedFingerprint("step1", "A.B.JCL(M1)"), is("ispf:01.02|2026/10/18 10:22|40|USER1"));
+		assertThat(previous.getCompletedFingerprint("step1", "A.B.JCL(M3)"), is(nullValue()));
+		assertThat(previous.getCompletedFingerprint("step1", "A.B.JCL(M4)"), is(nullValue()));
+
+		SubmissionJournal journal = new SubmissionJournal();
+		assertThat(journal.carryOver(previous, 7, "new", "step1", Collections.singleton("A.B.JCL(M2)")), is(1));
+		assertThat(journal.getCompletedItemKeys("new"), contains("A.B.JCL(M2)"));
+		assertThat(journal.getCompletedFingerprint("step1", "A.B.JCL(M2)"), is("ispf:01.01|2026/10/17 09:00|12|USER1"));
+		assertThat(journal.getCompletedFingerprint("step1", "A.B.JCL(M1)"), is(nullValue()));
+	}
+
+	/**
+	 * Test that two steps submitting the same member, each to its own host connection, only compare with and carry over the member
+	 * they completed themselves.
+	 */
+	@Test
+	public void testFingerprintsOfTwoSteps() {
+		String fingerprint = "ispf:01.02|2026/10/18 10:22|40|USER1";
+		SubmissionJournal previous = new SubmissionJournal();
+		previous.record("oldA", "stepA", Arrays.asList("A.B.JCL(PAYJOB)"), "lpar1", SubmissionJournal.State.COMPLETED,
+				Collections.<JobResult>emptyList(), Collections.singletonMap("A.B.JCL(PAYJOB)", fingerprint));
+		previous.record("oldB", "stepB", Arrays.asList("A.B.JCL(PAYJOB)"), "lpar2", SubmissionJournal.State.FAILED,
+				Collections.<JobResult>emptyList(), Collections.singletonMap("A.B.JCL(PAYJOB)", fingerprint));
+
+		assertThat(previous.getCompletedFingerprint("stepA", "A.B.JCL(PAYJOB)"), is(fingerprint));
+		assertThat(previous.getCompletedFingerprint("stepB", "A.B.JCL(PAYJOB)"), is(nullValue()));
+
+		SubmissionJournal journal = new SubmissionJournal();
+		assertThat(journal.carryOver(previous, 7, "newB", "stepB", Collections.singleton("A.B.JCL(PAYJOB)")), is(0));
+		assertThat(journal.getCompletedItemKeys("newB"), is(empty()));
+		assertThat(journal.carryOver(previous, 7, "newA", "stepA", Collections.singleton("A.B.JCL(PAYJOB)")), is(1));
+		assertThat(journal.getEntries().get(0).getConnectionId(), is("lpar1"));
+	}
+
+	/**
+	 * Test that long or multi-line work items are journaled by digest.
+	 */
+	@Test
+	public void testItemKey() {
+		assertThat(SubmissionJournal.getItemKey("A.B.JCL(M1)"), is("A.B.JCL(M1)"));
+		String jcl = "//PAYJOB JOB (ACCT),'PAY'\n//STEP1 EXEC PGM=IEFBR14\n";
+		assertThat(SubmissionJournal.getItemKey(jcl), startsWith("sha256:"));
+		assertThat(SubmissionJournal.getItemKey(jcl), is(SubmissionJournal.getItemKey(jcl)));
+	}
+}
@@ -0,0 +1,213 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import hudson.model.FreeStyleBuild;
+
+/**
+ * Test cases for {@link SubmissionScheduler}.
+ */
+@SuppressWarnings("nls")
+public class SubmissionSchedulerTest {
+
+	private static final long TIMEOUT_MILLIS = 10000;
+
+	public @Rule JenkinsRule rule = new JenkinsRule();
+
+	/**
+	 * Test that a freed slot goes to the waiting submission of the highest priority, then in queue order.
+	 */
+	@Test
+	public void testPriorityOrder() throws Exception {
+		SubmissionScheduler scheduler = new SubmissionScheduler(TimeUnit.HOURS.toMillis(1));
+		List<String> granted = Collections.synchronizedList(new ArrayList<>());
+
+		SubmissionScheduler.Ticket first = scheduler.acquire("conn", SubmissionScheduler.Priority.LOW, 1);
+		List<Thread> waiters = new ArrayList<>();
+		waiters.add(startWaiter(scheduler, "low", SubmissionScheduler.Priority.LOW, granted));
+		awaitWaiting(scheduler, 1);
+		waiters.add(startWaiter(scheduler, "normal", SubmissionScheduler.Priority.NORMAL, granted));
+		awaitWaiting(scheduler, 2);
+		waiters.add(startWaiter(scheduler, "high", SubmissionScheduler.Priority.HIGH, granted));
+		awaitWaiting(scheduler, 3);
+		waiters.add(startWaiter(scheduler, "high2", SubmissionScheduler.Priority.HIGH, granted));
+		awaitWaiting(scheduler, 4);
+
+		assertThat(getStats(scheduler).getRunning(), is(1));
+		first.close();
+		first.close();
+		for (Thread waiter : waiters) {
+			waiter.join(TIMEOUT_MILLIS);
+		}
+
+		assertThat(granted, is(Arrays.asList("high", "high2", "normal", "low")));
+		SubmissionScheduler.Stats stats = getStats(scheduler);
+		assertThat(stats.getConnectionId(), is("conn"));
+		assertThat(stats.getWaiting(), is(0));
+		assertThat(stats.getRunning(), is(0));
+		assertThat(stats.getGranted(), is(5L));
+		assertThat(stats.getMaxWaitMillis(), is(greaterThan(0L)));
+		assertThat(stats.getAverageWaitMillis(), is(lessThanOrEqualTo(stats.getMaxWaitMillis())));
+	}
+
+	/**
+	 * Test that a low priority submission that waited longer than its aging ranks ahead of newly queued high priority work.
+	 */
+	@Test
+	public void testAging() throws Exception {
+		SubmissionScheduler scheduler = new SubmissionScheduler(50);
+		List<String> granted = Collections.synchronizedList(new ArrayList<>());
+
+		SubmissionScheduler.Ticket first = scheduler.acquire("conn", SubmissionScheduler.Priority.NORMAL, 1);
+		Thread low = startWaiter(scheduler, "low", SubmissionScheduler.Priority.LOW, granted);
+		awaitWaiting(scheduler, 1);
+		Thread.sleep(300);
+		Thread high = startWaiter(scheduler, "high", SubmissionScheduler.Priority.HIGH, granted);
+		awaitWaiting(scheduler, 2);
+
+		first.close();
+		low.join(TIMEOUT_MILLIS);
+		high.join(TIMEOUT_MILLIS);
+		assertThat(granted, is(Arrays.asList("low", "high")));
+	}
+
+	/**
+	 * Test that a connection without a slot limit never queues submissions.
+	 */
+	@Test
+	public void testUnlimitedSlots() throws Exception {
+		SubmissionScheduler scheduler = new SubmissionScheduler(TimeUnit.HOURS.toMillis(1));
+		List<SubmissionScheduler.Ticket> tickets = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			tickets.add(scheduler.acquire("conn", SubmissionScheduler.Priority.LOW, 0));
+		}
+
+		assertThat(getStats(scheduler).getRunning(), is(10));
+		assertThat(getStats(scheduler).getWaiting(), is(0));
+		for (SubmissionScheduler.Ticket ticket : tickets) {
+			ticket.close();
+		}
+		assertThat(getStats(scheduler).getRunning(), is(0));
+	}
+
+	/**
+	 * Test that an interrupted submission leaves the queue without taking a slot.
+	 */
+	@Test
+	public void testInterrupted() throws Exception {
+		SubmissionScheduler scheduler = new SubmissionScheduler(TimeUnit.HOURS.toMillis(1));
+		List<String> granted = Collections.synchronizedList(new ArrayList<>());
+
+		SubmissionScheduler.Ticket first = scheduler.acquire("conn", SubmissionScheduler.Priority.NORMAL, 1);
+		Thread waiter = startWaiter(scheduler, "waiter", SubmissionScheduler.Priority.HIGH, granted);
+		awaitWaiting(scheduler, 1);
+		waiter.interrupt();
+		waiter.join(TIMEOUT_MILLIS);
+
+		assertThat(granted, is(empty()));
+		assertThat(getStats(scheduler).getWaiting(), is(0));
+		first.close();
+		assertThat(getStats(scheduler).getRunning(), is(0));
+	}
+
+	/**
+	 * Test that priority class names are parsed regardless of case.
+	 */
+	@Test
+	public void testParse() {
+		assertThat(SubmissionScheduler.Priority.parse(" high "), is(SubmissionScheduler.Priority.HIGH));
+		assertThat(SubmissionScheduler.Priority.parse("Low"), is(SubmissionScheduler.Priority.LOW));
+		assertThat(SubmissionScheduler.Priority.parse("urgent"), is(nullValue()));
+		assertThat(SubmissionScheduler.Priority.parse(null), is(nullValue()));
+	}
+
+	/**
+	 * Test that a step's own priority class takes precedence over the global priority rules, which match the job's full name.
+	 */
+	@Test
+	public void testSubmissionPriority() throws Exception {
+		TopazUtilitiesConfiguration configuration = TopazUtilitiesConfiguration.get();
+		configuration.setPriorityRules("# release trains first\nrelease/**=HIGH\n**/nightly-*=low\npayroll?=NORMAL\nbad rule\n");
+
+		assertThat(configuration.getPriority("release/payroll"), is(SubmissionScheduler.Priority.HIGH));
+		assertThat(configuration.getPriority("release/2026/payroll"), is(SubmissionScheduler.Priority.HIGH));
+		assertThat(configuration.getPriority("nightly-payroll"), is(SubmissionScheduler.Priority.LOW));
+		assertThat(configuration.getPriority("team/nightly-payroll"), is(SubmissionScheduler.Priority.LOW));
+		assertThat(configuration.getPriority("payroll1"), is(SubmissionScheduler.Priority.NORMAL));
+		assertThat(configuration.getPriority("payroll12"), is(nullValue()));
+		assertThat(configuration.getPriority("team/release/payroll"), is(nullValue()));
+
+		FreeStyleBuild build = rule.buildAndAssertSuccess(rule.createFreeStyleProject("nightly-payroll"));
+		SubmitJclBuilder builder = new SubmitJclBuilder("connectionId", "credentialsId", "4", "jcl");
+		assertThat(builder.getSubmissionPriority(build), is(SubmissionScheduler.Priority.LOW));
+
+		builder.setPriority("high");
+		assertThat(builder.getPriority(), is("HIGH"));
+		assertThat(builder.getSubmissionPriority(build), is(SubmissionScheduler.Priority.HIGH));
+
+		try {
+			builder.setPriority("urgent");
+			fail("An unknown priority class should be rejected");
+		} catch (IllegalArgumentException e) {
+			assertThat(e.getMessage(), is(Messages.priorityUnknown("urgent")));
+		}
+		assertThat(builder.getPriority(), is("HIGH"));
+
+		builder.setPriority("");
+		configuration.setPriorityRules(null);
+		assertThat(builder.getSubmissionPriority(build), is(SubmissionScheduler.Priority.NORMAL));
+	}
+
+
+	private static Thread startWaiter(SubmissionScheduler scheduler, String name, SubmissionScheduler.Priority priority,
+			List<String> granted) {
+		Thread thread = new Thread(() -> {
+			try (SubmissionScheduler.Ticket ticket = scheduler.acquire("conn", priority, 1)) {
+				granted.add(name);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, name);
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitWaiting(SubmissionScheduler scheduler, int waiting) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (getStats(scheduler).getWaiting() < waiting && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(getStats(scheduler).getWaiting(), is(waiting));
+	}
+
+	private static SubmissionScheduler.Stats getStats(SubmissionScheduler scheduler) {
+		return scheduler.getStats().get(0);
+	}
+}
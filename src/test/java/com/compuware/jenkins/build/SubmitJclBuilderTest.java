@@ -28,7 +28,9 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -148,7 +150,21 @@ public class SubmitJclBuilderTest {
 	}
 
 	/**
-	 * Test method for {@link com.compuware.jenkins.build.SubmitJclBuilder#addArguments(Run<?, ?>, FilePath, Launcher, TaskListener, ArgumentListBuilder)}
+	 * Test method for {@link com.compuware.jenkins.build.SubmitJclBuilder#getWorkItems()}
+	 */
+	@Test
+	public void testGetWorkItems() {
+		String secondJob = "//TESTMIG2 JOB ('ACCT#',LOCAL),'NAME',CLASS=A\n" + "//STEP1 EXEC PGM=IEFBR14";
+		SubmitJclBuilder submitJclBuilder = new SubmitJclBuilder("connectionId", "credentialsId", "4", EXPECTED_JCL + "\n" + secondJob);
+
+		List<String> jobs = submitJclBuilder.getWorkItems();
+		assertThat("Expected SubmitJclBuilder.getWorkItems() to return one item per job.", jobs.size(), is(2));
+		assertThat("Expected the leading comments to stay with the first job.", jobs.get(0), is(equalTo(EXPECTED_JCL + "\n")));
+		assertThat(jobs.get(1), is(equalTo(secondJob)));
+	}
+
+	/**
+	 * Test method for {@link com.compuware.jenkins.build.SubmitJclBuilder#addArguments(Run<?, ?>, FilePath, Launcher, TaskListener, ArgumentListBuilder, List, Map)}
 	 */
 	@Test
 	public void testBuildArgumentList() throws IOException, InterruptedException {
@@ -157,13 +173,14 @@ public class SubmitJclBuilderTest {
 		TaskListener listener = Mockito.spy(new LogTaskListener(null, null));
 
 		List<String> argsList = null;
+		Map<String, String> stagedFiles = new LinkedHashMap<>();
 		File testLog = null;
 		try {
 			testLog = new File("testLog");
 			testLog.deleteOnExit();
 			Mockito.doReturn(new PrintStream(testLog)).when(listener).getLogger();
 			ArgumentListBuilder args = new ArgumentListBuilder();
-			submitJclBuilder.addArguments(null, workspace, null, listener, args);
+			submitJclBuilder.addArguments(null, workspace, null, listener, args, null, stagedFiles);
 
 			argsList = args.toList();
 
@@ -187,20 +204,38 @@ public class SubmitJclBuilderTest {
 
 			String trimmedFilePathString = StringUtils.stripStart(argsList.get(1), "\"");
 			trimmedFilePathString = StringUtils.stripEnd(trimmedFilePathString, "\"");
-			Path filePath = Paths.get(trimmedFilePathString);
-			assertThat("Expected SubmitJclBuilder.buildArgumentList() to create a temporary JCL file.", Files.exists(filePath), is(true));
+			assertThat("Expected SubmitJclBuilder.buildArgumentList() to stage the JCL file rather than write it.",
+					stagedFiles.get(trimmedFilePathString), is(equalTo(EXPECTED_JCL)));
+			assertThat(Files.exists(Paths.get(trimmedFilePathString)), is(false));
+		}
+	}
 
-			submitJclBuilder.cleanUp();
+	/**
+	 * Test that the jobs of free-form JCL stay on the step's own host connection unless they may be split over the pool.
+	 */
+	@Test
+	public void testSplitJobs() {
+		SubmitJclBuilder builder = new SubmitJclBuilder("lpar1", "credentialsId", "4", "//PAYJOB JOB\n//RPTJOB JOB\n");
+		builder.setAdditionalConnectionIds("lpar2");
+		assertThat(builder.getConnectionCapacities().keySet(), contains("lpar1"));
 
-			assertThat("Expected SubmitJclBuilder.cleanUp() to delete temporary JCL file.", Files.exists(filePath), is(false));
-		}
+		builder.setSplitJobs(true);
+		assertThat(builder.getConnectionCapacities().keySet(), contains("lpar1", "lpar2"));
 	}
 
 	/**
-	 * Test method for {@link com.compuware.jenkins.build.SubmitJclBuilder#cleanUp()}
+	 * Test that each job of free-form JCL is fingerprinted by its content, for incremental submission.
 	 */
-	// @Test
-	public void testCleanUp() {
-		// Test via other test methods.
+	@Test
+	public void testContentFingerprints() throws Exception {
+		SubmitJclBuilder builder = new SubmitJclBuilder("connectionId", "credentialsId", "4",
+				"//PAYJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n//RPTJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n");
+		List<String> jobs = builder.getWorkItems();
+		Map<String, String> fingerprints = builder.getContentFingerprints(null, null, jobs);
+
+		assertThat(fingerprints.size(), is(2));
+		assertThat(fingerprints.get(jobs.get(0)), startsWith("sha256:"));
+		assertThat(fingerprints.get(jobs.get(0)), is(not(fingerprints.get(jobs.get(1)))));
+		assertThat(builder.getContentFingerprints(null, null, jobs), is(fingerprints));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import hudson.EnvVars;
+import hudson.Functions;
+import hudson.util.ArgumentListBuilder;
+
+/**
+ * Test cases for {@link SubmitJclCallable} and {@link CliRunner}.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclCallableTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that a single call writes the staged files, launches the CLI, parses its output and cleans up.
+	 */
+	@Test
+	public void testCallStagesLaunchesAndCleansUp() throws IOException {
+		assumeFalse(Functions.isWindows());
+
+		File workDir = folder.newFolder("workspace");
+		File dataDir = new File(workDir, "TopazCliWkspc");
+		File staged = new File(workDir, "jcl.txt");
+		Map<String, String> stagedFiles = Collections.singletonMap(staged.getAbsolutePath(), "//PAYJOB JOB");
+
+		ArgumentListBuilder args = new ArgumentListBuilder("sh", "-c",
+				"mkdir TopazCliWkspc && cat jcl.txt && echo && echo 'Job PAYJOB(JOB04567) submitted'");
+		ByteArrayOutputStream log = new ByteArrayOutputStream();
+		SubmissionOutcome outcome = new SubmitJclCallable(args, new EnvVars(), workDir.getAbsolutePath(), dataDir.getAbsolutePath(),
+				stagedFiles, new CliRunner("SubmitJcl.sh", 2), 0, null, log, StandardCharsets.UTF_8).call();
+
+		assertThat(outcome.getExitValue(), is(0));
+		assertThat(outcome.getAttempts(), is(1));
+		assertThat(outcome.getJobs().get(0).getName(), is("PAYJOB"));
+		assertThat(outcome.getLogNames(), is(empty()));
+		assertThat(log.toString("UTF-8"), containsString("//PAYJOB JOB"));
+		assertThat(staged.exists(), is(false));
+		assertThat(dataDir.exists(), is(false));
+	}
+
+	/**
+	 * Test that the full output goes to a compressed log and only its summary to the build log when the console log is bounded.
+	 */
+	@Test
+	public void testBoundedLog() throws IOException {
+		assumeFalse(Functions.isWindows());
+
+		File workDir = folder.newFolder("workspace");
+		File logDir = new File(workDir, "logs");
+		ArgumentListBuilder args = new ArgumentListBuilder("sh", "-c", "echo 'Job PAYJOB(JOB04567) submitted'");
+		SubmissionOutcome outcome = new SubmitJclCallable(args, new EnvVars(), workDir.getAbsolutePath(),
+				new File(workDir, "data").getAbsolutePath(), Collections.<String, String>emptyMap(), new CliRunner("SubmitJcl.sh", 0), 0,
+				logDir.getAbsolutePath(), new ByteArrayOutputStream(), StandardCharsets.UTF_8).call();
+
+		assertThat(outcome.getLogNames().size(), is(1));
+		assertThat(new File(logDir, outcome.getLogNames().get(0)).length(), is(greaterThan(0L)));
+	}
+
+	/**
+	 * Test that a failure other than a transient connection failure is not retried and keeps the staged data.
+	 */
+	@Test
+	public void testFailureIsNotRetried() throws IOException {
+		assumeFalse(Functions.isWindows());
+
+		File workDir = folder.newFolder("workspace");
+		File dataDir = new File(workDir, "TopazCliWkspc");
+		ArgumentListBuilder args = new ArgumentListBuilder("sh", "-c",
+				"mkdir TopazCliWkspc && echo 'PAYJOB(JOB04567) completed with condition code 0008' && exit 8");
+		SubmissionOutcome outcome = new SubmitJclCallable(args, new EnvVars(), workDir.getAbsolutePath(), dataDir.getAbsolutePath(),
+				Collections.<String, String>emptyMap(), new CliRunner("SubmitJcl.sh", 2), 0, null, new ByteArrayOutputStream(),
+				StandardCharsets.UTF_8).call();
+
+		assertThat(outcome.getExitValue(), is(8));
+		assertThat(outcome.getAttempts(), is(1));
+		assertThat(outcome.getJobs().get(0).getReturnCode(), is(8));
+		assertThat(dataDir.exists(), is(true));
+	}
+}
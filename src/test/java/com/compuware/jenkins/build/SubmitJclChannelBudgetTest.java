@@ -0,0 +1,189 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.kohsuke.stapler.Stapler;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.impl.UsernamePasswordCredentialsImpl;
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+
+import hudson.FilePath;
+import hudson.Functions;
+import hudson.Launcher;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.TaskListener;
+import hudson.slaves.DumbSlave;
+import hudson.util.StreamTaskListener;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Runs the Submit JCL build steps on an agent over a {@link MeteredChannel} and holds each step to a budget of channel round trips
+ * and transferred bytes, so a change cannot quietly add channel chatter that slows down remote agents.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclChannelBudgetTest {
+	private static final String CONNECTION_ID = "12345";
+	private static final String CREDENTIALS_ID = "67890";
+	private static final String CLI_VERSION = "20.4.1";
+	private static final String CLI_VERSION_FILE = "versions.xml";
+	private static final long LATENCY_MILLIS = 50L;
+
+	// Budgets, per step; the CLI details are cached per agent, so a step makes a single call once they are known
+	private static final int CALL_BUDGET = 1;
+	// the probe of the CLI details, made by the first step on the agent
+	private static final int PROBE_CALL_BUDGET = 1;
+	// the single call, the artifact copy of the full log, and the deletion of the full log from the workspace
+	private static final int BOUNDED_LOG_CALL_BUDGET = 3;
+	// allowance on top of the build environment, which is sent with the call
+	private static final long BYTE_BUDGET = 16 * 1024L;
+
+	@Rule
+	public JenkinsRule jenkinsRule = new JenkinsRule();
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private MeteredChannel channel;
+	private Launcher launcher;
+	private FilePath workspace;
+	private FreeStyleBuild build;
+	private TaskListener listener;
+	private long environmentBytes;
+
+	/**
+	 * Starts an agent, installs a stand-in CLI that reports one submitted job, and builds an empty project to submit from.
+	 */
+	@Before
+	public void setup() throws Exception {
+		assumeFalse(Functions.isWindows());
+
+		File cliDir = folder.newFolder("cli");
+		File cliScript = new File(cliDir, TopazUtilitiesConstants.SUBMIT_JCL_CLI_SH);
+		new FilePath(cliScript).write("#!/bin/sh\necho 'Job PAYJOB(JOB04567) submitted'\n", "UTF-8");
+		assertTrue(cliScript.setExecutable(true));
+		new FilePath(new File(cliDir, CLI_VERSION_FILE)).write(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<versions>\n<version>" + CLI_VERSION + "</version>\n</versions>\n", "UTF-8");
+
+		JSONObject hostConnection = new JSONObject();
+		hostConnection.put("description", "TestConnection");
+		hostConnection.put("hostPort", "cw01:30947");
+		hostConnection.put("protocol", "TLSv1.2");
+		hostConnection.put("codePage", "1047");
+		hostConnection.put("timeout", "123");
+		hostConnection.put("connectionId", CONNECTION_ID);
+		hostConnection.put("cesUrl", "https://expectedcesurl/");
+
+		JSONArray hostConnections = new JSONArray();
+		hostConnections.add(hostConnection);
+
+		JSONObject json = new JSONObject();
+		json.put("hostConn", hostConnections);
+		json.put("topazCLILocationLinux", cliDir.getAbsolutePath());
+		json.put("topazCLILocationWindows", cliDir.getAbsolutePath());
+		CpwrGlobalConfiguration.get().configure(Stapler.getCurrentRequest(), json);
+
+		SystemCredentialsProvider.getInstance().getCredentials()
+				.add(new UsernamePasswordCredentialsImpl(CredentialsScope.GLOBAL, CREDENTIALS_ID, null, "xdevreg", "********"));
+		SystemCredentialsProvider.getInstance().save();
+
+		DumbSlave agent = jenkinsRule.createOnlineSlave();
+		FreeStyleProject project = jenkinsRule.createFreeStyleProject();
+		project.setAssignedNode(agent);
+		build = jenkinsRule.buildAndAssertSuccess(project);
+
+		listener = new StreamTaskListener(new ByteArrayOutputStream(), StandardCharsets.UTF_8);
+		channel = new MeteredChannel(agent.getChannel(), LATENCY_MILLIS);
+		launcher = new Launcher.RemoteLauncher(listener, channel, true);
+		workspace = new FilePath(channel, agent.getWorkspaceFor(project).getRemote());
+		environmentBytes = MeteredChannel.sizeOf(build.getEnvironment(listener));
+	}
+
+	private void assertWithinBudget(int callBudget) {
+		assertThat("Channel calls: " + channel.getCallNames(), channel.getCalls(), is(lessThanOrEqualTo(callBudget)));
+		assertThat("Channel bytes: " + channel.getCallNames(), channel.getBytes(), is(lessThanOrEqualTo(environmentBytes + BYTE_BUDGET)));
+	}
+
+	/**
+	 * Test that a free-form JCL submission stays within its channel budget.
+	 */
+	@Test
+	public void testSubmitJclBudget() throws Exception {
+		SubmitJclBuilder builder = new SubmitJclBuilder(CONNECTION_ID, CREDENTIALS_ID, "4", "//PAYJOB JOB\n//STEP1 EXEC PGM=IEFBR14");
+
+		SubmitJclResult result = builder.submitJcl(build, workspace, launcher, listener);
+
+		assertThat(result.getJob("PAYJOB"), is(notNullValue()));
+		assertWithinBudget(CALL_BUDGET + PROBE_CALL_BUDGET);
+	}
+
+	/**
+	 * Test that a JCL member submission stays within its channel budget.
+	 */
+	@Test
+	public void testSubmitJclMemberBudget() throws Exception {
+		SubmitJclMemberBuilder builder = new SubmitJclMemberBuilder(CONNECTION_ID, CREDENTIALS_ID, "4", "A.B.MYJCL\nA.B.MYJCL2");
+
+		SubmitJclResult result = builder.submitJcl(build, workspace, launcher, listener);
+
+		assertThat(result.getJobs().size(), is(1));
+		assertWithinBudget(CALL_BUDGET + PROBE_CALL_BUDGET);
+	}
+
+	/**
+	 * Test that a submission with a bounded console log only adds the calls needed to archive its full log.
+	 */
+	@Test
+	public void testBoundedLogBudget() throws Exception {
+		SubmitJclMemberBuilder builder = new SubmitJclMemberBuilder(CONNECTION_ID, CREDENTIALS_ID, "4", "A.B.MYJCL");
+		builder.setBoundedConsoleLog(true);
+
+		builder.submitJcl(build, workspace, launcher, listener);
+
+		assertWithinBudget(BOUNDED_LOG_CALL_BUDGET + PROBE_CALL_BUDGET);
+	}
+
+	/**
+	 * Test that only the first step of a build probes the agent, and that the budget holds for every later step, so per-agent
+	 * caching keeps working.
+	 */
+	@Test
+	public void testRepeatedStepsBudget() throws Exception {
+		SubmitJclBuilder builder = new SubmitJclBuilder(CONNECTION_ID, CREDENTIALS_ID, "4", "//PAYJOB JOB");
+		for (int i = 0; i < 3; i++) {
+			channel.reset();
+			builder.submitJcl(build, workspace, launcher, listener);
+			assertWithinBudget(i == 0 ? CALL_BUDGET + PROBE_CALL_BUDGET : CALL_BUDGET);
+		}
+	}
+}
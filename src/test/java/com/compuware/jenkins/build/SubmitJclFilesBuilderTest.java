@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.AbortException;
+import hudson.FilePath;
+import hudson.model.FreeStyleBuild;
+import hudson.model.TaskListener;
+import hudson.util.ArgumentListBuilder;
+import hudson.util.FormValidation;
+
+/**
+ * Test cases for {@link SubmitJclFilesBuilder}.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclFilesBuilderTest {
+
+	public @Rule JenkinsRule rule = new JenkinsRule();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that the matching files are listed relative to the workspace, in name order, and that no match fails the step.
+	 */
+	@Test
+	public void testListJclFiles() throws Exception {
+		FreeStyleBuild build = rule.buildAndAssertSuccess(rule.createFreeStyleProject());
+		FilePath workspace = new FilePath(folder.getRoot());
+		workspace.child("payroll/RPTJOB.jcl").write("//RPTJOB JOB\n", "UTF-8");
+		workspace.child("payroll/PAYJOB.jcl").write("//PAYJOB JOB\n", "UTF-8");
+		workspace.child("payroll/README.txt").write("notes", "UTF-8");
+
+		SubmitJclFilesBuilder builder = new SubmitJclFilesBuilder("connectionId", "credentialsId", "4", "payroll/*.jcl");
+		assertThat(builder.listJclFiles(build, workspace, TaskListener.NULL), is(Arrays.asList("payroll/PAYJOB.jcl", "payroll/RPTJOB.jcl")));
+
+		builder = new SubmitJclFilesBuilder("connectionId", "credentialsId", "4", "billing/*.jcl");
+		try {
+			builder.listJclFiles(build, workspace, TaskListener.NULL);
+			fail("Expected the step to fail when no file matches.");
+		} catch (AbortException e) {
+			assertThat(e.getMessage(), containsString("billing/*.jcl"));
+		}
+	}
+
+	/**
+	 * Test that a single file is passed to the CLI as it is, while several files are staged as one.
+	 */
+	@Test
+	public void testAddArguments() throws Exception {
+		FilePath workspace = new FilePath(folder.getRoot());
+		workspace.child("PAYJOB.jcl").write("//PAYJOB JOB\n", "UTF-8");
+		workspace.child("RPTJOB.jcl").write("//RPTJOB JOB", "UTF-8");
+		SubmitJclFilesBuilder builder = new SubmitJclFilesBuilder("connectionId", "credentialsId", "4", "*.jcl");
+
+		ArgumentListBuilder args = new ArgumentListBuilder();
+		Map<String, String> stagedFiles = new HashMap<>();
+		builder.addArguments(null, workspace, null, TaskListener.NULL, args, Collections.singletonList("PAYJOB.jcl"), stagedFiles);
+		assertThat(args.toList().get(0), is(TopazUtilitiesConstants.JCL));
+		assertThat(args.toList().get(1), containsString(new File(folder.getRoot(), "PAYJOB.jcl").getPath()));
+		assertThat(stagedFiles.isEmpty(), is(true));
+
+		args = new ArgumentListBuilder();
+		builder.addArguments(null, workspace, null, TaskListener.NULL, args, Arrays.asList("PAYJOB.jcl", "RPTJOB.jcl"), stagedFiles);
+		assertThat(stagedFiles.size(), is(1));
+		assertThat(stagedFiles.values().iterator().next(), is("//PAYJOB JOB\n//RPTJOB JOB\n"));
+	}
+
+	/**
+	 * Test that each file is submitted on its own and the step's own connection runs as many CLI calls as the parallelism.
+	 */
+	@Test
+	public void testParallelism() {
+		SubmitJclFilesBuilder builder = new SubmitJclFilesBuilder("connectionId", "credentialsId", "4", "*.jcl");
+		assertThat(builder.getMaxBatchSize(), is(1));
+		assertThat(builder.getParallelism(), is(TopazUtilitiesConstants.SUBMIT_DEFAULT_PARALLELISM));
+		assertThat(builder.getConnectionCapacities().get("connectionId"), is(TopazUtilitiesConstants.SUBMIT_DEFAULT_PARALLELISM));
+
+		builder.setParallelism(0);
+		assertThat(builder.getParallelism(), is(1));
+		builder.setParallelism(8);
+		assertThat(builder.getConnectionCapacities().get("connectionId"), is(8));
+
+		assertThat(builder.getDescriptor().doCheckParallelism("0").kind, is(FormValidation.Kind.ERROR));
+		assertThat(builder.getDescriptor().doCheckParallelism("8").kind, is(FormValidation.Kind.OK));
+		assertThat(builder.getDescriptor().doCheckJclFiles(" ").kind, is(FormValidation.Kind.ERROR));
+	}
+
+	/**
+	 * Test that each file is fingerprinted by its content, for incremental submission.
+	 */
+	@Test
+	public void testContentFingerprints() throws Exception {
+		FilePath workspace = new FilePath(folder.getRoot());
+		workspace.child("PAYJOB.jcl").write("//PAYJOB JOB\n", "UTF-8");
+		SubmitJclFilesBuilder builder = new SubmitJclFilesBuilder("connectionId", "credentialsId", "4", "*.jcl");
+		List<String> files = Arrays.asList("PAYJOB.jcl", "MISSING.jcl");
+
+		Map<String, String> fingerprints = builder.getContentFingerprints(null, workspace, TaskListener.NULL, files);
+		assertThat(fingerprints.size(), is(1));
+		assertThat(fingerprints.get("PAYJOB.jcl"), startsWith("md5:"));
+
+		workspace.child("PAYJOB.jcl").write("//PAYJOB JOB CLASS=A\n", "UTF-8");
+		assertThat(builder.getContentFingerprints(null, workspace, TaskListener.NULL, files).get("PAYJOB.jcl"),
+				is(not(fingerprints.get("PAYJOB.jcl"))));
+	}
+
+	/**
+	 * Test that the jobs of each file are kept apart in the step result.
+	 */
+	@Test
+	public void testWorkItemJobs() {
+		SubmitJclResult result = new SubmitJclResult();
+		JobResult payJob = new JobResult("PAYJOB", "JOB00001", "0000", 1000);
+		JobResult rptJob = new JobResult("RPTJOB", "JOB00002", "0004", 1000);
+		result.addJobs(Arrays.asList(payJob, rptJob));
+		result.addWorkItemJobs("PAYJOB.jcl", Collections.singletonList(payJob));
+		result.addWorkItemJobs("RPTJOB.jcl", Collections.singletonList(rptJob));
+
+		assertThat(result.getWorkItems(), is(Arrays.asList("PAYJOB.jcl", "RPTJOB.jcl")));
+		assertThat(result.getWorkItemJobs("RPTJOB.jcl").get(0).getName(), is("RPTJOB"));
+		assertThat(result.getWorkItemJobs("MISSING.jcl").isEmpty(), is(true));
+		assertThat(result.getMaxReturnCode(), is(4));
+	}
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.AbortException;
+import hudson.FilePath;
+import hudson.model.TaskListener;
+import hudson.util.ArgumentListBuilder;
+import hudson.util.FormValidation;
+
+/**
+ * Test cases for {@link SubmitJclMatrixBuilder}.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclMatrixBuilderTest {
+
+	private static final String JCL = "//PAY&REGION JOB\n" +
+			"//IN DD DSN=&HLQ..DATA(&REGION),DISP=SHR\n" +
+			"//TEMP DD DSN=&&REGION,DISP=(NEW,PASS)\n" +
+			"//OUT DD DSN=&SYSUID..REPORT,DISP=OLD\n";
+	private static final String PARAMETERS = "# regional variants\n" +
+			"REGION, &HLQ\n" +
+			"EAST, PAY.EAST\n" +
+			"\n" +
+			"WEST, \"PAY.WEST\"\n";
+
+	public @Rule JenkinsRule rule = new JenkinsRule();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that the table is parsed into labelled parameter sets, and that malformed tables are rejected.
+	 */
+	@Test
+	public void testParseParameterSets() {
+		Map<String, Map<String, String>> parameterSets = SubmitJclMatrixBuilder.parseParameterSets(PARAMETERS);
+		assertThat(parameterSets.keySet(), hasItems("REGION=EAST,HLQ=PAY.EAST", "REGION=WEST,HLQ=PAY.WEST"));
+		assertThat(parameterSets.size(), is(2));
+		assertThat(parameterSets.get("REGION=WEST,HLQ=PAY.WEST").get("HLQ"), is("PAY.WEST"));
+		assertThat(SubmitJclMatrixBuilder.parseParameterSets("NOTE\n\"A, B\"").keySet(), hasItems("NOTE=A, B"));
+
+		for (String table : Arrays.asList("", "REGION", "1ST\nA", "REGION,REGION\nA,B", "REGION,HLQ\nEAST", "REGION\nEAST\nEAST")) {
+			try {
+				SubmitJclMatrixBuilder.parseParameterSets(table);
+				fail("Expected the table to be rejected: " + table);
+			} catch (IllegalArgumentException e) {
+				assertThat(e.getMessage(), is(notNullValue()));
+			}
+		}
+	}
+
+	/**
+	 * Test that only the symbols of the parameter set are replaced, including a symbol ended by a period.
+	 */
+	@Test
+	public void testRender() {
+		Map<String, String> parameterSet = SubmitJclMatrixBuilder.parseParameterSets(PARAMETERS).get("REGION=EAST,HLQ=PAY.EAST");
+		String rendered = SubmitJclMatrixBuilder.render(JCL, parameterSet);
+
+		assertThat(rendered, containsString("//PAYEAST JOB"));
+		assertThat(rendered, containsString("DSN=PAY.EAST.DATA(EAST),DISP=SHR"));
+		assertThat(rendered, containsString("DSN=&&REGION,"));
+		assertThat(rendered, containsString("DSN=&SYSUID..REPORT"));
+	}
+
+	/**
+	 * Test that the values are not searched for symbols, whatever the order of the symbols, and that a symbol is only replaced
+	 * when its whole name matches.
+	 */
+	@Test
+	public void testRenderSinglePass() {
+		Map<String, String> parameterSet = new LinkedHashMap<>();
+		parameterSet.put("A", "&B");
+		parameterSet.put("B", "X&A");
+		parameterSet.put("AB", "Y");
+
+		assertThat(SubmitJclMatrixBuilder.render("&A &B. &AB &ABC &A.B &&A", parameterSet), is("&B X&A Y &ABC &BB &&A"));
+	}
+
+	/**
+	 * Test that each parameter set is a work item of its own, staged as rendered JCL, fingerprinted by its rendered JCL and locked by
+	 * the datasets of its rendered JCL.
+	 */
+	@Test
+	public void testWorkItems() throws Exception {
+		SubmitJclMatrixBuilder builder = new SubmitJclMatrixBuilder("connectionId", "credentialsId", "4", JCL, PARAMETERS);
+		List<String> labels = builder.getWorkItems(null, TaskListener.NULL);
+		assertThat(labels, is(Arrays.asList("REGION=EAST,HLQ=PAY.EAST", "REGION=WEST,HLQ=PAY.WEST")));
+		assertThat(builder.getMaxBatchSize(), is(1));
+		assertThat(builder.getConnectionCapacities().get("connectionId"), is(TopazUtilitiesConstants.SUBMIT_DEFAULT_PARALLELISM));
+
+		ArgumentListBuilder args = new ArgumentListBuilder();
+		Map<String, String> stagedFiles = new HashMap<>();
+		builder.addArguments(null, new FilePath(folder.getRoot()), null, TaskListener.NULL, args, labels.subList(1, 2), stagedFiles);
+		assertThat(args.toList().get(0), is(TopazUtilitiesConstants.JCL));
+		assertThat(stagedFiles.values().iterator().next(), containsString("//PAYWEST JOB"));
+
+		Map<String, String> fingerprints = builder.getContentFingerprints(null, TaskListener.NULL, labels);
+		assertThat(fingerprints.get(labels.get(0)), startsWith("sha256:"));
+		assertThat(fingerprints.get(labels.get(0)), is(not(fingerprints.get(labels.get(1)))));
+
+		Map<String, DatasetLockTable.Access> datasets = builder.getDatasetReferences(null, null, TaskListener.NULL,
+				labels.subList(0, 1));
+		assertThat(datasets.get("PAY.EAST.DATA"), is(DatasetLockTable.Access.READ));
+		assertThat(datasets.containsKey("PAY.WEST.DATA"), is(false));
+
+		try {
+			builder.getJclSources(null, TaskListener.NULL, Collections.singletonList("REGION=NORTH,HLQ=PAY.NORTH"));
+			fail("Expected an unlisted parameter set to fail the step.");
+		} catch (AbortException e) {
+			assertThat(e.getMessage(), containsString("REGION=NORTH"));
+		}
+	}
+
+	/**
+	 * Test the validation of the 'Parameter sets' field.
+	 */
+	@Test
+	public void testDoCheckParameters() {
+		SubmitJclMatrixBuilder.DescriptorImpl descriptor = rule.jenkins.getDescriptorByType(SubmitJclMatrixBuilder.DescriptorImpl.class);
+		assertThat(descriptor.doCheckParameters(PARAMETERS).kind, is(FormValidation.Kind.OK));
+		assertThat(descriptor.doCheckParameters("REGION,HLQ\nEAST").kind, is(FormValidation.Kind.ERROR));
+	}
+}
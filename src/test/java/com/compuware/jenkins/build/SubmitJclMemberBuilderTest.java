@@ -24,7 +24,9 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.junit.Rule;
@@ -136,7 +138,9 @@ public class SubmitJclMemberBuilderTest {
 			Mockito.doReturn(new PrintStream(testLog)).when(listener).getLogger();
 
 			ArgumentListBuilder args = new ArgumentListBuilder();
-			submitJclMemberBuilder.addArguments(null, workspace, null, listener, args);
+			Map<String, String> stagedFiles = new HashMap<>();
+			submitJclMemberBuilder.addArguments(null, workspace, null, listener, args, null, stagedFiles);
+			assertThat("Expected the members to be passed without staging a file.", stagedFiles.isEmpty(), is(true));
 
 			assertThat("Expected submitJclMemberBuilder.buildArgumentList() to not be null.", args, is(notNullValue()));
 
@@ -0,0 +1,293 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.File;
+
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.BuildWatcher;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.RestartableJenkinsRule;
+import org.kohsuke.stapler.Stapler;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.impl.UsernamePasswordCredentialsImpl;
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+import com.compuware.jenkins.common.configuration.CpwrGlobalConfiguration;
+
+import hudson.FilePath;
+import hudson.Functions;
+import hudson.model.Result;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Test cases for the Submit JCL Pipeline steps and the <code>topazSession</code> block, run by Pipeline scripts against a stand-in
+ * CLI.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclStepTest {
+	private static final String CONNECTION_ID = "12345";
+	private static final String CREDENTIALS_ID = "67890";
+	private static final String CLI_VERSION = "20.4.1";
+	private static final String CLI_VERSION_FILE = "versions.xml";
+	private static final String STEP_ARGUMENTS = "connectionId: '" + CONNECTION_ID + "', credentialsId: '" + CREDENTIALS_ID
+			+ "', maxConditionCode: '4'";
+
+	@ClassRule
+	public static BuildWatcher bw = new BuildWatcher();
+
+	@Rule
+	public RestartableJenkinsRule story = new RestartableJenkinsRule();
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Installs a stand-in CLI that writes the given output, and configures a host connection and credential that use it.
+	 * 
+	 * @param script
+	 *            the shell script run in place of the CLI
+	 */
+	private void configure(String script) throws Exception {
+		assumeFalse(Functions.isWindows());
+
+		File cliDir = folder.newFolder("cli");
+		File cliScript = new File(cliDir, TopazUtilitiesConstants.SUBMIT_JCL_CLI_SH);
+		new FilePath(cliScript).write("#!/bin/sh\n" + script, "UTF-8");
+		assertTrue(cliScript.setExecutable(true));
+		new FilePath(new File(cliDir, CLI_VERSION_FILE)).write(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<versions>\n<version>" + CLI_VERSION + "</version>\n</versions>\n", "UTF-8");
+
+		JSONObject hostConnection = new JSONObject();
+		hostConnection.put("description", "TestConnection");
+		hostConnection.put("hostPort", "cw01:30947");
+		hostConnection.put("protocol", "TLSv1.2");
+		hostConnection.put("codePage", "1047");
+		hostConnection.put("timeout", "123");
+		hostConnection.put("connectionId", CONNECTION_ID);
+		hostConnection.put("cesUrl", "https://expectedcesurl/");
+
+		JSONArray hostConnections = new JSONArray();
+		hostConnections.add(hostConnection);
+
+		JSONObject json = new JSONObject();
+		json.put("hostConn", hostConnections);
+		json.put("topazCLILocationLinux", cliDir.getAbsolutePath());
+		json.put("topazCLILocationWindows", cliDir.getAbsolutePath());
+		CpwrGlobalConfiguration.get().configure(Stapler.getCurrentRequest(), json);
+
+		SystemCredentialsProvider.getInstance().getCredentials()
+				.add(new UsernamePasswordCredentialsImpl(CredentialsScope.GLOBAL, CREDENTIALS_ID, null, "xdevreg", "********"));
+		SystemCredentialsProvider.getInstance().save();
+	}
+
+	/**
+	 * Test that the free-form JCL step returns the jobs reported by the CLI to the Pipeline script.
+	 */
+	@Test
+	public void testFreeFormJclResult() throws Exception {
+		story.then(r -> {
+			configure("echo 'Job PAYJOB(JOB04567) submitted'\necho 'PAYJOB(JOB04567) completed with condition code 0004'\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  def result = topazRunFreeFormJcl " + STEP_ARGUMENTS + ", jcl: '//PAYJOB JOB\\n//STEP1 EXEC PGM=IEFBR14'\n"
+					+ "  echo \"Jobs ${result.jobs*.name}, ids ${result.jobs*.id}, highest return code ${result.maxReturnCode}\"\n"
+					+ "}", true));
+
+			WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+			r.assertLogContains("Jobs [PAYJOB], ids [JOB04567], highest return code 4", run);
+		});
+	}
+
+	/**
+	 * Test that the JCL members step returns the jobs of its members to the Pipeline script.
+	 */
+	@Test
+	public void testJclMembersResult() throws Exception {
+		story.then(r -> {
+			configure("echo 'Job PAYJOB(JOB04567) submitted'\necho 'PAYJOB(JOB04567) completed with condition code 0000'\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  def result = topazRunJclMembers " + STEP_ARGUMENTS + ", jclMember: 'A.B.MYJCL'\n"
+					+ "  echo \"Jobs ${result.jobs*.name}, highest return code ${result.maxReturnCode}\"\n"
+					+ "}", true));
+
+			WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+			r.assertLogContains("Jobs [PAYJOB], highest return code 0", run);
+		});
+	}
+
+	/**
+	 * Test that the free-form JCL build step, called from a Pipeline script, points to the step that returns the result.
+	 */
+	@Test
+	public void testBuildStepInPipeline() throws Exception {
+		story.then(r -> {
+			configure("echo 'Job PAYJOB(JOB04567) submitted'\necho 'PAYJOB(JOB04567) completed with condition code 0000'\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  topazSubmitFreeFormJcl " + STEP_ARGUMENTS + ", jcl: '//PAYJOB JOB\\n//STEP1 EXEC PGM=IEFBR14'\n"
+					+ "}", true));
+
+			WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+			String displayName = r.jenkins.getDescriptorByType(SubmitJclBuilder.DescriptorImpl.class).getDisplayName();
+			r.assertLogContains(Messages.buildStepInPipeline(displayName, SubmitFreeFormJclStep.FUNCTION_NAME), run);
+		});
+	}
+
+	/**
+	 * Test that a step whose jobs exceed the maximum condition code fails the build.
+	 */
+	@Test
+	public void testMaxConditionCodeExceeded() throws Exception {
+		story.then(r -> {
+			configure("echo 'Job PAYJOB(JOB04567) submitted'\necho 'PAYJOB(JOB04567) completed with condition code 0008'\nexit 1\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  topazRunFreeFormJcl " + STEP_ARGUMENTS + ", jcl: '//PAYJOB JOB\\n//STEP1 EXEC PGM=IEFBR14'\n"
+					+ "  echo 'Not reached'\n"
+					+ "}", true));
+
+			WorkflowRun run = r.assertBuildStatus(Result.FAILURE, project.scheduleBuild2(0));
+			r.assertLogNotContains("Not reached", run);
+		});
+	}
+
+	/**
+	 * Test that a files step that fails still reports the result of each file it submitted, the file that failed and the files it
+	 * never submitted.
+	 */
+	@Test
+	public void testJclFilesResultsOnFailure() throws Exception {
+		story.then(r -> {
+			configure("case \"$*\" in\n*b.jcl*) echo 'Job BJOB(JOB00002) submitted'\n"
+					+ "  echo 'BJOB(JOB00002) completed with condition code 0012'\n  exit 1 ;;\nesac\n"
+					+ "echo 'Job AJOB(JOB00001) submitted'\necho 'AJOB(JOB00001) completed with condition code 0000'\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  writeFile file: 'a.jcl', text: '//AJOB JOB'\n"
+					+ "  writeFile file: 'b.jcl', text: '//BJOB JOB'\n"
+					+ "  writeFile file: 'c.jcl', text: '//CJOB JOB'\n"
+					+ "  topazRunJclFiles " + STEP_ARGUMENTS + ", jclFiles: '*.jcl', parallelism: 1\n"
+					+ "}", true));
+
+			WorkflowRun run = r.assertBuildStatus(Result.FAILURE, project.scheduleBuild2(0));
+			r.assertLogContains(Messages.workItemResult("a.jcl", 1, 0), run);
+			r.assertLogContains("ERROR: b.jcl: failed", run);
+			r.assertLogContains(Messages.workItemsNotSubmitted(1, "c.jcl"), run);
+			r.assertLogContains(Messages.jclFilesResult(1, 0, 4), run);
+		});
+	}
+
+	/**
+	 * Test that a step takes the priority classes in any case, and rejects values that name no priority class.
+	 */
+	@Test
+	public void testPriority() throws Exception {
+		SubmitFreeFormJclStep step = new SubmitFreeFormJclStep(CONNECTION_ID, CREDENTIALS_ID, "4", "//PAYJOB JOB");
+		step.setPriority(" low ");
+		assertEquals("LOW", step.getPriority());
+
+		try {
+			step.setPriority("urgent");
+			fail("An unknown priority class should be rejected");
+		} catch (IllegalArgumentException e) {
+			assertEquals(Messages.priorityUnknown("urgent"), e.getMessage());
+		}
+		assertEquals("LOW", step.getPriority());
+
+		step.setPriority("");
+		assertNull(step.getPriority());
+	}
+
+	/**
+	 * Test that the <code>topazSession</code> block closes its session when the block fails, and warns that no step used it.
+	 */
+	@Test
+	public void testSessionClosedOnFailure() throws Exception {
+		story.then(r -> {
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("topazSession(connectionId: '" + CONNECTION_ID + "', credentialsId: '"
+					+ CREDENTIALS_ID + "') {\n"
+					+ "  error 'Stopping the block'\n"
+					+ "}\n"
+					+ "echo 'Not reached'", true));
+
+			WorkflowRun run = r.assertBuildStatus(Result.FAILURE, project.scheduleBuild2(0));
+			r.assertLogContains(Messages.topazSessionOpened(CONNECTION_ID, CREDENTIALS_ID), run);
+			r.assertLogContains("Stopping the block", run);
+			r.assertLogContains(Messages.topazSessionClosed(CONNECTION_ID), run);
+			r.assertLogContains(Messages.topazSessionUnused(CONNECTION_ID), run);
+			r.assertLogNotContains("Not reached", run);
+		});
+	}
+
+	/**
+	 * Test that a step resumed after a restart while a member was being submitted fails, instead of submitting the member again.
+	 */
+	@Test
+	public void testResumeWithSubmissionInFlight() throws Exception {
+		File release = new File(folder.getRoot(), "release");
+		story.then(r -> {
+			// the stand-in CLI reports its job, then keeps running until the test releases it
+			configure("echo 'Job PAYJOB(JOB04567) submitted'\nwhile [ ! -f '" + release.getAbsolutePath()
+					+ "' ]; do sleep 1; done\necho 'PAYJOB(JOB04567) completed with condition code 0000'\n");
+
+			WorkflowJob project = r.createProject(WorkflowJob.class, "p");
+			project.setDefinition(new CpsFlowDefinition("node {\n"
+					+ "  topazRunJclMembers " + STEP_ARGUMENTS + ", jclMember: 'A.B.MYJCL'\n"
+					+ "}", true));
+
+			WorkflowRun run = project.scheduleBuild2(0).waitForStart();
+			r.waitForMessage("Job PAYJOB(JOB04567) submitted", run);
+		});
+		story.then(r -> {
+			try {
+				WorkflowRun run = r.jenkins.getItemByFullName("p", WorkflowJob.class).getBuildByNumber(1);
+				r.assertBuildStatus(Result.FAILURE, r.waitForCompletion(run));
+				r.assertLogContains(Messages.journalInFlightAbort(1), run);
+				assertEquals("The member is not submitted again", 1, countOccurrences(JenkinsRule.getLog(run), "Job PAYJOB(JOB04567) submitted"));
+			} finally {
+				assertTrue(release.createNewFile());
+			}
+		});
+	}
+
+	private static int countOccurrences(String text, String part) {
+		int count = 0;
+		for (int index = text.indexOf(part); index >= 0; index = text.indexOf(part, index + part.length())) {
+			count++;
+		}
+
+		return count;
+	}
+}
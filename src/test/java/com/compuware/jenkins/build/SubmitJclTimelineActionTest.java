@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Test cases for {@link SubmitJclTimelineAction} and {@link TimelineSpan}.
+ */
+@SuppressWarnings("nls")
+public class SubmitJclTimelineActionTest {
+
+	/**
+	 * Test that a job whose queue time was observed is split into its time in the JES input queue and its execution.
+	 */
+	@Test
+	public void testJobSpan() {
+		TimelineSpan span = TimelineSpan.forJob(new JobResult("PAYJOB", "JOB00001", "0004", 5000, 1200, 100000), 0);
+
+		assertThat(span.getName(), is("PAYJOB"));
+		assertThat(span.getStartMillis(), is(100000L));
+		assertThat(span.getEndMillis(), is(105000L));
+		assertThat(span.getError(), is(nullValue()));
+		assertThat(span.getAttributes(), hasEntry("jes.job.id", "JOB00001"));
+		assertThat(span.getAttributes(), hasEntry("jes.job.condition_code", "0004"));
+
+		List<TimelineSpan> phases = span.getChildren();
+		assertThat(phases, hasSize(2));
+		assertThat(phases.get(0).getName(), is(Messages.timelineJesInputQueue()));
+		assertThat(phases.get(0).getDurationMillis(), is(1200L));
+		assertThat(phases.get(1).getName(), is(Messages.timelineExecution()));
+		assertThat(phases.get(1).getStartMillis(), is(101200L));
+		assertThat(phases.get(1).getEndMillis(), is(105000L));
+	}
+
+	/**
+	 * Test that an abended job is an error, that a job whose completion was not reported ends with its submission, and that a job
+	 * whose submission time was not observed has no span.
+	 */
+	@Test
+	public void testJobSpanEdgeCases() {
+		TimelineSpan abended = TimelineSpan.forJob(new JobResult("PAYJOB", "JOB00001", "S0C7", 3000, -1, 100000), 0);
+		assertThat(abended.getError(), is("S0C7"));
+		assertThat(abended.getChildren(), is(empty()));
+
+		TimelineSpan incomplete = TimelineSpan.forJob(new JobResult(null, "JOB00002", null, -1, -1, 100000), 104000);
+		assertThat(incomplete.getName(), is("JOB00002"));
+		assertThat(incomplete.getEndMillis(), is(104000L));
+		assertThat(incomplete.getError(), is("?"));
+
+		assertThat(TimelineSpan.forJob(new JobResult("PAYJOB", "JOB00003", "0000", 1000), 0), is(nullValue()));
+	}
+
+	/**
+	 * Test that the spans are exported as one OTLP resource with every span of the trace, each child pointing to its parent.
+	 */
+	@Test
+	public void testOtlpExport() {
+		TimelineSpan step = new TimelineSpan("Submit JCL", 1000, 9000);
+		TimelineSpan submission = new TimelineSpan("Submission", 1500, 9000);
+		submission.setAttribute("topaz.connection.id", "cw01");
+		submission.setError("exited with value = 1");
+		step.addChild(submission);
+		submission.addChild(new TimelineSpan("Submission queue wait", 1500, 2500));
+
+		String traceId = "0123456789abcdef0123456789abcdef";
+		JSONObject request = SubmitJclTimelineAction.toOtlp(traceId, Collections.singletonMap("service.name", "jenkins"),
+				Arrays.asList(step));
+
+		JSONObject resourceSpans = request.getJSONArray("resourceSpans").getJSONObject(0);
+		assertThat(resourceSpans.getJSONObject("resource").getJSONArray("attributes").getJSONObject(0).getString("key"),
+				is("service.name"));
+
+		JSONArray spans = resourceSpans.getJSONArray("scopeSpans").getJSONObject(0).getJSONArray("spans");
+		assertThat(spans.size(), is(3));
+
+		JSONObject root = spans.getJSONObject(0);
+		assertThat(root.getString("traceId"), is(traceId));
+		assertThat(root.getString("spanId"), is(step.getSpanId()));
+		assertThat(root.getString("spanId").length(), is(16));
+		assertThat(root.has("parentSpanId"), is(false));
+		assertThat(root.getString("startTimeUnixNano"), is("1000000000"));
+		assertThat(root.getString("endTimeUnixNano"), is("9000000000"));
+		assertThat(root.getJSONObject("status").isEmpty(), is(true));
+
+		JSONObject child = spans.getJSONObject(1);
+		assertThat(child.getString("parentSpanId"), is(step.getSpanId()));
+		assertThat(child.getJSONObject("status").getInt("code"), is(2));
+		assertThat(child.getJSONArray("attributes").getJSONObject(0).getJSONObject("value").getString("stringValue"), is("cw01"));
+		assertThat(spans.getJSONObject(2).getString("parentSpanId"), is(submission.getSpanId()));
+	}
+
+	/**
+	 * Test that each span is placed on a time axis running from the start of the first step to the end of the last one.
+	 */
+	@Test
+	public void testRows() {
+		TimelineSpan step = new TimelineSpan("Submit JCL", 1000, 5000);
+		step.addChild(new TimelineSpan("Submission", 2000, 3000));
+		SubmitJclTimelineAction action = new SubmitJclTimelineAction();
+		action.addStep(step);
+		action.addStep(new TimelineSpan("Submit JCL Members", 5000, 11000));
+
+		List<SubmitJclTimelineAction.Row> rows = action.getRows();
+		assertThat(rows, hasSize(3));
+		assertThat(rows.get(0).getDepth(), is(0));
+		assertThat(rows.get(0).getOffset(), is(0.0));
+		assertThat(rows.get(0).getWidth(), is(40.0));
+		assertThat(rows.get(1).getDepth(), is(1));
+		assertThat(rows.get(1).getOffset(), is(10.0));
+		assertThat(rows.get(1).getWidth(), is(10.0));
+		assertThat(rows.get(2).getOffset(), is(40.0));
+		assertThat(rows.get(2).getWidth(), is(60.0));
+	}
+
+	/**
+	 * Test that a CLI call is split into its start, its logon and submission, and the retrieval of the job output.
+	 */
+	@Test
+	public void testCliCallSpans() throws IOException, InterruptedException {
+		CliRunner runner = new CliRunner("SubmitJclCLI.sh", 0);
+		SubmissionOutcome outcome = runner.run(outputParser -> {
+			try (PrintStream out = new PrintStream(outputParser, true, "UTF-8")) {
+				out.println("Logging on to cw01:30947");
+				out.println("Job PAYJOB(JOB04567) submitted");
+				out.println("PAYJOB(JOB04567) completed with condition code 0000");
+				out.println("Retrieving job output");
+			}
+			return 0;
+		}, new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"), StandardCharsets.UTF_8);
+
+		assertThat(outcome.getSpans(), hasSize(1));
+		TimelineSpan call = outcome.getSpans().get(0);
+		assertThat(call.getName(), is(Messages.timelineCliCall(1)));
+		assertThat(call.getAttributes(), hasEntry("process.exit_code", "0"));
+
+		List<TimelineSpan> phases = call.getChildren();
+		assertThat(phases, hasSize(3));
+		assertThat(phases.get(0).getName(), is(Messages.timelineCliStart()));
+		assertThat(phases.get(1).getName(), is(Messages.timelineLogon()));
+		assertThat(phases.get(2).getName(), is(Messages.timelineOutputRetrieval()));
+		assertThat(phases.get(2).getEndMillis(), is(call.getEndMillis()));
+
+		JobResult job = outcome.getJobs().get(0);
+		assertThat(job.getSubmittedAt(), is(both(greaterThanOrEqualTo(call.getStartMillis())).and(lessThanOrEqualTo(call.getEndMillis()))));
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link TopazSession}, with the clients the in-process submission engines keep in a session.
+ */
+@SuppressWarnings("nls")
+public class TopazSessionTest {
+
+	private PrintStream logger;
+
+	@Before
+	public void setup() throws IOException {
+		logger = new PrintStream(new ByteArrayOutputStream(), true, "UTF-8");
+	}
+
+	/**
+	 * Test that a resource is opened once, shared by its users and closed with the session.
+	 */
+	@Test
+	public void testResourceLifecycle() throws IOException {
+		TopazSession session = new TopazSession("conn", "creds");
+		AtomicInteger opened = new AtomicInteger();
+		AtomicInteger closed = new AtomicInteger();
+		TopazSession.Opener<Closeable> opener = () -> {
+			opened.incrementAndGet();
+			return closed::incrementAndGet;
+		};
+
+		Closeable first = session.getResource("engine", Closeable.class, opener);
+		Closeable second = session.getResource("engine", Closeable.class, opener);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(opened.get(), is(1));
+		assertThat(session.getResourceCount(), is(1));
+
+		session.close();
+		assertThat(closed.get(), is(1));
+		assertThat(session.getResourceCount(), is(0));
+	}
+
+	/**
+	 * Test that a session only covers submissions to its own host connection with its own credential.
+	 */
+	@Test
+	public void testCovers() {
+		TopazSession session = new TopazSession("conn", "creds");
+		assertThat(session.covers("conn", "creds"), is(true));
+		assertThat(session.covers("other", "creds"), is(false));
+		assertThat(session.covers("conn", "other"), is(false));
+	}
+
+	/**
+	 * Test that consecutive FTP submissions in a session log on once, and that the session logs off when it is closed.
+	 */
+	@Test
+	public void testFtpSession() throws Exception {
+		try (StandInFtpServer server = new StandInFtpServer()) {
+			TopazSession session = new TopazSession("conn", "creds");
+			FtpConnectionPool.Opener opener = () -> {
+				ZosFtpClient client = new ZosFtpClient(InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), false, 5000);
+				client.connect();
+				client.login("tester", "secret");
+				return client;
+			};
+
+			for (int i = 0; i < 3; i++) {
+				FtpConnectionPool pool = session.getResource(FtpJesSubmissionEngine.ID, FtpConnectionPool.class,
+						() -> new FtpConnectionPool(2, Long.MAX_VALUE));
+				ZosFtpClient client = pool.borrow("key", opener);
+				SubmissionOutcome outcome = FtpJesSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//PAYJOB JOB\n")),
+						4, logger, 10L, 0L);
+				pool.release("key", client);
+				assertThat(outcome.isSuccess(), is(true));
+			}
+
+			assertThat(server.getLogons(), is(1));
+			assertThat(server.getCommands(), not(hasItem("QUIT")));
+
+			session.close();
+			assertThat(server.getCommands(), hasItem("QUIT"));
+		}
+	}
+
+	/**
+	 * Test that z/OSMF submissions in a session authenticate with the session token, and that the session logs off when it is closed.
+	 */
+	@Test
+	public void testZosmfSession() throws Exception {
+		StandInZosmfServer server = new StandInZosmfServer();
+		try {
+			TopazSession session = new TopazSession("conn", "creds");
+			for (int i = 0; i < 3; i++) {
+				ZosmfClient client = session.getResource(ZosmfSubmissionEngine.ID, ZosmfClient.class, () -> {
+					ZosmfClient sessionClient = new ZosmfClient(server.getUrl(), "tester", "secret", 5000);
+					sessionClient.logon();
+					return sessionClient;
+				});
+				assertThat(client.isLoggedOn(), is(true));
+				SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//PAYJOB JOB\n")),
+						4, logger, 10L, 0L);
+				assertThat(outcome.isSuccess(), is(true));
+			}
+
+			assertThat(server.getLogons(), is(1));
+			assertThat(server.getPasswordAuthentications(), is(1));
+
+			session.close();
+			assertThat(server.getLogoffs(), is(1));
+		} finally {
+			server.close();
+		}
+	}
+}
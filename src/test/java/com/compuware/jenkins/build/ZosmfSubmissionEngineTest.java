@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ * 
+ * (c) Copyright 2026 BMC Software, Inc.
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions: The above copyright notice and this permission notice
+ * shall be included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.compuware.jenkins.build;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.compuware.jenkins.build.utils.TopazUtilitiesConstants;
+
+import hudson.Util;
+
+/**
+ * Test cases for {@link ZosmfSubmissionEngine} and {@link ZosmfClient}, run against a {@link StandInZosmfServer}.
+ */
+@SuppressWarnings("nls")
+public class ZosmfSubmissionEngineTest {
+
+	private StandInZosmfServer server;
+	private ZosmfClient client;
+	private ByteArrayOutputStream log;
+	private PrintStream logger;
+
+	@Before
+	public void setup() throws IOException {
+		server = new StandInZosmfServer();
+		client = new ZosmfClient(server.getUrl(), "tester", "secret", 5000);
+		log = new ByteArrayOutputStream();
+		logger = new PrintStream(log, true, "UTF-8");
+	}
+
+	@After
+	public void tearDown() {
+		server.close();
+	}
+
+	/**
+	 * Test that JCL text and dataset members are submitted concurrently as separate jobs and polled with one listing per poll.
+	 */
+	@Test
+	public void testSubmitJobs() throws Exception {
+		server.putDataset("A.B.JCL(RPTJOB)", "//RPTJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n//* RC=0004\n");
+		server.setSubmitDelayMillis(200L);
+
+		List<JclSource> sources = new ArrayList<>();
+		sources.add(JclSource.ofText("//PAYJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n"));
+		sources.add(JclSource.ofDataset("A.B.JCL(RPTJOB)"));
+		sources.add(JclSource.ofText("//GLJOB JOB\n//STEP1 EXEC PGM=IEFBR14\n"));
+		SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, sources, 4, logger, 10L, 0L);
+
+		assertThat(outcome.isSuccess(), is(true));
+		List<JobResult> jobs = outcome.getJobs();
+		assertThat(jobs.size(), is(3));
+		assertThat(jobs.get(0).getName(), is("PAYJOB"));
+		assertThat(jobs.get(0).getConditionCode(), is("0000"));
+		assertThat(jobs.get(1).getName(), is("RPTJOB"));
+		assertThat(jobs.get(1).getReturnCode(), is(4));
+		assertThat(jobs.get(2).getName(), is("GLJOB"));
+		assertThat(jobs.get(2).getQueueMillis(),
+				is(both(greaterThanOrEqualTo(0L)).and(lessThanOrEqualTo(jobs.get(2).getElapsedMillis()))));
+		assertThat(log.toString("UTF-8"), containsString(Messages.zosmfJobSubmitted("PAYJOB", jobs.get(0).getId())));
+		assertThat(server.getMaxConcurrentSubmits(), is(greaterThan(1)));
+
+		// the jobs are polled with one listing per poll, not one request per job
+		List<String> requests = server.getRequests();
+		assertThat(requests, hasItem("GET " + TopazUtilitiesConstants.ZOSMF_JOBS_PATH));
+		assertThat(requests, everyItem(not(startsWith("GET " + TopazUtilitiesConstants.ZOSMF_JOBS_PATH + '/'))));
+
+		// kept alive connections are reused across requests
+		assertThat(server.getConnectionCount(), is(lessThan(requests.size())));
+	}
+
+	/**
+	 * Test that each job is read on its own when the user's job listing does not include it.
+	 */
+	@Test
+	public void testJobStatusFallback() throws Exception {
+		server.setListingJobs(false);
+
+		SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//PAYJOB JOB\n")), 4,
+				logger, 10L, 0L);
+
+		assertThat(outcome.isSuccess(), is(true));
+		assertThat(server.getRequests(), hasItem("GET " + TopazUtilitiesConstants.ZOSMF_JOBS_PATH + "/PAYJOB/JOB00001"));
+	}
+
+	/**
+	 * Test that failed jobs fail the submission and have their spool files copied into the log.
+	 */
+	@Test
+	public void testFailedJobs() throws Exception {
+		SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(
+				JclSource.ofText("//BADJOB JOB\n//* ABEND=0C7\n"), JclSource.ofText("//HIGHRC JOB\n//* RC=0008\n"),
+				JclSource.ofText("//GOODJOB JOB\n")), 4, logger, 10L, 0L);
+
+		assertThat(outcome.isSuccess(), is(false));
+		assertThat(outcome.getJobs().get(0).getConditionCode(), is("S0C7"));
+		assertThat(outcome.getJobs().get(0).isAbended(), is(true));
+		assertThat(outcome.getJobs().get(1).getReturnCode(), is(8));
+		assertThat(outcome.getSummary(), is(Messages.jesSubmissionFailed(2, 3, 4)));
+
+		// the jobs are submitted concurrently, so their identifiers follow the order z/OSMF accepted them in
+		String logStr = log.toString("UTF-8");
+		assertThat(logStr, containsString(Messages.zosmfSpoolFile("BADJOB", outcome.getJobs().get(0).getId(), "STEP1", "SYSPRINT")));
+		assertThat(logStr, containsString("JOB LOG HIGHRC " + outcome.getJobs().get(1).getId()));
+		assertThat(logStr, not(containsString("JOB LOG GOODJOB")));
+
+		// the streamed spool is indexed by job
+		assertThat(outcome.getIndex().findJobs("S0C7"),
+				contains("BADJOB(" + outcome.getJobs().get(0).getId() + ')'));
+	}
+
+	/**
+	 * Test that a job no longer listed and a held job still queued when the wait is up fail the submission, without reading their
+	 * spool.
+	 */
+	@Test
+	public void testUnfinishedJobs() throws Exception {
+		SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//GONEJOB JOB\n//* PURGE\n"),
+				JclSource.ofText("//HELDJOB JOB TYPRUN=HOLD\n"), JclSource.ofText("//GOODJOB JOB\n")), 4, logger, 10L, 200L);
+
+		assertThat(outcome.isSuccess(), is(false));
+		assertThat(outcome.getJobs().get(0).getConditionCode(), is(nullValue()));
+		assertThat(outcome.getJobs().get(1).getConditionCode(), is(nullValue()));
+		assertThat(outcome.getJobs().get(1).getElapsedMillis(), is(greaterThanOrEqualTo(200L)));
+		assertThat(outcome.getJobs().get(2).getConditionCode(), is("0000"));
+		assertThat(outcome.getSummary(), is(Messages.jesSubmissionFailed(2, 3, 4)));
+
+		String logStr = log.toString("UTF-8");
+		assertThat(logStr, containsString(Messages.jesJobNotFound("GONEJOB", outcome.getJobs().get(0).getId())));
+		assertThat(logStr, containsString(
+				Messages.jesJobTimedOut("HELDJOB", outcome.getJobs().get(1).getId(), Util.getTimeSpanString(200L))));
+		assertThat(server.getRequests(), everyItem(not(endsWith("/files"))));
+	}
+
+	/**
+	 * Test that a job z/OSMF does not accept fails the submission with the server's error.
+	 */
+	@Test
+	public void testMissingMember() throws Exception {
+		try {
+			ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofDataset("A.B.JCL(NOPE)")), 4, logger, 10L, 0L);
+			fail("Expected the missing member to fail the submission.");
+		} catch (IOException e) {
+			assertThat(e.getMessage(), containsString("HTTP status 400"));
+			assertThat(e.getMessage(), containsString("Dataset not found"));
+		}
+	}
+
+	/**
+	 * Test that the jobs z/OSMF accepted are waited for and reported when another job of the step is not accepted.
+	 */
+	@Test
+	public void testPartlyAccepted() throws Exception {
+		SubmissionOutcome outcome = ZosmfSubmissionEngine.submitJobs(client, Arrays.asList(JclSource.ofText("//PAYJOB JOB\n"),
+				JclSource.ofDataset("A.B.JCL(NOPE)"), JclSource.ofText("//GLJOB JOB\n")), 4, logger, 10L, 0L);
+
+		assertThat(outcome.isSuccess(), is(false));
+		assertThat(outcome.getJobs().size(), is(2));
+		assertThat(outcome.getJobs().get(0).getName(), is("PAYJOB"));
+		assertThat(outcome.getJobs().get(0).getConditionCode(), is("0000"));
+		assertThat(outcome.getJobs().get(1).getName(), is("GLJOB"));
+		assertThat(outcome.getJobs().get(1).getConditionCode(), is("0000"));
+		assertThat(outcome.getSummary(), is(Messages.zosmfSubmissionIncomplete(1, 3, 0, 2, 4)));
+
+		String logStr = log.toString("UTF-8");
+		assertThat(logStr, containsString("ERROR: z/OSMF did not accept job 2 of 3"));
+		assertThat(logStr, containsString("Dataset not found"));
+	}
+
+	/**
+	 * Test the conversion of z/OSMF return codes to condition codes.
+	 */
+	@Test
+	public void testGetConditionCode() {
+		assertThat(ZosmfSubmissionEngine.getConditionCode("CC 0004"), is("0004"));
+		assertThat(ZosmfSubmissionEngine.getConditionCode("CC 12"), is("0012"));
+		assertThat(ZosmfSubmissionEngine.getConditionCode("ABEND S806"), is("S806"));
+		assertThat(ZosmfSubmissionEngine.getConditionCode("ABEND 0C7"), is("S0C7"));
+		assertThat(ZosmfSubmissionEngine.getConditionCode("ABEND 0016"), is("U0016"));
+		assertThat(ZosmfSubmissionEngine.getConditionCode("JCL ERROR"), is("JCL ERROR"));
+	}
+}